@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+
+import org.apache.commons.lang3.function.FailableBiConsumer;
+import org.apache.commons.lang3.stream.Streams;
+
+/**
+ * The members of an annotation type, looked up once for {@link AnnotationUtils}, which otherwise gets the declared
+ * methods of the type and invokes them by reflection on each call.
+ *
+ * <p>
+ * Instances are held in a {@link ClassValue}, so they can be unloaded with their annotation type. Members are read
+ * through method handles when the annotation type is accessible, else by reflection as before. The hash codes of the
+ * annotations created by the JDK, which are immutable, are memoized in a small table keyed by identity that does not
+ * keep them from being collected.
+ * </p>
+ */
+final class AnnotationMembers {
+
+    /**
+     * A member of an annotation type.
+     */
+    private static final class Member {
+
+        private final Method method;
+        private final String name;
+
+        /** The getter of type {@code (Annotation)Object}, or null to use {@link #method}. */
+        private final MethodHandle getter;
+
+        /** How values are compared and hashed. */
+        private final int kind;
+
+        /** Whether {@link AnnotationUtils#equals(Annotation, Annotation)} compares the member. */
+        private final boolean compared;
+
+        Member(final Method method) {
+            this.method = method;
+            this.name = method.getName();
+            this.kind = kind(method.getReturnType());
+            final boolean parameterless = method.getParameterCount() == 0;
+            this.compared = parameterless && AnnotationUtils.isValidAnnotationMemberType(method.getReturnType());
+            this.getter = parameterless && !Modifier.isStatic(method.getModifiers()) ? getter(method) : null;
+        }
+
+        Object get(final Annotation annotation) throws ReflectiveOperationException {
+            if (getter == null) {
+                return method.invoke(annotation);
+            }
+            try {
+                return getter.invokeExact(annotation);
+            } catch (final Throwable t) {
+                // as Method.invoke reports it
+                throw new InvocationTargetException(t);
+            }
+        }
+    }
+
+    /**
+     * A memoized hash code.
+     */
+    private static final class HashCode extends WeakReference<Annotation> {
+
+        private final int value;
+
+        HashCode(final Annotation annotation, final int value) {
+            super(annotation);
+            this.value = value;
+        }
+    }
+
+    private static final int OBJECT = 0;
+    private static final int ANNOTATION = 1;
+    private static final int OBJECT_ARRAY = 2;
+    private static final int ANNOTATION_ARRAY = 3;
+    private static final int BOOLEAN_ARRAY = 4;
+    private static final int BYTE_ARRAY = 5;
+    private static final int CHAR_ARRAY = 6;
+    private static final int SHORT_ARRAY = 7;
+    private static final int INT_ARRAY = 8;
+    private static final int LONG_ARRAY = 9;
+    private static final int FLOAT_ARRAY = 10;
+    private static final int DOUBLE_ARRAY = 11;
+
+    private static final String JDK_INVOCATION_HANDLER = "sun.reflect.annotation.AnnotationInvocationHandler";
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Annotation.class);
+
+    private static final ClassValue<AnnotationMembers> CACHE = new ClassValue<AnnotationMembers>() {
+        @Override
+        protected AnnotationMembers computeValue(final Class<?> type) {
+            return new AnnotationMembers(type);
+        }
+    };
+
+    /** The memoized hash codes by identity hash code; a power of two. */
+    private static final HashCode[] HASH_CODES = new HashCode[256];
+
+    private static boolean arrayEquals(final int kind, final Object o1, final Object o2) {
+        switch (kind) {
+        case ANNOTATION_ARRAY:
+            final Annotation[] a1 = (Annotation[]) o1;
+            final Annotation[] a2 = (Annotation[]) o2;
+            if (a1.length != a2.length) {
+                return false;
+            }
+            for (int i = 0; i < a1.length; i++) {
+                if (!AnnotationUtils.equals(a1[i], a2[i])) {
+                    return false;
+                }
+            }
+            return true;
+        case BOOLEAN_ARRAY:
+            return Arrays.equals((boolean[]) o1, (boolean[]) o2);
+        case BYTE_ARRAY:
+            return Arrays.equals((byte[]) o1, (byte[]) o2);
+        case CHAR_ARRAY:
+            return Arrays.equals((char[]) o1, (char[]) o2);
+        case SHORT_ARRAY:
+            return Arrays.equals((short[]) o1, (short[]) o2);
+        case INT_ARRAY:
+            return Arrays.equals((int[]) o1, (int[]) o2);
+        case LONG_ARRAY:
+            return Arrays.equals((long[]) o1, (long[]) o2);
+        case FLOAT_ARRAY:
+            return Arrays.equals((float[]) o1, (float[]) o2);
+        case DOUBLE_ARRAY:
+            return Arrays.equals((double[]) o1, (double[]) o2);
+        default:
+            return Arrays.equals((Object[]) o1, (Object[]) o2);
+        }
+    }
+
+    private static int arrayHashCode(final int kind, final Object o) {
+        switch (kind) {
+        case BOOLEAN_ARRAY:
+            return Arrays.hashCode((boolean[]) o);
+        case BYTE_ARRAY:
+            return Arrays.hashCode((byte[]) o);
+        case CHAR_ARRAY:
+            return Arrays.hashCode((char[]) o);
+        case SHORT_ARRAY:
+            return Arrays.hashCode((short[]) o);
+        case INT_ARRAY:
+            return Arrays.hashCode((int[]) o);
+        case LONG_ARRAY:
+            return Arrays.hashCode((long[]) o);
+        case FLOAT_ARRAY:
+            return Arrays.hashCode((float[]) o);
+        case DOUBLE_ARRAY:
+            return Arrays.hashCode((double[]) o);
+        default:
+            // annotations in arrays use their own hash codes
+            return Arrays.hashCode((Object[]) o);
+        }
+    }
+
+    /**
+     * Tests whether two annotations of the same type are equal, as {@link AnnotationUtils#equals(Annotation, Annotation)}
+     * specifies.
+     *
+     * @param type the annotation type.
+     * @param a1 the first annotation.
+     * @param a2 the second annotation.
+     * @return whether the annotations are equal.
+     * @throws ReflectiveOperationException if a member cannot be read.
+     */
+    static boolean equals(final Class<? extends Annotation> type, final Annotation a1, final Annotation a2) throws ReflectiveOperationException {
+        for (final Member member : CACHE.get(type).members) {
+            if (member.compared && !memberEquals(member.kind, member.get(a1), member.get(a2))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Performs an action for each member of an annotation that takes no parameters, as
+     * {@link AnnotationUtils#toString(Annotation)} lists them.
+     *
+     * @param annotation the annotation.
+     * @param action the action taking the name and value of a member.
+     * @throws ReflectiveOperationException if a member cannot be read.
+     */
+    static void forEachMember(final Annotation annotation, final FailableBiConsumer<String, Object, ReflectiveOperationException> action)
+            throws ReflectiveOperationException {
+        for (final Member member : CACHE.get(annotation.annotationType()).members) {
+            if (member.method.getParameterCount() == 0) {
+                action.accept(member.name, member.get(annotation));
+            }
+        }
+    }
+
+    private static MethodHandle getter(final Method method) {
+        try {
+            return MethodHandles.publicLookup().unreflect(method).asType(GETTER_TYPE);
+        } catch (final IllegalAccessException e) {
+            // the annotation type is not public, use reflection
+            return null;
+        }
+    }
+
+    /**
+     * Gets the hash code of an annotation, as {@link Annotation#hashCode()} specifies.
+     *
+     * @param annotation the annotation.
+     * @return the hash code.
+     * @throws ReflectiveOperationException if a member cannot be read.
+     */
+    static int hashCode(final Annotation annotation) throws ReflectiveOperationException {
+        final boolean memoized = isJdkAnnotation(annotation);
+        final int slot = System.identityHashCode(annotation) & HASH_CODES.length - 1;
+        if (memoized) {
+            final HashCode hashCode = HASH_CODES[slot];
+            if (hashCode != null && hashCode.get() == annotation) {
+                return hashCode.value;
+            }
+        }
+        int result = 0;
+        for (final Member member : CACHE.get(annotation.annotationType()).members) {
+            final Object value = member.get(annotation);
+            if (value == null) {
+                throw new IllegalStateException(String.format("Annotation method %s returned null", member.method));
+            }
+            result += member.name.hashCode() * 127 ^ memberHashCode(member.kind, value);
+        }
+        if (memoized) {
+            // a race replaces one memoized hash code with another
+            HASH_CODES[slot] = new HashCode(annotation, result);
+        }
+        return result;
+    }
+
+    private static boolean isJdkAnnotation(final Annotation annotation) {
+        return Proxy.isProxyClass(annotation.getClass())
+            && JDK_INVOCATION_HANDLER.equals(Proxy.getInvocationHandler(annotation).getClass().getName());
+    }
+
+    private static int kind(final Class<?> type) {
+        if (type.isAnnotation()) {
+            return ANNOTATION;
+        }
+        if (!type.isArray()) {
+            return OBJECT;
+        }
+        final Class<?> componentType = type.getComponentType();
+        if (componentType.isAnnotation()) {
+            return ANNOTATION_ARRAY;
+        }
+        if (!componentType.isPrimitive()) {
+            return OBJECT_ARRAY;
+        }
+        if (componentType == Boolean.TYPE) {
+            return BOOLEAN_ARRAY;
+        }
+        if (componentType == Byte.TYPE) {
+            return BYTE_ARRAY;
+        }
+        if (componentType == Character.TYPE) {
+            return CHAR_ARRAY;
+        }
+        if (componentType == Short.TYPE) {
+            return SHORT_ARRAY;
+        }
+        if (componentType == Integer.TYPE) {
+            return INT_ARRAY;
+        }
+        if (componentType == Long.TYPE) {
+            return LONG_ARRAY;
+        }
+        return componentType == Float.TYPE ? FLOAT_ARRAY : DOUBLE_ARRAY;
+    }
+
+    private static boolean memberEquals(final int kind, final Object o1, final Object o2) {
+        if (o1 == o2) {
+            return true;
+        }
+        if (o1 == null || o2 == null) {
+            return false;
+        }
+        switch (kind) {
+        case OBJECT:
+            return o1.equals(o2);
+        case ANNOTATION:
+            return AnnotationUtils.equals((Annotation) o1, (Annotation) o2);
+        default:
+            return arrayEquals(kind, o1, o2);
+        }
+    }
+
+    private static int memberHashCode(final int kind, final Object value) {
+        switch (kind) {
+        case OBJECT:
+            return value.hashCode();
+        case ANNOTATION:
+            return AnnotationUtils.hashCode((Annotation) value);
+        default:
+            return arrayHashCode(kind, value);
+        }
+    }
+
+    private final Member[] members;
+
+    private AnnotationMembers(final Class<?> type) {
+        members = Streams.of(type.getDeclaredMethods()).map(Member::new).toArray(Member[]::new);
+    }
+}
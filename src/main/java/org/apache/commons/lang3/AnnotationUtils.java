@@ -17,8 +17,6 @@
 package org.apache.commons.lang3;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 
 import org.apache.commons.lang3.builder.ToStringBuilder;
 import org.apache.commons.lang3.builder.ToStringStyle;
@@ -125,20 +123,10 @@ public static boolean equals(final Annotation a1, final Annotation a2) {
             return false;
         }
         try {
-            for (final Method m : type1.getDeclaredMethods()) {
-                if (m.getParameterTypes().length == 0
-                        && isValidAnnotationMemberType(m.getReturnType())) {
-                    final Object v1 = m.invoke(a1);
-                    final Object v2 = m.invoke(a2);
-                    if (!memberEquals(m.getReturnType(), v1, v2)) {
-                        return false;
-                    }
-                }
-            }
+            return AnnotationMembers.equals(type1, a1, a2);
         } catch (final ReflectiveOperationException ex) {
             return false;
         }
-        return true;
     }
 
     /**
@@ -154,20 +142,11 @@ && isValidAnnotationMemberType(m.getReturnType())) {
      * {@code null}
      */
     public static int hashCode(final Annotation a) {
-        int result = 0;
-        final Class<? extends Annotation> type = a.annotationType();
-        for (final Method m : type.getDeclaredMethods()) {
-            try {
-                final Object value = m.invoke(a);
-                if (value == null) {
-                    throw new IllegalStateException(String.format("Annotation method %s returned null", m));
-                }
-                result += hashMember(m.getName(), value);
-            } catch (final ReflectiveOperationException ex) {
-                throw new UncheckedException(ex);
-            }
+        try {
+            return AnnotationMembers.hashCode(a);
+        } catch (final ReflectiveOperationException ex) {
+            throw new UncheckedException(ex);
         }
-        return result;
     }
 
     /**
@@ -180,15 +159,10 @@ public static int hashCode(final Annotation a) {
      */
     public static String toString(final Annotation a) {
         final ToStringBuilder builder = new ToStringBuilder(a, TO_STRING_STYLE);
-        for (final Method m : a.annotationType().getDeclaredMethods()) {
-            if (m.getParameterTypes().length > 0) {
-                continue; // wtf?
-            }
-            try {
-                builder.append(m.getName(), m.invoke(a));
-            } catch (final ReflectiveOperationException ex) {
-                throw new UncheckedException(ex);
-            }
+        try {
+            AnnotationMembers.forEachMember(a, builder::append);
+        } catch (final ReflectiveOperationException ex) {
+            throw new UncheckedException(ex);
         }
         return builder.build();
     }
@@ -214,142 +188,4 @@ public static boolean isValidAnnotationMemberType(Class<?> type) {
         return type.isPrimitive() || type.isEnum() || type.isAnnotation()
                 || String.class.equals(type) || Class.class.equals(type);
     }
-
-    //besides modularity, this has the advantage of autoboxing primitives:
-    /**
-     * Helper method for generating a hash code for a member of an annotation.
-     *
-     * @param name the name of the member
-     * @param value the value of the member
-     * @return a hash code for this member
-     */
-    private static int hashMember(final String name, final Object value) {
-        final int part1 = name.hashCode() * 127;
-        if (ObjectUtils.isArray(value)) {
-            return part1 ^ arrayMemberHash(value.getClass().getComponentType(), value);
-        }
-        if (value instanceof Annotation) {
-            return part1 ^ hashCode((Annotation) value);
-        }
-        return part1 ^ value.hashCode();
-    }
-
-    /**
-     * Helper method for checking whether two objects of the given type are
-     * equal. This method is used to compare the parameters of two annotation
-     * instances.
-     *
-     * @param type the type of the objects to be compared
-     * @param o1 the first object
-     * @param o2 the second object
-     * @return a flag whether these objects are equal
-     */
-    private static boolean memberEquals(final Class<?> type, final Object o1, final Object o2) {
-        if (o1 == o2) {
-            return true;
-        }
-        if (o1 == null || o2 == null) {
-            return false;
-        }
-        if (type.isArray()) {
-            return arrayMemberEquals(type.getComponentType(), o1, o2);
-        }
-        if (type.isAnnotation()) {
-            return equals((Annotation) o1, (Annotation) o2);
-        }
-        return o1.equals(o2);
-    }
-
-    /**
-     * Helper method for comparing two objects of an array type.
-     *
-     * @param componentType the component type of the array
-     * @param o1 the first object
-     * @param o2 the second object
-     * @return a flag whether these objects are equal
-     */
-    private static boolean arrayMemberEquals(final Class<?> componentType, final Object o1, final Object o2) {
-        if (componentType.isAnnotation()) {
-            return annotationArrayMemberEquals((Annotation[]) o1, (Annotation[]) o2);
-        }
-        if (componentType.equals(Byte.TYPE)) {
-            return Arrays.equals((byte[]) o1, (byte[]) o2);
-        }
-        if (componentType.equals(Short.TYPE)) {
-            return Arrays.equals((short[]) o1, (short[]) o2);
-        }
-        if (componentType.equals(Integer.TYPE)) {
-            return Arrays.equals((int[]) o1, (int[]) o2);
-        }
-        if (componentType.equals(Character.TYPE)) {
-            return Arrays.equals((char[]) o1, (char[]) o2);
-        }
-        if (componentType.equals(Long.TYPE)) {
-            return Arrays.equals((long[]) o1, (long[]) o2);
-        }
-        if (componentType.equals(Float.TYPE)) {
-            return Arrays.equals((float[]) o1, (float[]) o2);
-        }
-        if (componentType.equals(Double.TYPE)) {
-            return Arrays.equals((double[]) o1, (double[]) o2);
-        }
-        if (componentType.equals(Boolean.TYPE)) {
-            return Arrays.equals((boolean[]) o1, (boolean[]) o2);
-        }
-        return Arrays.equals((Object[]) o1, (Object[]) o2);
-    }
-
-    /**
-     * Helper method for comparing two arrays of annotations.
-     *
-     * @param a1 the first array
-     * @param a2 the second array
-     * @return a flag whether these arrays are equal
-     */
-    private static boolean annotationArrayMemberEquals(final Annotation[] a1, final Annotation[] a2) {
-        if (a1.length != a2.length) {
-            return false;
-        }
-        for (int i = 0; i < a1.length; i++) {
-            if (!equals(a1[i], a2[i])) {
-                return false;
-            }
-        }
-        return true;
-    }
-
-    /**
-     * Helper method for generating a hash code for an array.
-     *
-     * @param componentType the component type of the array
-     * @param o the array
-     * @return a hash code for the specified array
-     */
-    private static int arrayMemberHash(final Class<?> componentType, final Object o) {
-        if (componentType.equals(Byte.TYPE)) {
-            return Arrays.hashCode((byte[]) o);
-        }
-        if (componentType.equals(Short.TYPE)) {
-            return Arrays.hashCode((short[]) o);
-        }
-        if (componentType.equals(Integer.TYPE)) {
-            return Arrays.hashCode((int[]) o);
-        }
-        if (componentType.equals(Character.TYPE)) {
-            return Arrays.hashCode((char[]) o);
-        }
-        if (componentType.equals(Long.TYPE)) {
-            return Arrays.hashCode((long[]) o);
-        }
-        if (componentType.equals(Float.TYPE)) {
-            return Arrays.hashCode((float[]) o);
-        }
-        if (componentType.equals(Double.TYPE)) {
-            return Arrays.hashCode((double[]) o);
-        }
-        if (componentType.equals(Boolean.TYPE)) {
-            return Arrays.hashCode((boolean[]) o);
-        }
-        return Arrays.hashCode((Object[]) o);
-    }
 }
@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The superclasses and interfaces of a class, walked once for {@link ClassUtils}, and the widening conversions
+ * between primitive types.
+ *
+ * <p>
+ * Instances are held in a {@link ClassValue}, so they can be unloaded with their class. The arrays are shared and
+ * must not be modified.
+ * </p>
+ */
+final class ClassHierarchy {
+
+    private static final ClassValue<ClassHierarchy> CACHE = new ClassValue<ClassHierarchy>() {
+        @Override
+        protected ClassHierarchy computeValue(final Class<?> type) {
+            return new ClassHierarchy(type);
+        }
+    };
+
+    /**
+     * The primitive types, in the order of {@link #WIDENING}.
+     */
+    private static final Class<?>[] PRIMITIVES = {Boolean.TYPE, Byte.TYPE, Short.TYPE, Character.TYPE, Integer.TYPE,
+        Long.TYPE, Float.TYPE, Double.TYPE, Void.TYPE};
+
+    /**
+     * For each primitive type, the bits of the primitive types it is assignable to, itself included.
+     */
+    private static final int[] WIDENING = {
+        // boolean
+        0b000000001,
+        // byte to short, int, long, float, double
+        0b011110110,
+        // short to int, long, float, double
+        0b011110100,
+        // char to int, long, float, double
+        0b011111000,
+        // int to long, float, double
+        0b011110000,
+        // long to float, double
+        0b011100000,
+        // float to double
+        0b011000000,
+        // double
+        0b010000000,
+        // void
+        0b100000000};
+
+    /**
+     * Gets the superclasses and interfaces of a class.
+     *
+     * @param cls the class.
+     * @return the shared instance for the class.
+     */
+    static ClassHierarchy of(final Class<?> cls) {
+        return CACHE.get(cls);
+    }
+
+    private static int primitiveIndex(final Class<?> primitive) {
+        for (int i = 0; i < PRIMITIVES.length; i++) {
+            if (PRIMITIVES[i] == primitive) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(primitive.toString());
+    }
+
+    /**
+     * Tests whether a primitive type is assignable to another by identity or a widening primitive conversion.
+     *
+     * @param cls the primitive type to assign.
+     * @param toClass the primitive type to assign to.
+     * @return whether the assignment is possible.
+     */
+    static boolean isWidening(final Class<?> cls, final Class<?> toClass) {
+        return (WIDENING[primitiveIndex(cls)] & 1 << primitiveIndex(toClass)) != 0;
+    }
+
+    private static void walkInterfaces(final Class<?> cls, final Set<Class<?>> seen, final Set<Class<?>> addTo) {
+        for (final Class<?> iface : cls.getInterfaces()) {
+            if (!seen.contains(iface)) {
+                addTo.add(iface);
+            }
+            walkInterfaces(iface, seen, addTo);
+        }
+    }
+
+    /** The interfaces in the order of {@link ClassUtils#getAllInterfaces(Class)}. */
+    private final Class<?>[] interfaces;
+
+    /** The superclasses, from the class up, excluding the class. */
+    private final Class<?>[] superclasses;
+
+    /**
+     * The class then its superclasses, each followed by the interfaces it adds, as
+     * {@link ClassUtils#hierarchy(Class, ClassUtils.Interfaces)} iterates.
+     */
+    private final List<Class<?>> withInterfaces;
+
+    /** The class then its superclasses. */
+    private final List<Class<?>> withoutInterfaces;
+
+    private ClassHierarchy(final Class<?> cls) {
+        final List<Class<?>> classes = new ArrayList<>();
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        final Set<Class<?>> allInterfaces = new LinkedHashSet<>();
+        final Set<Class<?>> seen = new LinkedHashSet<>();
+        for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
+            classes.add(acls);
+            hierarchy.add(acls);
+            final Set<Class<?>> newInterfaces = new LinkedHashSet<>();
+            walkInterfaces(acls, seen, newInterfaces);
+            hierarchy.addAll(newInterfaces);
+            seen.addAll(newInterfaces);
+            addAllInterfaces(acls, allInterfaces);
+        }
+        interfaces = allInterfaces.toArray(ArrayUtils.EMPTY_CLASS_ARRAY);
+        superclasses = classes.subList(1, classes.size()).toArray(ArrayUtils.EMPTY_CLASS_ARRAY);
+        withInterfaces = Collections.unmodifiableList(hierarchy);
+        withoutInterfaces = Collections.unmodifiableList(classes);
+    }
+
+    private static void addAllInterfaces(final Class<?> cls, final Set<Class<?>> interfacesFound) {
+        for (final Class<?> iface : cls.getInterfaces()) {
+            if (interfacesFound.add(iface)) {
+                addAllInterfaces(iface, interfacesFound);
+            }
+        }
+    }
+
+    /**
+     * Gets the class hierarchy as {@link ClassUtils#hierarchy(Class, ClassUtils.Interfaces)} iterates it.
+     *
+     * @param includeInterfaces whether to include interfaces.
+     * @return the shared, unmodifiable list.
+     */
+    List<Class<?>> getHierarchy(final boolean includeInterfaces) {
+        return includeInterfaces ? withInterfaces : withoutInterfaces;
+    }
+
+    /**
+     * Gets all interfaces implemented by the class and its superclasses.
+     *
+     * @return a new list, in the order of {@link ClassUtils#getAllInterfaces(Class)}.
+     */
+    List<Class<?>> getInterfaces() {
+        return new ArrayList<>(Arrays.asList(interfaces));
+    }
+
+    /**
+     * Gets the superclasses of the class.
+     *
+     * @return a new list, from the class up.
+     */
+    List<Class<?>> getSuperclasses() {
+        return new ArrayList<>(Arrays.asList(superclasses));
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.lang.ref.WeakReference;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Caches the names derived from classes and the classes resolved from names by {@link ClassUtils}.
+ *
+ * <p>
+ * The names of a class are held in a {@link ClassValue}, so they can be unloaded with their class, and are computed on
+ * first use. The abbreviated names are computed for each length hint shorter than the name, the only hints that
+ * change the result.
+ * </p>
+ *
+ * <p>
+ * Classes resolved from names are held for each {@link ClassLoader} in maps that do not keep the class loader or the
+ * classes from being collected, and that keep the {@value #MAX_CLASSES_PER_LOADER} names used most recently. Names that
+ * cannot be resolved are not cached, as classes may be defined later.
+ * </p>
+ */
+final class ClassNames {
+
+    /**
+     * A class resolved from a name.
+     */
+    private static final class Resolution extends WeakReference<Class<?>> {
+
+        private final boolean initialized;
+
+        Resolution(final Class<?> clazz, final boolean initialized) {
+            super(clazz);
+            this.initialized = initialized;
+        }
+    }
+
+    /**
+     * The maximum number of names cached for each class loader.
+     */
+    static final int MAX_CLASSES_PER_LOADER = 512;
+
+    private static final ClassValue<ClassNames> CACHE = new ClassValue<ClassNames>() {
+        @Override
+        protected ClassNames computeValue(final Class<?> type) {
+            return new ClassNames(type.getName());
+        }
+    };
+
+    /** The classes resolved by name for each class loader, the bootstrap class loader being null. */
+    private static final Map<ClassLoader, Map<String, Resolution>> RESOLUTIONS = new WeakHashMap<>();
+
+    /**
+     * Gets a class resolved from a name before.
+     *
+     * @param classLoader the class loader resolving the name.
+     * @param className the name.
+     * @param initialize whether the class must be initialized.
+     * @return the class, or null if it must be resolved.
+     */
+    static Class<?> getClass(final ClassLoader classLoader, final String className, final boolean initialize) {
+        final Resolution resolution;
+        synchronized (RESOLUTIONS) {
+            final Map<String, Resolution> classes = RESOLUTIONS.get(classLoader);
+            resolution = classes == null ? null : classes.get(className);
+        }
+        // a class resolved without initialization is resolved again to initialize it
+        return resolution == null || initialize && !resolution.initialized ? null : resolution.get();
+    }
+
+    /**
+     * Gets the names of a class.
+     *
+     * @param cls the class.
+     * @return the shared instance for the class.
+     */
+    static ClassNames of(final Class<?> cls) {
+        return CACHE.get(cls);
+    }
+
+    /**
+     * Caches a class resolved from a name.
+     *
+     * @param classLoader the class loader that resolved the name.
+     * @param className the name.
+     * @param clazz the class.
+     * @param initialized whether the class was initialized.
+     */
+    static void putClass(final ClassLoader classLoader, final String className, final Class<?> clazz, final boolean initialized) {
+        synchronized (RESOLUTIONS) {
+            RESOLUTIONS.computeIfAbsent(classLoader, k -> new LinkedHashMap<String, Resolution>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<String, Resolution> eldest) {
+                    return size() > MAX_CLASSES_PER_LOADER;
+                }
+            }).put(className, new Resolution(clazz, initialized));
+        }
+    }
+
+    private final String name;
+    private volatile String shortClassName;
+    private volatile String packageName;
+
+    /** The abbreviated names by length hint, created on first use; races only compute the same names twice. */
+    private volatile String[] abbreviatedNames;
+
+    private ClassNames(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Gets the abbreviated name of the class.
+     *
+     * @param lengthHint the desired length.
+     * @return the name as {@link ClassUtils#getAbbreviatedName(String, int)} abbreviates it.
+     */
+    String getAbbreviatedName(final int lengthHint) {
+        if (lengthHint <= 0 || lengthHint >= name.length()) {
+            return ClassUtils.getAbbreviatedName(name, lengthHint);
+        }
+        String[] names = abbreviatedNames;
+        if (names == null) {
+            names = new String[name.length()];
+            abbreviatedNames = names;
+        }
+        String abbreviated = names[lengthHint];
+        if (abbreviated == null) {
+            abbreviated = ClassUtils.getAbbreviatedName(name, lengthHint);
+            names[lengthHint] = abbreviated;
+        }
+        return abbreviated;
+    }
+
+    /**
+     * Gets the package name of the class.
+     *
+     * @return the name as {@link ClassUtils#getPackageName(String)} computes it.
+     */
+    String getPackageName() {
+        String result = packageName;
+        if (result == null) {
+            result = ClassUtils.getPackageName(name);
+            packageName = result;
+        }
+        return result;
+    }
+
+    /**
+     * Gets the short name of the class.
+     *
+     * @return the name as {@link ClassUtils#getShortClassName(String)} computes it.
+     */
+    String getShortClassName() {
+        String result = shortClassName;
+        if (result == null) {
+            result = ClassUtils.getShortClassName(name);
+            shortClassName = result;
+        }
+        return result;
+    }
+}
@@ -23,17 +23,11 @@
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.apache.commons.lang3.mutable.MutableObject;
-
 /**
  * Operates on classes without using reflection.
  *
@@ -224,7 +218,7 @@ public static String getAbbreviatedName(final Class<?> cls, final int lengthHint
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getAbbreviatedName(cls.getName(), lengthHint);
+        return ClassNames.of(cls).getAbbreviatedName(lengthHint);
     }
 
     /**
@@ -350,30 +344,7 @@ public static List<Class<?>> getAllInterfaces(final Class<?> cls) {
             return null;
         }
 
-        final LinkedHashSet<Class<?>> interfacesFound = new LinkedHashSet<>();
-        getAllInterfaces(cls, interfacesFound);
-
-        return new ArrayList<>(interfacesFound);
-    }
-
-    /**
-     * Gets the interfaces for the specified class.
-     *
-     * @param cls the class to look up, may be {@code null}
-     * @param interfacesFound the {@link Set} of interfaces for the class
-     */
-    private static void getAllInterfaces(Class<?> cls, final HashSet<Class<?>> interfacesFound) {
-        while (cls != null) {
-            final Class<?>[] interfaces = cls.getInterfaces();
-
-            for (final Class<?> i : interfaces) {
-                if (interfacesFound.add(i)) {
-                    getAllInterfaces(i, interfacesFound);
-                }
-            }
-
-            cls = cls.getSuperclass();
-        }
+        return ClassHierarchy.of(cls).getInterfaces();
     }
 
     /**
@@ -386,13 +357,7 @@ public static List<Class<?>> getAllSuperclasses(final Class<?> cls) {
         if (cls == null) {
             return null;
         }
-        final List<Class<?>> classes = new ArrayList<>();
-        Class<?> superclass = cls.getSuperclass();
-        while (superclass != null) {
-            classes.add(superclass);
-            superclass = superclass.getSuperclass();
-        }
-        return classes;
+        return ClassHierarchy.of(cls).getSuperclasses();
     }
 
     /**
@@ -527,8 +492,28 @@ public static Class<?> getClass(final ClassLoader classLoader, final String clas
      * @throws ClassNotFoundException if the class is not found
      */
     public static Class<?> getClass(final ClassLoader classLoader, final String className, final boolean initialize) throws ClassNotFoundException {
+        final Class<?> cached = ClassNames.getClass(classLoader, className, initialize);
+        if (cached != null) {
+            return cached;
+        }
+        final Class<?> clazz = forName(classLoader, className, initialize);
+        ClassNames.putClass(classLoader, className, clazz, initialize);
+        return clazz;
+    }
+
+    /**
+     * Resolves the class represented by {@code className} using the {@code classLoader}, without caching.
+     *
+     * @param classLoader the class loader to use to load the class
+     * @param className the class name
+     * @param initialize whether the class must be initialized
+     * @return the class represented by {@code className} using the {@code classLoader}
+     * @throws NullPointerException if the className is null
+     * @throws ClassNotFoundException if the class is not found
+     */
+    private static Class<?> forName(final ClassLoader classLoader, final String className, final boolean initialize) throws ClassNotFoundException {
         try {
-            Class<?> clazz = namePrimitiveMap.get(className);
+            final Class<?> clazz = namePrimitiveMap.get(className);
             return clazz != null ? clazz : Class.forName(toCanonicalName(className), initialize, classLoader);
         } catch (final ClassNotFoundException ex) {
             // allow path separators (.) as inner class name separators
@@ -536,7 +521,7 @@ public static Class<?> getClass(final ClassLoader classLoader, final String clas
 
             if (lastDotIndex != -1) {
                 try {
-                    return getClass(classLoader, className.substring(0, lastDotIndex) + INNER_CLASS_SEPARATOR_CHAR + className.substring(lastDotIndex + 1),
+                    return forName(classLoader, className.substring(0, lastDotIndex) + INNER_CLASS_SEPARATOR_CHAR + className.substring(lastDotIndex + 1),
                         initialize);
                 } catch (final ClassNotFoundException ignored) {
                     // ignore exception
@@ -699,7 +684,7 @@ public static String getPackageName(final Class<?> cls) {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getPackageName(cls.getName());
+        return ClassNames.of(cls).getPackageName();
     }
 
     /**
@@ -937,7 +922,7 @@ public static String getShortClassName(final Class<?> cls) {
         if (cls == null) {
             return StringUtils.EMPTY;
         }
-        return getShortClassName(cls.getName());
+        return ClassNames.of(cls).getShortClassName();
     }
 
     /**
@@ -1102,74 +1087,10 @@ public static Iterable<Class<?>> hierarchy(final Class<?> type) {
      * @since 3.2
      */
     public static Iterable<Class<?>> hierarchy(final Class<?> type, final Interfaces interfacesBehavior) {
-        final Iterable<Class<?>> classes = () -> {
-            final MutableObject<Class<?>> next = new MutableObject<>(type);
-            return new Iterator<Class<?>>() {
-
-                @Override
-                public boolean hasNext() {
-                    return next.getValue() != null;
-                }
-
-                @Override
-                public Class<?> next() {
-                    final Class<?> result = next.getValue();
-                    next.setValue(result.getSuperclass());
-                    return result;
-                }
-
-                @Override
-                public void remove() {
-                    throw new UnsupportedOperationException();
-                }
-
-            };
-        };
-        if (interfacesBehavior != Interfaces.INCLUDE) {
-            return classes;
+        if (type == null) {
+            return Collections.emptyList();
         }
-        return () -> {
-            final Set<Class<?>> seenInterfaces = new HashSet<>();
-            final Iterator<Class<?>> wrapped = classes.iterator();
-
-            return new Iterator<Class<?>>() {
-                Iterator<Class<?>> interfaces = Collections.emptyIterator();
-
-                @Override
-                public boolean hasNext() {
-                    return interfaces.hasNext() || wrapped.hasNext();
-                }
-
-                @Override
-                public Class<?> next() {
-                    if (interfaces.hasNext()) {
-                        final Class<?> nextInterface = interfaces.next();
-                        seenInterfaces.add(nextInterface);
-                        return nextInterface;
-                    }
-                    final Class<?> nextSuperclass = wrapped.next();
-                    final Set<Class<?>> currentInterfaces = new LinkedHashSet<>();
-                    walkInterfaces(currentInterfaces, nextSuperclass);
-                    interfaces = currentInterfaces.iterator();
-                    return nextSuperclass;
-                }
-
-                @Override
-                public void remove() {
-                    throw new UnsupportedOperationException();
-                }
-
-                private void walkInterfaces(final Set<Class<?>> addTo, final Class<?> c) {
-                    for (final Class<?> iface : c.getInterfaces()) {
-                        if (!seenInterfaces.contains(iface)) {
-                            addTo.add(iface);
-                        }
-                        walkInterfaces(addTo, iface);
-                    }
-                }
-
-            };
-        };
+        return ClassHierarchy.of(type).getHierarchy(interfacesBehavior == Interfaces.INCLUDE);
     }
 
     /**
@@ -1268,33 +1189,7 @@ public static boolean isAssignable(Class<?> cls, final Class<?> toClass, final b
             return true;
         }
         if (cls.isPrimitive()) {
-            if (!toClass.isPrimitive()) {
-                return false;
-            }
-            if (Integer.TYPE.equals(cls)) {
-                return Long.TYPE.equals(toClass) || Float.TYPE.equals(toClass) || Double.TYPE.equals(toClass);
-            }
-            if (Long.TYPE.equals(cls)) {
-                return Float.TYPE.equals(toClass) || Double.TYPE.equals(toClass);
-            }
-            if (Boolean.TYPE.equals(cls)) {
-                return false;
-            }
-            if (Double.TYPE.equals(cls)) {
-                return false;
-            }
-            if (Float.TYPE.equals(cls)) {
-                return Double.TYPE.equals(toClass);
-            }
-            if (Character.TYPE.equals(cls)  || Short.TYPE.equals(cls)) {
-                return Integer.TYPE.equals(toClass) || Long.TYPE.equals(toClass) || Float.TYPE.equals(toClass) || Double.TYPE.equals(toClass);
-            }
-            if (Byte.TYPE.equals(cls)) {
-                return Short.TYPE.equals(toClass) || Integer.TYPE.equals(toClass) || Long.TYPE.equals(toClass) || Float.TYPE.equals(toClass)
-                    || Double.TYPE.equals(toClass);
-            }
-            // should never get here
-            return false;
+            return toClass.isPrimitive() && ClassHierarchy.isWidening(cls, toClass);
         }
         return toClass.isAssignableFrom(cls);
     }
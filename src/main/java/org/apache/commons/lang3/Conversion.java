@@ -16,6 +16,15 @@
  */
 package org.apache.commons.lang3;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.CharBuffer;
+import java.util.BitSet;
 import java.util.UUID;
 
 
@@ -31,6 +40,7 @@
  * </p>
  * <ul>
  * <li>binary: an array of booleans</li>
+ * <li>bitSet: a {@link BitSet}</li>
  * <li>byte or byteArray</li>
  * <li>int or intArray</li>
  * <li>long or longArray</li>
@@ -62,22 +72,36 @@
 
 public class Conversion {
 
-    private static final boolean[] TTTT = {true, true, true, true};
-    private static final boolean[] FTTT = {false, true, true, true};
-    private static final boolean[] TFTT = {true, false, true, true};
-    private static final boolean[] FFTT = {false, false, true, true};
-    private static final boolean[] TTFT = {true, true, false, true};
-    private static final boolean[] FTFT = {false, true, false, true};
-    private static final boolean[] TFFT = {true, false, false, true};
-    private static final boolean[] FFFT = {false, false, false, true};
-    private static final boolean[] TTTF = {true, true, true, false};
-    private static final boolean[] FTTF = {false, true, true, false};
-    private static final boolean[] TFTF = {true, false, true, false};
-    private static final boolean[] FFTF = {false, false, true, false};
-    private static final boolean[] TTFF = {true, true, false, false};
-    private static final boolean[] FTFF = {false, true, false, false};
-    private static final boolean[] TFFF = {true, false, false, false};
-    private static final boolean[] FFFF = {false, false, false, false};
+    /**
+     * The hexadecimal digits of the 4 bit values.
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * The hexadecimal digits of each byte value in the default (Lsb0) bit ordering: the digit of the low nibble, then
+     * the digit of the high nibble.
+     */
+    private static final char[] BYTE_TO_HEX = new char[512];
+
+    /**
+     * The values of the ASCII hexadecimal digits, -1 for the other ASCII chars.
+     */
+    private static final byte[] HEX_TO_NIBBLE = new byte[128];
+
+    /**
+     * The number of bytes converted at a time to the Chars appended to an {@link Appendable}.
+     */
+    private static final int HEX_CHUNK = 512;
+
+    static {
+        for (int b = 0; b < 256; b++) {
+            BYTE_TO_HEX[b * 2] = HEX_DIGITS[b & 0xf];
+            BYTE_TO_HEX[b * 2 + 1] = HEX_DIGITS[b >> 4];
+        }
+        for (char c = 0; c < HEX_TO_NIBBLE.length; c++) {
+            HEX_TO_NIBBLE[c] = (byte) Character.digit(c, 16);
+        }
+    }
 
     /**
      * Converts a hexadecimal digit into an int using the default (Lsb0) bit ordering.
@@ -110,48 +134,7 @@ public static int hexDigitToInt(final char hexDigit) {
      * @throws IllegalArgumentException if {@code hexDigit} is not a hexadecimal digit
      */
     public static int hexDigitMsb0ToInt(final char hexDigit) {
-        switch (hexDigit) {
-        case '0':
-            return 0x0;
-        case '1':
-            return 0x8;
-        case '2':
-            return 0x4;
-        case '3':
-            return 0xC;
-        case '4':
-            return 0x2;
-        case '5':
-            return 0xA;
-        case '6':
-            return 0x6;
-        case '7':
-            return 0xE;
-        case '8':
-            return 0x1;
-        case '9':
-            return 0x9;
-        case 'a':// fall through
-        case 'A':
-            return 0x5;
-        case 'b':// fall through
-        case 'B':
-            return 0xD;
-        case 'c':// fall through
-        case 'C':
-            return 0x3;
-        case 'd':// fall through
-        case 'D':
-            return 0xB;
-        case 'e':// fall through
-        case 'E':
-            return 0x7;
-        case 'f':// fall through
-        case 'F':
-            return 0xF;
-        default:
-            throw new IllegalArgumentException("Cannot interpret '" + hexDigit + "' as a hexadecimal digit");
-        }
+        return Integer.reverse(asciiHexDigitToInt(hexDigit)) >>> 28;
     }
 
     /**
@@ -167,48 +150,7 @@ public static int hexDigitMsb0ToInt(final char hexDigit) {
      * @throws IllegalArgumentException if {@code hexDigit} is not a hexadecimal digit
      */
     public static boolean[] hexDigitToBinary(final char hexDigit) {
-        switch (hexDigit) {
-        case '0':
-            return FFFF.clone();
-        case '1':
-            return TFFF.clone();
-        case '2':
-            return FTFF.clone();
-        case '3':
-            return TTFF.clone();
-        case '4':
-            return FFTF.clone();
-        case '5':
-            return TFTF.clone();
-        case '6':
-            return FTTF.clone();
-        case '7':
-            return TTTF.clone();
-        case '8':
-            return FFFT.clone();
-        case '9':
-            return TFFT.clone();
-        case 'a':// fall through
-        case 'A':
-            return FTFT.clone();
-        case 'b':// fall through
-        case 'B':
-            return TTFT.clone();
-        case 'c':// fall through
-        case 'C':
-            return FFTT.clone();
-        case 'd':// fall through
-        case 'D':
-            return TFTT.clone();
-        case 'e':// fall through
-        case 'E':
-            return FTTT.clone();
-        case 'f':// fall through
-        case 'F':
-            return TTTT.clone();
-        default:
-            throw new IllegalArgumentException("Cannot interpret '" + hexDigit + "' as a hexadecimal digit");
-        }
+        return nibbleToBinary(asciiHexDigitToInt(hexDigit));
     }
 
     /**
@@ -224,48 +166,7 @@ public static boolean[] hexDigitToBinary(final char hexDigit) {
      * @throws IllegalArgumentException if {@code hexDigit} is not a hexadecimal digit
      */
     public static boolean[] hexDigitMsb0ToBinary(final char hexDigit) {
-        switch (hexDigit) {
-        case '0':
-            return FFFF.clone();
-        case '1':
-            return FFFT.clone();
-        case '2':
-            return FFTF.clone();
-        case '3':
-            return FFTT.clone();
-        case '4':
-            return FTFF.clone();
-        case '5':
-            return FTFT.clone();
-        case '6':
-            return FTTF.clone();
-        case '7':
-            return FTTT.clone();
-        case '8':
-            return TFFF.clone();
-        case '9':
-            return TFFT.clone();
-        case 'a':// fall through
-        case 'A':
-            return TFTF.clone();
-        case 'b':// fall through
-        case 'B':
-            return TFTT.clone();
-        case 'c':// fall through
-        case 'C':
-            return TTFF.clone();
-        case 'd':// fall through
-        case 'D':
-            return TTFT.clone();
-        case 'e':// fall through
-        case 'E':
-            return TTTF.clone();
-        case 'f':// fall through
-        case 'F':
-            return TTTT.clone();
-        default:
-            throw new IllegalArgumentException("Cannot interpret '" + hexDigit + "' as a hexadecimal digit");
-        }
+        return nibbleToBinary(Integer.reverse(asciiHexDigitToInt(hexDigit)) >>> 28);
     }
 
     /**
@@ -479,11 +380,10 @@ public static char binaryBeMsb0ToHexDigit(final boolean[] src, final int srcPos)
      * @throws IllegalArgumentException if {@code nibble < 0} or {@code nibble > 15}
      */
     public static char intToHexDigit(final int nibble) {
-        final char c = Character.forDigit(nibble, 16);
-        if (c == Character.MIN_VALUE) {
+        if ((nibble & ~0xf) != 0) {
             throw new IllegalArgumentException("nibble value not between 0 and 15: " + nibble);
         }
-        return c;
+        return HEX_DIGITS[nibble];
     }
 
     /**
@@ -504,42 +404,10 @@ public static char intToHexDigit(final int nibble) {
      * @throws IllegalArgumentException if {@code nibble < 0} or {@code nibble > 15}
      */
     public static char intToHexDigitMsb0(final int nibble) {
-        switch (nibble) {
-        case 0x0:
-            return '0';
-        case 0x1:
-            return '8';
-        case 0x2:
-            return '4';
-        case 0x3:
-            return 'c';
-        case 0x4:
-            return '2';
-        case 0x5:
-            return 'a';
-        case 0x6:
-            return '6';
-        case 0x7:
-            return 'e';
-        case 0x8:
-            return '1';
-        case 0x9:
-            return '9';
-        case 0xA:
-            return '5';
-        case 0xB:
-            return 'd';
-        case 0xC:
-            return '3';
-        case 0xD:
-            return 'b';
-        case 0xE:
-            return '7';
-        case 0xF:
-            return 'f';
-        default:
+        if ((nibble & ~0xf) != 0) {
             throw new IllegalArgumentException("nibble value not between 0 and 15: " + nibble);
         }
+        return HEX_DIGITS[Integer.reverse(nibble) >>> 28];
     }
 
     /**
@@ -1489,4 +1357,588 @@ public static UUID byteArrayToUuid(final byte[] src, final int srcPos) {
         }
         return new UUID(byteArrayToLong(src, srcPos, 0, 0, 8), byteArrayToLong(src, srcPos + 8, 0, 0, 8));
     }
+
+    /**
+     * Converts an array of byte into an array of short using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the byte array to convert
+     * @param srcPos the position in {@code src}, in byte unit, from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nShorts the number of shorts to convert, from {@code 2 * nShorts} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + 2 * nShorts > src.length} or
+     *             {@code dstPos + nShorts > dst.length}
+     * @since 3.13.0
+     */
+    public static short[] byteArrayToShortArray(final byte[] src, final int srcPos, final short[] dst, final int dstPos,
+            final int nShorts) {
+        if (0 == nShorts) {
+            return dst;
+        }
+        return byteBufferToShortArray(wrapLittleEndian(src, srcPos, nShorts * Short.BYTES), dst, dstPos, nShorts);
+    }
+
+    /**
+     * Converts an array of byte into an array of int using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the byte array to convert
+     * @param srcPos the position in {@code src}, in byte unit, from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nInts the number of ints to convert, from {@code 4 * nInts} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + 4 * nInts > src.length} or
+     *             {@code dstPos + nInts > dst.length}
+     * @since 3.13.0
+     */
+    public static int[] byteArrayToIntArray(final byte[] src, final int srcPos, final int[] dst, final int dstPos, final int nInts) {
+        if (0 == nInts) {
+            return dst;
+        }
+        return byteBufferToIntArray(wrapLittleEndian(src, srcPos, nInts * Integer.BYTES), dst, dstPos, nInts);
+    }
+
+    /**
+     * Converts an array of byte into an array of long using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the byte array to convert
+     * @param srcPos the position in {@code src}, in byte unit, from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nLongs the number of longs to convert, from {@code 8 * nLongs} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + 8 * nLongs > src.length} or
+     *             {@code dstPos + nLongs > dst.length}
+     * @since 3.13.0
+     */
+    public static long[] byteArrayToLongArray(final byte[] src, final int srcPos, final long[] dst, final int dstPos,
+            final int nLongs) {
+        if (0 == nLongs) {
+            return dst;
+        }
+        return byteBufferToLongArray(wrapLittleEndian(src, srcPos, nLongs * Long.BYTES), dst, dstPos, nLongs);
+    }
+
+    /**
+     * Converts an array of short into an array of byte using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the short array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst}, in byte unit, where to copy the result
+     * @param nShorts the number of shorts to convert, to {@code 2 * nShorts} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + nShorts > src.length} or
+     *             {@code dstPos + 2 * nShorts > dst.length}
+     * @since 3.13.0
+     */
+    public static byte[] shortArrayToByteArray(final short[] src, final int srcPos, final byte[] dst, final int dstPos,
+            final int nShorts) {
+        if (0 == nShorts) {
+            return dst;
+        }
+        shortArrayToByteBuffer(src, srcPos, wrapLittleEndian(dst, dstPos, nShorts * Short.BYTES), nShorts);
+        return dst;
+    }
+
+    /**
+     * Converts an array of int into an array of byte using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the int array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst}, in byte unit, where to copy the result
+     * @param nInts the number of ints to convert, to {@code 4 * nInts} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + nInts > src.length} or
+     *             {@code dstPos + 4 * nInts > dst.length}
+     * @since 3.13.0
+     */
+    public static byte[] intArrayToByteArray(final int[] src, final int srcPos, final byte[] dst, final int dstPos, final int nInts) {
+        if (0 == nInts) {
+            return dst;
+        }
+        intArrayToByteBuffer(src, srcPos, wrapLittleEndian(dst, dstPos, nInts * Integer.BYTES), nInts);
+        return dst;
+    }
+
+    /**
+     * Converts an array of long into an array of byte using the default (little endian, Lsb0) byte and bit ordering.
+     *
+     * @param src the long array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst}, in byte unit, where to copy the result
+     * @param nLongs the number of longs to convert, to {@code 8 * nLongs} bytes
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos + nLongs > src.length} or
+     *             {@code dstPos + 8 * nLongs > dst.length}
+     * @since 3.13.0
+     */
+    public static byte[] longArrayToByteArray(final long[] src, final int srcPos, final byte[] dst, final int dstPos,
+            final int nLongs) {
+        if (0 == nLongs) {
+            return dst;
+        }
+        longArrayToByteBuffer(src, srcPos, wrapLittleEndian(dst, dstPos, nLongs * Long.BYTES), nLongs);
+        return dst;
+    }
+
+    /**
+     * Reads shorts from a {@link ByteBuffer} into an array, in the byte order of the buffer.
+     *
+     * <p>
+     * The shorts are read from the position of the buffer, which is advanced by {@code 2 * nShorts}.
+     * </p>
+     *
+     * @param src the buffer to read, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nShorts the number of shorts to read
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferUnderflowException if fewer than {@code 2 * nShorts} bytes remain in {@code src}
+     * @throws IndexOutOfBoundsException if {@code dstPos + nShorts > dst.length}
+     * @since 3.13.0
+     */
+    public static short[] byteBufferToShortArray(final ByteBuffer src, final short[] dst, final int dstPos, final int nShorts) {
+        src.asShortBuffer().get(dst, dstPos, nShorts);
+        skip(src, nShorts * Short.BYTES);
+        return dst;
+    }
+
+    /**
+     * Reads ints from a {@link ByteBuffer} into an array, in the byte order of the buffer.
+     *
+     * <p>
+     * The ints are read from the position of the buffer, which is advanced by {@code 4 * nInts}.
+     * </p>
+     *
+     * @param src the buffer to read, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nInts the number of ints to read
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferUnderflowException if fewer than {@code 4 * nInts} bytes remain in {@code src}
+     * @throws IndexOutOfBoundsException if {@code dstPos + nInts > dst.length}
+     * @since 3.13.0
+     */
+    public static int[] byteBufferToIntArray(final ByteBuffer src, final int[] dst, final int dstPos, final int nInts) {
+        src.asIntBuffer().get(dst, dstPos, nInts);
+        skip(src, nInts * Integer.BYTES);
+        return dst;
+    }
+
+    /**
+     * Reads longs from a {@link ByteBuffer} into an array, in the byte order of the buffer.
+     *
+     * <p>
+     * The longs are read from the position of the buffer, which is advanced by {@code 8 * nLongs}.
+     * </p>
+     *
+     * @param src the buffer to read, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nLongs the number of longs to read
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferUnderflowException if fewer than {@code 8 * nLongs} bytes remain in {@code src}
+     * @throws IndexOutOfBoundsException if {@code dstPos + nLongs > dst.length}
+     * @since 3.13.0
+     */
+    public static long[] byteBufferToLongArray(final ByteBuffer src, final long[] dst, final int dstPos, final int nLongs) {
+        src.asLongBuffer().get(dst, dstPos, nLongs);
+        skip(src, nLongs * Long.BYTES);
+        return dst;
+    }
+
+    /**
+     * Writes shorts from an array to a {@link ByteBuffer}, in the byte order of the buffer.
+     *
+     * <p>
+     * The shorts are written at the position of the buffer, which is advanced by {@code 2 * nShorts}.
+     * </p>
+     *
+     * @param src the short array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the buffer to write, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param nShorts the number of shorts to write
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferOverflowException if fewer than {@code 2 * nShorts} bytes remain in {@code dst}
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     * @throws IndexOutOfBoundsException if {@code srcPos + nShorts > src.length}
+     * @since 3.13.0
+     */
+    public static ByteBuffer shortArrayToByteBuffer(final short[] src, final int srcPos, final ByteBuffer dst, final int nShorts) {
+        dst.asShortBuffer().put(src, srcPos, nShorts);
+        return skip(dst, nShorts * Short.BYTES);
+    }
+
+    /**
+     * Writes ints from an array to a {@link ByteBuffer}, in the byte order of the buffer.
+     *
+     * <p>
+     * The ints are written at the position of the buffer, which is advanced by {@code 4 * nInts}.
+     * </p>
+     *
+     * @param src the int array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the buffer to write, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param nInts the number of ints to write
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferOverflowException if fewer than {@code 4 * nInts} bytes remain in {@code dst}
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     * @throws IndexOutOfBoundsException if {@code srcPos + nInts > src.length}
+     * @since 3.13.0
+     */
+    public static ByteBuffer intArrayToByteBuffer(final int[] src, final int srcPos, final ByteBuffer dst, final int nInts) {
+        dst.asIntBuffer().put(src, srcPos, nInts);
+        return skip(dst, nInts * Integer.BYTES);
+    }
+
+    /**
+     * Writes longs from an array to a {@link ByteBuffer}, in the byte order of the buffer.
+     *
+     * <p>
+     * The longs are written at the position of the buffer, which is advanced by {@code 8 * nLongs}.
+     * </p>
+     *
+     * @param src the long array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the buffer to write, in its byte order, for example {@link ByteOrder#BIG_ENDIAN}
+     * @param nLongs the number of longs to write
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferOverflowException if fewer than {@code 8 * nLongs} bytes remain in {@code dst}
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     * @throws IndexOutOfBoundsException if {@code srcPos + nLongs > src.length}
+     * @since 3.13.0
+     */
+    public static ByteBuffer longArrayToByteBuffer(final long[] src, final int srcPos, final ByteBuffer dst, final int nLongs) {
+        dst.asLongBuffer().put(src, srcPos, nLongs);
+        return skip(dst, nLongs * Long.BYTES);
+    }
+
+    /**
+     * Converts an array of byte into an array of Char using the default (Lsb0) bit ordering, as {@link #byteToHex}
+     * converts each byte: the digit of the low nibble, then the digit of the high nibble.
+     *
+     * @param src the byte array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nBytes the number of bytes to convert, to {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws ArrayIndexOutOfBoundsException if {@code srcPos + nBytes > src.length} or
+     *             {@code dstPos + 2 * nBytes > dst.length}
+     * @since 3.13.0
+     */
+    public static char[] byteArrayToHex(final byte[] src, final int srcPos, final char[] dst, final int dstPos, final int nBytes) {
+        for (int i = 0; i < nBytes; i++) {
+            final int index = (src[srcPos + i] & 0xff) * 2;
+            dst[dstPos + i * 2] = BYTE_TO_HEX[index];
+            dst[dstPos + i * 2 + 1] = BYTE_TO_HEX[index + 1];
+        }
+        return dst;
+    }
+
+    /**
+     * Converts Chars into an array of byte using the default (Lsb0) bit ordering, as {@link #hexToByte} converts each
+     * pair of Chars: the digit of the low nibble, then the digit of the high nibble.
+     *
+     * @param src the hex Chars to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nBytes the number of bytes to convert, from {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IllegalArgumentException if a Char is not a hexadecimal digit
+     * @throws IndexOutOfBoundsException if {@code srcPos + 2 * nBytes > src.length()} or
+     *             {@code dstPos + nBytes > dst.length}
+     * @since 3.13.0
+     */
+    public static byte[] hexToByteArray(final CharSequence src, final int srcPos, final byte[] dst, final int dstPos, final int nBytes) {
+        for (int i = 0; i < nBytes; i++) {
+            final char lowDigit = src.charAt(srcPos + i * 2);
+            final char highDigit = src.charAt(srcPos + i * 2 + 1);
+            int low = lowDigit < HEX_TO_NIBBLE.length ? HEX_TO_NIBBLE[lowDigit] : -1;
+            int high = highDigit < HEX_TO_NIBBLE.length ? HEX_TO_NIBBLE[highDigit] : -1;
+            if ((low | high) < 0) {
+                // other digits, including those that Character.digit accepts outside ASCII, go the slow way
+                low = hexDigitToInt(lowDigit);
+                high = hexDigitToInt(highDigit);
+            }
+            dst[dstPos + i] = (byte) (high << 4 | low);
+        }
+        return dst;
+    }
+
+    /**
+     * Appends hex Chars converted from an array of byte using the default (Lsb0) bit ordering, as
+     * {@link #byteArrayToHex(byte[], int, char[], int, int)} does, without creating intermediate Strings.
+     *
+     * @param <A> the type of the destination
+     * @param src the byte array to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the destination to append to
+     * @param nBytes the number of bytes to convert, to {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws ArrayIndexOutOfBoundsException if {@code srcPos + nBytes > src.length}
+     * @throws IOException if {@code dst} cannot be appended to
+     * @since 3.13.0
+     */
+    public static <A extends Appendable> A byteArrayToHex(final byte[] src, final int srcPos, final A dst, final int nBytes)
+            throws IOException {
+        if (0 == nBytes) {
+            return dst;
+        }
+        final char[] chars = new char[Math.min(nBytes, HEX_CHUNK) * 2];
+        for (int i = 0; i < nBytes; i += HEX_CHUNK) {
+            final int n = Math.min(nBytes - i, HEX_CHUNK);
+            byteArrayToHex(src, srcPos + i, chars, 0, n);
+            append(dst, chars, n * 2);
+        }
+        return dst;
+    }
+
+    /**
+     * Converts bytes read from a {@link ByteBuffer} into an array of Char using the default (Lsb0) bit ordering, as
+     * {@link #byteArrayToHex(byte[], int, char[], int, int)} does.
+     *
+     * <p>
+     * The bytes are read from the position of the buffer, which is advanced by {@code nBytes}.
+     * </p>
+     *
+     * @param src the buffer to read
+     * @param dst the destination array
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nBytes the number of bytes to convert, to {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferUnderflowException if fewer than {@code nBytes} bytes remain in {@code src}
+     * @throws ArrayIndexOutOfBoundsException if {@code dstPos + 2 * nBytes > dst.length}
+     * @since 3.13.0
+     */
+    public static char[] byteBufferToHex(final ByteBuffer src, final char[] dst, final int dstPos, final int nBytes) {
+        if (src.remaining() < nBytes) {
+            throw new BufferUnderflowException();
+        }
+        if (src.hasArray()) {
+            byteArrayToHex(src.array(), src.arrayOffset() + src.position(), dst, dstPos, nBytes);
+        } else {
+            final int position = src.position();
+            for (int i = 0; i < nBytes; i++) {
+                final int index = (src.get(position + i) & 0xff) * 2;
+                dst[dstPos + i * 2] = BYTE_TO_HEX[index];
+                dst[dstPos + i * 2 + 1] = BYTE_TO_HEX[index + 1];
+            }
+        }
+        skip(src, nBytes);
+        return dst;
+    }
+
+    /**
+     * Appends hex Chars converted from bytes read from a {@link ByteBuffer} using the default (Lsb0) bit ordering, as
+     * {@link #byteArrayToHex(byte[], int, char[], int, int)} does, without creating intermediate Strings.
+     *
+     * <p>
+     * The bytes are read from the position of the buffer, which is advanced by {@code nBytes}.
+     * </p>
+     *
+     * @param <A> the type of the destination
+     * @param src the buffer to read
+     * @param dst the destination to append to
+     * @param nBytes the number of bytes to convert, to {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws java.nio.BufferUnderflowException if fewer than {@code nBytes} bytes remain in {@code src}
+     * @throws IOException if {@code dst} cannot be appended to
+     * @since 3.13.0
+     */
+    public static <A extends Appendable> A byteBufferToHex(final ByteBuffer src, final A dst, final int nBytes) throws IOException {
+        if (src.remaining() < nBytes) {
+            throw new BufferUnderflowException();
+        }
+        if (0 == nBytes) {
+            return dst;
+        }
+        final char[] chars = new char[Math.min(nBytes, HEX_CHUNK) * 2];
+        for (int i = 0; i < nBytes; i += HEX_CHUNK) {
+            final int n = Math.min(nBytes - i, HEX_CHUNK);
+            byteBufferToHex(src, chars, 0, n);
+            append(dst, chars, n * 2);
+        }
+        return dst;
+    }
+
+    /**
+     * Converts Chars into bytes written to a {@link ByteBuffer} using the default (Lsb0) bit ordering, as
+     * {@link #hexToByteArray(CharSequence, int, byte[], int, int)} does.
+     *
+     * <p>
+     * The bytes are written at the position of the buffer, which is advanced by {@code nBytes}.
+     * </p>
+     *
+     * @param src the hex Chars to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dst the buffer to write
+     * @param nBytes the number of bytes to convert, from {@code 2 * nBytes} Chars
+     * @return {@code dst}
+     * @throws NullPointerException if {@code src} or {@code dst} is {@code null}
+     * @throws IllegalArgumentException if a Char is not a hexadecimal digit
+     * @throws IndexOutOfBoundsException if {@code srcPos + 2 * nBytes > src.length()}
+     * @throws java.nio.BufferOverflowException if fewer than {@code nBytes} bytes remain in {@code dst}
+     * @throws java.nio.ReadOnlyBufferException if {@code dst} is read-only
+     * @since 3.13.0
+     */
+    public static ByteBuffer hexToByteBuffer(final CharSequence src, final int srcPos, final ByteBuffer dst, final int nBytes) {
+        if (dst.remaining() < nBytes) {
+            throw new BufferOverflowException();
+        }
+        if (dst.hasArray()) {
+            hexToByteArray(src, srcPos, dst.array(), dst.arrayOffset() + dst.position(), nBytes);
+        } else {
+            final int position = dst.position();
+            for (int i = 0; i < nBytes; i++) {
+                final int low = hexDigitToInt(src.charAt(srcPos + i * 2));
+                final int high = hexDigitToInt(src.charAt(srcPos + i * 2 + 1));
+                dst.put(position + i, (byte) (high << 4 | low));
+            }
+        }
+        return skip(dst, nBytes);
+    }
+
+    /**
+     * Converts a long into bits of a {@link BitSet} using the default (Lsb0) bit ordering.
+     *
+     * <p>
+     * The bits of {@code dst} outside the {@code nBits} bits starting at {@code dstPos} are left unchanged.
+     * </p>
+     *
+     * @param src the long to convert
+     * @param srcPos the position in {@code src}, in bits, from where to start the conversion
+     * @param dst the destination BitSet
+     * @param dstPos the position in {@code dst} where to copy the result
+     * @param nBits the number of bits to copy to {@code dst}, must be smaller or equal to the width of the input
+     *            (from srcPos to msb)
+     * @return {@code dst}
+     * @throws NullPointerException if {@code dst} is {@code null}
+     * @throws IllegalArgumentException if {@code nBits-1+srcPos >= 64}
+     * @throws IndexOutOfBoundsException if {@code dstPos} is negative
+     * @since 3.13.0
+     */
+    public static BitSet longToBitSet(final long src, final int srcPos, final BitSet dst, final int dstPos, final int nBits) {
+        if (0 == nBits) {
+            return dst;
+        }
+        if (nBits - 1 + srcPos >= 64) {
+            throw new IllegalArgumentException("nBits-1+srcPos is greater or equal to than 64");
+        }
+        dst.clear(dstPos, dstPos + nBits);
+        // the selected bits, shifted to bit 0; nBits is at most 64
+        for (long bits = src >>> srcPos & -1L >>> 64 - nBits; bits != 0; bits &= bits - 1) {
+            dst.set(dstPos + Long.numberOfTrailingZeros(bits));
+        }
+        return dst;
+    }
+
+    /**
+     * Converts bits of a {@link BitSet} into a long using the default (Lsb0) bit ordering.
+     *
+     * @param src the BitSet to convert
+     * @param srcPos the position in {@code src} from where to start the conversion
+     * @param dstInit initial value of the destination long
+     * @param dstPos the position of the lsb, in bits, in the result long
+     * @param nBits the number of bits to convert
+     * @return a long containing the selected bits
+     * @throws NullPointerException if {@code src} is {@code null}
+     * @throws IllegalArgumentException if {@code nBits-1+dstPos >= 64}
+     * @throws IndexOutOfBoundsException if {@code srcPos} is negative
+     * @since 3.13.0
+     */
+    public static long bitSetToLong(final BitSet src, final int srcPos, final long dstInit, final int dstPos, final int nBits) {
+        if (0 == nBits) {
+            return dstInit;
+        }
+        if (nBits - 1 + dstPos >= 64) {
+            throw new IllegalArgumentException("nBits-1+dstPos is greater or equal to than 64");
+        }
+        long out = dstInit & ~(-1L >>> 64 - nBits << dstPos);
+        // visits the set bits only
+        for (int i = src.nextSetBit(srcPos); i >= 0 && i < srcPos + nBits; i = src.nextSetBit(i + 1)) {
+            out |= 1L << i - srcPos + dstPos;
+        }
+        return out;
+    }
+
+    /**
+     * Converts 4 bits of a {@link BitSet} to a hexadecimal digit using the default (Lsb0) bit ordering.
+     *
+     * <p>
+     * {1} with {@code srcPos = 1} is converted as follow: '1'
+     * </p>
+     *
+     * @param src the BitSet to convert
+     * @param srcPos the position of the lsb to start the conversion
+     * @return a hexadecimal digit representing the selected bits
+     * @throws NullPointerException if {@code src} is {@code null}
+     * @throws IndexOutOfBoundsException if {@code srcPos} is negative
+     * @since 3.13.0
+     */
+    public static char bitSetToHexDigit(final BitSet src, final int srcPos) {
+        return HEX_DIGITS[(int) bitSetToLong(src, srcPos, 0, 0, 4)];
+    }
+
+    /**
+     * Appends Chars to an {@link Appendable}, in bulk for the common destinations.
+     */
+    private static void append(final Appendable dst, final char[] chars, final int length) throws IOException {
+        if (dst instanceof StringBuilder) {
+            ((StringBuilder) dst).append(chars, 0, length);
+        } else if (dst instanceof Writer) {
+            ((Writer) dst).write(chars, 0, length);
+        } else {
+            dst.append(CharBuffer.wrap(chars, 0, length));
+        }
+    }
+
+    /**
+     * Converts an ASCII hexadecimal digit into an int using the default (Lsb0) bit ordering.
+     */
+    private static int asciiHexDigitToInt(final char hexDigit) {
+        final int digit = hexDigit < HEX_TO_NIBBLE.length ? HEX_TO_NIBBLE[hexDigit] : -1;
+        if (digit < 0) {
+            throw new IllegalArgumentException("Cannot interpret '" + hexDigit + "' as a hexadecimal digit");
+        }
+        return digit;
+    }
+
+    private static boolean[] nibbleToBinary(final int nibble) {
+        return new boolean[] {(nibble & 1) != 0, (nibble & 2) != 0, (nibble & 4) != 0, (nibble & 8) != 0};
+    }
+
+    /**
+     * Advances the position of a buffer, without binding to the covariant overrides of Java 9.
+     */
+    private static ByteBuffer skip(final ByteBuffer buffer, final int nBytes) {
+        ((Buffer) buffer).position(buffer.position() + nBytes);
+        return buffer;
+    }
+
+    private static ByteBuffer wrapLittleEndian(final byte[] array, final int offset, final int length) {
+        return ByteBuffer.wrap(array, offset, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
 }
@@ -16,15 +16,18 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.function.FailableBooleanSupplier;
+import org.apache.commons.lang3.function.FailableDoubleSupplier;
+import org.apache.commons.lang3.function.FailableIntSupplier;
+import org.apache.commons.lang3.function.FailableLongSupplier;
+import org.apache.commons.lang3.function.FailableSupplier;
 
 /**
  * Assists in implementing {@link java.lang.Comparable#compareTo(Object)} methods.
@@ -115,17 +118,19 @@ private static void reflectionAppend(
         final boolean useTransients,
         final String[] excludeFields) {
 
-        final Field[] fields = clazz.getDeclaredFields();
-        AccessibleObject.setAccessible(fields, true);
+        final ReflectionFields reflectionFields = ReflectionFields.of(clazz);
+        final Field[] fields = reflectionFields.getFields(ReflectionFields.Use.COMPARE_TO, useTransients);
+        final FieldAccessor[] accessors = reflectionFields.getAccessors(ReflectionFields.Use.COMPARE_TO, useTransients);
         for (int i = 0; i < fields.length && builder.comparison == 0; i++) {
             final Field field = fields[i];
-            if (!ArrayUtils.contains(excludeFields, field.getName())
-                && !field.getName().contains("$")
-                && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                && !Modifier.isStatic(field.getModifiers())) {
-                // IllegalAccessException can't happen. Would get a Security exception instead.
-                // Throw a runtime exception in case the impossible happens.
-                builder.append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+            if (!ArrayUtils.contains(excludeFields, field.getName())) {
+                if (accessors != null) {
+                    accessors[i].appendTo(builder, lhs, rhs);
+                } else {
+                    // IllegalAccessException can't happen. Would get a Security exception instead.
+                    // Throw a runtime exception in case the impossible happens.
+                    builder.append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+                }
             }
         }
     }
@@ -975,6 +980,134 @@ private void appendArray(final Object lhs, final Object rhs, final Comparator<?>
         }
     }
 
+    /**
+     * Appends to the {@code builder} the comparison of the objects from two suppliers, as by
+     * {@link #append(Object, Object)}.
+     *
+     * <p>The suppliers are not called if the comparison is already decided, so that expensive getters or derived
+     * values are only computed when needed.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  supplier of the left-hand object
+     * @param rhs  supplier of the right-hand object
+     * @return this
+     * @throws E if a supplier throws it.
+     * @throws ClassCastException  if {@code rhs} is not assignment-compatible
+     *  with {@code lhs}
+     * @since 3.13.0
+     */
+    public <E extends Throwable> CompareToBuilder appendGet(final FailableSupplier<?, E> lhs, final FailableSupplier<?, E> rhs) throws E {
+        return appendGet(lhs, rhs, null);
+    }
+
+    /**
+     * Appends to the {@code builder} the comparison of the objects from two suppliers, as by
+     * {@link #append(Object, Object, Comparator)}.
+     *
+     * <p>The suppliers are not called if the comparison is already decided.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param <T> the type of the objects.
+     * @param lhs  supplier of the left-hand object
+     * @param rhs  supplier of the right-hand object
+     * @param comparator  {@link Comparator} used to compare the objects,
+     *  {@code null} means treat lhs as {@link Comparable}
+     * @return this
+     * @throws E if a supplier throws it.
+     * @throws ClassCastException  if {@code rhs} is not assignment-compatible
+     *  with {@code lhs}
+     * @since 3.13.0
+     */
+    public <T, E extends Throwable> CompareToBuilder appendGet(final FailableSupplier<? extends T, E> lhs, final FailableSupplier<? extends T, E> rhs,
+        final Comparator<? super T> comparator) throws E {
+        if (comparison != 0) {
+            return this;
+        }
+        return append(lhs.get(), rhs.get(), comparator);
+    }
+
+    /**
+     * Appends to the {@code builder} the comparison of the {@code boolean}s from two suppliers.
+     *
+     * <p>The suppliers are not called if the comparison is already decided.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  supplier of the left-hand value
+     * @param rhs  supplier of the right-hand value
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> CompareToBuilder appendGetAsBoolean(final FailableBooleanSupplier<E> lhs, final FailableBooleanSupplier<E> rhs)
+        throws E {
+        if (comparison != 0) {
+            return this;
+        }
+        return append(lhs.getAsBoolean(), rhs.getAsBoolean());
+    }
+
+    /**
+     * Appends to the {@code builder} the comparison of the {@code double}s from two suppliers, as by
+     * {@link #append(double, double)}.
+     *
+     * <p>The suppliers are not called if the comparison is already decided.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  supplier of the left-hand value
+     * @param rhs  supplier of the right-hand value
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> CompareToBuilder appendGetAsDouble(final FailableDoubleSupplier<E> lhs, final FailableDoubleSupplier<E> rhs)
+        throws E {
+        if (comparison != 0) {
+            return this;
+        }
+        comparison = Double.compare(lhs.getAsDouble(), rhs.getAsDouble());
+        return this;
+    }
+
+    /**
+     * Appends to the {@code builder} the comparison of the {@code int}s from two suppliers.
+     *
+     * <p>The suppliers are not called if the comparison is already decided.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  supplier of the left-hand value
+     * @param rhs  supplier of the right-hand value
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> CompareToBuilder appendGetAsInt(final FailableIntSupplier<E> lhs, final FailableIntSupplier<E> rhs) throws E {
+        if (comparison != 0) {
+            return this;
+        }
+        comparison = Integer.compare(lhs.getAsInt(), rhs.getAsInt());
+        return this;
+    }
+
+    /**
+     * Appends to the {@code builder} the comparison of the {@code long}s from two suppliers.
+     *
+     * <p>The suppliers are not called if the comparison is already decided.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  supplier of the left-hand value
+     * @param rhs  supplier of the right-hand value
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> CompareToBuilder appendGetAsLong(final FailableLongSupplier<E> lhs, final FailableLongSupplier<E> rhs) throws E {
+        if (comparison != 0) {
+            return this;
+        }
+        comparison = Long.compare(lhs.getAsLong(), rhs.getAsLong());
+        return this;
+    }
+
     /**
      * Appends to the {@code builder} the {@code compareTo(Object)}
      * result of the superclass.
@@ -0,0 +1,367 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * The properties that make up the equality, ordering and hash code of a type, built once and reused.
+ *
+ * <p>
+ * Where {@link EqualsBuilder}, {@link CompareToBuilder} and {@link HashCodeBuilder} are created for each call, a
+ * specification is typically held in a constant. Its comparisons and equality tests get the properties of two
+ * objects in order without creating any objects or boxing primitives, and stop at the first property that differs,
+ * without getting the remaining properties. Its hash codes still go through a {@link HashCodeBuilder}, created for
+ * each call.
+ * </p>
+ *
+ * <pre>
+ * public class Person implements Comparable&lt;Person&gt; {
+ *   private static final ComparisonSpec&lt;Person&gt; SPEC = ComparisonSpec.&lt;Person&gt;builder()
+ *     .appendGet(Person::getName)
+ *     .appendGetAsInt(Person::getAge)
+ *     .appendGetAsBoolean(Person::isSmoker)
+ *     .build();
+ *   ...
+ *
+ *   public int compareTo(Person other) {
+ *     return SPEC.compare(this, other);
+ *   }
+ *
+ *   public boolean equals(Object obj) {
+ *     return obj instanceof Person &amp;&amp; SPEC.isEqual(this, (Person) obj);
+ *   }
+ *
+ *   public int hashCode() {
+ *     return SPEC.hash(this);
+ *   }
+ * }
+ * </pre>
+ *
+ * <p>Instances are immutable and thread-safe if the functions they were built with are.</p>
+ *
+ * @param <T> the type of the objects compared.
+ * @since 3.13.0
+ */
+public final class ComparisonSpec<T> implements Comparator<T> {
+
+    /**
+     * Builds a {@link ComparisonSpec}.
+     *
+     * @param <T> the type of the objects compared.
+     */
+    public static final class ComparisonSpecBuilder<T> implements Builder<ComparisonSpec<T>> {
+
+        private final List<Property<T>> properties = new ArrayList<>();
+
+        private ComparisonSpecBuilder() {
+        }
+
+        /**
+         * Appends an object property, compared as by {@link CompareToBuilder#append(Object, Object)}, and tested for
+         * equality as by {@link Objects#deepEquals(Object, Object)}.
+         *
+         * @param getter gets the property.
+         * @return this
+         */
+        public ComparisonSpecBuilder<T> appendGet(final Function<? super T, ?> getter) {
+            return appendGet(getter, null);
+        }
+
+        /**
+         * Appends an object property, compared as by {@link CompareToBuilder#append(Object, Object, Comparator)}, and
+         * tested for equality as by {@link Objects#deepEquals(Object, Object)}.
+         *
+         * @param <U> the type of the property.
+         * @param getter gets the property.
+         * @param comparator compares the property, {@code null} means treat the property as {@link Comparable}.
+         * @return this
+         */
+        public <U> ComparisonSpecBuilder<T> appendGet(final Function<? super T, ? extends U> getter, final Comparator<? super U> comparator) {
+            Objects.requireNonNull(getter, "getter");
+            properties.add(new Property<T>() {
+
+                @Override
+                void appendTo(final HashCodeBuilder builder, final T object) {
+                    builder.append(getter.apply(object));
+                }
+
+                @Override
+                int compare(final T lhs, final T rhs) {
+                    return compareObjects(getter.apply(lhs), getter.apply(rhs), comparator);
+                }
+
+                @Override
+                boolean isEqual(final T lhs, final T rhs) {
+                    return Objects.deepEquals(getter.apply(lhs), getter.apply(rhs));
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Appends a {@code boolean} property, {@code false} being less than {@code true}.
+         *
+         * @param getter gets the property.
+         * @return this
+         */
+        public ComparisonSpecBuilder<T> appendGetAsBoolean(final Predicate<? super T> getter) {
+            Objects.requireNonNull(getter, "getter");
+            properties.add(new Property<T>() {
+
+                @Override
+                void appendTo(final HashCodeBuilder builder, final T object) {
+                    builder.append(getter.test(object));
+                }
+
+                @Override
+                int compare(final T lhs, final T rhs) {
+                    return Boolean.compare(getter.test(lhs), getter.test(rhs));
+                }
+
+                @Override
+                boolean isEqual(final T lhs, final T rhs) {
+                    return getter.test(lhs) == getter.test(rhs);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Appends a {@code double} property, compared as by {@link Double#compare(double, double)}, which handles NaNs
+         * and {@code -0.0}.
+         *
+         * @param getter gets the property.
+         * @return this
+         */
+        public ComparisonSpecBuilder<T> appendGetAsDouble(final ToDoubleFunction<? super T> getter) {
+            Objects.requireNonNull(getter, "getter");
+            properties.add(new Property<T>() {
+
+                @Override
+                void appendTo(final HashCodeBuilder builder, final T object) {
+                    builder.append(getter.applyAsDouble(object));
+                }
+
+                @Override
+                int compare(final T lhs, final T rhs) {
+                    return Double.compare(getter.applyAsDouble(lhs), getter.applyAsDouble(rhs));
+                }
+
+                @Override
+                boolean isEqual(final T lhs, final T rhs) {
+                    return Double.doubleToLongBits(getter.applyAsDouble(lhs)) == Double.doubleToLongBits(getter.applyAsDouble(rhs));
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Appends an {@code int} property.
+         *
+         * @param getter gets the property.
+         * @return this
+         */
+        public ComparisonSpecBuilder<T> appendGetAsInt(final ToIntFunction<? super T> getter) {
+            Objects.requireNonNull(getter, "getter");
+            properties.add(new Property<T>() {
+
+                @Override
+                void appendTo(final HashCodeBuilder builder, final T object) {
+                    builder.append(getter.applyAsInt(object));
+                }
+
+                @Override
+                int compare(final T lhs, final T rhs) {
+                    return Integer.compare(getter.applyAsInt(lhs), getter.applyAsInt(rhs));
+                }
+
+                @Override
+                boolean isEqual(final T lhs, final T rhs) {
+                    return getter.applyAsInt(lhs) == getter.applyAsInt(rhs);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Appends a {@code long} property.
+         *
+         * @param getter gets the property.
+         * @return this
+         */
+        public ComparisonSpecBuilder<T> appendGetAsLong(final ToLongFunction<? super T> getter) {
+            Objects.requireNonNull(getter, "getter");
+            properties.add(new Property<T>() {
+
+                @Override
+                void appendTo(final HashCodeBuilder builder, final T object) {
+                    builder.append(getter.applyAsLong(object));
+                }
+
+                @Override
+                int compare(final T lhs, final T rhs) {
+                    return Long.compare(getter.applyAsLong(lhs), getter.applyAsLong(rhs));
+                }
+
+                @Override
+                boolean isEqual(final T lhs, final T rhs) {
+                    return getter.applyAsLong(lhs) == getter.applyAsLong(rhs);
+                }
+            });
+            return this;
+        }
+
+        /**
+         * Builds the specification of the properties appended so far; this builder may be reused afterwards.
+         *
+         * @return a new specification.
+         */
+        @Override
+        public ComparisonSpec<T> build() {
+            @SuppressWarnings("unchecked") // the list only holds properties of T
+            final Property<T>[] array = (Property<T>[]) properties.toArray(new Property<?>[0]);
+            return new ComparisonSpec<>(array);
+        }
+    }
+
+    /**
+     * A property of the objects compared.
+     *
+     * @param <T> the type of the objects compared.
+     */
+    private abstract static class Property<T> {
+
+        abstract void appendTo(HashCodeBuilder builder, T object);
+
+        abstract int compare(T lhs, T rhs);
+
+        abstract boolean isEqual(T lhs, T rhs);
+    }
+
+    /**
+     * Creates a builder of a specification.
+     *
+     * @param <T> the type of the objects compared.
+     * @return a new builder.
+     */
+    public static <T> ComparisonSpecBuilder<T> builder() {
+        return new ComparisonSpecBuilder<>();
+    }
+
+    @SuppressWarnings("unchecked") // assume this can be done; if not throw CCE as per Javadoc
+    private static <U> int compareObjects(final U lhs, final U rhs, final Comparator<? super U> comparator) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (lhs == null) {
+            return -1;
+        }
+        if (rhs == null) {
+            return 1;
+        }
+        if (ObjectUtils.isArray(lhs)) {
+            return new CompareToBuilder().append(lhs, rhs, comparator).toComparison();
+        }
+        return comparator == null ? ((Comparable<Object>) lhs).compareTo(rhs) : comparator.compare(lhs, rhs);
+    }
+
+    private final Property<T>[] properties;
+
+    private ComparisonSpec(final Property<T>[] properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * Compares two objects by their properties, in order, stopping at the first property that differs; a {@code null}
+     * object is less than a non-{@code null} object.
+     *
+     * @param lhs the left-hand object.
+     * @param rhs the right-hand object.
+     * @return a negative integer, zero, or a positive integer as {@code lhs} is less than, equal to, or greater than
+     *         {@code rhs}.
+     */
+    @Override
+    public int compare(final T lhs, final T rhs) {
+        if (lhs == rhs) {
+            return 0;
+        }
+        if (lhs == null) {
+            return -1;
+        }
+        if (rhs == null) {
+            return 1;
+        }
+        for (final Property<T> property : properties) {
+            final int comparison = property.compare(lhs, rhs);
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Computes the hash code of an object from its properties, as a {@link HashCodeBuilder} appending the same
+     * properties does.
+     *
+     * @param object the object, may be null.
+     * @return the hash code, consistent with {@link #isEqual(Object, Object)}.
+     */
+    public int hash(final T object) {
+        if (object == null) {
+            return 0;
+        }
+        final HashCodeBuilder builder = new HashCodeBuilder();
+        for (final Property<T> property : properties) {
+            property.appendTo(builder, object);
+        }
+        return builder.toHashCode();
+    }
+
+    /**
+     * Tests whether two objects have equal properties, stopping at the first property that differs.
+     *
+     * @param lhs the left-hand object.
+     * @param rhs the right-hand object.
+     * @return whether the objects are both {@code null} or have equal properties.
+     */
+    public boolean isEqual(final T lhs, final T rhs) {
+        if (lhs == rhs) {
+            return true;
+        }
+        if (lhs == null || rhs == null) {
+            return false;
+        }
+        for (final Property<T> property : properties) {
+            if (!property.isEqual(lhs, rhs)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
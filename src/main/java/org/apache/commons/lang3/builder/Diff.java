@@ -41,8 +41,8 @@
 
     private static final long serialVersionUID = 1L;
 
-    /** The field type. */
-    private final Type type;
+    /** The field type, resolved on first use. */
+    private transient Type type;
 
     /** The field name. */
     private final String fieldName;
@@ -54,9 +54,6 @@
      *            the field name
      */
     protected Diff(final String fieldName) {
-        this.type = ObjectUtils.defaultIfNull(
-                TypeUtils.getTypeArguments(getClass(), Diff.class).get(
-                        Diff.class.getTypeParameters()[0]), Object.class);
         this.fieldName = fieldName;
     }
 
@@ -66,6 +63,12 @@ protected Diff(final String fieldName) {
      * @return the field type
      */
     public final Type getType() {
+        // resolving the type argument is costly compared to creating a Diff, and racing threads get equal types
+        if (type == null) {
+            type = ObjectUtils.defaultIfNull(
+                    TypeUtils.getTypeArguments(getClass(), Diff.class).get(
+                            Diff.class.getTypeParameters()[0]), Object.class);
+        }
         return type;
     }
 
@@ -20,6 +20,10 @@
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
@@ -874,6 +878,498 @@ public Object[] getRight() {
         return this;
     }
 
+    /**
+     * Test if two {@code boolean[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code boolean[]}
+     * @param rhs
+     *            the right-hand {@code boolean[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final boolean[] lhs,
+            final boolean[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Boolean[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Boolean[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Boolean[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code byte[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code byte[]}
+     * @param rhs
+     *            the right-hand {@code byte[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final byte[] lhs,
+            final byte[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Byte[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Byte[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Byte[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code char[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code char[]}
+     * @param rhs
+     *            the right-hand {@code char[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final char[] lhs,
+            final char[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Character[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Character[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Character[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code double[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code double[]}
+     * @param rhs
+     *            the right-hand {@code double[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final double[] lhs,
+            final double[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> Double.doubleToLongBits(lhs[i]) == Double.doubleToLongBits(rhs[j]))) {
+            diffs.add(new Diff<Double[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Double[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Double[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code float[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code float[]}
+     * @param rhs
+     *            the right-hand {@code float[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final float[] lhs,
+            final float[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> Float.floatToIntBits(lhs[i]) == Float.floatToIntBits(rhs[j]))) {
+            diffs.add(new Diff<Float[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Float[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Float[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code int[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code int[]}
+     * @param rhs
+     *            the right-hand {@code int[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final int[] lhs,
+            final int[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Integer[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Integer[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Integer[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code long[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code long[]}
+     * @param rhs
+     *            the right-hand {@code long[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final long[] lhs,
+            final long[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Long[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Long[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Long[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code short[]}s are equal, element by element.
+     *
+     * <p>
+     * Appends a {@link Diff} for each range of elements that differ, see
+     * {@link #appendElements(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code short[]}
+     * @param rhs
+     *            the right-hand {@code short[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final short[] lhs,
+            final short[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> lhs[i] == rhs[j])) {
+            diffs.add(new Diff<Short[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Short[] getLeft() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(lhs, range[0], range[1]));
+                }
+
+                @Override
+                public Short[] getRight() {
+                    return ArrayUtils.toObject(ArrayUtils.subarray(rhs, range[2], range[3]));
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Test if two {@code Object[]}s are equal, element by element.
+     *
+     * <p>
+     * Unlike {@link #append(String, Object[], Object[])}, which appends a
+     * single {@link Diff} holding both arrays, this appends a {@link Diff}
+     * for each range of elements that differ, found with the difference
+     * algorithm of Eugene W. Myers. Each {@link Diff} is named after the field
+     * and the indexes of the elements of the left-hand array it replaces,
+     * from inclusive to exclusive, as in {@code values[3..5]}, and holds the
+     * elements of each array in that range, possibly none. The elements of
+     * primitive arrays are only boxed when a {@link Diff} is read.
+     * </p>
+     *
+     * <p>
+     * Elements are compared with {@link Object#equals(Object)}, and
+     * {@code null} arrays as by {@link #append(String, Object[], Object[])}.
+     * </p>
+     *
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand {@code Object[]}
+     * @param rhs
+     *            the right-hand {@code Object[]}
+     * @return this
+     * @throws NullPointerException
+     *             if field name is {@code null}
+     * @since 3.13.0
+     */
+    public DiffBuilder<T> appendElements(final String fieldName, final Object[] lhs,
+            final Object[] rhs) {
+        validateFieldNameNotNull(fieldName);
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        if (lhs == null || rhs == null) {
+            return append(fieldName, lhs, rhs);
+        }
+        for (final int[] range : MyersDiff.diff(lhs.length, rhs.length, (i, j) -> Objects.equals(lhs[i], rhs[j]))) {
+            diffs.add(new Diff<Object[]>(getElementsName(fieldName, range)) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public Object[] getLeft() {
+                    return ArrayUtils.subarray(lhs, range[0], range[1]);
+                }
+
+                @Override
+                public Object[] getRight() {
+                    return ArrayUtils.subarray(rhs, range[2], range[3]);
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Appends the diffs of the elements of two lists of {@link Diffable}
+     * objects, optionally computed in parallel.
+     *
+     * <p>
+     * The diffs of the elements at the same index are appended with field
+     * names like {@code fieldName[i].name}, in the order of the indexes. The
+     * elements at the same index that are {@code null} on one side, or beyond
+     * the end of the shorter list, are appended as a single diff named
+     * {@code fieldName[i]}.
+     * </p>
+     *
+     * <p>
+     * Given a pool, the diffs of the elements are computed by its tasks, which
+     * suits large lists of objects that are costly to diff; the lists must then
+     * support concurrent reads by index, and the results are still appended by
+     * the calling thread, in order.
+     * </p>
+     *
+     * @param <E>
+     *            the type of the elements
+     * @param fieldName
+     *            the field name
+     * @param lhs
+     *            the left-hand list
+     * @param rhs
+     *            the right-hand list
+     * @param pool
+     *            the pool computing the diffs, {@code null} to compute them
+     *            in the calling thread
+     * @return this
+     * @throws NullPointerException
+     *             if field name, {@code lhs} or {@code rhs} is {@code null}
+     * @since 3.13.0
+     */
+    public <E extends Diffable<E>> DiffBuilder<T> appendDiffables(final String fieldName, final List<? extends E> lhs,
+            final List<? extends E> rhs, final ForkJoinPool pool) {
+        validateFieldNameNotNull(fieldName);
+        Objects.requireNonNull(lhs, "lhs");
+        Objects.requireNonNull(rhs, "rhs");
+        if (objectsTriviallyEqual) {
+            return this;
+        }
+        final int common = Math.min(lhs.size(), rhs.size());
+        final IntFunction<DiffResult<E>> diff = i -> {
+            final E left = lhs.get(i);
+            final E right = rhs.get(i);
+            return left == null || right == null ? null : left.diff(right);
+        };
+        final List<DiffResult<E>> results = pool == null
+            ? IntStream.range(0, common).mapToObj(diff).collect(Collectors.toList())
+            : pool.submit(() -> IntStream.range(0, common).parallel().mapToObj(diff).collect(Collectors.toList())).join();
+        for (int i = 0; i < common; i++) {
+            final String elementName = fieldName + "[" + i + "]";
+            final DiffResult<E> result = results.get(i);
+            if (result == null) {
+                append(elementName, lhs.get(i), rhs.get(i));
+            } else {
+                result.getDiffs().forEach(d -> append(elementName + "." + d.getFieldName(), d.getLeft(), d.getRight()));
+            }
+        }
+        for (int i = common; i < Math.max(lhs.size(), rhs.size()); i++) {
+            append(fieldName + "[" + i + "]", i < lhs.size() ? lhs.get(i) : null, i < rhs.size() ? rhs.get(i) : null);
+        }
+        return this;
+    }
+
     /**
      * Append diffs from another {@link DiffResult}.
      *
@@ -929,6 +1425,10 @@ public DiffResult<T> build() {
         return new DiffResult<>(left, right, diffs, style);
     }
 
+    private static String getElementsName(final String fieldName, final int[] range) {
+        return fieldName + "[" + range[0] + ".." + range[1] + "]";
+    }
+
     private void validateFieldNameNotNull(final String fieldName) {
         Objects.requireNonNull(fieldName, "fieldName");
     }
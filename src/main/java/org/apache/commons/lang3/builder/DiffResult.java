@@ -20,6 +20,7 @@
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * A {@link DiffResult} contains a collection of the differences between two
@@ -113,6 +114,17 @@ public List<Diff<?>> getDiffs() {
         return Collections.unmodifiableList(diffList);
     }
 
+    /**
+     * Returns a sequential stream of the {@link Diff}s, in the order they
+     * were appended.
+     *
+     * @return a stream of {@link Diff}s, empty if there were no differences
+     * @since 3.13.0
+     */
+    public Stream<Diff<?>> stream() {
+        return diffList.stream();
+    }
+
     /**
      * Returns the number of differences between the two objects.
      *
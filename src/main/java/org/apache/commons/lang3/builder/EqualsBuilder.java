@@ -16,18 +16,18 @@
  */
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.tuple.Pair;
+import org.apache.commons.lang3.function.FailableBooleanSupplier;
+import org.apache.commons.lang3.function.FailableDoubleSupplier;
+import org.apache.commons.lang3.function.FailableIntSupplier;
+import org.apache.commons.lang3.function.FailableLongSupplier;
+import org.apache.commons.lang3.function.FailableSupplier;
 
 /**
  * Assists in implementing {@link Object#equals(Object)} methods.
@@ -93,50 +93,28 @@ public class EqualsBuilder implements Builder<Boolean> {
      *
      * @since 3.0
      */
-    private static final ThreadLocal<Set<Pair<IDKey, IDKey>>> REGISTRY = new ThreadLocal<>();
+    private static final ThreadLocal<IdentityRegistry> REGISTRY = new ThreadLocal<>();
 
     /*
      * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
      * we are in the process of calculating.
      *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
+     * So the registry compares the objects by identity, see IdentityRegistry. The registry is
+     * removed from the thread when it becomes empty, so that no class of this library is left
+     * referenced by pooled threads.
      */
 
     /**
      * Returns the registry of object pairs being traversed by the reflection
      * methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of objects being traversed, or null if there are none
      * @since 3.0
      */
-    static Set<Pair<IDKey, IDKey>> getRegistry() {
+    static IdentityRegistry getRegistry() {
         return REGISTRY.get();
     }
 
-    /**
-     * Converters value pair into a register pair.
-     *
-     * @param lhs {@code this} object
-     * @param rhs the other object
-     *
-     * @return the pair
-     */
-    static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
-        final IDKey left = new IDKey(lhs);
-        final IDKey right = new IDKey(rhs);
-        return Pair.of(left, right);
-    }
-
     /**
      * Returns {@code true} if the registry contains the given object pair.
      * Used by the reflection methods to avoid infinite loops.
@@ -149,12 +127,11 @@ static Pair<IDKey, IDKey> getRegisterPair(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     static boolean isRegistered(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        final Pair<IDKey, IDKey> swappedPair = Pair.of(pair.getRight(), pair.getLeft());
+        return isRegistered(getRegistry(), lhs, rhs);
+    }
 
-        return registry != null
-                && (registry.contains(pair) || registry.contains(swappedPair));
+    private static boolean isRegistered(final IdentityRegistry registry, final Object lhs, final Object rhs) {
+        return registry != null && (registry.contains(lhs, rhs) || registry.contains(rhs, lhs));
     }
 
     /**
@@ -165,13 +142,12 @@ static boolean isRegistered(final Object lhs, final Object rhs) {
      * @param rhs the other object to register
      */
     private static void register(final Object lhs, final Object rhs) {
-        Set<Pair<IDKey, IDKey>> registry = getRegistry();
+        IdentityRegistry registry = getRegistry();
         if (registry == null) {
-            registry = new HashSet<>();
+            registry = new IdentityRegistry();
             REGISTRY.set(registry);
         }
-        final Pair<IDKey, IDKey> pair = getRegisterPair(lhs, rhs);
-        registry.add(pair);
+        registry.add(lhs, rhs);
     }
 
     /**
@@ -185,9 +161,9 @@ private static void register(final Object lhs, final Object rhs) {
      * @since 3.0
      */
     private static void unregister(final Object lhs, final Object rhs) {
-        final Set<Pair<IDKey, IDKey>> registry = getRegistry();
+        final IdentityRegistry registry = getRegistry();
         if (registry != null) {
-            registry.remove(getRegisterPair(lhs, rhs));
+            registry.remove(lhs, rhs);
             if (registry.isEmpty()) {
                 REGISTRY.remove();
             }
@@ -206,6 +182,9 @@ private static void unregister(final Object lhs, final Object rhs) {
     private Class<?> reflectUpToClass;
     private String[] excludeFields;
 
+    /** The registry of this builder, or null to use the registry of the current thread. */
+    private IdentityRegistry registry;
+
     /**
      * Constructor for EqualsBuilder.
      *
@@ -283,6 +262,24 @@ public EqualsBuilder setExcludeFields(final String... excludeFields) {
         return this;
     }
 
+    /**
+     * Set whether the objects being reflectively compared are tracked per thread, the default, or by this builder.
+     *
+     * <p>The objects are tracked to detect cycles. Tracking per thread detects the cycles that go through the
+     * {@code equals} methods of the objects, for example if those call {@link #reflectionEquals(Object, Object, String...)}
+     * in turn, but costs a {@link ThreadLocal} lookup for each object. Tracking by this builder avoids the
+     * {@link ThreadLocal}, which suits virtual threads; it detects the cycles of a recursive test, see
+     * {@link #setTestRecursive(boolean)}, but not the cycles through {@code equals} methods.</p>
+     *
+     * @param threadRegistry whether to track the objects per thread
+     * @return this
+     * @since 3.13.0
+     */
+    public EqualsBuilder setThreadRegistry(final boolean threadRegistry) {
+        this.registry = threadRegistry ? null : new IdentityRegistry();
+        return this;
+    }
+
 
     /**
      * This method uses reflection to determine if the two {@link Object}s
@@ -522,11 +519,7 @@ public EqualsBuilder reflectionAppend(final Object lhs, final Object rhs) {
                     && (bypassReflectionClasses.contains(lhsClass) || bypassReflectionClasses.contains(rhsClass))) {
                 isEquals = lhs.equals(rhs);
             } else {
-                reflectionAppend(lhs, rhs, testClass);
-                while (testClass.getSuperclass() != null && testClass != reflectUpToClass) {
-                    testClass = testClass.getSuperclass();
-                    reflectionAppend(lhs, rhs, testClass);
-                }
+                reflectionAppendHierarchy(lhs, rhs, testClass);
             }
         } catch (final IllegalArgumentException e) {
             // In this case, we tried to test a subclass vs. a superclass and
@@ -552,29 +545,162 @@ private void reflectionAppend(
         final Object rhs,
         final Class<?> clazz) {
 
+        final ReflectionFields reflectionFields = ReflectionFields.of(clazz);
+        final Field[] fields = reflectionFields.getFields(ReflectionFields.Use.EQUALS, testTransients);
+        final FieldAccessor[] accessors = reflectionFields.getAccessors(ReflectionFields.Use.EQUALS, testTransients);
+        for (int i = 0; i < fields.length && isEquals; i++) {
+            final Field field = fields[i];
+            if (!ArrayUtils.contains(excludeFields, field.getName())) {
+                if (accessors != null) {
+                    accessors[i].appendTo(this, lhs, rhs);
+                } else {
+                    append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+                }
+            }
+        }
+    }
+
+    /**
+     * Appends the fields and values defined by the given objects of the
+     * given Class and its superclasses up to {@code reflectUpToClass},
+     * unless the objects are already being compared.
+     *
+     * @param lhs  the left-hand object
+     * @param rhs  the right-hand object
+     * @param testClass  the class to start with
+     */
+    private void reflectionAppendHierarchy(final Object lhs, final Object rhs, final Class<?> testClass) {
+        if (registry != null) {
+            if (isRegistered(registry, lhs, rhs)) {
+                return;
+            }
+            try {
+                registry.add(lhs, rhs);
+                reflectionAppendClasses(lhs, rhs, testClass);
+            } finally {
+                registry.remove(lhs, rhs);
+            }
+            return;
+        }
         if (isRegistered(lhs, rhs)) {
             return;
         }
-
         try {
             register(lhs, rhs);
-            final Field[] fields = clazz.getDeclaredFields();
-            AccessibleObject.setAccessible(fields, true);
-            for (int i = 0; i < fields.length && isEquals; i++) {
-                final Field field = fields[i];
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (testTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(EqualsExclude.class)) {
-                    append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
-                }
-            }
+            reflectionAppendClasses(lhs, rhs, testClass);
         } finally {
             unregister(lhs, rhs);
         }
     }
 
+    private void reflectionAppendClasses(final Object lhs, final Object rhs, final Class<?> testClass) {
+        Class<?> clazz = testClass;
+        reflectionAppend(lhs, rhs, clazz);
+        while (clazz.getSuperclass() != null && clazz != reflectUpToClass) {
+            clazz = clazz.getSuperclass();
+            reflectionAppend(lhs, rhs, clazz);
+        }
+    }
+
+    /**
+     * Test if the objects from two suppliers are equal, as by {@link #append(Object, Object)}.
+     *
+     * <p>The suppliers are not called if the result is already known to be {@code false}, so that expensive getters or
+     * derived values are only computed when needed.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  the supplier of the left-hand object
+     * @param rhs  the supplier of the right-hand object
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> EqualsBuilder appendGet(final FailableSupplier<?, E> lhs, final FailableSupplier<?, E> rhs) throws E {
+        if (!isEquals) {
+            return this;
+        }
+        return append(lhs.get(), rhs.get());
+    }
+
+    /**
+     * Test if the {@code boolean}s from two suppliers are equal.
+     *
+     * <p>The suppliers are not called if the result is already known to be {@code false}.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  the supplier of the left-hand {@code boolean}
+     * @param rhs  the supplier of the right-hand {@code boolean}
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> EqualsBuilder appendGetAsBoolean(final FailableBooleanSupplier<E> lhs, final FailableBooleanSupplier<E> rhs) throws E {
+        if (!isEquals) {
+            return this;
+        }
+        isEquals = lhs.getAsBoolean() == rhs.getAsBoolean();
+        return this;
+    }
+
+    /**
+     * Test if the {@code double}s from two suppliers are equal, as by {@link #append(double, double)}.
+     *
+     * <p>The suppliers are not called if the result is already known to be {@code false}.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  the supplier of the left-hand {@code double}
+     * @param rhs  the supplier of the right-hand {@code double}
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> EqualsBuilder appendGetAsDouble(final FailableDoubleSupplier<E> lhs, final FailableDoubleSupplier<E> rhs) throws E {
+        if (!isEquals) {
+            return this;
+        }
+        return append(lhs.getAsDouble(), rhs.getAsDouble());
+    }
+
+    /**
+     * Test if the {@code int}s from two suppliers are equal.
+     *
+     * <p>The suppliers are not called if the result is already known to be {@code false}.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  the supplier of the left-hand {@code int}
+     * @param rhs  the supplier of the right-hand {@code int}
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> EqualsBuilder appendGetAsInt(final FailableIntSupplier<E> lhs, final FailableIntSupplier<E> rhs) throws E {
+        if (!isEquals) {
+            return this;
+        }
+        isEquals = lhs.getAsInt() == rhs.getAsInt();
+        return this;
+    }
+
+    /**
+     * Test if the {@code long}s from two suppliers are equal.
+     *
+     * <p>The suppliers are not called if the result is already known to be {@code false}.</p>
+     *
+     * @param <E> the type of exception the suppliers may throw.
+     * @param lhs  the supplier of the left-hand {@code long}
+     * @param rhs  the supplier of the right-hand {@code long}
+     * @return this
+     * @throws E if a supplier throws it.
+     * @since 3.13.0
+     */
+    public <E extends Throwable> EqualsBuilder appendGetAsLong(final FailableLongSupplier<E> lhs, final FailableLongSupplier<E> rhs) throws E {
+        if (!isEquals) {
+            return this;
+        }
+        isEquals = lhs.getAsLong() == rhs.getAsLong();
+        return this;
+    }
+
     /**
      * Adds the result of {@code super.equals()} to this builder.
      *
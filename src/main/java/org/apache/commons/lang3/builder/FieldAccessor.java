@@ -0,0 +1,432 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+
+/**
+ * Appends the value of a field to the reflection builders through a {@link MethodHandle} typed for the field, so that
+ * primitive values are not boxed as by {@link Field#get(Object)}.
+ *
+ * <p>
+ * Each builder receives the same results as with the boxed value: for example a {@code boolean} is hashed as
+ * {@link Boolean#hashCode()} is, not as {@link HashCodeBuilder#append(boolean)} does.
+ * </p>
+ */
+abstract class FieldAccessor {
+
+    private static final class BooleanAccessor extends FieldAccessor {
+
+        BooleanAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((boolean) getter.invokeExact(lhs), (boolean) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((boolean) getter.invokeExact(lhs), (boolean) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Boolean.hashCode((boolean) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class ByteAccessor extends FieldAccessor {
+
+        ByteAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((byte) getter.invokeExact(lhs), (byte) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((byte) getter.invokeExact(lhs), (byte) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Byte.hashCode((byte) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class CharAccessor extends FieldAccessor {
+
+        CharAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((char) getter.invokeExact(lhs), (char) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((char) getter.invokeExact(lhs), (char) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Character.hashCode((char) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class DoubleAccessor extends FieldAccessor {
+
+        DoubleAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((double) getter.invokeExact(lhs), (double) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((double) getter.invokeExact(lhs), (double) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Double.hashCode((double) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class FloatAccessor extends FieldAccessor {
+
+        FloatAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((float) getter.invokeExact(lhs), (float) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((float) getter.invokeExact(lhs), (float) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Float.hashCode((float) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class IntAccessor extends FieldAccessor {
+
+        IntAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((int) getter.invokeExact(lhs), (int) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((int) getter.invokeExact(lhs), (int) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append((int) getter.invokeExact(object));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class LongAccessor extends FieldAccessor {
+
+        LongAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((long) getter.invokeExact(lhs), (long) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((long) getter.invokeExact(lhs), (long) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Long.hashCode((long) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class ObjectAccessor extends FieldAccessor {
+
+        ObjectAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((Object) getter.invokeExact(lhs), (Object) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((Object) getter.invokeExact(lhs), (Object) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append((Object) getter.invokeExact(object));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    private static final class ShortAccessor extends FieldAccessor {
+
+        ShortAccessor(final MethodHandle getter) {
+            super(getter);
+        }
+
+        @Override
+        void appendTo(final CompareToBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((short) getter.invokeExact(lhs), (short) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final EqualsBuilder builder, final Object lhs, final Object rhs) {
+            try {
+                builder.append((short) getter.invokeExact(lhs), (short) getter.invokeExact(rhs));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+
+        @Override
+        void appendTo(final HashCodeBuilder builder, final Object object) {
+            try {
+                builder.append(Short.hashCode((short) getter.invokeExact(object)));
+            } catch (final Throwable t) {
+                throw failure(t);
+            }
+        }
+    }
+
+    /**
+     * Rethrows the failure of a getter as {@link Field#get(Object)} would have: an object that does not have the
+     * field is an {@link IllegalArgumentException}.
+     */
+    private static RuntimeException failure(final Throwable t) {
+        if (t instanceof ClassCastException) {
+            return new IllegalArgumentException(t);
+        }
+        return ExceptionUtils.rethrow(t);
+    }
+
+    /**
+     * Creates the accessor of a field.
+     *
+     * @param field an accessible field.
+     * @return a new accessor.
+     * @throws IllegalArgumentException if the field is not accessible.
+     */
+    static FieldAccessor of(final Field field) {
+        final MethodHandle getter;
+        try {
+            getter = MethodHandles.lookup().unreflectGetter(field);
+        } catch (final IllegalAccessException e) {
+            throw new IllegalArgumentException(e);
+        }
+        final Class<?> type = field.getType();
+        final MethodHandle handle = getter.asType(MethodType.methodType(type.isPrimitive() ? type : Object.class, Object.class));
+        if (type == int.class) {
+            return new IntAccessor(handle);
+        }
+        if (type == long.class) {
+            return new LongAccessor(handle);
+        }
+        if (type == boolean.class) {
+            return new BooleanAccessor(handle);
+        }
+        if (type == double.class) {
+            return new DoubleAccessor(handle);
+        }
+        if (type == float.class) {
+            return new FloatAccessor(handle);
+        }
+        if (type == char.class) {
+            return new CharAccessor(handle);
+        }
+        if (type == byte.class) {
+            return new ByteAccessor(handle);
+        }
+        if (type == short.class) {
+            return new ShortAccessor(handle);
+        }
+        return new ObjectAccessor(handle);
+    }
+
+    /** The getter of the field, typed {@code (Object)} to the field type, or to Object for references. */
+    final MethodHandle getter;
+
+    FieldAccessor(final MethodHandle getter) {
+        this.getter = getter;
+    }
+
+    /**
+     * Appends the field values of two objects.
+     *
+     * @param builder the builder.
+     * @param lhs the left-hand object.
+     * @param rhs the right-hand object.
+     * @throws IllegalArgumentException if an object does not have the field.
+     */
+    abstract void appendTo(CompareToBuilder builder, Object lhs, Object rhs);
+
+    /**
+     * Appends the field values of two objects.
+     *
+     * @param builder the builder.
+     * @param lhs the left-hand object.
+     * @param rhs the right-hand object.
+     * @throws IllegalArgumentException if an object does not have the field.
+     */
+    abstract void appendTo(EqualsBuilder builder, Object lhs, Object rhs);
+
+    /**
+     * Appends the field value of an object.
+     *
+     * @param builder the builder.
+     * @param object the object.
+     * @throws IllegalArgumentException if the object does not have the field.
+     */
+    abstract void appendTo(HashCodeBuilder builder, Object object);
+}
@@ -17,16 +17,10 @@
 
 package org.apache.commons.lang3.builder;
 
-import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.Collection;
-import java.util.Comparator;
-import java.util.HashSet;
 import java.util.Objects;
-import java.util.Set;
 
-import org.apache.commons.lang3.ArraySorter;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.Validate;
@@ -118,32 +112,24 @@ public class HashCodeBuilder implements Builder<Integer> {
      *
      * @since 2.3
      */
-    private static final ThreadLocal<Set<IDKey>> REGISTRY = new ThreadLocal<>();
+    private static final ThreadLocal<IdentityRegistry> REGISTRY = new ThreadLocal<>();
 
     /*
      * NOTE: we cannot store the actual objects in a HashSet, as that would use the very hashCode()
      * we are in the process of calculating.
      *
-     * So we generate a one-to-one mapping from the original object to a new object.
-     *
-     * Now HashSet uses equals() to determine if two elements with the same hash code really
-     * are equal, so we also need to ensure that the replacement objects are only equal
-     * if the original objects are identical.
-     *
-     * The original implementation (2.4 and before) used the System.identityHashCode()
-     * method - however this is not guaranteed to generate unique ids (e.g. LANG-459)
-     *
-     * We now use the IDKey helper class (adapted from org.apache.axis.utils.IDKey)
-     * to disambiguate the duplicate ids.
+     * So the registry compares the objects by identity, see IdentityRegistry. The registry is
+     * removed from the thread when it becomes empty, so that no class of this library is left
+     * referenced by pooled threads.
      */
 
     /**
      * Returns the registry of objects being traversed by the reflection methods in the current thread.
      *
-     * @return Set the registry of objects being traversed
+     * @return the registry of objects being traversed, or null if there are none
      * @since 2.3
      */
-    static Set<IDKey> getRegistry() {
+    static IdentityRegistry getRegistry() {
         return REGISTRY.get();
     }
 
@@ -157,8 +143,8 @@ static Set<IDKey> getRegistry() {
      * @since 2.3
      */
     static boolean isRegistered(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        return registry != null && registry.contains(new IDKey(value));
+        final IdentityRegistry registry = getRegistry();
+        return registry != null && registry.contains(value);
     }
 
     /**
@@ -177,25 +163,18 @@ static boolean isRegistered(final Object value) {
      */
     private static void reflectionAppend(final Object object, final Class<?> clazz, final HashCodeBuilder builder, final boolean useTransients,
             final String[] excludeFields) {
-        if (isRegistered(object)) {
-            return;
-        }
-        try {
-            register(object);
-            // The elements in the returned array are not sorted and are not in any particular order.
-            final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-            AccessibleObject.setAccessible(fields, true);
-            for (final Field field : fields) {
-                if (!ArrayUtils.contains(excludeFields, field.getName())
-                    && !field.getName().contains("$")
-                    && (useTransients || !Modifier.isTransient(field.getModifiers()))
-                    && !Modifier.isStatic(field.getModifiers())
-                    && !field.isAnnotationPresent(HashCodeExclude.class)) {
+        final ReflectionFields reflectionFields = ReflectionFields.of(clazz);
+        final Field[] fields = reflectionFields.getFields(ReflectionFields.Use.HASH_CODE, useTransients);
+        final FieldAccessor[] accessors = reflectionFields.getAccessors(ReflectionFields.Use.HASH_CODE, useTransients);
+        for (int i = 0; i < fields.length; i++) {
+            final Field field = fields[i];
+            if (!ArrayUtils.contains(excludeFields, field.getName())) {
+                if (accessors != null) {
+                    accessors[i].appendTo(builder, object);
+                } else {
                     builder.append(Reflection.getUnchecked(field, object));
                 }
             }
-        } finally {
-            unregister(object);
         }
     }
 
@@ -338,11 +317,19 @@ public static <T> int reflectionHashCode(final int initialNonZeroOddNumber, fina
             final boolean testTransients, final Class<? super T> reflectUpToClass, final String... excludeFields) {
         Objects.requireNonNull(object, "object");
         final HashCodeBuilder builder = new HashCodeBuilder(initialNonZeroOddNumber, multiplierNonZeroOddNumber);
-        Class<?> clazz = object.getClass();
-        reflectionAppend(object, clazz, builder, testTransients, excludeFields);
-        while (clazz.getSuperclass() != null && clazz != reflectUpToClass) {
-            clazz = clazz.getSuperclass();
+        final IdentityRegistry registry = register(object);
+        if (registry == null) {
+            return builder.toHashCode();
+        }
+        try {
+            Class<?> clazz = object.getClass();
             reflectionAppend(object, clazz, builder, testTransients, excludeFields);
+            while (clazz.getSuperclass() != null && clazz != reflectUpToClass) {
+                clazz = clazz.getSuperclass();
+                reflectionAppend(object, clazz, builder, testTransients, excludeFields);
+            }
+        } finally {
+            unregister(registry, object);
         }
         return builder.toHashCode();
     }
@@ -461,18 +448,23 @@ public static int reflectionHashCode(final Object object, final String... exclud
     }
 
     /**
-     * Registers the given object. Used by the reflection methods to avoid infinite loops.
+     * Registers the given object, unless it is already registered. Used by the reflection methods to avoid infinite
+     * loops.
      *
      * @param value
      *            The object to register.
+     * @return the registry of the current thread, or null if the object is already registered.
      */
-    private static void register(final Object value) {
-        Set<IDKey> registry = getRegistry();
+    private static IdentityRegistry register(final Object value) {
+        IdentityRegistry registry = getRegistry();
         if (registry == null) {
-            registry = new HashSet<>();
+            registry = new IdentityRegistry();
             REGISTRY.set(registry);
+        } else if (registry.contains(value)) {
+            return null;
         }
-        registry.add(new IDKey(value));
+        registry.add(value);
+        return registry;
     }
 
     /**
@@ -481,17 +473,15 @@ private static void register(final Object value) {
      * <p>
      * Used by the reflection methods to avoid infinite loops.
      *
+     * @param registry
+     *            The registry of the current thread.
      * @param value
      *            The object to unregister.
-     * @since 2.3
      */
-    private static void unregister(final Object value) {
-        final Set<IDKey> registry = getRegistry();
-        if (registry != null) {
-            registry.remove(new IDKey(value));
-            if (registry.isEmpty()) {
-                REGISTRY.remove();
-            }
+    private static void unregister(final IdentityRegistry registry, final Object value) {
+        registry.remove(value);
+        if (registry.isEmpty()) {
+            REGISTRY.remove();
         }
     }
 
@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.Arrays;
+
+/**
+ * A registry of the objects, or pairs of objects, being traversed by the reflection builders, used to detect cycles.
+ *
+ * <p>
+ * Objects are compared by identity, so that neither {@code equals} nor {@code hashCode} of the objects is called while
+ * they are being computed. Entries are kept in the order they are added; the reflection builders remove them in the
+ * reverse order, as they leave each object. Up to {@value #INDEX_THRESHOLD} entries are searched linearly, which
+ * costs less than hashing for the shallow traversals that are the rule; past that depth, an open addressing index
+ * keyed by identity hash codes is built.
+ * </p>
+ *
+ * <p>This class is not thread-safe</p>
+ */
+final class IdentityRegistry {
+
+    /**
+     * The number of entries searched linearly before they are indexed.
+     */
+    static final int INDEX_THRESHOLD = 8;
+
+    private static int hash(final Object left, final Object right) {
+        final int hash = System.identityHashCode(left) * 31 + System.identityHashCode(right);
+        return hash ^ hash >>> 16;
+    }
+
+    /** The left and right objects of each entry, in the order they were added. */
+    private Object[] entries = new Object[INDEX_THRESHOLD * 2];
+    private int size;
+
+    /** The positions of the entries plus one by hash, 0 for free slots; null until the threshold is exceeded. */
+    private int[] index;
+
+    /**
+     * Adds an object.
+     *
+     * @param value the object.
+     */
+    void add(final Object value) {
+        add(value, value);
+    }
+
+    /**
+     * Adds a pair of objects.
+     *
+     * @param left the left object.
+     * @param right the right object.
+     */
+    void add(final Object left, final Object right) {
+        if (size * 2 == entries.length) {
+            entries = Arrays.copyOf(entries, entries.length * 2);
+        }
+        entries[size * 2] = left;
+        entries[size * 2 + 1] = right;
+        size++;
+        if (index != null && size * 2 <= index.length) {
+            insert(size - 1);
+        } else if (size > INDEX_THRESHOLD) {
+            reindex();
+        }
+    }
+
+    /**
+     * Tests whether an object has been added.
+     *
+     * @param value the object.
+     * @return whether the object is registered.
+     */
+    boolean contains(final Object value) {
+        return contains(value, value);
+    }
+
+    /**
+     * Tests whether a pair of objects has been added, in this order.
+     *
+     * @param left the left object.
+     * @param right the right object.
+     * @return whether the pair is registered.
+     */
+    boolean contains(final Object left, final Object right) {
+        return find(left, right) >= 0;
+    }
+
+    private int find(final Object left, final Object right) {
+        if (index == null) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (entries[i * 2] == left && entries[i * 2 + 1] == right) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        final int mask = index.length - 1;
+        for (int slot = hash(left, right) & mask; index[slot] != 0; slot = slot + 1 & mask) {
+            final int i = index[slot] - 1;
+            if (entries[i * 2] == left && entries[i * 2 + 1] == right) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(final int position) {
+        final int mask = index.length - 1;
+        int slot = hash(entries[position * 2], entries[position * 2 + 1]) & mask;
+        while (index[slot] != 0) {
+            slot = slot + 1 & mask;
+        }
+        index[slot] = position + 1;
+    }
+
+    /**
+     * Tests whether this registry is empty.
+     *
+     * @return whether no entries are registered.
+     */
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void reindex() {
+        index = new int[Integer.highestOneBit(size * 4)];
+        for (int i = 0; i < size; i++) {
+            insert(i);
+        }
+    }
+
+    /**
+     * Removes an object.
+     *
+     * @param value the object.
+     */
+    void remove(final Object value) {
+        remove(value, value);
+    }
+
+    /**
+     * Removes a pair of objects.
+     *
+     * @param left the left object.
+     * @param right the right object.
+     */
+    void remove(final Object left, final Object right) {
+        final int position = find(left, right);
+        if (position < 0) {
+            return;
+        }
+        final boolean last = position == size - 1;
+        if (index != null && last) {
+            unindex(position);
+        }
+        System.arraycopy(entries, position * 2 + 2, entries, position * 2, (size - position - 1) * 2);
+        size--;
+        entries[size * 2] = null;
+        entries[size * 2 + 1] = null;
+        if (index != null && !last) {
+            // positions have shifted, which only happens if entries are not removed in reverse order
+            reindex();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IdentityRegistry [size=" + size + ", indexed=" + (index != null) + "]";
+    }
+
+    /**
+     * Removes an entry from the index, moving back the entries that collided with it.
+     */
+    private void unindex(final int position) {
+        final int mask = index.length - 1;
+        int slot = hash(entries[position * 2], entries[position * 2 + 1]) & mask;
+        while (index[slot] != position + 1) {
+            slot = slot + 1 & mask;
+        }
+        for (int next = slot + 1 & mask; index[next] != 0; next = next + 1 & mask) {
+            final int i = index[next] - 1;
+            final int home = hash(entries[i * 2], entries[i * 2 + 1]) & mask;
+            // the entry may fill the free slot if the slot is between its home and its current slot
+            if ((next - home & mask) >= (next - slot & mask)) {
+                index[slot] = index[next];
+                slot = next;
+            }
+        }
+        index[slot] = 0;
+    }
+}
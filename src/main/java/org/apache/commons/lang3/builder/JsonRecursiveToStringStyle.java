@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Works with {@link ReflectionToStringBuilder} to create a "deep" {@code toString} in JSON format,
+ * like the {@link ToStringStyle#JSON_STYLE} does for a single object.
+ *
+ * <p>Use the {@link ToStringStyle#JSON_RECURSIVE_STYLE} constant or {@link ToStringStyle#jsonRecursiveStyle(int)}
+ * rather than instantiating. This class extends the JSON style, which is not public API, so it is not public
+ * either.</p>
+ *
+ * <p>Nested objects are written into the output of the enclosing object, and strings with nothing to escape,
+ * such as most field names, are copied as is. Objects nested deeper than the maximum depth, and objects of the JDK
+ * classes, see {@link #accept(Class)}, are written as the JSON string of their {@code toString}. To write the
+ * output to an {@link Appendable} without creating a {@link String}, see
+ * {@link ReflectionToStringBuilder#appendTo(Appendable, Object, ToStringStyle)}.</p>
+ *
+ * @since 3.13.0
+ */
+final class JsonRecursiveToStringStyle extends ToStringStyle.JsonToStringStyle {
+
+    /**
+     * Required for serialization support.
+     *
+     * @see java.io.Serializable
+     */
+    private static final long serialVersionUID = 1L;
+
+    /** The number of levels of nested objects written as JSON objects. */
+    private final int maxDepth;
+
+    /**
+     * Constructs a style writing objects at any depth.
+     *
+     * <p>Use the static constant rather than instantiating.</p>
+     */
+    JsonRecursiveToStringStyle() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a style writing objects up to the given depth.
+     *
+     * @param maxDepth the number of levels of nested objects written as JSON objects, 0 for none.
+     * @see ToStringStyle#jsonRecursiveStyle(int)
+     */
+    JsonRecursiveToStringStyle(final int maxDepth) {
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Returns whether or not to recursively format the given {@link Class}.
+     *
+     * <p>This method returns {@code false} for the classes of the JDK, whose fields are implementation details that
+     * the module system may not make accessible, and {@code true} otherwise.</p>
+     *
+     * @param clazz
+     *            The class to test.
+     * @return Whether or not to recursively format the given {@link Class}.
+     */
+    private boolean accept(final Class<?> clazz) {
+        return !clazz.getName().startsWith("java.");
+    }
+
+    @Override
+    protected void appendCyclicObject(final StringBuffer buffer, final String fieldName, final Object value) {
+        buffer.append('"');
+        ObjectUtils.identityToString(buffer, value);
+        buffer.append('"');
+    }
+
+    @Override
+    protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object value) {
+        if (value != null
+            && !ClassUtils.isPrimitiveWrapper(value.getClass())
+            && !(value instanceof CharSequence)
+            && !(value instanceof Number)
+            && !(value instanceof Enum)
+            && getDepth() <= maxDepth
+            && accept(value.getClass())) {
+            // appended in place, so that a maximum length applies to the whole output
+            new ReflectionToStringBuilder(value, this, buffer).appendEnd();
+        } else {
+            super.appendDetail(buffer, fieldName, value);
+        }
+    }
+
+    /**
+     * Gets the depth of the value being appended, which is registered with the enclosing values.
+     *
+     * @return the number of values being appended.
+     */
+    private static int getDepth() {
+        final Map<Object, Object> registry = getRegistry();
+        return registry != null ? registry.size() : 0;
+    }
+
+    /**
+     * Ensure Singleton after serialization.
+     *
+     * @return the singleton, or this style if its depth is limited
+     */
+    private Object readResolve() {
+        return maxDepth == Integer.MAX_VALUE ? JSON_RECURSIVE_STYLE : this;
+    }
+}
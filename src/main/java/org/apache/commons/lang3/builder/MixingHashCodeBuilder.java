@@ -0,0 +1,552 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.lang3.ObjectUtils;
+
+/**
+ * Assists in implementing {@link Object#hashCode()} methods with a well distributed, 32-bit or 64-bit hash code.
+ *
+ * <p>
+ * This class has the same {@code append} methods as {@link HashCodeBuilder}, so that a chain of calls can switch from
+ * one to the other, but each value appended is mixed into a 64-bit state with the multiply and rotate steps of
+ * MurmurHash3, and the result goes through the MurmurHash3 finalizer. Unlike the multiply and add scheme of
+ * {@link HashCodeBuilder}, all the bits of the result depend on all the bits of the values, so hash codes can be
+ * partitioned by their low bits, and the 64-bit hash code from {@link #toLongHashCode()} keeps collisions rare across
+ * many millions of values.
+ * </p>
+ *
+ * <p>
+ * Primitive arrays are hashed in bulk: their elements are packed into 64-bit words, for example 2 {@code int}s or 8
+ * {@code byte}s, each word taking one mixing step. The length of an array is mixed in before its elements, so that
+ * consecutive arrays hash differently when their elements are split differently. The hash codes are not those of the
+ * reference MurmurHash3 functions, and may change between releases: they must not be persisted.
+ * </p>
+ *
+ * <pre>
+ * public class Person {
+ *   String name;
+ *   int age;
+ *   boolean smoker;
+ *   ...
+ *
+ *   public int hashCode() {
+ *     return new MixingHashCodeBuilder().
+ *       append(name).
+ *       append(age).
+ *       append(smoker).
+ *       toHashCode();
+ *   }
+ * }
+ * </pre>
+ *
+ * @see HashCodeBuilder
+ * @since 3.13.0
+ */
+public class MixingHashCodeBuilder implements Builder<Integer> {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+
+    private static final long C2 = 0x4cf5ad432745937fL;
+
+    /**
+     * The value mixed in for {@code null}, the 64-bit golden ratio.
+     */
+    private static final long NULL = 0x9e3779b97f4a7c15L;
+
+    /**
+     * Added to the count for each {@code null}, which counts them in its upper half apart from the words.
+     */
+    private static final long NULL_COUNT = 1L << 32;
+
+    /**
+     * Applies the 64-bit finalizer of MurmurHash3, which makes every bit of the result depend on every bit of the
+     * value.
+     *
+     * @param value the value to mix.
+     * @return the mixed value.
+     */
+    static long fmix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    private static long pack(final int low, final int high) {
+        return low & 0xffffffffL | (long) high << 32;
+    }
+
+    private long state;
+
+    /** The number of words mixed. */
+    private long count;
+
+    /**
+     * Constructs a builder with a seed of 0.
+     */
+    public MixingHashCodeBuilder() {
+        this(0);
+    }
+
+    /**
+     * Constructs a builder with a seed, for example to partition the same values differently.
+     *
+     * @param seed the initial state.
+     */
+    public MixingHashCodeBuilder(final long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code boolean}.
+     *
+     * @param value
+     *            the boolean to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final boolean value) {
+        return mix(value ? 1 : 0);
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code boolean} array, 64 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final boolean[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        long word = 0;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i]) {
+                word |= 1L << i;
+            }
+            if ((i & 63) == 63) {
+                mix(word);
+                word = 0;
+            }
+        }
+        if ((array.length & 63) != 0) {
+            mix(word);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code byte}.
+     *
+     * @param value
+     *            the byte to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final byte value) {
+        return mix(value);
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code byte} array, 8 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final byte[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        final ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+        final int words = array.length & ~7;
+        for (int i = 0; i < words; i += 8) {
+            mix(buffer.getLong(i));
+        }
+        if (words < array.length) {
+            long word = 0;
+            for (int i = words; i < array.length; i++) {
+                word |= (array[i] & 0xffL) << (i - words) * 8;
+            }
+            mix(word);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code char}.
+     *
+     * @param value
+     *            the char to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final char value) {
+        return mix(value);
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code char} array, 4 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final char[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        final int words = array.length & ~3;
+        for (int i = 0; i < words; i += 4) {
+            mix(array[i] | (long) array[i + 1] << 16 | (long) array[i + 2] << 32 | (long) array[i + 3] << 48);
+        }
+        if (words < array.length) {
+            long word = 0;
+            for (int i = words; i < array.length; i++) {
+                word |= (long) array[i] << (i - words) * 16;
+            }
+            mix(word);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code double}.
+     *
+     * @param value
+     *            the double to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final double value) {
+        return mix(Double.doubleToLongBits(value));
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code double} array.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final double[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        for (final double element : array) {
+            mix(Double.doubleToLongBits(element));
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code float}.
+     *
+     * @param value
+     *            the float to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final float value) {
+        return mix(Float.floatToIntBits(value));
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code float} array, 2 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final float[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        final int words = array.length & ~1;
+        for (int i = 0; i < words; i += 2) {
+            mix(pack(Float.floatToIntBits(array[i]), Float.floatToIntBits(array[i + 1])));
+        }
+        if (words < array.length) {
+            mix(Float.floatToIntBits(array[words]) & 0xffffffffL);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for an {@code int}.
+     *
+     * @param value
+     *            the int to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final int value) {
+        return mix(value);
+    }
+
+    /**
+     * Append a {@code hashCode} for an {@code int} array, 2 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final int[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        final int words = array.length & ~1;
+        for (int i = 0; i < words; i += 2) {
+            mix(pack(array[i], array[i + 1]));
+        }
+        if (words < array.length) {
+            mix(array[words] & 0xffffffffL);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code long}.
+     *
+     * @param value
+     *            the long to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final long value) {
+        return mix(value);
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code long} array.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final long[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        for (final long element : array) {
+            mix(element);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for an {@link Object}.
+     *
+     * <p>Arrays are appended as by the method for their type, other objects by their {@code hashCode()}.</p>
+     *
+     * @param object
+     *            the Object to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final Object object) {
+        if (object == null) {
+            return mixNull();
+        }
+        if (!ObjectUtils.isArray(object)) {
+            return mix(object.hashCode());
+        }
+        if (object instanceof long[]) {
+            return append((long[]) object);
+        }
+        if (object instanceof int[]) {
+            return append((int[]) object);
+        }
+        if (object instanceof short[]) {
+            return append((short[]) object);
+        }
+        if (object instanceof char[]) {
+            return append((char[]) object);
+        }
+        if (object instanceof byte[]) {
+            return append((byte[]) object);
+        }
+        if (object instanceof double[]) {
+            return append((double[]) object);
+        }
+        if (object instanceof float[]) {
+            return append((float[]) object);
+        }
+        if (object instanceof boolean[]) {
+            return append((boolean[]) object);
+        }
+        // not an array of primitives
+        return append((Object[]) object);
+    }
+
+    /**
+     * Append a {@code hashCode} for an {@link Object} array.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final Object[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        for (final Object element : array) {
+            append(element);
+        }
+        return this;
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code short}.
+     *
+     * @param value
+     *            the short to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final short value) {
+        return mix(value);
+    }
+
+    /**
+     * Append a {@code hashCode} for a {@code short} array, 4 elements at a time.
+     *
+     * @param array
+     *            the array to add to the {@code hashCode}
+     * @return this
+     */
+    public MixingHashCodeBuilder append(final short[] array) {
+        if (array == null) {
+            return mixNull();
+        }
+        mix(array.length);
+        final int words = array.length & ~3;
+        for (int i = 0; i < words; i += 4) {
+            mix(array[i] & 0xffffL | (array[i + 1] & 0xffffL) << 16 | (array[i + 2] & 0xffffL) << 32 | (long) array[i + 3] << 48);
+        }
+        if (words < array.length) {
+            long word = 0;
+            for (int i = words; i < array.length; i++) {
+                word |= (array[i] & 0xffffL) << (i - words) * 16;
+            }
+            mix(word);
+        }
+        return this;
+    }
+
+    /**
+     * Adds the result of super.hashCode() to this builder.
+     *
+     * @param superHashCode
+     *            the result of calling {@code super.hashCode()}
+     * @return this
+     */
+    public MixingHashCodeBuilder appendSuper(final int superHashCode) {
+        return mix(superHashCode);
+    }
+
+    /**
+     * Returns the computed {@code hashCode}.
+     *
+     * @return {@code hashCode} based on the fields appended
+     */
+    @Override
+    public Integer build() {
+        return Integer.valueOf(toHashCode());
+    }
+
+    /**
+     * Implements equals using the 64-bit hash code.
+     */
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MixingHashCodeBuilder)) {
+            return false;
+        }
+        return toLongHashCode() == ((MixingHashCodeBuilder) obj).toLongHashCode();
+    }
+
+    /**
+     * The computed {@code hashCode} from toHashCode() is returned due to the likelihood
+     * of bugs in mis-calling toHashCode() and the unlikeliness of it mattering what the hashCode for
+     * MixingHashCodeBuilder itself is.
+     *
+     * @return {@code hashCode} based on the fields appended
+     */
+    @Override
+    public int hashCode() {
+        return toHashCode();
+    }
+
+    /**
+     * Mixes a 64-bit word into the state, as MurmurHash3 mixes each block.
+     *
+     * @param word the word to mix.
+     * @return this
+     */
+    private MixingHashCodeBuilder mix(long word) {
+        word *= C1;
+        word = Long.rotateLeft(word, 31);
+        word *= C2;
+        state ^= word;
+        state = Long.rotateLeft(state, 27) * 5 + 0x52dce729;
+        count++;
+        return this;
+    }
+
+    /**
+     * Mixes a {@code null} into the state. Rather than mixing a word, which an appended {@code long} could equal, it
+     * takes a step of its own and is counted apart.
+     *
+     * @return this
+     */
+    private MixingHashCodeBuilder mixNull() {
+        state = fmix64(state ^ NULL);
+        count += NULL_COUNT;
+        return this;
+    }
+
+    /**
+     * Returns the computed 32-bit {@code hashCode}, folded from the 64-bit one.
+     *
+     * @return {@code hashCode} based on the fields appended
+     */
+    public int toHashCode() {
+        final long hash = toLongHashCode();
+        return (int) (hash ^ hash >>> 32);
+    }
+
+    /**
+     * Returns the computed 64-bit hash code.
+     *
+     * <p>The builder may still be appended to afterwards.</p>
+     *
+     * @return the 64-bit hash code based on the fields appended
+     */
+    public long toLongHashCode() {
+        return fmix64(state ^ count);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Computes the ranges of elements that differ between two sequences with the greedy algorithm of Eugene W. Myers,
+ * "An O(ND) Difference Algorithm and Its Variations", which finds a shortest edit script in a time proportional to
+ * the length of the sequences times the number of differences.
+ *
+ * <p>
+ * The common prefix and suffix are skipped first. The edit distance searched is then bounded by
+ * {@value #MAX_EDIT_DISTANCE}, which bounds the memory kept for backtracking; past that, the rest of the sequences is
+ * reported as a single range.
+ * </p>
+ */
+final class MyersDiff {
+
+    /**
+     * Tests whether an element of the left sequence equals an element of the right sequence.
+     */
+    @FunctionalInterface
+    interface ElementEquality {
+
+        /**
+         * Tests whether two elements are equal.
+         *
+         * @param left the index in the left sequence.
+         * @param right the index in the right sequence.
+         * @return whether the elements are equal.
+         */
+        boolean test(int left, int right);
+    }
+
+    /**
+     * The maximum number of inserted and deleted elements searched for.
+     */
+    static final int MAX_EDIT_DISTANCE = 1024;
+
+    /**
+     * Computes the ranges of elements that differ.
+     *
+     * @param leftLength the length of the left sequence.
+     * @param rightLength the length of the right sequence.
+     * @param equality the equality of elements.
+     * @return the ranges in order, each as {leftFrom, leftTo, rightFrom, rightTo} with exclusive ends, where the left
+     *         elements are replaced by the right elements, either range being possibly empty.
+     */
+    static List<int[]> diff(final int leftLength, final int rightLength, final ElementEquality equality) {
+        int prefix = 0;
+        while (prefix < leftLength && prefix < rightLength && equality.test(prefix, prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < leftLength - prefix && suffix < rightLength - prefix
+            && equality.test(leftLength - 1 - suffix, rightLength - 1 - suffix)) {
+            suffix++;
+        }
+        final int n = leftLength - prefix - suffix;
+        final int m = rightLength - prefix - suffix;
+        if (n == 0 && m == 0) {
+            return Collections.emptyList();
+        }
+        if (n == 0 || m == 0) {
+            return Collections.singletonList(new int[] {prefix, prefix + n, prefix, prefix + m});
+        }
+        final int limit = Math.min(n + m, MAX_EDIT_DISTANCE);
+        final int offset = limit + 1;
+        // v[offset + k] is the furthest x reached on diagonal k = x - y
+        final int[] v = new int[2 * limit + 3];
+        // trace.get(d) holds v for k in [-d - 1, d + 1] before round d
+        final List<int[]> trace = new ArrayList<>();
+        for (int d = 0; d <= limit; d++) {
+            final int[] snapshot = new int[2 * d + 3];
+            System.arraycopy(v, offset - d - 1, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+            for (int k = -d; k <= d; k += 2) {
+                int x = k == -d || k != d && v[offset + k - 1] < v[offset + k + 1] ? v[offset + k + 1] : v[offset + k - 1] + 1;
+                int y = x - k;
+                while (x < n && y < m && equality.test(prefix + x, prefix + y)) {
+                    x++;
+                    y++;
+                }
+                v[offset + k] = x;
+                if (x >= n && y >= m) {
+                    return backtrack(trace, n, m, prefix);
+                }
+            }
+        }
+        return Collections.singletonList(new int[] {prefix, prefix + n, prefix, prefix + m});
+    }
+
+    private static List<int[]> backtrack(final List<int[]> trace, final int n, final int m, final int prefix) {
+        final List<int[]> ranges = new ArrayList<>();
+        int x = n;
+        int y = m;
+        // the end of the range being collected, backwards, or -1
+        int endX = -1;
+        int endY = -1;
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            final int[] v = trace.get(d);
+            final int k = x - y;
+            final int prevK = k == -d || k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1] ? k + 1 : k - 1;
+            final int prevX = v[prevK + d + 1];
+            final int prevY = prevX - prevK;
+            final int snakeX = x;
+            final int snakeY = y;
+            while (x > prevX && y > prevY) {
+                x--;
+                y--;
+            }
+            if (x != snakeX && endX >= 0) {
+                ranges.add(new int[] {prefix + snakeX, prefix + endX, prefix + snakeY, prefix + endY});
+                endX = -1;
+            }
+            if (d > 0) {
+                if (endX < 0) {
+                    endX = x;
+                    endY = y;
+                }
+                x = prevX;
+                y = prevY;
+            }
+        }
+        if (endX >= 0) {
+            ranges.add(new int[] {prefix + x, prefix + endX, prefix + y, prefix + endY});
+        }
+        Collections.reverse(ranges);
+        return ranges;
+    }
+
+    private MyersDiff() {
+        // static only
+    }
+}
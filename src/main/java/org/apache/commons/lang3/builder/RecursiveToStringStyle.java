@@ -70,7 +70,8 @@ public void appendDetail(final StringBuffer buffer, final String fieldName, fina
         if (!ClassUtils.isPrimitiveWrapper(value.getClass()) &&
             !String.class.equals(value.getClass()) &&
             accept(value.getClass())) {
-            buffer.append(ReflectionToStringBuilder.toString(value, this));
+            // appended in place, so that a maximum length applies to the whole output
+            new ReflectionToStringBuilder(value, this, buffer).appendEnd();
         } else {
             super.appendDetail(buffer, fieldName, value);
         }
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.apache.commons.lang3.ArraySorter;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.stream.Streams;
+
+/**
+ * The declared fields of a class, made accessible and filtered once for the reflection builders.
+ *
+ * <p>
+ * Instances are held in a {@link ClassValue}, so they can be unloaded with their class. The arrays returned are
+ * shared and must not be modified.
+ * </p>
+ *
+ * <p>
+ * After {@value #ACCESSOR_THRESHOLD} requests for the fields of a builder, their {@link FieldAccessor}s are created as
+ * well, so that classes compared or hashed only a few times do not pay for the method handles.
+ * </p>
+ */
+final class ReflectionFields {
+
+    /**
+     * The builders that filter fields: the order of the fields they append and the annotation excluding a field.
+     */
+    enum Use {
+
+        /** {@link CompareToBuilder}, in declaration order. */
+        COMPARE_TO(false, null),
+
+        /** {@link EqualsBuilder}, in declaration order. */
+        EQUALS(false, EqualsExclude.class),
+
+        /** {@link HashCodeBuilder}, by name. */
+        HASH_CODE(true, HashCodeExclude.class);
+
+        private final boolean sorted;
+        private final Class<? extends Annotation> exclude;
+
+        Use(final boolean sorted, final Class<? extends Annotation> exclude) {
+            this.sorted = sorted;
+            this.exclude = exclude;
+        }
+    }
+
+    /**
+     * The number of requests for the fields of a builder after which their accessors are created.
+     */
+    static final int ACCESSOR_THRESHOLD = 64;
+
+    private static final ClassValue<ReflectionFields> CACHE = new ClassValue<ReflectionFields>() {
+        @Override
+        protected ReflectionFields computeValue(final Class<?> type) {
+            return new ReflectionFields(type);
+        }
+    };
+
+    /**
+     * Gets the fields of a class.
+     *
+     * <p>
+     * Failures to make the fields accessible are not cached, they are thrown again on each call.
+     * </p>
+     *
+     * @param clazz the class declaring the fields.
+     * @return the shared instance for the class.
+     * @throws SecurityException if the fields cannot be made accessible.
+     */
+    static ReflectionFields of(final Class<?> clazz) {
+        return CACHE.get(clazz);
+    }
+
+    private final Field[] declared;
+    private final Field[] sorted;
+
+    /** The fields appended by each use, without then with transient fields. */
+    private final AtomicReferenceArray<Field[]> filtered = new AtomicReferenceArray<>(Use.values().length * 2);
+
+    /** The accessors of the filtered fields, once created. */
+    private final AtomicReferenceArray<FieldAccessor[]> accessors = new AtomicReferenceArray<>(Use.values().length * 2);
+
+    /** The requests for the accessors of the filtered fields; lost updates only delay their creation. */
+    private final int[] requests = new int[Use.values().length * 2];
+
+    private ReflectionFields(final Class<?> clazz) {
+        declared = clazz.getDeclaredFields();
+        AccessibleObject.setAccessible(declared, true);
+        // The elements in the returned array are not sorted and are not in any particular order.
+        sorted = ArraySorter.sort(declared.clone(), Comparator.comparing(Field::getName));
+    }
+
+    /**
+     * Gets the accessors of the fields appended by a builder, once the fields have been requested often enough.
+     *
+     * @param use the builder.
+     * @param transients whether to include transient fields.
+     * @return the accessors of the fields of {@link #getFields(Use, boolean)}, in the same order, or null while warming
+     *         up.
+     */
+    FieldAccessor[] getAccessors(final Use use, final boolean transients) {
+        final int index = index(use, transients);
+        FieldAccessor[] fieldAccessors = accessors.get(index);
+        if (fieldAccessors == null) {
+            if (requests[index]++ < ACCESSOR_THRESHOLD) {
+                return null;
+            }
+            fieldAccessors = Streams.of(getFields(use, transients)).map(FieldAccessor::of).toArray(FieldAccessor[]::new);
+            accessors.set(index, fieldAccessors);
+        }
+        return fieldAccessors;
+    }
+
+    /**
+     * Gets the non-static fields appended by a builder, without the fields of inner classes and the fields annotated
+     * to be excluded.
+     *
+     * @param use the builder.
+     * @param transients whether to include transient fields.
+     * @return the accessible fields.
+     */
+    Field[] getFields(final Use use, final boolean transients) {
+        final int index = index(use, transients);
+        Field[] fields = filtered.get(index);
+        if (fields == null) {
+            fields = Streams.of(use.sorted ? sorted : declared)
+                .filter(field -> field.getName().indexOf(ClassUtils.INNER_CLASS_SEPARATOR_CHAR) == -1
+                    && (transients || !Modifier.isTransient(field.getModifiers()))
+                    && !Modifier.isStatic(field.getModifiers())
+                    && (use.exclude == null || !field.isAnnotationPresent(use.exclude)))
+                .toArray(Field[]::new);
+            filtered.set(index, fields);
+        }
+        return fields;
+    }
+
+    private static int index(final Use use, final boolean transients) {
+        return use.ordinal() * 2 + (transients ? 1 : 0);
+    }
+
+    /**
+     * Gets all declared fields, by name.
+     *
+     * @return the accessible fields.
+     */
+    Field[] getSortedFields() {
+        return sorted;
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -100,6 +101,25 @@
  */
 public class ReflectionToStringBuilder extends ToStringBuilder {
 
+    /**
+     * Whether a subclass overrides {@link #accept(Field)}, which must then be passed its own copies of the fields
+     * rather than the fields shared by {@link ReflectionFields}.
+     */
+    private static final ClassValue<Boolean> ACCEPT_OVERRIDDEN = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> c = type; c != ReflectionToStringBuilder.class; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("accept", Field.class);
+                    return Boolean.TRUE;
+                } catch (final NoSuchMethodException e) {
+                    // not overridden by this class
+                }
+            }
+            return Boolean.FALSE;
+        }
+    };
+
     /**
      * Converts the given Collection into an array of Strings. The returned array does not contain {@code null}
      * entries. Note that {@link Arrays#sort(Object[])} will throw an {@link NullPointerException} if an array element
@@ -328,8 +348,13 @@ public static String toString(final Object object, final ToStringStyle style, fi
     public static <T> String toString(
             final T object, final ToStringStyle style, final boolean outputTransients,
             final boolean outputStatics, final boolean excludeNullValues, final Class<? super T> reflectUpToClass) {
-        return new ReflectionToStringBuilder(object, style, null, reflectUpToClass, outputTransients, outputStatics, excludeNullValues)
-                .toString();
+        final StringBuffer buffer = acquireBuffer();
+        try {
+            return new ReflectionToStringBuilder(object, style, buffer, reflectUpToClass, outputTransients, outputStatics, excludeNullValues)
+                    .toString();
+        } finally {
+            releaseBuffer(buffer);
+        }
     }
 
     /**
@@ -383,8 +408,41 @@ public static <T> String toString(
     public static <T> String toString(
             final T object, final ToStringStyle style, final boolean outputTransients,
             final boolean outputStatics, final Class<? super T> reflectUpToClass) {
-        return new ReflectionToStringBuilder(object, style, null, reflectUpToClass, outputTransients, outputStatics)
-                .toString();
+        return toString(object, style, outputTransients, outputStatics, false, reflectUpToClass);
+    }
+
+    /**
+     * Appends the fields of an object, using reflection, to an {@link Appendable}.
+     *
+     * <p>
+     * This is the same output as {@link #toString(Object, ToStringStyle)}, built in a buffer reused by the current
+     * thread and copied to the appendable without creating a {@link String}. Together with a style whose maximum
+     * length is set, see {@link StandardToStringStyle#setMaxLength(int)}, this bounds the time and memory spent on
+     * large objects, for example when logging.
+     * </p>
+     *
+     * @param <A>
+     *            the type of the appendable
+     * @param appendable
+     *            the appendable to write to
+     * @param object
+     *            the Object to be output
+     * @param style
+     *            the style of the {@code toString} to create, may be {@code null}
+     * @return the given appendable
+     * @throws IOException
+     *             if an I/O error occurs
+     * @throws NullPointerException
+     *             if the Object is {@code null}
+     * @since 3.13.0
+     */
+    public static <A extends Appendable> A appendTo(final A appendable, final Object object, final ToStringStyle style) throws IOException {
+        final StringBuffer buffer = acquireBuffer();
+        try {
+            return new ReflectionToStringBuilder(object, style, buffer).appendTo(appendable);
+        } finally {
+            releaseBuffer(buffer);
+        }
     }
 
     /**
@@ -651,9 +709,14 @@ protected void appendFieldsIn(final Class<?> clazz) {
             this.reflectionAppendArray(this.getObject());
             return;
         }
-        // The elements in the returned array are not sorted and are not in any particular order.
-        final Field[] fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
-        AccessibleObject.setAccessible(fields, true);
+        final Field[] fields;
+        if (ACCEPT_OVERRIDDEN.get(getClass()).booleanValue()) {
+            // The elements in the returned array are not sorted and are not in any particular order.
+            fields = ArraySorter.sort(clazz.getDeclaredFields(), Comparator.comparing(Field::getName));
+            AccessibleObject.setAccessible(fields, true);
+        } else {
+            fields = ReflectionFields.of(clazz).getSortedFields();
+        }
         for (final Field field : fields) {
             final String fieldName = field.getName();
             if (this.accept(field)) {
@@ -847,6 +910,16 @@ public String toString() {
             return this.getStyle().getNullText();
         }
 
+        return appendEnd().toString();
+    }
+
+    /**
+     * Appends the fields of the object and the end of data indicator.
+     *
+     * @return the buffer holding the complete {@code toString}
+     */
+    @Override
+    StringBuffer appendEnd() {
         validate();
 
         Class<?> clazz = this.getObject().getClass();
@@ -855,7 +928,7 @@ public String toString() {
             clazz = clazz.getSuperclass();
             this.appendFieldsIn(clazz);
         }
-        return super.toString();
+        return super.appendEnd();
     }
 
     /**
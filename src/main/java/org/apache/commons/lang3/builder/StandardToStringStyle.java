@@ -517,4 +517,59 @@ public void setSummaryObjectEndText(final String summaryObjectEndText) {
         super.setSummaryObjectEndText(summaryObjectEndText);
     }
 
+    /**
+     * Gets the length of the output after which no more fields,
+     * array items or collection elements are appended.
+     *
+     * @return the current maximum length, 0 for no limit
+     * @since 3.13.0
+     */
+    @Override
+    public int getMaxLength() {
+        return super.getMaxLength();
+    }
+
+    /**
+     * Sets the length of the output after which no more fields,
+     * array items or collection elements are appended.
+     *
+     * <p>The check is made before each field or item, so the output
+     * may exceed the maximum length by the last value appended and by
+     * the end of the content.</p>
+     *
+     * @param maxLength  the new maximum length, 0 or less for no limit
+     * @since 3.13.0
+     */
+    @Override
+    public void setMaxLength(final int maxLength) {
+        super.setMaxLength(maxLength);
+    }
+
+    /**
+     * Gets the text to output in place of the fields or items left out
+     * once the maximum length is reached.
+     *
+     * @return the current truncated text
+     * @since 3.13.0
+     */
+    @Override
+    public String getTruncatedText() {
+        return super.getTruncatedText();
+    }
+
+    /**
+     * Sets the text to output in place of the fields or items left out
+     * once the maximum length is reached.
+     *
+     * <p>{@code null} is accepted, but will be converted to
+     * an empty String.</p>
+     *
+     * @param truncatedText  the new truncated text
+     * @since 3.13.0
+     */
+    @Override
+    public void setTruncatedText(final String truncatedText) {
+        super.setTruncatedText(truncatedText);
+    }
+
 }
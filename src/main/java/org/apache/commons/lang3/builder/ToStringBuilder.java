@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.builder;
 
+import java.io.IOException;
 import java.util.Objects;
 
 import org.apache.commons.lang3.ObjectUtils;
@@ -94,6 +95,47 @@ public class ToStringBuilder implements Builder<String> {
      */
     private static volatile ToStringStyle defaultStyle = ToStringStyle.DEFAULT_STYLE;
 
+    /**
+     * The capacity above which a buffer is not kept for reuse by the current thread.
+     */
+    static final int MAX_REUSED_CAPACITY = 8 * 1024;
+
+    /**
+     * The buffer kept for reuse by the current thread, in a slot that is empty while the buffer is in use.
+     *
+     * <p>Only JDK classes are held by the thread, so that no class of this library is left referenced by pooled threads.</p>
+     */
+    private static final ThreadLocal<StringBuffer[]> BUFFER = ThreadLocal.withInitial(() -> new StringBuffer[1]);
+
+    /**
+     * Takes the buffer kept for reuse by the current thread, or a new buffer if it is in use.
+     *
+     * <p>The buffer must not escape the calling method, and is given back with {@link #releaseBuffer(StringBuffer)}.</p>
+     *
+     * @return an empty buffer.
+     */
+    static StringBuffer acquireBuffer() {
+        final StringBuffer[] slot = BUFFER.get();
+        final StringBuffer buffer = slot[0];
+        if (buffer == null) {
+            return new StringBuffer(512);
+        }
+        slot[0] = null;
+        return buffer;
+    }
+
+    /**
+     * Gives back a buffer taken with {@link #acquireBuffer()}, keeping it for reuse unless it has grown too large.
+     *
+     * @param buffer the buffer, no longer in use.
+     */
+    static void releaseBuffer(final StringBuffer buffer) {
+        if (buffer.capacity() <= MAX_REUSED_CAPACITY) {
+            buffer.setLength(0);
+            BUFFER.get()[0] = buffer;
+        }
+    }
+
     /**
      * Gets the default {@link ToStringStyle} to use.
      *
@@ -1009,12 +1051,40 @@ public ToStringStyle getStyle() {
      */
     @Override
     public String toString() {
+        return appendEnd().toString();
+    }
+
+    /**
+     * Appends the end of data indicator, or the style's {@code nullText} if the object is {@code null}.
+     *
+     * @return the buffer holding the complete {@code toString}
+     */
+    StringBuffer appendEnd() {
         if (this.getObject() == null) {
             this.getStringBuffer().append(this.getStyle().getNullText());
         } else {
             style.appendEnd(this.getStringBuffer(), this.getObject());
         }
-        return this.getStringBuffer().toString();
+        return this.getStringBuffer();
+    }
+
+    /**
+     * Appends the built {@code toString} to an {@link Appendable}.
+     *
+     * <p>This method appends the end of data indicator, and can only be called once,
+     * instead of {@link #toString()}. It saves creating the {@link String}, for example
+     * when writing to a {@link StringBuilder} held by a logging framework.</p>
+     *
+     * @param <A> the type of the appendable.
+     * @param appendable the appendable to write to.
+     * @return the given appendable.
+     * @throws IOException if an I/O error occurs.
+     * @see #toString()
+     * @since 3.13.0
+     */
+    public <A extends Appendable> A appendTo(final A appendable) throws IOException {
+        appendable.append(appendEnd());
+        return appendable;
     }
 
     /**
@@ -161,6 +161,29 @@ public abstract class ToStringStyle implements Serializable {
      */
     public static final ToStringStyle JSON_STYLE = new JsonToStringStyle();
 
+    /**
+     * The JSON toString style that writes the objects held by fields as
+     * nested JSON objects, at any depth, like the {@link #JSON_STYLE} does for a
+     * single object. Using the {@code Person} example from
+     * {@link ToStringBuilder} with a {@code Job} field, the output would look
+     * like this:
+     *
+     * <pre>
+     * {"name":"John Doe","age":33,"smoker":true,"job":{"title":"Manager"}}
+     * </pre>
+     *
+     * <p>
+     * Objects of the JDK classes, whose fields are implementation details, and
+     * cyclic references are written as the JSON string of their
+     * {@code toString} and identity respectively. Use it with
+     * {@link ReflectionToStringBuilder}.
+     * </p>
+     *
+     * @see #jsonRecursiveStyle(int)
+     * @since 3.13.0
+     */
+    public static final ToStringStyle JSON_RECURSIVE_STYLE = new JsonRecursiveToStringStyle();
+
     /**
      * A registry of objects used by {@code reflectionToString} methods
      * to detect cyclical object references and avoid infinite loops.
@@ -240,6 +263,29 @@ static void unregister(final Object value) {
         }
     }
 
+    /**
+     * Gets a JSON toString style that writes the objects held by fields as
+     * nested JSON objects up to the given depth, like the
+     * {@link #JSON_RECURSIVE_STYLE} does at any depth.
+     *
+     * <p>
+     * The depth of a value is the number of objects, arrays,
+     * {@link java.util.Collection}s and {@link Map}s enclosing it, the object
+     * of the builder excepted. With a maximum depth of 1, the objects held by
+     * the fields of the object of the builder are written as JSON objects, but
+     * not the objects held by their fields; deeper objects are written as the
+     * JSON string of their {@code toString}.
+     * </p>
+     *
+     * @param maxDepth the number of levels of nested objects written as JSON
+     *                 objects, 0 for none.
+     * @return the style.
+     * @since 3.13.0
+     */
+    public static ToStringStyle jsonRecursiveStyle(final int maxDepth) {
+        return maxDepth == Integer.MAX_VALUE ? JSON_RECURSIVE_STYLE : new JsonRecursiveToStringStyle(maxDepth);
+    }
+
     /**
      * Whether to use the field names, the default is {@code true}.
      */
@@ -341,6 +387,16 @@ static void unregister(final Object value) {
      */
     private String summaryObjectEndText = ">";
 
+    /**
+     * The length of the output after which no more fields or items are appended, 0 for no limit.
+     */
+    private int maxLength;
+
+    /**
+     * The text output in place of the fields or items left out {@code '...'}.
+     */
+    private String truncatedText = "...";
+
     /**
      * Constructor.
      */
@@ -441,6 +497,10 @@ protected void removeLastFieldSeparator(final StringBuffer buffer) {
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final Object value, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (value == null) {
@@ -607,7 +667,25 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  {@code toString}, not {@code null}
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Collection<?> coll) {
-        buffer.append(coll);
+        if (maxLength <= 0) {
+            buffer.append(coll);
+            return;
+        }
+        // the format of AbstractCollection.toString(), stopping at the maximum length
+        buffer.append('[');
+        boolean first = true;
+        for (final Object item : coll) {
+            if (!first) {
+                buffer.append(", ");
+            }
+            if (isFull(buffer)) {
+                appendTruncatedText(buffer);
+                break;
+            }
+            buffer.append(item == coll ? "(this Collection)" : item);
+            first = false;
+        }
+        buffer.append(']');
     }
 
     /**
@@ -619,7 +697,27 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  not {@code null}
      */
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Map<?, ?> map) {
-        buffer.append(map);
+        if (maxLength <= 0) {
+            buffer.append(map);
+            return;
+        }
+        // the format of AbstractMap.toString(), stopping at the maximum length
+        buffer.append('{');
+        boolean first = true;
+        for (final Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                buffer.append(", ");
+            }
+            if (isFull(buffer)) {
+                appendTruncatedText(buffer);
+                break;
+            }
+            buffer.append(entry.getKey() == map ? "(this Map)" : entry.getKey());
+            buffer.append('=');
+            buffer.append(entry.getValue() == map ? "(this Map)" : entry.getValue());
+            first = false;
+        }
+        buffer.append('}');
     }
 
     /**
@@ -646,6 +744,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final long value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -672,6 +774,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final int value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -698,6 +804,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final short value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -724,6 +834,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final byte value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -750,6 +864,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final char value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -776,6 +894,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final double value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -802,6 +924,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final float value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -828,6 +954,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      * @param value  the value to add to the {@code toString}
      */
     public void append(final StringBuffer buffer, final String fieldName, final boolean value) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
         appendDetail(buffer, fieldName, value);
         appendFieldEnd(buffer, fieldName);
@@ -856,6 +986,10 @@ protected void appendDetail(final StringBuffer buffer, final String fieldName, f
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final Object[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -883,6 +1017,9 @@ public void append(final StringBuffer buffer, final String fieldName, final Obje
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final Object[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             appendDetail(buffer, fieldName, i, array[i]);
         }
         buffer.append(arrayEnd);
@@ -922,6 +1059,9 @@ protected void reflectionAppendArrayDetail(final StringBuffer buffer, final Stri
         buffer.append(arrayStart);
         final int length = Array.getLength(array);
         for (int i = 0; i < length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             appendDetail(buffer, fieldName, i, Array.get(array, i));
         }
         buffer.append(arrayEnd);
@@ -951,6 +1091,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final long[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -978,6 +1122,9 @@ public void append(final StringBuffer buffer, final String fieldName, final long
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final long[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1010,6 +1157,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final int[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1037,6 +1188,9 @@ public void append(final StringBuffer buffer, final String fieldName, final int[
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final int[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1069,6 +1223,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final short[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1096,6 +1254,9 @@ public void append(final StringBuffer buffer, final String fieldName, final shor
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final short[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1128,6 +1289,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final byte[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1155,6 +1320,9 @@ public void append(final StringBuffer buffer, final String fieldName, final byte
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final byte[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1187,6 +1355,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final char[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1214,6 +1386,9 @@ public void append(final StringBuffer buffer, final String fieldName, final char
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final char[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1246,6 +1421,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final double[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1273,6 +1452,9 @@ public void append(final StringBuffer buffer, final String fieldName, final doub
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final double[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1305,6 +1487,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final float[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1332,6 +1518,9 @@ public void append(final StringBuffer buffer, final String fieldName, final floa
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final float[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1364,6 +1553,10 @@ protected void appendSummary(final StringBuffer buffer, final String fieldName,
      *  for summary info, {@code null} for style decides
      */
     public void append(final StringBuffer buffer, final String fieldName, final boolean[] array, final Boolean fullDetail) {
+        if (isFull(buffer)) {
+            appendTruncatedText(buffer);
+            return;
+        }
         appendFieldStart(buffer, fieldName);
 
         if (array == null) {
@@ -1391,6 +1584,9 @@ public void append(final StringBuffer buffer, final String fieldName, final bool
     protected void appendDetail(final StringBuffer buffer, final String fieldName, final boolean[] array) {
         buffer.append(arrayStart);
         for (int i = 0; i < array.length; i++) {
+            if (truncate(buffer, i)) {
+                break;
+            }
             if (i > 0) {
                 buffer.append(arraySeparator);
             }
@@ -1547,6 +1743,51 @@ protected boolean isFullDetail(final Boolean fullDetailRequest) {
         return fullDetailRequest.booleanValue();
     }
 
+    /**
+     * Tests whether the output has reached the maximum length, after which
+     * no more fields or items are appended.
+     *
+     * @param buffer  the {@link StringBuffer} being populated
+     * @return whether the output is to be truncated
+     * @see #getMaxLength()
+     * @since 3.13.0
+     */
+    protected boolean isFull(final StringBuffer buffer) {
+        return maxLength > 0 && buffer.length() >= maxLength;
+    }
+
+    /**
+     * Appends to the {@code toString} the text standing for the fields or
+     * items left out, unless the output already ends with it.
+     *
+     * @param buffer  the {@link StringBuffer} to populate
+     * @since 3.13.0
+     */
+    protected void appendTruncatedText(final StringBuffer buffer) {
+        if (!StringUtils.endsWith(buffer, truncatedText)) {
+            buffer.append(truncatedText);
+        }
+    }
+
+    /**
+     * Appends the truncated text in place of the remaining items of an array
+     * if the output is full.
+     *
+     * @param buffer  the {@link StringBuffer} to populate
+     * @param i  the index of the next item
+     * @return whether the remaining items are to be left out
+     */
+    private boolean truncate(final StringBuffer buffer, final int i) {
+        if (!isFull(buffer)) {
+            return false;
+        }
+        if (i > 0) {
+            buffer.append(arraySeparator);
+        }
+        appendTruncatedText(buffer);
+        return true;
+    }
+
     /**
      * Gets the short class name for a class.
      *
@@ -2031,6 +2272,66 @@ protected void setSummaryObjectEndText(String summaryObjectEndText) {
         this.summaryObjectEndText = summaryObjectEndText;
     }
 
+    /**
+     * Gets the length of the output after which no more fields,
+     * array items or collection elements are appended.
+     *
+     * <p>This bounds the time and memory spent on large objects, for
+     * example when logging. The check is made before each field or item,
+     * so the output may exceed the maximum length by the last value
+     * appended and by the end of the content.</p>
+     *
+     * @return the current maximum length, 0 for no limit
+     * @since 3.13.0
+     */
+    protected int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Sets the length of the output after which no more fields,
+     * array items or collection elements are appended.
+     *
+     * <p>While a maximum length is set, {@link Collection}s and
+     * {@link Map}s are appended element by element, in the format of
+     * {@code AbstractCollection.toString()} and
+     * {@code AbstractMap.toString()}.</p>
+     *
+     * @param maxLength  the new maximum length, 0 or less for no limit
+     * @since 3.13.0
+     */
+    protected void setMaxLength(final int maxLength) {
+        this.maxLength = Math.max(maxLength, 0);
+    }
+
+    /**
+     * Gets the text to output in place of the fields or items left out
+     * once the maximum length is reached.
+     *
+     * @return the current truncated text
+     * @since 3.13.0
+     */
+    protected String getTruncatedText() {
+        return truncatedText;
+    }
+
+    /**
+     * Sets the text to output in place of the fields or items left out
+     * once the maximum length is reached.
+     *
+     * <p>{@code null} is accepted, but will be converted to
+     * an empty String.</p>
+     *
+     * @param truncatedText  the new truncated text
+     * @since 3.13.0
+     */
+    protected void setTruncatedText(String truncatedText) {
+        if (truncatedText == null) {
+            truncatedText = StringUtils.EMPTY;
+        }
+        this.truncatedText = truncatedText;
+    }
+
     /**
      * Default {@link ToStringStyle}.
      *
@@ -2237,7 +2538,7 @@ private Object readResolve() {
      * @since 3.4
      * @see <a href="https://www.json.org/">json.org</a>
      */
-    private static final class JsonToStringStyle extends ToStringStyle {
+    static class JsonToStringStyle extends ToStringStyle {
 
         private static final long serialVersionUID = 1L;
 
@@ -2434,7 +2735,11 @@ public void append(final StringBuffer buffer, final String fieldName, final Obje
 
         @Override
         protected void appendDetail(final StringBuffer buffer, final String fieldName, final char value) {
-            appendValueAsString(buffer, String.valueOf(value));
+            if (isUnescaped(value)) {
+                buffer.append('"').append(value).append('"');
+            } else {
+                appendValueAsString(buffer, String.valueOf(value));
+            }
         }
 
         @Override
@@ -2527,7 +2832,38 @@ private boolean isJsonObject(final String valueAsString) {
          * @param value the value to append.
          */
         private void appendValueAsString(final StringBuffer buffer, final String value) {
-            buffer.append('"').append(StringEscapeUtils.escapeJson(value)).append('"');
+            buffer.append('"');
+            appendEscaped(buffer, value);
+            buffer.append('"');
+        }
+
+        /**
+         * Appends the given String escaped as by {@link StringEscapeUtils#escapeJson(String)}, copying it as is
+         * when it has nothing to escape, which is the rule for field names and most values.
+         *
+         * @param buffer the StringBuffer to append the value to.
+         * @param value the value to append.
+         */
+        private static void appendEscaped(final StringBuffer buffer, final String value) {
+            final int length = value.length();
+            for (int i = 0; i < length; i++) {
+                if (!isUnescaped(value.charAt(i))) {
+                    buffer.append(value, 0, i);
+                    buffer.append(StringEscapeUtils.escapeJson(value.substring(i)));
+                    return;
+                }
+            }
+            buffer.append(value);
+        }
+
+        /**
+         * Tests whether {@link StringEscapeUtils#escapeJson(String)} leaves a character as is.
+         *
+         * @param ch the character to test.
+         * @return whether the character is printable ASCII, other than a quote, a backslash or a slash.
+         */
+        private static boolean isUnescaped(final char ch) {
+            return ch >= 32 && ch <= 0x7f && ch != '"' && ch != '\\' && ch != '/';
         }
 
         @Override
@@ -2538,8 +2874,12 @@ protected void appendFieldStart(final StringBuffer buffer, final String fieldNam
                         "Field names are mandatory when using JsonToStringStyle");
             }
 
-            super.appendFieldStart(buffer, FIELD_NAME_QUOTE + StringEscapeUtils.escapeJson(fieldName)
-                    + FIELD_NAME_QUOTE);
+            if (isUseFieldNames()) {
+                buffer.append(FIELD_NAME_QUOTE);
+                appendEscaped(buffer, fieldName);
+                buffer.append(FIELD_NAME_QUOTE);
+                buffer.append(getFieldNameValueSeparator());
+            }
         }
 
         /**
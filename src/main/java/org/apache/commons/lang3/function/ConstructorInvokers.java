@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
+
+/**
+ * Converts {@link Constructor} objects to lambdas, as {@link MethodInvokers} does for methods.
+ * <p>
+ * The lambdas call the constructors without the argument arrays and the checks of
+ * {@link Constructor#newInstance(Object...)}. Where possible they are generated by the {@link LambdaMetafactory}, as
+ * a constructor reference would be, which requires the constructor to be public, in a public class visible from this
+ * library, and to declare no checked exceptions; for other constructors, they invoke a method handle. They are
+ * created once per constructor and cached, so that code creating objects for many records can get them again
+ * cheaply.
+ * </p>
+ * <p>
+ * Runtime exceptions and errors thrown by a constructor are thrown unchanged by the lambdas. Checked exceptions,
+ * which their methods do not declare, are wrapped as {@link Failable#rethrow(Throwable)} does, an
+ * {@link java.io.IOException} in an {@link java.io.UncheckedIOException} and others in an
+ * {@link java.lang.reflect.UndeclaredThrowableException}.
+ * </p>
+ * <p>
+ * For example to invoke {@link StringBuilder#StringBuilder(String)}:
+ * </p>
+ *
+ * <pre>
+ * final Constructor&lt;StringBuilder&gt; constructor = StringBuilder.class.getConstructor(String.class);
+ * final Function&lt;String, StringBuilder&gt; function = ConstructorInvokers.asFunction(constructor);
+ * assertEquals("ABC", function.apply("ABC").toString());
+ * </pre>
+ *
+ * @since 3.13.0
+ */
+public final class ConstructorInvokers {
+
+    private static final MemberInvokerCache<Constructor<?>> CACHE = new MemberInvokerCache<>();
+
+    /**
+     * Produces a {@link BiFunction} calling a constructor with two parameters.
+     *
+     * @param <T> the type of the first argument to the function: The type of the first constructor parameter.
+     * @param <U> the type of the second argument to the function: The type of the second constructor parameter.
+     * @param <R> the type of the result of the function: The type constructed.
+     * @param constructor the constructor to invoke.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws NullPointerException if the constructor is {@code null}.
+     * @throws IllegalArgumentException if the constructor does not take two parameters.
+     * @throws UncheckedIllegalAccessException if the constructor is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U, R> BiFunction<T, U, R> asBiFunction(final Constructor<R> constructor) {
+        return (BiFunction<T, U, R>) CACHE.get(requireParameterCount(constructor, 2),
+            c -> create(c, BiFunction.class, "apply", handle -> (BiFunction<Object, Object, Object>) (t, u) -> {
+                try {
+                    return handle.invokeExact(t, u);
+                } catch (final Throwable e) {
+                    throw Failable.rethrow(e);
+                }
+            }));
+    }
+
+    /**
+     * Produces a {@link Function} calling a constructor with one parameter.
+     *
+     * @param <T> the type of the argument to the function: The type of the constructor parameter.
+     * @param <R> the type of the result of the function: The type constructed.
+     * @param constructor the constructor to invoke.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws NullPointerException if the constructor is {@code null}.
+     * @throws IllegalArgumentException if the constructor does not take one parameter.
+     * @throws UncheckedIllegalAccessException if the constructor is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> asFunction(final Constructor<R> constructor) {
+        return (Function<T, R>) CACHE.get(requireParameterCount(constructor, 1),
+            c -> create(c, Function.class, "apply", handle -> (Function<Object, Object>) t -> {
+                try {
+                    return handle.invokeExact(t);
+                } catch (final Throwable e) {
+                    throw Failable.rethrow(e);
+                }
+            }));
+    }
+
+    /**
+     * Produces a {@link Supplier} calling a constructor without parameters.
+     *
+     * @param <R> the type of results supplied by this supplier: The type constructed.
+     * @param constructor the constructor to invoke.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws NullPointerException if the constructor is {@code null}.
+     * @throws IllegalArgumentException if the constructor takes parameters.
+     * @throws UncheckedIllegalAccessException if the constructor is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> Supplier<R> asSupplier(final Constructor<R> constructor) {
+        return (Supplier<R>) CACHE.get(requireParameterCount(constructor, 0),
+            c -> create(c, Supplier.class, "get", handle -> (Supplier<Object>) () -> {
+                try {
+                    return handle.invokeExact();
+                } catch (final Throwable e) {
+                    throw Failable.rethrow(e);
+                }
+            }));
+    }
+
+    /**
+     * Creates a lambda calling a constructor.
+     *
+     * @param constructor the constructor.
+     * @param interfaceClass the functional interface.
+     * @param methodName the name of the interface method.
+     * @param fallback creates the lambda from a method handle with generic types, for constructors that the
+     *        {@link LambdaMetafactory} cannot call.
+     * @return the lambda.
+     */
+    private static Object create(final Constructor<?> constructor, final Class<?> interfaceClass,
+        final String methodName, final Function<MethodHandle, Object> fallback) {
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        final MethodHandle handle;
+        try {
+            handle = lookup.unreflectConstructor(constructor);
+        } catch (final IllegalAccessException e) {
+            throw new UncheckedIllegalAccessException(e);
+        }
+        // a generated lambda would throw checked exceptions unchanged
+        final Class<?> declaringClass = constructor.getDeclaringClass();
+        if (Modifier.isPublic(constructor.getModifiers()) && Modifier.isPublic(declaringClass.getModifiers())
+            && !declaresCheckedExceptions(constructor) && isVisible(declaringClass)
+            && isVisible(constructor.getParameterTypes())) {
+            try {
+                final MethodType instantiatedType = MethodType.methodType(declaringClass,
+                    ClassUtils.primitivesToWrappers(constructor.getParameterTypes()));
+                return LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(interfaceClass),
+                    instantiatedType.generic(), handle, instantiatedType).getTarget().invoke();
+            } catch (final LambdaConversionException e) {
+                // not accessible to generated classes, for example a public constructor of a class nested in a class
+                // that is not public
+            } catch (final Throwable e) {
+                throw Failable.rethrow(e);
+            }
+        }
+        return fallback.apply(handle.asType(handle.type().generic()));
+    }
+
+    private static boolean declaresCheckedExceptions(final Constructor<?> constructor) {
+        for (final Class<?> exceptionType : constructor.getExceptionTypes()) {
+            if (!RuntimeException.class.isAssignableFrom(exceptionType)
+                && !Error.class.isAssignableFrom(exceptionType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tests whether types can be linked from a class generated in this library, which is the case if this library's
+     * class loader loads the same class for its name.
+     */
+    private static boolean isVisible(final Class<?>... types) {
+        for (final Class<?> type : types) {
+            if (!isVisible(type)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isVisible(final Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        try {
+            return Class.forName(type.getName(), false, ConstructorInvokers.class.getClassLoader()) == type;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static <C extends Constructor<?>> C requireParameterCount(final C constructor, final int parameterCount) {
+        if (Objects.requireNonNull(constructor, "constructor").getParameterCount() != parameterCount) {
+            throw new IllegalArgumentException(
+                String.format("%s does not take %d parameters", constructor, parameterCount));
+        }
+        return constructor;
+    }
+
+    private ConstructorInvokers() {
+        // noop
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
+
+/**
+ * Converts {@link Field} objects to lambdas reading and writing them, as {@link MethodInvokers} does for methods.
+ * <p>
+ * The lambdas access the fields through method handles, without the access checks that {@link Field#get(Object)} and
+ * {@link Field#set(Object, Object)} make on each call. The {@link java.lang.invoke.LambdaMetafactory} only links
+ * methods and constructors, so the method handles are not inlined into generated classes as they are by
+ * {@link ConstructorInvokers}. The lambdas are created once per field and cached, so that code mapping many records can
+ * get them again cheaply. An object that is not an instance of the declaring class causes a
+ * {@link ClassCastException}.
+ * </p>
+ * <p>
+ * Static fields are supported: the object passed to the lambdas is then ignored.
+ * </p>
+ * <p>
+ * For example to read a field {@code name}:
+ * </p>
+ *
+ * <pre>
+ * final Field field = Person.class.getField("name");
+ * final Function&lt;Person, String&gt; getter = FieldInvokers.asGetter(field);
+ * assertEquals("ABC", getter.apply(person));
+ * </pre>
+ *
+ * @since 3.13.0
+ */
+public final class FieldInvokers {
+
+    private static final MemberInvokerCache<Field> GETTERS = new MemberInvokerCache<>();
+
+    private static final MemberInvokerCache<Field> SETTERS = new MemberInvokerCache<>();
+
+    /**
+     * Produces a {@link Function} reading a field. You call the Function with the object declaring the field.
+     *
+     * @param <T> the type of the argument to the function: The type declaring the field.
+     * @param <R> the type of the result of the function: The type of the field, or its wrapper type.
+     * @param field the field to read.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws NullPointerException if the field is {@code null}.
+     * @throws UncheckedIllegalAccessException if the field is not accessible.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> Function<T, R> asGetter(final Field field) {
+        return (Function<T, R>) GETTERS.get(field, f -> {
+            final MethodHandle getter;
+            try {
+                getter = toGeneric(MethodHandles.lookup().unreflectGetter(f), f, 1);
+            } catch (final IllegalAccessException e) {
+                throw new UncheckedIllegalAccessException(e);
+            }
+            return (Function<Object, Object>) object -> {
+                try {
+                    return getter.invokeExact(object);
+                } catch (final Throwable e) {
+                    return ExceptionUtils.rethrow(e);
+                }
+            };
+        });
+    }
+
+    /**
+     * Produces a {@link BiConsumer} writing a field. You call the BiConsumer with two arguments: (1) the object declaring
+     * the field, and (2) the value to write.
+     *
+     * @param <T> the type of the first argument to the operation: The type declaring the field.
+     * @param <U> the type of the second argument to the operation: The type of the field, or its wrapper type.
+     * @param field the field to write.
+     * @return a correctly-typed wrapper for the given target.
+     * @throws NullPointerException if the field is {@code null}.
+     * @throws UncheckedIllegalAccessException if the field is not accessible, or is final.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, U> BiConsumer<T, U> asSetter(final Field field) {
+        return (BiConsumer<T, U>) SETTERS.get(field, f -> {
+            final MethodHandle setter;
+            try {
+                setter = toGeneric(MethodHandles.lookup().unreflectSetter(f), f, 2);
+            } catch (final IllegalAccessException e) {
+                throw new UncheckedIllegalAccessException(e);
+            }
+            return (BiConsumer<Object, Object>) (object, value) -> {
+                try {
+                    setter.invokeExact(object, value);
+                } catch (final Throwable e) {
+                    ExceptionUtils.rethrow(e);
+                }
+            };
+        });
+    }
+
+    /**
+     * Adapts the handle of a field accessor to take the object, even for static fields, and {@link Object}s.
+     */
+    private static MethodHandle toGeneric(MethodHandle handle, final Field field, final int parameterCount) {
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        final MethodType type = MethodType.genericMethodType(parameterCount);
+        return handle.asType(handle.type().returnType() == void.class ? type.changeReturnType(void.class) : type);
+    }
+
+    private FieldInvokers() {
+        // noop
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Member;
+import java.lang.reflect.Modifier;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Caches the lambdas created for members, in a {@link ClassValue} of their declaring class so that they are unloaded
+ * with it.
+ *
+ * <p>
+ * Members are equal when they are the same member of the same class, whatever their accessibility. So that a lambda
+ * created for a member made accessible is not returned for a copy that is not, as a setter of a final field, the
+ * lambdas of accessible members and of public members that are not accessible are cached apart. Lambdas of other
+ * members are created on each call, which fails unless they can be accessed anyway.
+ * </p>
+ *
+ * @param <M> the type of the members.
+ */
+final class MemberInvokerCache<M extends AccessibleObject & Member> {
+
+    /**
+     * Creates the lambdas cache of each declaring class.
+     */
+    private static final class Cache<M> extends ClassValue<ConcurrentMap<M, Object>> {
+        @Override
+        protected ConcurrentMap<M, Object> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
+
+    /** The lambdas of members made accessible. */
+    private final Cache<M> accessible = new Cache<>();
+
+    /** The lambdas of public members of public classes that are not made accessible. */
+    private final Cache<M> inaccessible = new Cache<>();
+
+    /**
+     * Gets the lambda for a member, creating it if needed.
+     *
+     * @param member the member.
+     * @param factory creates the lambda for the member.
+     * @return the lambda.
+     */
+    Object get(final M member, final Function<? super M, ?> factory) {
+        Objects.requireNonNull(member, "member");
+        final Cache<M> cache;
+        if (isAccessible(member)) {
+            cache = accessible;
+        } else if (Modifier.isPublic(member.getModifiers())
+            && Modifier.isPublic(member.getDeclaringClass().getModifiers())) {
+            cache = inaccessible;
+        } else {
+            return factory.apply(member);
+        }
+        return cache.get(member.getDeclaringClass()).computeIfAbsent(member, factory);
+    }
+
+    /**
+     * Tests whether a member was made accessible, which its lambdas may rely on.
+     */
+    @SuppressWarnings("deprecation") // canAccess(Object), which replaces isAccessible() in Java 9, is not in Java 8
+    private static boolean isAccessible(final AccessibleObject member) {
+        return member.isAccessible();
+    }
+}
@@ -0,0 +1,441 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.math;
+
+import java.math.BigInteger;
+
+/**
+ * Parses numbers from regions of {@link CharSequence}s for {@link NumberUtils}, without creating Strings or throwing
+ * exceptions for the common inputs.
+ *
+ * <p>
+ * Integers are parsed as {@link Long#parseLong(String)} parses them. Decimal numbers are rounded from their first 19
+ * significant digits: with a single multiplication or division by a power of ten when both operands are exact doubles,
+ * otherwise with the Eisel-Lemire algorithm. The JDK parses the rare numbers whose truncated digits, or whose product
+ * with a truncated power of five, leave the rounding undecided, and the special and hexadecimal forms.
+ * </p>
+ */
+final class NumberParser {
+
+    /**
+     * The 128 most significant bits of the powers of five from 5^-342 to 5^308, truncated, for the Eisel-Lemire
+     * algorithm. The negative powers are the reciprocals rounded up. The holder defers their computation until a number
+     * needs them.
+     */
+    private static final class PowersOfFive {
+
+        static final int MIN_EXPONENT = -342;
+        static final int MAX_EXPONENT = 308;
+
+        /** The high then low 64 bits of each power. */
+        static final long[] TABLE = new long[(MAX_EXPONENT - MIN_EXPONENT + 1) * 2];
+
+        static {
+            final BigInteger five = BigInteger.valueOf(5);
+            for (int q = MIN_EXPONENT; q <= MAX_EXPONENT; q++) {
+                final BigInteger power = five.pow(Math.abs(q));
+                BigInteger bits;
+                if (q < 0) {
+                    // 5^-q is not a power of two, so its bit length z is the smallest z with 5^-q < 2^z
+                    final int z = power.bitLength();
+                    bits = BigInteger.ONE.shiftLeft(q >= -27 ? z + 127 : 2 * z + 128).divide(power).add(BigInteger.ONE);
+                } else {
+                    bits = power;
+                }
+                bits = bits.bitLength() > 128 ? bits.shiftRight(bits.bitLength() - 128) : bits.shiftLeft(128 - bits.bitLength());
+                TABLE[(q - MIN_EXPONENT) * 2] = bits.shiftRight(64).longValue();
+                TABLE[(q - MIN_EXPONENT) * 2 + 1] = bits.longValue();
+            }
+        }
+    }
+
+    /** The result of {@link #parseBits(CharSequence, int, int, boolean)} for regions that are not numbers. */
+    static final long INVALID = -1L;
+
+    private static final long DOUBLE_SIGN = Long.MIN_VALUE;
+    private static final long FLOAT_SIGN = 1L << 31;
+
+    /** The number of significant digits that an unsigned long always holds. */
+    private static final int MAX_DIGITS = 19;
+
+    /** The powers of ten that are exact doubles. */
+    private static final double[] DOUBLE_POWERS_OF_10 = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    /** The powers of ten that are exact floats. */
+    private static final float[] FLOAT_POWERS_OF_10 = {1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
+    /** The largest exponent kept while scanning; larger exponents overflow or underflow anyway. */
+    private static final int MAX_EXPONENT = 100_000;
+
+    /**
+     * Creates the Integer, Long or BigInteger of a decimal integer, as {@link NumberUtils#createNumber(String)} does
+     * after trying each type in turn.
+     *
+     * @param str the String, not empty.
+     * @return the number, or null if {@code str} is not made of an optional sign and ASCII digits without leading
+     *         zeros, which are octal numbers.
+     */
+    static Number createDecimalInteger(final String str) {
+        final int length = str.length();
+        final char first = str.charAt(0);
+        final boolean negative = first == '-';
+        final int start = negative || first == '+' ? 1 : 0;
+        if (start == length || str.charAt(start) == '0' && length > start + 1) {
+            return null;
+        }
+        for (int i = start; i < length; i++) {
+            final char c = str.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        // accumulates negatively, as the JDK does, so that Long.MIN_VALUE does not overflow
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (int i = start; i < length; i++) {
+            final int digit = str.charAt(i) - '0';
+            if (value < limit / 10 || value * 10 < limit + digit) {
+                return NumberUtils.createBigInteger(str);
+            }
+            value = value * 10 - digit;
+        }
+        if (!negative) {
+            value = -value;
+        }
+        if (value >= Integer.MIN_VALUE && value <= Integer.MAX_VALUE) {
+            return Integer.valueOf((int) value);
+        }
+        return Long.valueOf(value);
+    }
+
+    private static int digit(final char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        // the JDK accepts the decimal digits of all scripts
+        return c < 128 ? -1 : Character.digit(c, 10);
+    }
+
+    /**
+     * Parses a double or a float, as {@link Double#parseDouble(String)} or {@link Float#parseFloat(String)} do.
+     *
+     * @param cs the CharSequence.
+     * @param start the index of the first char.
+     * @param end the index after the last char.
+     * @param single whether to parse a float.
+     * @param defaultValue the value returned if the region is not a number.
+     * @return the number.
+     */
+    static double parseDouble(final CharSequence cs, final int start, final int end, final boolean single, final double defaultValue) {
+        final long bits = parseBits(cs, start, end, single);
+        if (bits == INVALID) {
+            return defaultValue;
+        }
+        return single ? Float.intBitsToFloat((int) bits) : Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Parses the bits of a double or a float.
+     *
+     * @param cs the CharSequence.
+     * @param start the index of the first char.
+     * @param end the index after the last char.
+     * @param single whether to parse a float.
+     * @return the bits of the double, or of the float in the low 32 bits, or {@link #INVALID}.
+     */
+    static long parseBits(final CharSequence cs, final int start, final int end, final boolean single) {
+        if (start == end) {
+            return INVALID;
+        }
+        int i = start;
+        char c = cs.charAt(i);
+        final boolean negative = c == '-';
+        if (negative || c == '+') {
+            i++;
+        }
+        // the first 19 significant digits, as an unsigned long, and whether non-zero digits follow them
+        long significand = 0;
+        int significantDigits = 0;
+        boolean truncated = false;
+        int digits = 0;
+        int exponent = 0;
+        boolean point = false;
+        for (; i < end; i++) {
+            c = cs.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (significantDigits < MAX_DIGITS) {
+                    if (significand != 0 || c != '0') {
+                        significand = significand * 10 + c - '0';
+                        significantDigits++;
+                    }
+                    if (point) {
+                        exponent--;
+                    }
+                } else {
+                    truncated |= c != '0';
+                    if (!point) {
+                        exponent++;
+                    }
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (digits == 0) {
+            return parseOther(cs, start, end, i, single);
+        }
+        if (i < end && (c == 'e' || c == 'E')) {
+            i++;
+            final boolean negativeExponent = i < end && cs.charAt(i) == '-';
+            if (negativeExponent || i < end && cs.charAt(i) == '+') {
+                i++;
+            }
+            final int exponentStart = i;
+            int value = 0;
+            for (; i < end && (c = cs.charAt(i)) >= '0' && c <= '9'; i++) {
+                value = Math.min(value * 10 + c - '0', MAX_EXPONENT);
+            }
+            if (i == exponentStart) {
+                return parseOther(cs, start, end, i, single);
+            }
+            exponent += negativeExponent ? -value : value;
+        }
+        if (i < end && ((c = cs.charAt(i)) == 'd' || c == 'D' || c == 'f' || c == 'F')) {
+            i++;
+        }
+        if (i < end) {
+            return parseOther(cs, start, end, i, single);
+        }
+        final long sign = negative ? single ? FLOAT_SIGN : DOUBLE_SIGN : 0;
+        if (significand == 0) {
+            return sign;
+        }
+        if (!truncated) {
+            // Clinger's fast path: both operands are exact, so the single operation is correctly rounded
+            if (single) {
+                if (significand >= 0 && significand <= 1 << 24 && Math.abs(exponent) < FLOAT_POWERS_OF_10.length) {
+                    final float value = exponent < 0 ? significand / FLOAT_POWERS_OF_10[-exponent] : significand * FLOAT_POWERS_OF_10[exponent];
+                    return sign | Float.floatToRawIntBits(value);
+                }
+            } else if (significand >= 0 && significand <= 1L << 53 && Math.abs(exponent) < DOUBLE_POWERS_OF_10.length) {
+                final double value = exponent < 0 ? significand / DOUBLE_POWERS_OF_10[-exponent] : significand * DOUBLE_POWERS_OF_10[exponent];
+                return sign | Double.doubleToRawLongBits(value);
+            }
+        }
+        final long bits = eiselLemire(significand, exponent, single);
+        // the truncated digits are between 0 and 1 unit of the last digit kept: both bounds must round alike
+        if (bits != INVALID && (!truncated || bits == eiselLemire(significand + 1, exponent, single))) {
+            return sign | bits;
+        }
+        return parseJdk(cs, start, end, single);
+    }
+
+    /**
+     * Computes the bits of a positive decimal rounded to the nearest double or float, ties to even, with the algorithm
+     * of Daniel Lemire, "Number Parsing at a Gigabyte per Second", Software: Practice and Experience 51 (8), 2021.
+     *
+     * @param significand the significand, as an unsigned long, not zero.
+     * @param exponent the decimal exponent.
+     * @param single whether to compute a float.
+     * @return the bits, or {@link #INVALID} if the product of the significand with the truncated power of five is not
+     *         precise enough to round.
+     */
+    private static long eiselLemire(final long significand, final int exponent, final boolean single) {
+        final int mantissaBits = single ? 23 : 52;
+        final int infinity = single ? 0xff : 0x7ff;
+        if (exponent < (single ? -65 : -342)) {
+            return 0;
+        }
+        if (exponent > (single ? 38 : 308)) {
+            return (long) infinity << mantissaBits;
+        }
+        final int leadingZeros = Long.numberOfLeadingZeros(significand);
+        final long normalized = significand << leadingZeros;
+        final int index = (exponent - PowersOfFive.MIN_EXPONENT) * 2;
+        long high = unsignedMultiplyHigh(normalized, PowersOfFive.TABLE[index]);
+        long low = normalized * PowersOfFive.TABLE[index];
+        // the bits below the mantissa and the rounding bits are all ones: add the lower half of the power of five
+        final long precisionMask = -1L >>> mantissaBits + 3;
+        if ((high & precisionMask) == precisionMask) {
+            final long carry = unsignedMultiplyHigh(normalized, PowersOfFive.TABLE[index + 1]);
+            low += carry;
+            if (Long.compareUnsigned(carry, low) > 0) {
+                high++;
+            }
+        }
+        if (low == -1L && (exponent < -27 || exponent > 55)) {
+            // the remaining error may carry into the rounding bits
+            return INVALID;
+        }
+        final int upperBit = (int) (high >>> 63);
+        final int shift = upperBit + 64 - mantissaBits - 3;
+        long mantissa = high >>> shift;
+        // floor(exponent * log2(10)) + 63, plus the bias
+        int power2 = ((152_170 + 65_536) * exponent >> 16) + 63 + upperBit - leadingZeros + (single ? 127 : 1023);
+        if (power2 <= 0) {
+            // subnormal, or normal only once rounded
+            if (-power2 + 1 >= 64) {
+                return 0;
+            }
+            mantissa >>>= -power2 + 1;
+            mantissa += mantissa & 1;
+            mantissa >>>= 1;
+            power2 = mantissa < 1L << mantissaBits ? 0 : 1;
+            return (long) power2 << mantissaBits | mantissa;
+        }
+        if (Long.compareUnsigned(low, 1) <= 0 && exponent >= (single ? -17 : -4) && exponent <= (single ? 10 : 23)
+            && (mantissa & 3) == 1 && mantissa << shift == high) {
+            // exactly halfway: round down to even instead of up
+            mantissa &= ~1L;
+        }
+        mantissa += mantissa & 1;
+        mantissa >>>= 1;
+        if (mantissa >= 2L << mantissaBits) {
+            mantissa = 1L << mantissaBits;
+            power2++;
+        }
+        mantissa &= ~(1L << mantissaBits);
+        if (power2 >= infinity) {
+            return (long) infinity << mantissaBits;
+        }
+        return (long) power2 << mantissaBits | mantissa;
+    }
+
+    /**
+     * Parses an int, as {@link Integer#parseInt(String)} does.
+     *
+     * @param cs the CharSequence.
+     * @param start the index of the first char.
+     * @param end the index after the last char.
+     * @param defaultValue the value returned if the region is not an int.
+     * @return the int.
+     */
+    static int parseInt(final CharSequence cs, final int start, final int end, final int defaultValue) {
+        if (start == end) {
+            return defaultValue;
+        }
+        int i = start;
+        final char first = cs.charAt(i);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            return defaultValue;
+        }
+        // accumulates negatively, as the JDK does, so that Integer.MIN_VALUE does not overflow
+        final int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int value = 0;
+        for (; i < end; i++) {
+            final int digit = digit(cs.charAt(i));
+            if (digit < 0 || value < limit / 10 || value * 10 < limit + digit) {
+                return defaultValue;
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    /**
+     * Parses a long, as {@link Long#parseLong(String)} does.
+     *
+     * @param cs the CharSequence.
+     * @param start the index of the first char.
+     * @param end the index after the last char.
+     * @param defaultValue the value returned if the region is not a long.
+     * @return the long.
+     */
+    static long parseLong(final CharSequence cs, final int start, final int end, final long defaultValue) {
+        if (start == end) {
+            return defaultValue;
+        }
+        int i = start;
+        final char first = cs.charAt(i);
+        final boolean negative = first == '-';
+        if ((negative || first == '+') && ++i == end) {
+            return defaultValue;
+        }
+        // accumulates negatively, as the JDK does, so that Long.MIN_VALUE does not overflow
+        final long limit = negative ? Long.MIN_VALUE : -Long.MAX_VALUE;
+        long value = 0;
+        for (; i < end; i++) {
+            final int digit = digit(cs.charAt(i));
+            if (digit < 0 || value < limit / 10 || value * 10 < limit + digit) {
+                return defaultValue;
+            }
+            value = value * 10 - digit;
+        }
+        return negative ? value : -value;
+    }
+
+    private static long parseJdk(final CharSequence cs, final int start, final int end, final boolean single) {
+        final String str = cs.subSequence(start, end).toString();
+        try {
+            return single ? Float.floatToRawIntBits(Float.parseFloat(str)) & 0xffff_ffffL : Double.doubleToRawLongBits(Double.parseDouble(str));
+        } catch (final NumberFormatException e) {
+            return INVALID;
+        }
+    }
+
+    /**
+     * Parses the regions that are not plain decimal numbers: only those the JDK may accept, with surrounding
+     * whitespace, NaN, Infinity or hexadecimal digits, are handed to it.
+     */
+    private static long parseOther(final CharSequence cs, final int start, final int end, final int stop, final boolean single) {
+        final char c = stop < end ? cs.charAt(stop) : cs.charAt(end - 1);
+        if (c <= ' ' || c == 'x' || c == 'X' || cs.charAt(start) <= ' '
+            || c == 'N' && regionMatches(cs, stop, end, "NaN") || c == 'I' && regionMatches(cs, stop, end, "Infinity")) {
+            return parseJdk(cs, start, end, single);
+        }
+        return INVALID;
+    }
+
+    private static boolean regionMatches(final CharSequence cs, final int start, final int end, final String str) {
+        if (end - start < str.length()) {
+            return false;
+        }
+        for (int i = 0; i < str.length(); i++) {
+            if (cs.charAt(start + i) != str.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Computes the high 64 bits of the unsigned product of two longs, as {@code Math.unsignedMultiplyHigh} does on Java
+     * 18.
+     *
+     * @param x the first factor, unsigned.
+     * @param y the second factor, unsigned.
+     * @return the high 64 bits of the 128 bit product.
+     */
+    static long unsignedMultiplyHigh(final long x, final long y) {
+        final long x0 = x & 0xffff_ffffL;
+        final long x1 = x >>> 32;
+        final long y0 = y & 0xffff_ffffL;
+        final long y1 = y >>> 32;
+        final long middle = (x0 * y0 >>> 32) + (x1 * y0 & 0xffff_ffffL) + x0 * y1;
+        return x1 * y1 + (x1 * y0 >>> 32) + (middle >>> 32);
+    }
+
+    private NumberParser() {
+        // no instances
+    }
+}
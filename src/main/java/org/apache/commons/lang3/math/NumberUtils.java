@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.math;
 
+import java.io.IOException;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -85,6 +86,8 @@ public class NumberUtils {
      */
     public static final Long LONG_INT_MIN_VALUE = Long.valueOf(Integer.MIN_VALUE);
 
+    /** The prefixes of hexadecimal numbers, after the sign. */
+    private static final String[] HEX_PREFIXES = {"0x", "0X", "#"};
 
     /**
      * {@link NumberUtils} instances should NOT be constructed in standard programming.
@@ -135,14 +138,40 @@ public static int toInt(final String str) {
      * @since 2.1
      */
     public static int toInt(final String str, final int defaultValue) {
-        if (str == null) {
-            return defaultValue;
-        }
-        try {
-            return Integer.parseInt(str);
-        } catch (final NumberFormatException nfe) {
+        return str == null ? defaultValue : NumberParser.parseInt(str, 0, str.length(), defaultValue);
+    }
+
+    /**
+     * Convert a region of a {@link CharSequence} to an {@code int}, returning a
+     * default value if the conversion fails.
+     *
+     * <p>The region is converted as {@link #toInt(String, int)} converts a String,
+     * without creating Strings or throwing exceptions, for example to read the
+     * fields of a line in place.</p>
+     *
+     * <p>If the CharSequence is {@code null}, the default value is returned.</p>
+     *
+     * <pre>
+     *   NumberUtils.toInt(null, 0, 0, 1)     = 1
+     *   NumberUtils.toInt("a,12,b", 2, 4, 0) = 12
+     *   NumberUtils.toInt("a,1x,b", 2, 4, 0) = 0
+     * </pre>
+     *
+     * @param cs  the CharSequence to convert, may be null
+     * @param start  the index of the first char of the region
+     * @param end  the index after the last char of the region
+     * @param defaultValue  the default value
+     * @return the int represented by the region, or the default if conversion fails
+     * @throws IndexOutOfBoundsException if {@code start} is negative, {@code start}
+     *  is greater than {@code end} or {@code end} is greater than {@code cs.length()}
+     * @since 3.13.0
+     */
+    public static int toInt(final CharSequence cs, final int start, final int end, final int defaultValue) {
+        if (cs == null) {
             return defaultValue;
         }
+        validateRegion(cs, start, end);
+        return NumberParser.parseInt(cs, start, end, defaultValue);
     }
 
     /**
@@ -184,14 +213,40 @@ public static long toLong(final String str) {
      * @since 2.1
      */
     public static long toLong(final String str, final long defaultValue) {
-        if (str == null) {
-            return defaultValue;
-        }
-        try {
-            return Long.parseLong(str);
-        } catch (final NumberFormatException nfe) {
+        return str == null ? defaultValue : NumberParser.parseLong(str, 0, str.length(), defaultValue);
+    }
+
+    /**
+     * Convert a region of a {@link CharSequence} to a {@code long}, returning a
+     * default value if the conversion fails.
+     *
+     * <p>The region is converted as {@link #toLong(String, long)} converts a String,
+     * without creating Strings or throwing exceptions, for example to read the
+     * fields of a line in place.</p>
+     *
+     * <p>If the CharSequence is {@code null}, the default value is returned.</p>
+     *
+     * <pre>
+     *   NumberUtils.toLong(null, 0, 0, 1L)     = 1L
+     *   NumberUtils.toLong("a,12,b", 2, 4, 0L) = 12L
+     *   NumberUtils.toLong("a,1x,b", 2, 4, 0L) = 0L
+     * </pre>
+     *
+     * @param cs  the CharSequence to convert, may be null
+     * @param start  the index of the first char of the region
+     * @param end  the index after the last char of the region
+     * @param defaultValue  the default value
+     * @return the long represented by the region, or the default if conversion fails
+     * @throws IndexOutOfBoundsException if {@code start} is negative, {@code start}
+     *  is greater than {@code end} or {@code end} is greater than {@code cs.length()}
+     * @since 3.13.0
+     */
+    public static long toLong(final CharSequence cs, final int start, final int end, final long defaultValue) {
+        if (cs == null) {
             return defaultValue;
         }
+        validateRegion(cs, start, end);
+        return NumberParser.parseLong(cs, start, end, defaultValue);
     }
 
     /**
@@ -236,14 +291,41 @@ public static float toFloat(final String str) {
      * @since 2.1
      */
     public static float toFloat(final String str, final float defaultValue) {
-      if (str == null) {
-          return defaultValue;
-      }
-      try {
-          return Float.parseFloat(str);
-      } catch (final NumberFormatException nfe) {
-          return defaultValue;
-      }
+        return str == null ? defaultValue : (float) NumberParser.parseDouble(str, 0, str.length(), true, defaultValue);
+    }
+
+    /**
+     * Convert a region of a {@link CharSequence} to a {@code float}, returning a
+     * default value if the conversion fails.
+     *
+     * <p>The region is converted as {@link #toFloat(String, float)} converts a String,
+     * without creating Strings or throwing exceptions for plain decimal numbers, for
+     * example to read the fields of a line in place.</p>
+     *
+     * <p>If the CharSequence is {@code null}, the default value is returned.</p>
+     *
+     * <pre>
+     *   NumberUtils.toFloat(null, 0, 0, 1.1f)      = 1.1f
+     *   NumberUtils.toFloat("a,1.5,b", 2, 5, 0.0f) = 1.5f
+     *   NumberUtils.toFloat("a,1.x,b", 2, 5, 0.0f) = 0.0f
+     * </pre>
+     *
+     * @param cs the CharSequence to convert, may be {@code null}
+     * @param start the index of the first char of the region
+     * @param end the index after the last char of the region
+     * @param defaultValue the default value
+     * @return the float represented by the region, or defaultValue
+     *  if conversion fails
+     * @throws IndexOutOfBoundsException if {@code start} is negative, {@code start}
+     *  is greater than {@code end} or {@code end} is greater than {@code cs.length()}
+     * @since 3.13.0
+     */
+    public static float toFloat(final CharSequence cs, final int start, final int end, final float defaultValue) {
+        if (cs == null) {
+            return defaultValue;
+        }
+        validateRegion(cs, start, end);
+        return (float) NumberParser.parseDouble(cs, start, end, true, defaultValue);
     }
 
     /**
@@ -288,14 +370,96 @@ public static double toDouble(final String str) {
      * @since 2.1
      */
     public static double toDouble(final String str, final double defaultValue) {
-      if (str == null) {
-          return defaultValue;
-      }
-      try {
-          return Double.parseDouble(str);
-      } catch (final NumberFormatException nfe) {
-          return defaultValue;
-      }
+        return str == null ? defaultValue : NumberParser.parseDouble(str, 0, str.length(), false, defaultValue);
+    }
+
+    /**
+     * Convert a region of a {@link CharSequence} to a {@code double}, returning a
+     * default value if the conversion fails.
+     *
+     * <p>The region is converted as {@link #toDouble(String, double)} converts a String,
+     * without creating Strings or throwing exceptions for plain decimal numbers, for
+     * example to read the fields of a line in place.</p>
+     *
+     * <p>If the CharSequence is {@code null}, the default value is returned.</p>
+     *
+     * <pre>
+     *   NumberUtils.toDouble(null, 0, 0, 1.1d)      = 1.1d
+     *   NumberUtils.toDouble("a,1.5,b", 2, 5, 0.0d) = 1.5d
+     *   NumberUtils.toDouble("a,1.x,b", 2, 5, 0.0d) = 0.0d
+     * </pre>
+     *
+     * @param cs the CharSequence to convert, may be {@code null}
+     * @param start the index of the first char of the region
+     * @param end the index after the last char of the region
+     * @param defaultValue the default value
+     * @return the double represented by the region, or defaultValue
+     *  if conversion fails
+     * @throws IndexOutOfBoundsException if {@code start} is negative, {@code start}
+     *  is greater than {@code end} or {@code end} is greater than {@code cs.length()}
+     * @since 3.13.0
+     */
+    public static double toDouble(final CharSequence cs, final int start, final int end, final double defaultValue) {
+        if (cs == null) {
+            return defaultValue;
+        }
+        validateRegion(cs, start, end);
+        return NumberParser.parseDouble(cs, start, end, false, defaultValue);
+    }
+
+    /**
+     * Append the shortest decimal of a {@code double} to an {@link Appendable}.
+     *
+     * <p>The decimal is the one that {@link Double#toString(double)} renders since
+     * Java 19, in the same format: the shortest decimal that converts back to the
+     * same double, and the closest of them to its exact value. Earlier Java versions
+     * sometimes render more digits than needed, as {@code 1.9999999999999998E23}
+     * for {@code 2.0E23}. No String is created.</p>
+     *
+     * <pre>
+     *   NumberUtils.append(new StringBuilder(), 1.5d)    = "1.5"
+     *   NumberUtils.append(new StringBuilder(), 2.0E23d) = "2.0E23"
+     *   NumberUtils.append(new StringBuilder(), 1.0E-4d) = "1.0E-4"
+     * </pre>
+     *
+     * @param <A> the type of the Appendable
+     * @param appendable the Appendable to append to, not null
+     * @param value the double to append
+     * @return the given Appendable
+     * @throws IOException if the Appendable throws it
+     * @throws NullPointerException if {@code appendable} is {@code null}
+     * @since 3.13.0
+     */
+    public static <A extends Appendable> A append(final A appendable, final double value) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        NumberWriter.append(appendable, value);
+        return appendable;
+    }
+
+    /**
+     * Append the shortest decimal of a {@code float} to an {@link Appendable}.
+     *
+     * <p>The decimal is the one that {@link Float#toString(float)} renders since
+     * Java 19, in the same format, as {@link #append(Appendable, double)} does for
+     * doubles.</p>
+     *
+     * <pre>
+     *   NumberUtils.append(new StringBuilder(), 1.5f)    = "1.5"
+     *   NumberUtils.append(new StringBuilder(), 1.0E10f) = "1.0E10"
+     * </pre>
+     *
+     * @param <A> the type of the Appendable
+     * @param appendable the Appendable to append to, not null
+     * @param value the float to append
+     * @return the given Appendable
+     * @throws IOException if the Appendable throws it
+     * @throws NullPointerException if {@code appendable} is {@code null}
+     * @since 3.13.0
+     */
+    public static <A extends Appendable> A append(final A appendable, final float value) throws IOException {
+        Objects.requireNonNull(appendable, "appendable");
+        NumberWriter.append(appendable, value);
+        return appendable;
     }
 
     /**
@@ -665,12 +829,15 @@ public static Number createNumber(final String str) {
         if (StringUtils.isBlank(str)) {
             throw new NumberFormatException("A blank string is not a valid number");
         }
-        // Need to deal with all possible hex prefixes here
-        final String[] hexPrefixes = {"0x", "0X", "#"};
+        // Decimal integers, the most common input, are classified in a single pass
+        final Number integer = NumberParser.createDecimalInteger(str);
+        if (integer != null) {
+            return integer;
+        }
         final int length = str.length();
         final int offset = str.charAt(0) == '+' || str.charAt(0) == '-' ? 1 : 0;
         int pfxLen = 0;
-        for (final String pfx : hexPrefixes) {
+        for (final String pfx : HEX_PREFIXES) {
             if (str.startsWith(pfx, offset)) {
                 pfxLen += pfx.length() + offset;
                 break;
@@ -909,7 +1076,9 @@ public static Float createFloat(final String str) {
         if (str == null) {
             return null;
         }
-        return Float.valueOf(str);
+        final long bits = NumberParser.parseBits(str, 0, str.length(), true);
+        // lets the JDK throw the exception for invalid input
+        return bits == NumberParser.INVALID ? Float.valueOf(str) : Float.valueOf(Float.intBitsToFloat((int) bits));
     }
 
     /**
@@ -925,7 +1094,9 @@ public static Double createDouble(final String str) {
         if (str == null) {
             return null;
         }
-        return Double.valueOf(str);
+        final long bits = NumberParser.parseBits(str, 0, str.length(), false);
+        // lets the JDK throw the exception for invalid input
+        return bits == NumberParser.INVALID ? Double.valueOf(str) : Double.valueOf(Double.longBitsToDouble(bits));
     }
 
     /**
@@ -1343,6 +1514,20 @@ private static void validateArray(final Object array) {
         Validate.isTrue(Array.getLength(array) != 0, "Array cannot be empty.");
     }
 
+    /**
+     * Checks if the specified region is within a CharSequence.
+     *
+     * @param cs  the CharSequence, not null
+     * @param start  the index of the first char of the region
+     * @param end  the index after the last char of the region
+     * @throws IndexOutOfBoundsException if the region is not within {@code cs}
+     */
+    private static void validateRegion(final CharSequence cs, final int start, final int end) {
+        if (start < 0 || start > end || end > cs.length()) {
+            throw new IndexOutOfBoundsException("start " + start + ", end " + end + ", length " + cs.length());
+        }
+    }
+
     // 3 param min
     /**
      * Gets the minimum of three {@code long} values.
@@ -1623,35 +1808,34 @@ public static boolean isCreatable(final String str) {
         if (StringUtils.isEmpty(str)) {
             return false;
         }
-        final char[] chars = str.toCharArray();
-        int sz = chars.length;
+        int sz = str.length();
         boolean hasExp = false;
         boolean hasDecPoint = false;
         boolean allowSigns = false;
         boolean foundDigit = false;
         // deal with any possible sign up front
-        final int start = chars[0] == '-' || chars[0] == '+' ? 1 : 0;
-        if (sz > start + 1 && chars[start] == '0' && !StringUtils.contains(str, '.')) { // leading 0, skip if is a decimal number
-            if (chars[start + 1] == 'x' || chars[start + 1] == 'X') { // leading 0x/0X
+        final int start = str.charAt(0) == '-' || str.charAt(0) == '+' ? 1 : 0;
+        if (sz > start + 1 && str.charAt(start) == '0' && !StringUtils.contains(str, '.')) { // leading 0, skip if is a decimal number
+            if (str.charAt(start + 1) == 'x' || str.charAt(start + 1) == 'X') { // leading 0x/0X
                 int i = start + 2;
                 if (i == sz) {
                     return false; // str == "0x"
                 }
                 // checking hex (it can't be anything else)
-                for (; i < chars.length; i++) {
-                    if ((chars[i] < '0' || chars[i] > '9')
-                        && (chars[i] < 'a' || chars[i] > 'f')
-                        && (chars[i] < 'A' || chars[i] > 'F')) {
+                for (; i < str.length(); i++) {
+                    if ((str.charAt(i) < '0' || str.charAt(i) > '9')
+                        && (str.charAt(i) < 'a' || str.charAt(i) > 'f')
+                        && (str.charAt(i) < 'A' || str.charAt(i) > 'F')) {
                         return false;
                     }
                 }
                 return true;
            }
-            if (Character.isDigit(chars[start + 1])) {
+            if (Character.isDigit(str.charAt(start + 1))) {
                    // leading 0, but not hex, must be octal
                    int i = start + 1;
-                   for (; i < chars.length; i++) {
-                       if (chars[i] < '0' || chars[i] > '7') {
+                   for (; i < str.length(); i++) {
+                       if (str.charAt(i) < '0' || str.charAt(i) > '7') {
                            return false;
                        }
                    }
@@ -1662,19 +1846,19 @@ public static boolean isCreatable(final String str) {
               // for type qualifiers
         int i = start;
         // loop to the next to last char or to the last char if we need another digit to
-        // make a valid number (e.g. chars[0..5] = "1234E")
+        // make a valid number (e.g. str.charAt(0..5) = "1234E")
         while (i < sz || i < sz + 1 && allowSigns && !foundDigit) {
-            if (chars[i] >= '0' && chars[i] <= '9') {
+            if (str.charAt(i) >= '0' && str.charAt(i) <= '9') {
                 foundDigit = true;
                 allowSigns = false;
 
-            } else if (chars[i] == '.') {
+            } else if (str.charAt(i) == '.') {
                 if (hasDecPoint || hasExp) {
                     // two decimal points or dec in exponent
                     return false;
                 }
                 hasDecPoint = true;
-            } else if (chars[i] == 'e' || chars[i] == 'E') {
+            } else if (str.charAt(i) == 'e' || str.charAt(i) == 'E') {
                 // we've already taken care of hex.
                 if (hasExp) {
                     // two E's
@@ -1685,7 +1869,7 @@ public static boolean isCreatable(final String str) {
                 }
                 hasExp = true;
                 allowSigns = true;
-            } else if (chars[i] == '+' || chars[i] == '-') {
+            } else if (str.charAt(i) == '+' || str.charAt(i) == '-') {
                 if (!allowSigns) {
                     return false;
                 }
@@ -1696,16 +1880,16 @@ public static boolean isCreatable(final String str) {
             }
             i++;
         }
-        if (i < chars.length) {
-            if (chars[i] >= '0' && chars[i] <= '9') {
+        if (i < str.length()) {
+            if (str.charAt(i) >= '0' && str.charAt(i) <= '9') {
                 // no type qualifier, OK
                 return true;
             }
-            if (chars[i] == 'e' || chars[i] == 'E') {
+            if (str.charAt(i) == 'e' || str.charAt(i) == 'E') {
                 // can't have an E at the last byte
                 return false;
             }
-            if (chars[i] == '.') {
+            if (str.charAt(i) == '.') {
                 if (hasDecPoint || hasExp) {
                     // two decimal points or dec in exponent
                     return false;
@@ -1714,14 +1898,14 @@ public static boolean isCreatable(final String str) {
                 return foundDigit;
             }
             if (!allowSigns
-                && (chars[i] == 'd'
-                    || chars[i] == 'D'
-                    || chars[i] == 'f'
-                    || chars[i] == 'F')) {
+                && (str.charAt(i) == 'd'
+                    || str.charAt(i) == 'D'
+                    || str.charAt(i) == 'f'
+                    || str.charAt(i) == 'F')) {
                 return foundDigit;
             }
-            if (chars[i] == 'l'
-                || chars[i] == 'L') {
+            if (str.charAt(i) == 'l'
+                || str.charAt(i) == 'L') {
                 // not allowing L with an exponent or decimal point
                 return foundDigit && !hasExp && !hasDecPoint;
             }
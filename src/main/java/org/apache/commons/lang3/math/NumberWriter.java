@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.math;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+
+/**
+ * Writes the shortest decimals of doubles and floats for {@link NumberUtils}, with the Schubfach algorithm of Raffaello
+ * Giulietti, "The Schubfach way to render doubles", 2021.
+ *
+ * <p>
+ * The decimal chosen is the one that Java 19 and later specify for {@link Double#toString(double)} and
+ * {@link Float#toString(float)}: among the decimals that round to the value, those of the shortest length, or of length
+ * 1 or 2 if one of length 1 exists, and among them the closest to the value, or the one with an even last digit. It is
+ * formatted as those methods do. Earlier Java versions sometimes render more digits than needed.
+ * </p>
+ *
+ * <p>This class is not thread-safe: each instance writes one value.</p>
+ */
+final class NumberWriter {
+
+    /**
+     * The binary formats.
+     */
+    private enum Format {
+
+        DOUBLE(53, -1074, 3),
+
+        FLOAT(24, -149, 8);
+
+        /** The precision, in bits. */
+        final int precision;
+
+        /** The exponent of the smallest subnormal. */
+        final int minExponent;
+
+        /** The significands below which the shortest decimal has a single digit, so that two are rendered. */
+        final long tinySignificand;
+
+        /** The bit of the significand of the normal values that is implicit. */
+        final long hiddenBit;
+
+        Format(final int precision, final int minExponent, final long tinySignificand) {
+            this.precision = precision;
+            this.minExponent = minExponent;
+            this.tinySignificand = tinySignificand;
+            this.hiddenBit = 1L << precision - 1;
+        }
+    }
+
+    /** The smallest exponent of ten of the table. */
+    private static final int MIN_K = -324;
+
+    /** The largest exponent of ten of the table. */
+    private static final int MAX_K = 292;
+
+    /**
+     * For each k, 10^-k = beta 2^r with 2^125 <= beta < 2^126 and g = floor(beta) + 1, as g1 = floor(g 2^-63) then
+     * g0 = g mod 2^63.
+     */
+    private static final long[] G = new long[(MAX_K - MIN_K + 1) * 2];
+
+    /** The number of digits of the significands rendered for doubles, the most needed. */
+    private static final int H = 17;
+
+    private static final long MASK_63 = (1L << 63) - 1;
+    private static final int MASK_28 = (1 << 28) - 1;
+
+    /** The powers of ten up to 10^H. */
+    private static final long[] POWERS_OF_10 = new long[H + 1];
+
+    static {
+        POWERS_OF_10[0] = 1;
+        for (int i = 1; i <= H; i++) {
+            POWERS_OF_10[i] = POWERS_OF_10[i - 1] * 10;
+        }
+        for (int k = MIN_K; k <= MAX_K; k++) {
+            final int r = flog2pow10(-k) - 125;
+            final BigInteger power = BigInteger.TEN.pow(Math.abs(k));
+            final BigInteger beta;
+            if (k <= 0) {
+                beta = r >= 0 ? power.shiftRight(r) : power.shiftLeft(-r);
+            } else {
+                beta = BigInteger.ONE.shiftLeft(-r).divide(power);
+            }
+            final BigInteger g = beta.add(BigInteger.ONE);
+            G[(k - MIN_K) * 2] = g.shiftRight(63).longValue();
+            G[(k - MIN_K) * 2 + 1] = g.longValue() & MASK_63;
+        }
+    }
+
+    /**
+     * Appends the shortest decimal of a double.
+     *
+     * @param appendable the destination.
+     * @param value the double.
+     * @throws IOException if {@code appendable} cannot be appended to.
+     */
+    static void append(final Appendable appendable, final double value) throws IOException {
+        final long bits = Double.doubleToRawLongBits(value);
+        new NumberWriter().write(bits < 0, (int) (bits >>> 52) & 0x7ff, bits & (1L << 52) - 1, 0x7ff, Format.DOUBLE).appendTo(appendable);
+    }
+
+    /**
+     * Appends the shortest decimal of a float.
+     *
+     * @param appendable the destination.
+     * @param value the float.
+     * @throws IOException if {@code appendable} cannot be appended to.
+     */
+    static void append(final Appendable appendable, final float value) throws IOException {
+        final int bits = Float.floatToRawIntBits(value);
+        new NumberWriter().write(bits < 0, bits >>> 23 & 0xff, bits & (1 << 23) - 1, 0xff, Format.FLOAT).appendTo(appendable);
+    }
+
+    /**
+     * Computes floor(e log10(2)), for |e| <= 5_456_721.
+     */
+    private static int flog10pow2(final int e) {
+        return (int) (e * 661_971_961_083L >> 41);
+    }
+
+    /**
+     * Computes floor(e log10(3/4 2)), for |e| <= 5_456_721.
+     */
+    private static int flog10threeQuartersPow2(final int e) {
+        return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+    }
+
+    /**
+     * Computes floor(e log2(10)), for |e| <= 1_838_394.
+     */
+    private static int flog2pow10(final int e) {
+        return (int) (e * 913_124_641_741L >> 38);
+    }
+
+    /**
+     * Computes rop(cp g 2^-127), the value rounded to odd, where g = g1 2^63 + g0.
+     */
+    private static long rop(final long g1, final long g0, final long cp) {
+        final long x1 = NumberParser.unsignedMultiplyHigh(g0, cp);
+        final long y0 = g1 * cp;
+        final long y1 = NumberParser.unsignedMultiplyHigh(g1, cp);
+        final long z = (y0 >>> 1) + x1;
+        final long vbp = y1 + (z >>> 63);
+        return vbp | (z & MASK_63) + MASK_63 >>> 63;
+    }
+
+    /**
+     * Computes floor((a + 1) 2^28 / 10^8) - 1, to extract the 8 digits of a left to right.
+     */
+    private static int y(final int a) {
+        return (int) (NumberParser.unsignedMultiplyHigh((long) (a + 1) << 28, 193_428_131_138_340_668L) >>> 20) - 1;
+    }
+
+    /** The longest rendering is a sign, 17 digits, the point and a 5 chars exponent, or 2 leading zeros. */
+    private final char[] chars = new char[32];
+
+    private int length;
+
+    private NumberWriter() {
+    }
+
+    private void append(final char c) {
+        chars[length++] = c;
+    }
+
+    private void append(final String str) {
+        for (int i = 0; i < str.length(); i++) {
+            append(str.charAt(i));
+        }
+    }
+
+    private void append8Digits(final int m) {
+        int y = y(m);
+        for (int i = 0; i < 8; i++) {
+            final int t = 10 * y;
+            appendDigit(t >>> 28);
+            y = t & MASK_28;
+        }
+    }
+
+    private void appendDigit(final int digit) {
+        append((char) ('0' + digit));
+    }
+
+    private void appendExponent(final int exponent) {
+        append('E');
+        int e = exponent;
+        if (e < 0) {
+            append('-');
+            e = -e;
+        }
+        if (e < 10) {
+            appendDigit(e);
+            return;
+        }
+        int d;
+        if (e >= 100) {
+            // floor(e / 100) = floor(1_311 e / 2^17)
+            d = e * 1_311 >>> 17;
+            appendDigit(d);
+            e -= 100 * d;
+        }
+        // floor(e / 10) = floor(103 e / 2^10)
+        d = e * 103 >>> 10;
+        appendDigit(d);
+        appendDigit(e - 10 * d);
+    }
+
+    private void appendTo(final Appendable appendable) throws IOException {
+        if (appendable instanceof StringBuilder) {
+            ((StringBuilder) appendable).append(chars, 0, length);
+        } else if (appendable instanceof Writer) {
+            ((Writer) appendable).write(chars, 0, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                appendable.append(chars[i]);
+            }
+        }
+    }
+
+    private void lowDigits(final int l) {
+        if (l != 0) {
+            append8Digits(l);
+        }
+        // removes the trailing zeros, but not the one right after the point
+        while (chars[length - 1] == '0') {
+            length--;
+        }
+        if (chars[length - 1] == '.') {
+            length++;
+        }
+    }
+
+    /**
+     * Renders the decimal f 10^e, where f has at most H digits.
+     */
+    private void toChars(final long f, final int e) {
+        // 10^(len - 1) <= f < 10^len
+        int len = flog10pow2(Long.SIZE - Long.numberOfLeadingZeros(f));
+        if (f >= POWERS_OF_10[len]) {
+            len++;
+        }
+        // 10^(H - 1) <= f' < 10^H and f' 10^(e' - H) = f 10^e
+        final long fp = f * POWERS_OF_10[H - len];
+        final int ep = e + len;
+        // splits f' into its most significant digit h, the next 8 digits m and the last 8 digits l:
+        // floor(f' / 10^8) = floor(floor(193_428_131_138_340_668 f' / 2^64) / 2^20)
+        // and floor(hm / 10^8) = floor(1_441_151_881 hm / 2^57)
+        final long hm = NumberParser.unsignedMultiplyHigh(fp, 193_428_131_138_340_668L) >>> 20;
+        final int l = (int) (fp - 100_000_000 * hm);
+        final int h = (int) (hm * 1_441_151_881 >>> 57);
+        final int m = (int) (hm - 100_000_000 * h);
+        if (0 < ep && ep <= 7) {
+            // plain format without leading zeros
+            appendDigit(h);
+            int y = y(m);
+            int i = 1;
+            for (; i < ep; i++) {
+                final int t = 10 * y;
+                appendDigit(t >>> 28);
+                y = t & MASK_28;
+            }
+            append('.');
+            for (; i <= 8; i++) {
+                final int t = 10 * y;
+                appendDigit(t >>> 28);
+                y = t & MASK_28;
+            }
+            lowDigits(l);
+        } else if (-3 < ep && ep <= 0) {
+            // plain format with leading zeros
+            append("0.");
+            for (int i = ep; i < 0; i++) {
+                appendDigit(0);
+            }
+            appendDigit(h);
+            append8Digits(m);
+            lowDigits(l);
+        } else {
+            // computerized scientific notation
+            appendDigit(h);
+            append('.');
+            append8Digits(m);
+            lowDigits(l);
+            appendExponent(ep - 1);
+        }
+    }
+
+    /**
+     * Renders the shortest decimal of c 2^q, scaled by 10^dk.
+     */
+    private void toDecimal(final int q, final long c, final int dk, final Format format) {
+        final int out = (int) c & 0x1;
+        final long cb = c << 2;
+        final long cbr = cb + 2;
+        final long cbl;
+        final int k;
+        if (c != format.hiddenBit | q == format.minExponent) {
+            // regular spacing
+            cbl = cb - 2;
+            k = flog10pow2(q);
+        } else {
+            // irregular spacing: the predecessor is closer
+            cbl = cb - 1;
+            k = flog10threeQuartersPow2(q);
+        }
+        final int h = q + flog2pow10(-k) + 2;
+        final long g1 = G[(k - MIN_K) * 2];
+        final long g0 = G[(k - MIN_K) * 2 + 1];
+        // the value and the bounds of its rounding interval, times 4 10^-k, rounded to odd
+        final long vb = rop(g1, g0, cb << h);
+        final long vbl = rop(g1, g0, cbl << h);
+        final long vbr = rop(g1, g0, cbr << h);
+        final long s = vb >> 2;
+        if (s >= 100) {
+            // the candidates of one digit less, s' 10^(k+1) and (s' + 1) 10^(k+1), with
+            // s' = floor(s / 10) = floor(s 115_292_150_460_684_698 / 2^64)
+            final long sp10 = 10 * NumberParser.unsignedMultiplyHigh(s, 115_292_150_460_684_698L << 4);
+            final long tp10 = sp10 + 10;
+            final boolean upin = vbl + out <= sp10 << 2;
+            final boolean wpin = (tp10 << 2) + out <= vbr;
+            if (upin != wpin) {
+                toChars(upin ? sp10 : tp10, k);
+                return;
+            }
+        }
+        // the candidates s 10^k and (s + 1) 10^k
+        final long t = s + 1;
+        final boolean uin = vbl + out <= s << 2;
+        final boolean win = (t << 2) + out <= vbr;
+        if (uin != win) {
+            toChars(uin ? s : t, k + dk);
+            return;
+        }
+        // both are in the rounding interval: the closest, or the even one
+        final long cmp = vb - (s + t << 1);
+        toChars(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk);
+    }
+
+    /**
+     * Renders a value from the fields of its bits.
+     */
+    private NumberWriter write(final boolean negative, final int biasedExponent, final long fraction, final int maxExponent,
+        final Format format) {
+        if (biasedExponent == maxExponent) {
+            append(fraction != 0 ? "NaN" : negative ? "-Infinity" : "Infinity");
+            return this;
+        }
+        if (negative) {
+            append('-');
+        }
+        if (biasedExponent != 0) {
+            // normal value, with mq = -q
+            final int mq = -format.minExponent + 1 - biasedExponent;
+            final long c = format.hiddenBit | fraction;
+            if (0 < mq & mq < format.precision) {
+                // integers are their own shortest decimals
+                final long f = c >> mq;
+                if (f << mq == c) {
+                    toChars(f, 0);
+                    return this;
+                }
+            }
+            toDecimal(-mq, c, 0, format);
+        } else if (fraction != 0) {
+            // subnormal value
+            if (fraction < format.tinySignificand) {
+                toDecimal(format.minExponent, 10 * fraction, -1, format);
+            } else {
+                toDecimal(format.minExponent, fraction, 0, format);
+            }
+        } else {
+            append("0.0");
+        }
+        return this;
+    }
+}
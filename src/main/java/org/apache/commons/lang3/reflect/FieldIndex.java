@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * An index of the fields of a class and its superclasses by name and by annotation, for {@link FieldUtils}, which
+ * otherwise calls {@link Class#getDeclaredField(String)} on each class of the hierarchy, catching an exception for each
+ * class that does not declare the field, and copies and filters all fields on each annotation query.
+ *
+ * <p>
+ * Instances are held in a {@link ClassValue}, so they are unloaded with their class. A {@link Field} is mutable through
+ * {@link Field#setAccessible(boolean)}, so the fields indexed are never returned to callers: the lookups of this class
+ * only find them, and callers receive copies of the fields found from their declaring class.
+ * </p>
+ */
+final class FieldIndex {
+
+    private static final ClassValue<FieldIndex> CACHE = new ClassValue<FieldIndex>() {
+        @Override
+        protected FieldIndex computeValue(final Class<?> type) {
+            return new FieldIndex(type);
+        }
+    };
+
+    /**
+     * Copies a field found in an index, so that changes to its accessibility are not shared.
+     *
+     * @param field the indexed field, may be null.
+     * @return a new field, or null.
+     */
+    private static Field copy(final Field field) {
+        if (field == null) {
+            return null;
+        }
+        try {
+            return field.getDeclaringClass().getDeclaredField(field.getName());
+        } catch (final NoSuchFieldException e) {
+            // the class declares the field
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Field> copy(final Field[] fields) {
+        final List<Field> copies = new ArrayList<>(fields.length);
+        for (final Field field : fields) {
+            copies.add(copy(field));
+        }
+        return copies;
+    }
+
+    /**
+     * Gets a field declared by a class, as {@link Class#getDeclaredField(String)} does.
+     *
+     * @param cls the class.
+     * @param fieldName the field name.
+     * @return a new field, or null if the class does not declare the field.
+     */
+    static Field getDeclaredField(final Class<?> cls, final String fieldName) {
+        return copy(CACHE.get(cls).declaredByName.get(fieldName));
+    }
+
+    /**
+     * Gets the fields of a class and its superclasses annotated with an annotation, in the order of
+     * {@link FieldUtils#getAllFieldsList(Class)}.
+     *
+     * @param cls the class.
+     * @param annotationCls the annotation type.
+     * @return a new list of new fields.
+     */
+    static List<Field> getFieldsWithAnnotation(final Class<?> cls, final Class<? extends Annotation> annotationCls) {
+        return copy(CACHE.get(cls).annotated().getOrDefault(annotationCls, ArrayUtils.EMPTY_FIELD_ARRAY));
+    }
+
+    /**
+     * Gets a field by name as {@link FieldUtils#getField(Class, String, boolean)} does: the first field of the class
+     * hierarchy that is public, or any field if access is forced, then the public field of the interfaces.
+     *
+     * @param cls the class.
+     * @param fieldName the field name.
+     * @param forceAccess whether non-public fields match.
+     * @return a new field, or null.
+     * @throws IllegalArgumentException if the field is matched on two or more interfaces.
+     */
+    static Field getField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
+        for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
+            final Field field = CACHE.get(acls).declaredByName.get(fieldName);
+            if (field != null && (forceAccess || MemberUtils.isPublic(field))) {
+                return copy(field);
+            }
+        }
+        // a public field of a superclass may be hidden by a non-public field of a subclass, so interfaces are searched
+        // even if a superclass declares the field
+        Field match = null;
+        for (final Class<?> iface : ClassUtils.getAllInterfaces(cls)) {
+            final Field test = getInterfaceField(iface, fieldName);
+            if (test != null) {
+                Validate.isTrue(match == null, "Reference to field %s is ambiguous relative to %s"
+                        + "; a matching field exists on two or more implemented interfaces.", fieldName, cls);
+                match = test;
+            }
+        }
+        return copy(match);
+    }
+
+    /**
+     * Gets a field of an interface as {@link Class#getField(String)} does: the field of the interface, else of its
+     * superinterfaces, depth first.
+     */
+    private static Field getInterfaceField(final Class<?> iface, final String fieldName) {
+        final Field field = CACHE.get(iface).declaredByName.get(fieldName);
+        if (field != null) {
+            return field;
+        }
+        for (final Class<?> superInterface : iface.getInterfaces()) {
+            final Field superField = getInterfaceField(superInterface, fieldName);
+            if (superField != null) {
+                return superField;
+            }
+        }
+        return null;
+    }
+
+    /** The fields declared by the class, by name. */
+    private final Map<String, Field> declaredByName;
+
+    /** The fields of the class then of its superclasses. */
+    private final Field[] all;
+
+    /** The fields of {@link #all} by annotation type, computed on the first annotation query. */
+    private volatile Map<Class<? extends Annotation>, Field[]> annotated;
+
+    private FieldIndex(final Class<?> cls) {
+        final Field[] declared = cls.getDeclaredFields();
+        declaredByName = new HashMap<>(declared.length * 2);
+        for (final Field field : declared) {
+            declaredByName.put(field.getName(), field);
+        }
+        final Class<?> superclass = cls.getSuperclass();
+        all = superclass == null ? declared : ArrayUtils.addAll(declared, CACHE.get(superclass).all);
+    }
+
+    private Map<Class<? extends Annotation>, Field[]> annotated() {
+        Map<Class<? extends Annotation>, Field[]> result = annotated;
+        if (result == null) {
+            // fields do not inherit annotations, their declared annotations are those of Field#getAnnotation
+            final Map<Class<? extends Annotation>, List<Field>> lists = new LinkedHashMap<>();
+            for (final Field field : all) {
+                for (final Annotation annotation : field.getDeclaredAnnotations()) {
+                    lists.computeIfAbsent(annotation.annotationType(), k -> new ArrayList<>()).add(field);
+                }
+            }
+            result = new HashMap<>(lists.size() * 2);
+            for (final Map.Entry<Class<? extends Annotation>, List<Field>> entry : lists.entrySet()) {
+                result.put(entry.getKey(), entry.getValue().toArray(ArrayUtils.EMPTY_FIELD_ARRAY));
+            }
+            // a race computes the same map
+            annotated = result;
+        }
+        return result;
+    }
+}
@@ -23,10 +23,8 @@
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.ArrayUtils;
-import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.JavaVersion;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.SystemUtils;
@@ -89,52 +87,17 @@ public static Field getField(final Class<?> cls, final String fieldName) {
     public static Field getField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         Objects.requireNonNull(cls, "cls");
         Validate.isTrue(StringUtils.isNotBlank(fieldName), "The field name must not be blank/empty");
-        // FIXME is this workaround still needed? lang requires Java 6
-        // Sun Java 1.3 has a bugged implementation of getField hence we write the
-        // code ourselves
-
-        // getField() will return the Field object with the declaring class
-        // set correctly to the class that declares the field. Thus requesting the
-        // field on a subclass will return the field from the superclass.
-        //
         // priority order for lookup:
         // searchclass private/protected/package/public
         // superclass protected/package/public
         // private/different package blocks access to further superclasses
         // implementedinterface public
-
-        // check up the superclass hierarchy
-        for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
-            try {
-                final Field field = acls.getDeclaredField(fieldName);
-                // getDeclaredField checks for non-public scopes as well
-                // and it returns accurate results
-                if (!MemberUtils.isPublic(field)) {
-                    if (!forceAccess) {
-                        continue;
-                    }
-                    field.setAccessible(true);
-                }
-                return field;
-            } catch (final NoSuchFieldException ignored) {
-                // ignore
-            }
-        }
-        // check the public interface case. This must be manually searched for
-        // incase there is a public supersuperclass field hidden by a private/package
-        // superclass field.
-        Field match = null;
-        for (final Class<?> class1 : ClassUtils.getAllInterfaces(cls)) {
-            try {
-                final Field test = class1.getField(fieldName);
-                Validate.isTrue(match == null, "Reference to field %s is ambiguous relative to %s"
-                        + "; a matching field exists on two or more implemented interfaces.", fieldName, cls);
-                match = test;
-            } catch (final NoSuchFieldException ignored) {
-                // ignore
-            }
+        final Field field = FieldIndex.getField(cls, fieldName, forceAccess);
+        // only fields of classes are not public, and only when access is forced
+        if (field != null && !MemberUtils.isPublic(field)) {
+            field.setAccessible(true);
         }
-        return match;
+        return field;
     }
 
     /**
@@ -175,20 +138,15 @@ public static Field getDeclaredField(final Class<?> cls, final String fieldName)
     public static Field getDeclaredField(final Class<?> cls, final String fieldName, final boolean forceAccess) {
         Objects.requireNonNull(cls, "cls");
         Validate.isTrue(StringUtils.isNotBlank(fieldName), "The field name must not be blank/empty");
-        try {
-            // only consider the specified class by using getDeclaredField()
-            final Field field = cls.getDeclaredField(fieldName);
-            if (!MemberUtils.isAccessible(field)) {
-                if (!forceAccess) {
-                    return null;
-                }
-                field.setAccessible(true);
+        // only consider the specified class
+        final Field field = FieldIndex.getDeclaredField(cls, fieldName);
+        if (field != null && !MemberUtils.isAccessible(field)) {
+            if (!forceAccess) {
+                return null;
             }
-            return field;
-        } catch (final NoSuchFieldException ignored) {
-            // ignore
+            field.setAccessible(true);
         }
-        return null;
+        return field;
     }
 
     /**
@@ -254,8 +212,9 @@ public static Field[] getFieldsWithAnnotation(final Class<?> cls, final Class<?
      * @since 3.4
      */
     public static List<Field> getFieldsListWithAnnotation(final Class<?> cls, final Class<? extends Annotation> annotationCls) {
+        Objects.requireNonNull(cls, "cls");
         Objects.requireNonNull(annotationCls, "annotationCls");
-        return getAllFieldsList(cls).stream().filter(field -> field.getAnnotation(annotationCls) != null).collect(Collectors.toList());
+        return FieldIndex.getFieldsWithAnnotation(cls, annotationCls);
     }
 
     /**
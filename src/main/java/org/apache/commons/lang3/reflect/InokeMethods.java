@@ -129,27 +129,17 @@ public static Object invokeMethod(InvokeMethodParam invokeMethodParam)
         invokeMethodParam.setParameterTypes(ArrayUtils.nullToEmpty(invokeMethodParam.getParameterTypes()));
         invokeMethodParam.setArgs(ArrayUtils.nullToEmpty(invokeMethodParam.getArgs()));
 
-        final String messagePrefix;
-        final Method method;
-
         final Class<? extends Object> cls = invokeMethodParam.getObject().getClass();
-        if (invokeMethodParam.isForceAccess()) {
-            messagePrefix = "No such method: ";
-            method = MethodUtilsGetters.getMatchingMethod(cls, invokeMethodParam.getMethodName(), invokeMethodParam.getParameterTypes());
-            if (method != null && !method.isAccessible()) {
-                method.setAccessible(true);
-            }
-        } else {
-            messagePrefix = "No such accessible method: ";
-            method = MethodUtilsGetters.getMatchingAccessibleMethod(cls, invokeMethodParam.getMethodName(), invokeMethodParam.getParameterTypes());
-        }
-
+        final MethodResolutionCache.Resolution resolution = MethodResolutionCache.get(cls, invokeMethodParam.getMethodName(),
+                invokeMethodParam.getParameterTypes(), invokeMethodParam.isForceAccess());
+        final Method method = resolution.getMethod();
         if (method == null) {
+            final String messagePrefix = invokeMethodParam.isForceAccess() ? "No such method: " : "No such accessible method: ";
             throw new NoSuchMethodException(messagePrefix + invokeMethodParam.getMethodName() + "() on object: " + cls.getName());
         }
         invokeMethodParam.setArgs(MethodUtilsGetters.toVarArgs(method, invokeMethodParam.getArgs()));
 
-        return method.invoke(invokeMethodParam.getObject(), invokeMethodParam.getArgs());
+        return resolution.invoke(invokeMethodParam.getObject(), invokeMethodParam.getArgs());
     }
 
     /**
@@ -343,14 +333,14 @@ public static Object invokeStaticMethod(final Class<?> cls, final String methodN
             InvocationTargetException {
         args = ArrayUtils.nullToEmpty(args);
         parameterTypes = ArrayUtils.nullToEmpty(parameterTypes);
-        final Method method = MethodUtilsGetters.getMatchingAccessibleMethod(cls, methodName,
-                parameterTypes);
+        final MethodResolutionCache.Resolution resolution = MethodResolutionCache.get(cls, methodName, parameterTypes, false);
+        final Method method = resolution.getMethod();
         if (method == null) {
             throw new NoSuchMethodException("No such accessible method: "
                     + methodName + "() on class: " + cls.getName());
         }
         args = MethodUtilsGetters.toVarArgs(method, args);
-        return method.invoke(null, args);
+        return resolution.invoke(null, args);
     }
 
     /**
@@ -95,6 +95,27 @@ static boolean isStatic(final Member member) {
         return member != null && Modifier.isStatic(member.getModifiers());
     }
 
+    /**
+     * Tests whether a class is visible from the class loader of another class, so that it lives at least as long and
+     * may be cached with it.
+     * @param from the class whose class loader is tested
+     * @param cls the class to test, may be null
+     * @return {@code true} if {@code cls} is null, or its class loader is the class loader of {@code from} or one of
+     * its ancestors
+     */
+    static boolean isVisible(final Class<?> from, final Class<?> cls) {
+        final ClassLoader loader = cls == null ? null : cls.getClassLoader();
+        if (loader == null) {
+            return true;
+        }
+        for (ClassLoader candidate = from.getClassLoader(); candidate != null; candidate = candidate.getParent()) {
+            if (candidate == loader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Tests whether a {@link Member} is accessible.
      * @param member Member to test
@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.util.CacheStatistics;
+
+/**
+ * Caches the methods resolved by the {@code invokeMethod} and {@code invokeStaticMethod} methods of
+ * {@link InokeMethods}, which otherwise scan the methods of a class and rank the candidates on every call.
+ *
+ * <p>
+ * Resolutions are keyed by class, method name, argument types and whether access is forced. They are held in a
+ * {@link ClassValue}, so they are unloaded with their class. The keys refer to the argument types, so resolutions are
+ * only cached if the class loader of the class sees them: the classes of a web application passed to methods of JDK
+ * classes would otherwise never be unloaded. Failures to find a method are cached as well; exceptions thrown while
+ * resolving are not.
+ * </p>
+ *
+ * <p>
+ * The {@link Method}s cached are shared and are only used to invoke methods, they are never returned to callers, who
+ * could change their accessibility.
+ * </p>
+ */
+final class MethodResolutionCache {
+
+    /**
+     * The key of a resolution within the methods of a class.
+     */
+    private static final class Key {
+
+        private final String methodName;
+        private final Class<?>[] parameterTypes;
+        private final boolean forceAccess;
+        private final int hashCode;
+
+        Key(final String methodName, final Class<?>[] parameterTypes, final boolean forceAccess) {
+            this.methodName = methodName;
+            this.parameterTypes = parameterTypes;
+            this.forceAccess = forceAccess;
+            this.hashCode = (methodName.hashCode() * 31 + Arrays.hashCode(parameterTypes)) * 31 + Boolean.hashCode(forceAccess);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return forceAccess == other.forceAccess && methodName.equals(other.methodName) && Arrays.equals(parameterTypes, other.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /**
+     * A resolved method, with a method handle taking the target and an array of arguments to invoke it faster than
+     * {@link Method#invoke(Object, Object...)}.
+     */
+    static final class Resolution {
+
+        private static final Resolution NOT_FOUND = new Resolution(null);
+
+        /** Of type (Throwable)void, throws an {@link InvocationTargetException} wrapping the Throwable. */
+        private static final MethodHandle THROW_TARGET_EXCEPTION;
+
+        static {
+            try {
+                THROW_TARGET_EXCEPTION = MethodHandles.filterArguments(MethodHandles.throwException(void.class, InvocationTargetException.class), 0,
+                    MethodHandles.lookup().findConstructor(InvocationTargetException.class, MethodType.methodType(void.class, Throwable.class)));
+            } catch (final ReflectiveOperationException e) {
+                throw new ExceptionInInitializerError(e);
+            }
+        }
+
+        private static MethodHandle spreader(final Method method) {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.lookup().unreflect(method).asFixedArity();
+            } catch (final IllegalAccessException | RuntimeException e) {
+                // not accessible to method handles, for example in a module that is not open
+                return null;
+            }
+            // wraps what the method throws, as Method.invoke does, but not the failures of the adaptations below
+            final MethodType handlerType = MethodType.methodType(handle.type().returnType(), Throwable.class);
+            handle = MethodHandles.catchException(handle, Throwable.class, THROW_TARGET_EXCEPTION.asType(handlerType));
+            handle = handle.asType(handle.type().generic()).asSpreader(Object[].class, method.getParameterCount());
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            return handle;
+        }
+
+        private final Method method;
+
+        /** Of type (Object, Object[])Object, null if the method must be invoked by reflection. */
+        private final MethodHandle handle;
+
+        private final Class<?>[] parameterTypes;
+
+        /** The parameter types, primitive types being replaced by their wrappers. */
+        private final Class<?>[] wrapperTypes;
+
+        /**
+         * Whether the class declaring a static method is initialized, which reflection does first, so that its
+         * initialization errors are not taken for exceptions thrown by the method.
+         */
+        private volatile boolean initialized;
+
+        private Resolution(final Method method) {
+            this.method = method;
+            this.handle = method == null ? null : spreader(method);
+            this.parameterTypes = method == null ? null : method.getParameterTypes();
+            this.wrapperTypes = ClassUtils.primitivesToWrappers(parameterTypes);
+            this.initialized = method != null && !Modifier.isStatic(method.getModifiers());
+        }
+
+        /**
+         * Tests whether the method handle can take a target and arguments without converting them.
+         *
+         * <p>Other targets and arguments, such as {@code null} for a primitive parameter or an {@link Integer} for a
+         * {@code long} parameter, are left to reflection, which converts them or throws
+         * {@link IllegalArgumentException} or {@link NullPointerException}.</p>
+         */
+        private boolean accepts(final Object target, final Object[] args) {
+            if (!initialized || args.length != wrapperTypes.length
+                || !Modifier.isStatic(method.getModifiers()) && !method.getDeclaringClass().isInstance(target)) {
+                return false;
+            }
+            for (int i = 0; i < args.length; i++) {
+                if (args[i] == null ? parameterTypes[i].isPrimitive() : !wrapperTypes[i].isInstance(args[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Gets the resolved method.
+         *
+         * @return the method, or null if none was found.
+         */
+        Method getMethod() {
+            return method;
+        }
+
+        /**
+         * Invokes the resolved method, as {@link Method#invoke(Object, Object...)} does.
+         *
+         * @param target the object to invoke the method on, an instance of the class the method was resolved in;
+         *        ignored for static methods.
+         * @param args the arguments, in the canonical form of variable arguments methods.
+         * @return the value returned by the method.
+         * @throws IllegalAccessException if the method is not accessible.
+         * @throws InvocationTargetException wraps an exception thrown by the method.
+         */
+        Object invoke(final Object target, final Object[] args) throws IllegalAccessException, InvocationTargetException {
+            if (handle != null && accepts(target, args)) {
+                try {
+                    return (Object) handle.invokeExact(target, args);
+                } catch (final InvocationTargetException | RuntimeException | Error e) {
+                    throw e;
+                } catch (final Throwable t) {
+                    // the adaptations throw no checked exceptions
+                    throw new IllegalStateException(t);
+                }
+            }
+            // once the method has run, its class is initialized
+            try {
+                final Object result = method.invoke(target, args);
+                initialized = true;
+                return result;
+            } catch (final InvocationTargetException e) {
+                initialized = true;
+                throw e;
+            }
+        }
+    }
+
+    private static final ClassValue<ConcurrentMap<Key, Resolution>> CACHE = new ClassValue<ConcurrentMap<Key, Resolution>>() {
+        @Override
+        protected ConcurrentMap<Key, Resolution> computeValue(final Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final LongAdder HIT_COUNT = new LongAdder();
+
+    private static final LongAdder MISS_COUNT = new LongAdder();
+
+    /**
+     * Gets the method of a class matching a name and argument types, as {@link MethodUtilsGetters#getMatchingMethod}
+     * (made accessible) does if access is forced, and as {@link MethodUtilsGetters#getMatchingAccessibleMethod} does
+     * otherwise.
+     *
+     * @param cls the class to search.
+     * @param methodName the method name.
+     * @param parameterTypes the argument types, not modified.
+     * @param forceAccess whether to find methods that are not accessible.
+     * @return the resolution, whose method is null if none was found.
+     * @throws IllegalStateException if access is forced and there is no unique result, not cached.
+     */
+    static Resolution get(final Class<?> cls, final String methodName, final Class<?>[] parameterTypes, final boolean forceAccess) {
+        Objects.requireNonNull(methodName, "methodName");
+        for (final Class<?> parameterType : parameterTypes) {
+            if (!MemberUtils.isVisible(cls, parameterType)) {
+                MISS_COUNT.increment();
+                return resolve(cls, methodName, parameterTypes, forceAccess);
+            }
+        }
+        final ConcurrentMap<Key, Resolution> resolutions = CACHE.get(cls);
+        final Resolution resolution = resolutions.get(new Key(methodName, parameterTypes, forceAccess));
+        if (resolution != null) {
+            HIT_COUNT.increment();
+            return resolution;
+        }
+        // the key is stored with a copy of the types, which the caller may reuse
+        return resolutions.computeIfAbsent(new Key(methodName, parameterTypes.clone(), forceAccess), key -> {
+            MISS_COUNT.increment();
+            return resolve(cls, methodName, key.parameterTypes, forceAccess);
+        });
+    }
+
+    /**
+     * Gets a snapshot of the counters of this cache.
+     *
+     * <p>The size is the number of resolutions computed, which includes those of classes unloaded since.</p>
+     *
+     * @return the statistics.
+     */
+    static CacheStatistics getStatistics() {
+        final long missCount = MISS_COUNT.sum();
+        return new CacheStatistics((int) Math.min(missCount, Integer.MAX_VALUE), CacheStatistics.UNBOUNDED, HIT_COUNT.sum(), missCount, 0);
+    }
+
+    private static Resolution resolve(final Class<?> cls, final String methodName, final Class<?>[] parameterTypes, final boolean forceAccess) {
+        final Method method;
+        if (forceAccess) {
+            method = MethodUtilsGetters.getMatchingMethod(cls, methodName, parameterTypes);
+            if (method != null && !method.isAccessible()) {
+                method.setAccessible(true);
+            }
+        } else {
+            method = MethodUtilsGetters.getMatchingAccessibleMethod(cls, methodName, parameterTypes);
+        }
+        return method == null ? Resolution.NOT_FOUND : new Resolution(method);
+    }
+
+    private MethodResolutionCache() {
+        // no instances
+    }
+}
@@ -24,6 +24,7 @@
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
+import org.apache.commons.lang3.util.CacheStatistics;
 
 /**
  * Utility reflection methods focused on {@link Method}s, originally from Commons BeanUtils.
@@ -175,6 +176,20 @@ static Method getAccessibleMethodFromInterfaceNest(Class<?> cls,
         return null;
     }
 
+    /**
+     * Gets a snapshot of the counters of the cache of the methods resolved by the {@code invokeMethod} and
+     * {@code invokeStaticMethod} methods of {@link InokeMethods}.
+     *
+     * <p>The cache is keyed by class, method name, argument types and whether access is forced, and does not evict
+     * entries: those of a class are unloaded with the class.</p>
+     *
+     * @return the statistics.
+     * @since 3.13.0
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return MethodResolutionCache.getStatistics();
+    }
+
     /**
      * Returns the aggregate number of inheritance hops between assignable argument class types.  Returns -1
      * if the arguments aren't assignable.  Fills a specific purpose for getMatchingMethod and is not generalized.
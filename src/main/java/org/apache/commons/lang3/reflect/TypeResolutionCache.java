@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Memoizes the results of {@link TypeUtils#getTypeArguments(Type, Class)} and {@link TypeUtils#isAssignable(Type, Type)},
+ * which otherwise walk the class hierarchy and build maps of type variables on every call.
+ *
+ * <p>
+ * Results are held in a {@link ClassValue} of the subject type, the raw class for parameterized types, in maps with
+ * weak keys for the subject and target types. The results of a class only refer to the types it declares or inherits,
+ * which its class loader sees, so they are unloaded with it; the target types, often JDK types, never keep them.
+ * Type arguments of parameterized types are only cached when they are classes that the class loader of the raw class
+ * sees. Types created by reflection are new objects on each call, so their results are only found again as long as the
+ * caller keeps them, whereas classes and the types created by {@link TypeUtils}, which are interned, stay cached.
+ * Subjects that are neither classes nor parameterized types are not cached.
+ * </p>
+ */
+final class TypeResolutionCache {
+
+    /**
+     * The results for a subject class or raw type.
+     */
+    private static final class Results {
+
+        /** The type arguments by type, then by target class, {@link #NOT_ASSIGNABLE} if not assignable. */
+        private final Map<Type, Map<Type, Map<TypeVariable<?>, Type>>> typeArguments = new WeakHashMap<>();
+
+        /** The results of {@code isAssignable} by type, then by target type. */
+        private final Map<Type, Map<Type, Boolean>> assignable = new WeakHashMap<>();
+    }
+
+    private static final Map<TypeVariable<?>, Type> NOT_ASSIGNABLE = new HashMap<>();
+
+    private static final ClassValue<Results> CACHE = new ClassValue<Results>() {
+        @Override
+        protected Results computeValue(final Class<?> type) {
+            return new Results();
+        }
+    };
+
+    /**
+     * Gets the type arguments of {@code type} in the context of {@code toClass}.
+     *
+     * @param type the type.
+     * @param toClass the class.
+     * @return a new map of the type arguments, which the caller may modify, or null.
+     */
+    static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass) {
+        final Class<?> owner = toClass == null ? null : owner(type, true);
+        if (owner == null) {
+            return TypeUtils.getTypeArguments(type, toClass, null);
+        }
+        final Results results = CACHE.get(owner);
+        Map<TypeVariable<?>, Type> typeArguments;
+        synchronized (results) {
+            final Map<Type, Map<TypeVariable<?>, Type>> byTarget = results.typeArguments.get(type);
+            typeArguments = byTarget == null ? null : byTarget.get(toClass);
+        }
+        if (typeArguments == null) {
+            // computed outside the lock, as it may resolve other types
+            final Map<TypeVariable<?>, Type> computed = TypeUtils.getTypeArguments(type, toClass, null);
+            typeArguments = computed == null ? NOT_ASSIGNABLE : computed;
+            synchronized (results) {
+                results.typeArguments.computeIfAbsent(type, k -> new WeakHashMap<>()).put(toClass, typeArguments);
+            }
+        }
+        return typeArguments == NOT_ASSIGNABLE ? null : new HashMap<>(typeArguments);
+    }
+
+    /**
+     * Tests if {@code type} may be implicitly cast to {@code toType}.
+     *
+     * @param type the type.
+     * @param toType the target type.
+     * @return whether {@code type} is assignable to {@code toType}.
+     */
+    static boolean isAssignable(final Type type, final Type toType) {
+        // the results are booleans, which refer to no types
+        final Class<?> owner = toType instanceof Class<?> || toType instanceof ParameterizedType ? owner(type, false) : null;
+        if (owner == null) {
+            return TypeUtils.isAssignable(type, toType, null);
+        }
+        final Results results = CACHE.get(owner);
+        Boolean assignable;
+        synchronized (results) {
+            final Map<Type, Boolean> byTarget = results.assignable.get(type);
+            assignable = byTarget == null ? null : byTarget.get(toType);
+        }
+        if (assignable == null) {
+            assignable = Boolean.valueOf(TypeUtils.isAssignable(type, toType, null));
+            synchronized (results) {
+                results.assignable.computeIfAbsent(type, k -> new WeakHashMap<>()).put(toType, assignable);
+            }
+        }
+        return assignable.booleanValue();
+    }
+
+    /**
+     * Gets the class in whose {@link ClassValue} the results for a subject type are held.
+     *
+     * @param type the subject type.
+     * @param visibleArguments whether the type arguments of a parameterized type must be classes that the class
+     *        loader of its raw class sees, because the results refer to them.
+     * @return the class, or null if the results are not cached.
+     */
+    private static Class<?> owner(final Type type, final boolean visibleArguments) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        }
+        if (!(type instanceof ParameterizedType)) {
+            return null;
+        }
+        final ParameterizedType parameterizedType = (ParameterizedType) type;
+        final Class<?> raw = (Class<?>) parameterizedType.getRawType();
+        if (visibleArguments) {
+            final Type ownerType = parameterizedType.getOwnerType();
+            if (ownerType != null && !isClassVisible(raw, ownerType)) {
+                return null;
+            }
+            for (final Type argument : parameterizedType.getActualTypeArguments()) {
+                if (!isClassVisible(raw, argument)) {
+                    return null;
+                }
+            }
+        }
+        return raw;
+    }
+
+    private static boolean isClassVisible(final Class<?> from, final Type type) {
+        return type instanceof Class<?> && MemberUtils.isVisible(from, (Class<?>) type);
+    }
+
+    private TypeResolutionCache() {
+        // no instances
+    }
+}
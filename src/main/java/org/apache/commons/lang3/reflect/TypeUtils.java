@@ -16,6 +16,7 @@
  */
 package org.apache.commons.lang3.reflect;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.GenericDeclaration;
@@ -33,6 +34,7 @@
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.WeakHashMap;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
@@ -54,6 +56,7 @@ public class TypeUtils {
      */
     private static final class GenericArrayTypeImpl implements GenericArrayType {
         private final Type componentType;
+        private final int hashCode;
 
         /**
          * Constructor
@@ -61,6 +64,9 @@ private static final class GenericArrayTypeImpl implements GenericArrayType {
          */
         private GenericArrayTypeImpl(final Type componentType) {
             this.componentType = componentType;
+            int result = 67 << 4;
+            result |= componentType.hashCode();
+            this.hashCode = result;
         }
 
         /**
@@ -84,9 +90,7 @@ public Type getGenericComponentType() {
          */
         @Override
         public int hashCode() {
-            int result = 67 << 4;
-            result |= componentType.hashCode();
-            return result;
+            return hashCode;
         }
 
         /**
@@ -106,6 +110,7 @@ private static final class ParameterizedTypeImpl implements ParameterizedType {
         private final Class<?> raw;
         private final Type useOwner;
         private final Type[] typeArguments;
+        private final int hashCode;
 
         /**
          * Constructor
@@ -117,6 +122,13 @@ private ParameterizedTypeImpl(final Class<?> rawClass, final Type useOwner, fina
             this.raw = rawClass;
             this.useOwner = useOwner;
             this.typeArguments = Arrays.copyOf(typeArguments, typeArguments.length, Type[].class);
+            int result = 71 << 4;
+            result |= raw.hashCode();
+            result <<= 4;
+            result |= Objects.hashCode(useOwner);
+            result <<= 8;
+            result |= Arrays.hashCode(this.typeArguments);
+            this.hashCode = result;
         }
 
         /**
@@ -156,13 +168,7 @@ public Type getRawType() {
          */
         @Override
         public int hashCode() {
-            int result = 71 << 4;
-            result |= raw.hashCode();
-            result <<= 4;
-            result |= Objects.hashCode(useOwner);
-            result <<= 8;
-            result |= Arrays.hashCode(typeArguments);
-            return result;
+            return hashCode;
         }
 
         /**
@@ -193,7 +199,7 @@ private WildcardTypeBuilder() {
          */
         @Override
         public WildcardType build() {
-            return new WildcardTypeImpl(upperBounds, lowerBounds);
+            return intern(new WildcardTypeImpl(upperBounds, lowerBounds));
         }
 
         /**
@@ -224,6 +230,7 @@ public WildcardTypeBuilder withUpperBounds(final Type... bounds) {
     private static final class WildcardTypeImpl implements WildcardType {
         private final Type[] upperBounds;
         private final Type[] lowerBounds;
+        private final int hashCode;
 
         /**
          * Constructor
@@ -233,6 +240,11 @@ private static final class WildcardTypeImpl implements WildcardType {
         private WildcardTypeImpl(final Type[] upperBounds, final Type[] lowerBounds) {
             this.upperBounds = ObjectUtils.defaultIfNull(upperBounds, ArrayUtils.EMPTY_TYPE_ARRAY);
             this.lowerBounds = ObjectUtils.defaultIfNull(lowerBounds, ArrayUtils.EMPTY_TYPE_ARRAY);
+            int result = 73 << 8;
+            result |= Arrays.hashCode(this.upperBounds);
+            result <<= 8;
+            result |= Arrays.hashCode(this.lowerBounds);
+            this.hashCode = result;
         }
 
         /**
@@ -264,11 +276,7 @@ public Type[] getUpperBounds() {
          */
         @Override
         public int hashCode() {
-            int result = 73 << 8;
-            result |= Arrays.hashCode(upperBounds);
-            result <<= 8;
-            result |= Arrays.hashCode(lowerBounds);
-            return result;
+            return hashCode;
         }
 
         /**
@@ -280,6 +288,11 @@ public String toString() {
         }
     }
 
+    /**
+     * The types created by this class, weakly referenced, so that equal types are shared.
+     */
+    private static final Map<Type, WeakReference<Type>> INTERNED = new WeakHashMap<>();
+
     /**
      * A wildcard instance matching {@code ?}.
      * @since 3.2
@@ -430,7 +443,7 @@ public static Map<TypeVariable<?>, Type> determineTypeArguments(final Class<?> c
         }
 
         if (cls.equals(superClass)) {
-            return getTypeArguments(superParameterizedType, superClass, null);
+            return getTypeArguments(superParameterizedType, superClass);
         }
 
         // get the next class in the inheritance hierarchy
@@ -584,7 +597,7 @@ private static int[] findRecursiveTypes(final ParameterizedType parameterizedTyp
      * @since 3.2
      */
     public static GenericArrayType genericArrayType(final Type componentType) {
-        return new GenericArrayTypeImpl(Objects.requireNonNull(componentType, "componentType"));
+        return intern(new GenericArrayTypeImpl(Objects.requireNonNull(componentType, "componentType")));
     }
 
     /**
@@ -964,7 +977,7 @@ private static Map<TypeVariable<?>, Type> getTypeArguments(
      * {@code toClass} inclusive.
      */
     public static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass) {
-        return getTypeArguments(type, toClass, null);
+        return TypeResolutionCache.getTypeArguments(type, toClass);
     }
 
     /**
@@ -975,7 +988,7 @@ public static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final
      * @param subtypeVarAssigns a map with type variables
      * @return the {@link Map} with type arguments
      */
-    private static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass,
+    static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, final Class<?> toClass,
             final Map<TypeVariable<?>, Type> subtypeVarAssigns) {
         if (type instanceof Class<?>) {
             return getTypeArguments((Class<?>) type, toClass, subtypeVarAssigns);
@@ -1016,6 +1029,27 @@ private static Map<TypeVariable<?>, Type> getTypeArguments(final Type type, fina
         throw new IllegalStateException("found an unhandled type: " + type);
     }
 
+    /**
+     * Gets the type created by this class equal to a new one, or registers the new one.
+     *
+     * @param <T> the type of the type
+     * @param type the new type
+     * @return the shared instance equal to {@code type}
+     */
+    private static <T extends Type> T intern(final T type) {
+        synchronized (INTERNED) {
+            final WeakReference<Type> reference = INTERNED.get(type);
+            final Type interned = reference == null ? null : reference.get();
+            if (interned != null && interned.getClass() == type.getClass()) {
+                @SuppressWarnings("unchecked") // same class
+                final T result = (T) interned;
+                return result;
+            }
+            INTERNED.put(type, new WeakReference<>(type));
+            return type;
+        }
+    }
+
     /**
      * Tests whether the specified type denotes an array type.
      *
@@ -1203,7 +1237,7 @@ private static boolean isAssignable(final Type type, final ParameterizedType toP
         final Class<?> toClass = getRawType(toParameterizedType);
         // get the subject type's type arguments including owner type arguments
         // and supertype arguments up to and including the target class.
-        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getTypeArguments(type, toClass, null);
+        final Map<TypeVariable<?>, Type> fromTypeVarAssigns = getTypeArguments(type, toClass);
 
         // null means the two types are not compatible
         if (fromTypeVarAssigns == null) {
@@ -1254,7 +1288,7 @@ private static boolean isAssignable(final Type type, final ParameterizedType toP
      * @return {@code true} if {@code type} is assignable to {@code toType}.
      */
     public static boolean isAssignable(final Type type, final Type toType) {
-        return isAssignable(type, toType, null);
+        return TypeResolutionCache.isAssignable(type, toType);
     }
 
     /**
@@ -1266,7 +1300,7 @@ public static boolean isAssignable(final Type type, final Type toType) {
      * @param typeVarAssigns optional map of type variable assignments
      * @return {@code true} if {@code type} is assignable to {@code toType}.
      */
-    private static boolean isAssignable(final Type type, final Type toType,
+    static boolean isAssignable(final Type type, final Type toType,
             final Map<TypeVariable<?>, Type> typeVarAssigns) {
         if (toType == null || toType instanceof Class<?>) {
             return isAssignable(type, (Class<?>) toType);
@@ -1656,7 +1690,7 @@ public static final ParameterizedType parameterizeWithOwner(final Type owner, fi
             "invalid number of type parameters specified: expected %d, got %d", rawClass.getTypeParameters().length,
             typeArguments.length);
 
-        return new ParameterizedTypeImpl(rawClass, useOwner, typeArguments);
+        return intern(new ParameterizedTypeImpl(rawClass, useOwner, typeArguments));
     }
 
     /**
@@ -18,8 +18,10 @@
 
 import java.text.ParseException;
 import java.text.ParsePosition;
+import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.NoSuchElementException;
@@ -187,6 +189,29 @@ public static boolean isSameDay(final Calendar cal1, final Calendar cal2) {
                 cal1.get(Calendar.DAY_OF_YEAR) == cal2.get(Calendar.DAY_OF_YEAR);
     }
 
+    /**
+     * Checks if two instants are on the same day in a time zone, ignoring time.
+     *
+     * <p>This is {@link #isSameDay(Calendar, Calendar)} for two Gregorian calendars in the
+     * time zone, computed from the epoch milliseconds without creating calendars.</p>
+     *
+     * @param millis1  the first instant in milliseconds from the epoch
+     * @param millis2  the second instant in milliseconds from the epoch
+     * @param timeZone  the time zone of the days, not null
+     * @return true if they represent the same day
+     * @throws NullPointerException if the time zone is {@code null}
+     * @since 3.13.0
+     */
+    public static boolean isSameDay(final long millis1, final long millis2, final TimeZone timeZone) {
+        Objects.requireNonNull(timeZone, "timeZone");
+        final ZoneOffsetTable table = ZoneOffsetTable.of(timeZone);
+        if (table != null && table.covers(millis1) && table.covers(millis2)) {
+            return Math.floorDiv(millis1 + table.getOffset(millis1), MILLIS_PER_DAY)
+                == Math.floorDiv(millis2 + table.getOffset(millis2), MILLIS_PER_DAY);
+        }
+        return isSameDay(toGregorianCalendar(millis1, timeZone), toGregorianCalendar(millis2, timeZone));
+    }
+
     /**
      * Checks if two date objects represent the same instant in time.
      *
@@ -625,6 +650,19 @@ private static Date set(final Date date, final int calendarField, final int amou
         return c.getTime();
     }
 
+    /**
+     * Creates a Gregorian calendar at an instant.
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param timeZone  the time zone, not null
+     * @return a new calendar
+     */
+    private static Calendar toGregorianCalendar(final long millis, final TimeZone timeZone) {
+        final Calendar calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(millis);
+        return calendar;
+    }
+
     /**
      * Converts a {@link Date} into a {@link Calendar}.
      *
@@ -889,6 +927,109 @@ public static Date ceiling(final Object date, final int field) {
         throw new ClassCastException("Could not find ceiling of for type: " + date.getClass());
     }
 
+    /**
+     * Gets a date ceiling in a time zone, leaving the field specified as the most
+     * significant field.
+     *
+     * <p>This is {@link #ceiling(Calendar, int)} for a Gregorian calendar in the time zone,
+     * computed from the epoch milliseconds without creating a calendar, see
+     * {@link #truncate(long, TimeZone, int)}.</p>
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param timeZone  the time zone of the fields, not null
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @return the ceil instant in milliseconds from the epoch
+     * @throws NullPointerException if the time zone is {@code null}
+     * @throws IllegalArgumentException if the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long ceiling(final long millis, final TimeZone timeZone, final int field) {
+        Objects.requireNonNull(timeZone, "timeZone");
+        return modify(millis, timeZone, ZoneOffsetTable.of(timeZone), field, ModifyType.CEILING);
+    }
+
+    /**
+     * Rounds an instant in a time zone, leaving the field specified as the most
+     * significant field.
+     *
+     * <p>This is {@link #round(Calendar, int)} for a Gregorian calendar in the time zone,
+     * computed from the epoch milliseconds without creating a calendar, see
+     * {@link #truncate(long, TimeZone, int)}.</p>
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param timeZone  the time zone of the fields, not null
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @return the rounded instant in milliseconds from the epoch
+     * @throws NullPointerException if the time zone is {@code null}
+     * @throws IllegalArgumentException if the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long round(final long millis, final TimeZone timeZone, final int field) {
+        Objects.requireNonNull(timeZone, "timeZone");
+        return modify(millis, timeZone, ZoneOffsetTable.of(timeZone), field, ModifyType.ROUND);
+    }
+
+    /**
+     * Truncates an instant in a time zone, leaving the field specified as the most
+     * significant field.
+     *
+     * <p>This is {@link #truncate(Calendar, int)} for a Gregorian calendar in the time zone,
+     * computed from the epoch milliseconds without creating a calendar, for example to put
+     * event timestamps into hourly or daily buckets:</p>
+     *
+     * <pre>
+     * final long hour = DateUtils.truncate(event.getTimestamp(), zone, Calendar.HOUR_OF_DAY);
+     * </pre>
+     *
+     * <p>The offsets of the time zone are looked up in a shared table. Instants outside of the
+     * years 1901 to 2099, or whose calculation meets a daylight saving time gap or overlap, and
+     * time zones whose rules cannot be tabulated, such as a {@link java.util.SimpleTimeZone} with
+     * daylight saving time, are computed with a calendar, so the result is always the same as
+     * the calendar's.</p>
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param timeZone  the time zone of the fields, not null
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @return the truncated instant in milliseconds from the epoch
+     * @throws NullPointerException if the time zone is {@code null}
+     * @throws IllegalArgumentException if the field is not supported
+     * @throws ArithmeticException if the year is over 280 million
+     * @since 3.13.0
+     */
+    public static long truncate(final long millis, final TimeZone timeZone, final int field) {
+        Objects.requireNonNull(timeZone, "timeZone");
+        return modify(millis, timeZone, ZoneOffsetTable.of(timeZone), field, ModifyType.TRUNCATE);
+    }
+
+    /**
+     * Truncates many instants in a time zone, leaving the field specified as the most
+     * significant field.
+     *
+     * <p>This is {@link #truncate(long, TimeZone, int)} for each element, looking up the
+     * time zone only once.</p>
+     *
+     * @param millis  the instants in milliseconds from the epoch, not null
+     * @param timeZone  the time zone of the fields, not null
+     * @param field  the field from {@link Calendar} or {@code SEMI_MONTH}
+     * @return a new array of the truncated instants in milliseconds from the epoch
+     * @throws NullPointerException if the array or the time zone is {@code null}
+     * @throws IllegalArgumentException if the field is not supported
+     * @throws ArithmeticException if a year is over 280 million
+     * @since 3.13.0
+     */
+    public static long[] truncate(final long[] millis, final TimeZone timeZone, final int field) {
+        Objects.requireNonNull(millis, "millis");
+        Objects.requireNonNull(timeZone, "timeZone");
+        final ZoneOffsetTable table = ZoneOffsetTable.of(timeZone);
+        final long[] result = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            result[i] = modify(millis[i], timeZone, table, field, ModifyType.TRUNCATE);
+        }
+        return result;
+    }
+
     /**
      * Internal calculation method.
      *
@@ -1037,6 +1178,220 @@ private static Calendar modify(final Calendar val, final int field, final Modify
         throw new IllegalArgumentException("The field " + field + " is not supported");
     }
 
+    /**
+     * Internal calculation method on epoch milliseconds.
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param timeZone  the time zone, not null
+     * @param table  the offsets of the time zone, null if not available
+     * @param field  the field constant
+     * @param modType  type to truncate, round or ceiling
+     * @return the modified instant
+     */
+    private static long modify(final long millis, final TimeZone timeZone, final ZoneOffsetTable table, final int field,
+        final ModifyType modType) {
+        if (table != null && table.covers(millis)) {
+            final long result = modify(millis, table, field, modType);
+            if (result != ZoneOffsetTable.AMBIGUOUS) {
+                return result;
+            }
+        }
+        return modify(toGregorianCalendar(millis, timeZone), field, modType).getTimeInMillis();
+    }
+
+    /**
+     * Performs the steps of {@link #modify(Calendar, int, ModifyType)} on epoch milliseconds,
+     * with the offsets of a table instead of a Gregorian calendar.
+     *
+     * @param millis  the instant in milliseconds from the epoch, covered by the table
+     * @param table  the offsets of the time zone
+     * @param field  the field constant
+     * @param modType  type to truncate, round or ceiling
+     * @return the modified instant, or {@link ZoneOffsetTable#AMBIGUOUS} if a step sets a local time
+     * that is in a gap or an overlap, or the field is not handled, so that a calendar is needed
+     */
+    private static long modify(final long millis, final ZoneOffsetTable table, final int field, final ModifyType modType) {
+        if (field == Calendar.MILLISECOND) {
+            return millis;
+        }
+        long local = millis + table.getOffset(millis);
+        long time = millis;
+
+        // LANG-59: milliseconds, seconds and minutes are removed from the instant
+        final long millisecs = Math.floorMod(local, MILLIS_PER_SECOND);
+        if (ModifyType.TRUNCATE == modType || millisecs < 500) {
+            time -= millisecs;
+        }
+        if (field != Calendar.SECOND) {
+            final long seconds = Math.floorMod(local, MILLIS_PER_MINUTE) / MILLIS_PER_SECOND;
+            if (ModifyType.TRUNCATE == modType || seconds < 30) {
+                time -= seconds * MILLIS_PER_SECOND;
+            }
+            if (field != Calendar.MINUTE) {
+                final long minutes = Math.floorMod(local, MILLIS_PER_HOUR) / MILLIS_PER_MINUTE;
+                if (ModifyType.TRUNCATE == modType || minutes < 30) {
+                    time -= minutes * MILLIS_PER_MINUTE;
+                }
+            }
+        }
+
+        boolean roundUp = false;
+        for (final int[] aField : fields) {
+            for (final int element : aField) {
+                if (element == field) {
+                    if (modType == ModifyType.CEILING || modType == ModifyType.ROUND && roundUp) {
+                        time = addOne(time, table, aField[0], field);
+                    }
+                    return time;
+                }
+            }
+            if (aField[0] == Calendar.YEAR) {
+                // ERA is left to the calendar
+                return ZoneOffsetTable.AMBIGUOUS;
+            }
+            local = time + table.getOffset(time);
+            final long unit;
+            final long value;
+            long min = 0;
+            long max;
+            switch (aField[0]) {
+                case Calendar.MILLISECOND:
+                    unit = 1;
+                    value = Math.floorMod(local, MILLIS_PER_SECOND);
+                    max = 999;
+                    break;
+                case Calendar.SECOND:
+                    unit = MILLIS_PER_SECOND;
+                    value = Math.floorMod(local, MILLIS_PER_MINUTE) / unit;
+                    max = 59;
+                    break;
+                case Calendar.MINUTE:
+                    unit = MILLIS_PER_MINUTE;
+                    value = Math.floorMod(local, MILLIS_PER_HOUR) / unit;
+                    max = 59;
+                    break;
+                case Calendar.HOUR_OF_DAY:
+                    unit = MILLIS_PER_HOUR;
+                    value = Math.floorMod(local, MILLIS_PER_DAY) / unit;
+                    max = 23;
+                    break;
+                case Calendar.DATE: {
+                    final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(local, MILLIS_PER_DAY));
+                    unit = MILLIS_PER_DAY;
+                    value = date.getDayOfMonth();
+                    min = 1;
+                    max = date.lengthOfMonth();
+                    break;
+                }
+                default: {
+                    // MONTH
+                    final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(local, MILLIS_PER_DAY));
+                    final long offset = date.getMonthValue() - 1;
+                    roundUp = offset > 5;
+                    if (offset != 0) {
+                        time = table.toUtc(local + (date.minusMonths(offset).toEpochDay() - date.toEpochDay()) * MILLIS_PER_DAY);
+                        if (time == ZoneOffsetTable.AMBIGUOUS) {
+                            return time;
+                        }
+                    }
+                    continue;
+                }
+            }
+            long offset = value - min;
+            if (field == SEMI_MONTH && aField[0] == Calendar.DATE) {
+                if (offset >= 15) {
+                    offset -= 15;
+                }
+                roundUp = offset > 7;
+            } else if (field == Calendar.AM_PM && aField[0] == Calendar.HOUR_OF_DAY) {
+                if (offset >= 12) {
+                    offset -= 12;
+                }
+                roundUp = offset >= 6;
+            } else {
+                roundUp = offset > (max - min) / 2;
+            }
+            if (offset != 0) {
+                time = table.toUtc(local - offset * unit);
+                if (time == ZoneOffsetTable.AMBIGUOUS) {
+                    return time;
+                }
+            }
+        }
+        return ZoneOffsetTable.AMBIGUOUS;
+    }
+
+    /**
+     * Adds one unit of a field the way {@link #modify(Calendar, int, ModifyType)} does.
+     *
+     * @param time  the instant in milliseconds from the epoch
+     * @param table  the offsets of the time zone
+     * @param calendarField  the first field of the group that matched
+     * @param field  the field constant
+     * @return the new instant, or {@link ZoneOffsetTable#AMBIGUOUS}
+     */
+    private static long addOne(final long time, final ZoneOffsetTable table, final int calendarField, final int field) {
+        final long local = time + table.getOffset(time);
+        if (field == SEMI_MONTH) {
+            if (LocalDate.ofEpochDay(Math.floorDiv(local, MILLIS_PER_DAY)).getDayOfMonth() == 1) {
+                return addDays(time, table, 15);
+            }
+            return addMonths(addDays(time, table, -15), table, 1);
+        }
+        if (field == Calendar.AM_PM) {
+            if (Math.floorMod(local, MILLIS_PER_DAY) < MILLIS_PER_HOUR) {
+                return time + 12 * MILLIS_PER_HOUR;
+            }
+            return addDays(time - 12 * MILLIS_PER_HOUR, table, 1);
+        }
+        switch (calendarField) {
+            case Calendar.SECOND:
+                return time + MILLIS_PER_SECOND;
+            case Calendar.MINUTE:
+                return time + MILLIS_PER_MINUTE;
+            case Calendar.HOUR_OF_DAY:
+                return time + MILLIS_PER_HOUR;
+            case Calendar.DATE:
+                return addDays(time, table, 1);
+            case Calendar.MONTH:
+                return addMonths(time, table, 1);
+            default:
+                // YEAR
+                return addMonths(time, table, 12);
+        }
+    }
+
+    /**
+     * Adds days the way {@link GregorianCalendar#add(int, int)} does, keeping the local time of day
+     * unless it does not exist on the new day.
+     */
+    private static long addDays(final long time, final ZoneOffsetTable table, final int days) {
+        final int zoneOffset = table.getOffset(time);
+        final long local = time + zoneOffset + days * MILLIS_PER_DAY;
+        final long result = local - zoneOffset;
+        final int newOffset = table.getOffset(result);
+        if (newOffset != zoneOffset) {
+            final long adjusted = result + zoneOffset - newOffset;
+            if (Math.floorDiv(adjusted + table.getOffset(adjusted), MILLIS_PER_DAY) == Math.floorDiv(local, MILLIS_PER_DAY)) {
+                return adjusted;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds months the way {@link GregorianCalendar#add(int, int)} does, keeping the local time of day.
+     */
+    private static long addMonths(final long time, final ZoneOffsetTable table, final int months) {
+        if (time == ZoneOffsetTable.AMBIGUOUS) {
+            return time;
+        }
+        final long local = time + table.getOffset(time);
+        final long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        final long newEpochDay = LocalDate.ofEpochDay(epochDay).plusMonths(months).toEpochDay();
+        return table.toUtc(local + (newEpochDay - epochDay) * MILLIS_PER_DAY);
+    }
+
     /**
      * Constructs an {@link Iterator} over each day in a date
      * range defined by a focus date and range style.
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.text.ParsePosition;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An immutable index of case folded display names (month names, zone names, ...) used by {@link FastDateParser}
+ * to find the longest name at a position of the parsed text without regular expressions.
+ *
+ * <p>The names are kept as a sorted array, which is walked as an implicit trie: each character of the text narrows
+ * the range of names sharing the prefix read so far. This keeps the index as compact as the names themselves, which
+ * matters for time zone names as there are thousands per locale.</p>
+ *
+ * <p>Characters are compared the way {@code (?iu)} regular expressions compare them, by folding code points to upper
+ * and then lower case. As with the regular expressions this replaces, a trailing {@code '.'} of a name is
+ * optional.</p>
+ *
+ * @param <V> the type of value mapped to by a name.
+ */
+final class DisplayNameIndex<V> {
+
+    /**
+     * Creates an index of the given names.
+     *
+     * @param <V> the type of value mapped to by a name.
+     * @param names the display names, lower case by locale, to their values. When names fold to the same key, the
+     *  first in iteration order wins.
+     * @return a new index.
+     */
+    static <V> DisplayNameIndex<V> of(final Map<String, V> names) {
+        final TreeMap<String, V> folded = new TreeMap<>();
+        names.forEach((k, v) -> folded.putIfAbsent(fold(k), v));
+        // a name without its trailing period is matched only if it is not a name itself
+        names.forEach((k, v) -> {
+            if (k.length() > 1 && k.charAt(k.length() - 1) == '.') {
+                folded.putIfAbsent(fold(k.substring(0, k.length() - 1)), v);
+            }
+        });
+        return new DisplayNameIndex<>(folded);
+    }
+
+    /**
+     * Folds a code point so that code points matched by a case insensitive unicode regular expression are equal.
+     *
+     * @param codePoint the code point.
+     * @return the folded code point.
+     */
+    static int fold(final int codePoint) {
+        return Character.toLowerCase(Character.toUpperCase(codePoint));
+    }
+
+    /**
+     * Folds each code point of a string.
+     *
+     * @param name the string.
+     * @return the folded string.
+     */
+    static String fold(final String name) {
+        final StringBuilder sb = new StringBuilder(name.length());
+        name.codePoints().forEach(cp -> sb.appendCodePoint(fold(cp)));
+        return sb.toString();
+    }
+
+    /** Sorted folded names. */
+    private final String[] keys;
+
+    /** Values of {@link #keys}, by index. */
+    private final Object[] values;
+
+    private DisplayNameIndex(final TreeMap<String, V> folded) {
+        keys = folded.keySet().toArray(new String[0]);
+        values = folded.values().toArray();
+    }
+
+    /**
+     * Finds the longest name at a position of the given text.
+     *
+     * @param source the text to match.
+     * @param pos on input, the index to start matching at; on a match, updated to the index after the name.
+     * @return the value of the longest name found, or null if no name matches, in which case pos is not changed.
+     */
+    @SuppressWarnings("unchecked")
+    V longestMatch(final CharSequence source, final ParsePosition pos) {
+        // keys[lo, hi) all start with the prefix of length k read so far; sorting puts the prefix itself first
+        int lo = 0;
+        int hi = keys.length;
+        int k = 0;
+        int match = -1;
+        int matchEnd = -1;
+        final int end = source.length();
+        for (int i = pos.getIndex(); i < end && lo < hi;) {
+            final int codePoint = Character.codePointAt(source, i);
+            final int folded = fold(codePoint);
+            if (Character.isBmpCodePoint(folded)) {
+                lo = lowerBound(lo, hi, k, (char) folded);
+                hi = upperBound(lo, hi, k, (char) folded);
+                k++;
+            } else {
+                lo = lowerBound(lo, hi, k, Character.highSurrogate(folded));
+                hi = upperBound(lo, hi, k, Character.highSurrogate(folded));
+                k++;
+                lo = lowerBound(lo, hi, k, Character.lowSurrogate(folded));
+                hi = upperBound(lo, hi, k, Character.lowSurrogate(folded));
+                k++;
+            }
+            i += Character.charCount(codePoint);
+            if (lo < hi && keys[lo].length() == k) {
+                match = lo;
+                matchEnd = i;
+            }
+        }
+        if (match < 0) {
+            return null;
+        }
+        pos.setIndex(matchEnd);
+        return (V) values[match];
+    }
+
+    /**
+     * Gets the first index in {@code keys[lo, hi)} whose character at k is not less than c,
+     * skipping a key of length k which sorts first.
+     */
+    private int lowerBound(int lo, int hi, final int k, final char c) {
+        if (lo < hi && keys[lo].length() == k) {
+            lo++;
+        }
+        while (lo < hi) {
+            final int mid = lo + hi >>> 1;
+            if (keys[mid].charAt(k) < c) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Gets the first index in {@code keys[lo, hi)} whose character at k is greater than c,
+     * all keys in the range being longer than k.
+     */
+    private int upperBound(int lo, int hi, final int k, final char c) {
+        while (lo < hi) {
+            final int mid = lo + hi >>> 1;
+            if (keys[mid].charAt(k) <= c) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * Gets the number of names in this index.
+     *
+     * @return the number of names.
+     */
+    int size() {
+        return keys.length;
+    }
+
+    /**
+     * Converts this instance to a handy debug string.
+     */
+    @Override
+    public String toString() {
+        return "DisplayNameIndex [size=" + keys.length + "]";
+    }
+}
@@ -0,0 +1,318 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.commons.lang3.time.DurationFormatUtils.Token;
+
+/**
+ * A compiled, immutable and thread-safe form of a {@link DurationFormatUtils} duration format.
+ *
+ * <p>{@link DurationFormatUtils#formatDuration(long, String, boolean)} parses its format on every
+ * call. A DurationFormatter parses the format once and then writes durations directly into any
+ * {@link Appendable}, without intermediate strings for the numbers or their padding:</p>
+ *
+ * <pre>
+ * private static final DurationFormatter HMS = DurationFormatter.of("HH:mm:ss.SSS");
+ * ...
+ * HMS.format(elapsedMillis, logLine);
+ * </pre>
+ *
+ * <p>As with {@link DurationFormatUtils#formatDuration(long, String, boolean)}, only the days and
+ * lower fields of the format are used; years and months are always zero.</p>
+ *
+ * @since 3.13.0
+ */
+public final class DurationFormatter {
+
+    /** Field codes, a literal is stored as its index in {@link #literals}. */
+    private static final int LITERAL = 0;
+    private static final int YEARS = 1;
+    private static final int MONTHS = 2;
+    private static final int DAYS = 3;
+    private static final int HOURS = 4;
+    private static final int MINUTES = 5;
+    private static final int SECONDS = 6;
+    private static final int MILLISECONDS = 7;
+
+    /** Powers of ten that fit in a long, by exponent. */
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    /**
+     * Compiles a format, padding the left-hand side of numbers with zeros.
+     *
+     * @param format  the way in which to format the duration, not null
+     * @return a new formatter
+     * @throws NullPointerException if format is {@code null}
+     * @throws IllegalArgumentException if format has an unmatched quote
+     */
+    public static DurationFormatter of(final String format) {
+        return of(format, true);
+    }
+
+    /**
+     * Compiles a format.
+     *
+     * @param format  the way in which to format the duration, not null
+     * @param padWithZeros  whether to pad the left-hand side of numbers with 0's
+     * @return a new formatter
+     * @throws NullPointerException if format is {@code null}
+     * @throws IllegalArgumentException if format has an unmatched quote
+     */
+    public static DurationFormatter of(final String format, final boolean padWithZeros) {
+        return new DurationFormatter(Objects.requireNonNull(format, "format"), padWithZeros);
+    }
+
+    /**
+     * Appends a non-negative value in decimal, left padded with zeros to the given width.
+     *
+     * @param buffer the buffer to append to.
+     * @param value the non-negative value.
+     * @param width the minimum number of digits, 0 for none.
+     * @throws IOException If an I/O error occurs
+     */
+    private static void appendPadded(final Appendable buffer, final long value, final int width) throws IOException {
+        int digits = 1;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits]) {
+            digits++;
+        }
+        for (int i = width - digits; i > 0; i--) {
+            buffer.append('0');
+        }
+        for (int i = digits - 1; i >= 0; i--) {
+            buffer.append((char) ('0' + value / POWERS_OF_TEN[i] % 10));
+        }
+    }
+
+    private static int fieldOf(final Object value) {
+        if (value == DurationFormatUtils.y) {
+            return YEARS;
+        }
+        if (value == DurationFormatUtils.M) {
+            return MONTHS;
+        }
+        if (value == DurationFormatUtils.d) {
+            return DAYS;
+        }
+        if (value == DurationFormatUtils.H) {
+            return HOURS;
+        }
+        if (value == DurationFormatUtils.m) {
+            return MINUTES;
+        }
+        if (value == DurationFormatUtils.s) {
+            return SECONDS;
+        }
+        return MILLISECONDS;
+    }
+
+    private final String format;
+    private final boolean padWithZeros;
+
+    /** The field of each element, {@link #LITERAL} for text. */
+    private final int[] fields;
+
+    /** The minimum width of each numeric element, the index in {@link #literals} of each text element. */
+    private final int[] widths;
+    private final String[] literals;
+
+    private final boolean hasDays;
+    private final boolean hasHours;
+    private final boolean hasMinutes;
+    private final boolean hasSeconds;
+
+    private DurationFormatter(final String format, final boolean padWithZeros) {
+        this.format = format;
+        this.padWithZeros = padWithZeros;
+        final Token[] tokens = DurationFormatUtils.lexx(format);
+        fields = new int[tokens.length];
+        widths = new int[tokens.length];
+        int literalCount = 0;
+        for (final Token token : tokens) {
+            if (token.getValue() instanceof StringBuilder) {
+                literalCount++;
+            }
+        }
+        literals = new String[literalCount];
+        literalCount = 0;
+        boolean lastOutputSeconds = false;
+        for (int i = 0; i < tokens.length; i++) {
+            final Object value = tokens[i].getValue();
+            final int count = tokens[i].getCount();
+            if (value instanceof StringBuilder) {
+                fields[i] = LITERAL;
+                widths[i] = literalCount;
+                literals[literalCount++] = value.toString();
+                continue;
+            }
+            final int field = fieldOf(value);
+            fields[i] = field;
+            if (field == MILLISECONDS && lastOutputSeconds) {
+                // ensure at least 3 digits are displayed even if padding is not selected
+                widths[i] = padWithZeros ? Math.max(3, count) : 3;
+            } else {
+                widths[i] = padWithZeros ? count : 0;
+            }
+            lastOutputSeconds = field == SECONDS;
+        }
+        hasDays = Token.containsTokenWithValue(tokens, DurationFormatUtils.d);
+        hasHours = Token.containsTokenWithValue(tokens, DurationFormatUtils.H);
+        hasMinutes = Token.containsTokenWithValue(tokens, DurationFormatUtils.m);
+        hasSeconds = Token.containsTokenWithValue(tokens, DurationFormatUtils.s);
+    }
+
+    /**
+     * Formats a duration into the supplied {@link Appendable}.
+     *
+     * @param duration  the duration to format, not null
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     * @throws NullPointerException if duration is {@code null}
+     * @throws IllegalArgumentException if duration is negative
+     * @throws ArithmeticException if duration is too large to fit in a {@code long} number of milliseconds
+     */
+    public <B extends Appendable> B format(final Duration duration, final B buf) {
+        return format(Objects.requireNonNull(duration, "duration").toMillis(), buf);
+    }
+
+    /**
+     * Formats a duration into the supplied {@link Appendable}.
+     *
+     * @param durationMillis  the duration to format
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified buffer
+     * @throws IllegalArgumentException if durationMillis is negative
+     */
+    public <B extends Appendable> B format(final long durationMillis, final B buf) {
+        Validate.inclusiveBetween(0, Long.MAX_VALUE, durationMillis, "durationMillis must not be negative");
+        long days = 0;
+        long hours = 0;
+        long minutes = 0;
+        long seconds = 0;
+        long milliseconds = durationMillis;
+        if (hasDays) {
+            days = milliseconds / DateUtils.MILLIS_PER_DAY;
+            milliseconds -= days * DateUtils.MILLIS_PER_DAY;
+        }
+        if (hasHours) {
+            hours = milliseconds / DateUtils.MILLIS_PER_HOUR;
+            milliseconds -= hours * DateUtils.MILLIS_PER_HOUR;
+        }
+        if (hasMinutes) {
+            minutes = milliseconds / DateUtils.MILLIS_PER_MINUTE;
+            milliseconds -= minutes * DateUtils.MILLIS_PER_MINUTE;
+        }
+        if (hasSeconds) {
+            seconds = milliseconds / DateUtils.MILLIS_PER_SECOND;
+            milliseconds -= seconds * DateUtils.MILLIS_PER_SECOND;
+        }
+        try {
+            for (int i = 0; i < fields.length; i++) {
+                final long value;
+                switch (fields[i]) {
+                case LITERAL:
+                    buf.append(literals[widths[i]]);
+                    continue;
+                case DAYS:
+                    value = days;
+                    break;
+                case HOURS:
+                    value = hours;
+                    break;
+                case MINUTES:
+                    value = minutes;
+                    break;
+                case SECONDS:
+                    value = seconds;
+                    break;
+                case MILLISECONDS:
+                    value = milliseconds;
+                    break;
+                default:
+                    // years and months
+                    value = 0;
+                    break;
+                }
+                appendPadded(buf, value, widths[i]);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
+    /**
+     * Formats a duration.
+     *
+     * @param duration  the duration to format, not null
+     * @return the formatted duration, not null
+     * @throws NullPointerException if duration is {@code null}
+     * @throws IllegalArgumentException if duration is negative
+     * @throws ArithmeticException if duration is too large to fit in a {@code long} number of milliseconds
+     */
+    public String format(final Duration duration) {
+        return format(duration, new StringBuilder()).toString();
+    }
+
+    /**
+     * Formats a duration.
+     *
+     * @param durationMillis  the duration to format
+     * @return the formatted duration, not null
+     * @throws IllegalArgumentException if durationMillis is negative
+     */
+    public String format(final long durationMillis) {
+        return format(durationMillis, new StringBuilder()).toString();
+    }
+
+    /**
+     * Gets the format this formatter was compiled from.
+     *
+     * @return the format.
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * Tests whether numbers are left padded with zeros.
+     *
+     * @return whether numbers are padded.
+     */
+    public boolean isPadWithZeros() {
+        return padWithZeros;
+    }
+
+    @Override
+    public String toString() {
+        return "DurationFormatter[" + format + ", padWithZeros=" + padWithZeros + "]";
+    }
+}
@@ -26,8 +26,11 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Objects;
 import java.util.TimeZone;
 
+import org.apache.commons.lang3.util.CacheStatistics;
+
 /**
  * FastDateFormat is a fast and thread-safe version of
  * {@link java.text.SimpleDateFormat}.
@@ -370,6 +373,69 @@ public static FastDateFormat getDateTimeInstance(
         return cache.getDateTimeInstance(dateStyle, timeStyle, timeZone, locale);
     }
 
+    /**
+     * Creates and caches formatter instances for the given patterns, so that later calls to
+     * {@link #getInstance(String, TimeZone, Locale)} with the same arguments are cache hits.
+     *
+     * @param patterns  {@link java.text.SimpleDateFormat} compatible patterns, non-null
+     * @param timeZone  optional time zone, null means use the default TimeZone
+     * @param locale  optional locale, null means use the default Locale
+     * @throws NullPointerException if patterns or one of its elements is {@code null}
+     * @throws IllegalArgumentException if a pattern is invalid
+     * @since 3.13.0
+     */
+    public static void warmUp(final Iterable<String> patterns, final TimeZone timeZone, final Locale locale) {
+        cache.warmUp(patterns, timeZone, locale);
+    }
+
+    /**
+     * Builds the month, day, era, AM/PM and time zone name tables used for parsing in the given
+     * locales. The tables are shared by all parsers; building them eagerly moves their cost, which
+     * can be significant for time zone names, to application startup.
+     *
+     * @param locales the locales, null elements mean the default Locale
+     * @throws NullPointerException if locales is {@code null}
+     * @since 3.13.0
+     */
+    public static void preloadDisplayNames(final Locale... locales) {
+        FastDateParser.preload(Objects.requireNonNull(locales, "locales"));
+    }
+
+    /**
+     * Gets the maximum number of instances kept by the shared instance cache.
+     *
+     * @return the maximum size, {@link CacheStatistics#UNBOUNDED} (the default) for no limit.
+     * @since 3.13.0
+     */
+    public static int getMaximumCacheSize() {
+        return cache.getMaximumSize();
+    }
+
+    /**
+     * Sets the maximum number of instances kept by the shared instance cache.
+     *
+     * <p>Services that build formats from user supplied patterns, time zones or locales
+     * should set a limit; least recently used instances are then evicted. Evicted instances
+     * remain usable by code that holds them.</p>
+     *
+     * @param maximumSize the maximum size, {@link CacheStatistics#UNBOUNDED} for no limit.
+     * @throws IllegalArgumentException if maximumSize is less than 1.
+     * @since 3.13.0
+     */
+    public static void setMaximumCacheSize(final int maximumSize) {
+        cache.setMaximumSize(maximumSize);
+    }
+
+    /**
+     * Gets a snapshot of the hit, miss and eviction counters of the shared instance cache.
+     *
+     * @return the cache statistics.
+     * @since 3.13.0
+     */
+    public static CacheStatistics getCacheStatistics() {
+        return cache.getStatistics();
+    }
+
     // Constructor
     /**
      * Constructs a new FastDateFormat.
@@ -25,17 +25,14 @@
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
-import java.util.Comparator;
 import java.util.Date;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.TimeZone;
-import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
@@ -107,12 +104,6 @@ public class FastDateParser implements DateParser, Serializable {
     /** Initialized from Calendar. */
     private transient List<StrategyAndWidth> patterns;
 
-    /**
-     * comparator used to sort regex alternatives. Alternatives should be ordered longer first, and shorter last.
-     * ('february' before 'feb'). All entries must be lower-case by locale.
-     */
-    private static final Comparator<String> LONGER_FIRST_LOWERCASE = Comparator.reverseOrder();
-
     /**
      * Constructs a new FastDateParser.
      *
@@ -450,56 +441,19 @@ public boolean parse(final String source, final ParsePosition pos, final Calenda
 
     // Support for strategies
 
-    private static StringBuilder simpleQuote(final StringBuilder sb, final String value) {
-        for (int i = 0; i < value.length(); ++i) {
-            final char c = value.charAt(i);
-            switch (c) {
-            case '\\':
-            case '^':
-            case '$':
-            case '.':
-            case '|':
-            case '?':
-            case '*':
-            case '+':
-            case '(':
-            case ')':
-            case '[':
-            case '{':
-                sb.append('\\');
-            default:
-                sb.append(c);
-            }
-        }
-        if (sb.charAt(sb.length() - 1) == '.') {
-            // trailing '.' is optional
-            sb.append('?');
-        }
-        return sb;
-    }
-
     /**
      * Gets the short and long values displayed for a field
      * @param calendar The calendar to obtain the short and long values
      * @param locale The locale of display names
      * @param field The field of interest
-     * @param regex The regular expression to build
-     * @return The map of string display names to field values
+     * @return The index of lower case display names to field values
      */
-    private static Map<String, Integer> appendDisplayNames(final Calendar calendar, final Locale locale, final int field,
-            final StringBuilder regex) {
-        final Map<String, Integer> values = new HashMap<>();
+    private static DisplayNameIndex<Integer> newDisplayNameIndex(final Calendar calendar, final Locale locale, final int field) {
+        final Map<String, Integer> values = new LinkedHashMap<>();
         final Locale actualLocale = LocaleUtils.toLocale(locale);
         final Map<String, Integer> displayNames = calendar.getDisplayNames(field, Calendar.ALL_STYLES, actualLocale);
-        final TreeSet<String> sorted = new TreeSet<>(LONGER_FIRST_LOWERCASE);
-        displayNames.forEach((k, v) -> {
-            final String keyLc = k.toLowerCase(actualLocale);
-            if (sorted.add(keyLc)) {
-                values.put(keyLc, v);
-            }
-        });
-        sorted.forEach(symbol -> simpleQuote(regex, symbol).append('|'));
-        return values;
+        displayNames.forEach((k, v) -> values.putIfAbsent(k.toLowerCase(actualLocale), v));
+        return DisplayNameIndex.of(values);
     }
 
     /**
@@ -558,12 +512,12 @@ boolean isNumber() {
         @Override
         boolean parse(final FastDateParser parser, final Calendar calendar, final String source,
             final ParsePosition pos, final int maxWidth) {
-            final Matcher matcher = pattern.matcher(source.substring(pos.getIndex()));
+            final Matcher matcher = pattern.matcher(source).region(pos.getIndex(), source.length());
             if (!matcher.lookingAt()) {
                 pos.setErrorIndex(pos.getIndex());
                 return false;
             }
-            pos.setIndex(pos.getIndex() + matcher.end(1));
+            pos.setIndex(matcher.end(1));
             setCalendar(parser, calendar, matcher.group(1));
             return true;
         }
@@ -643,20 +597,41 @@ private Strategy getStrategy(final char f, final int width, final Calendar defin
         }
     }
 
-    @SuppressWarnings("unchecked") // OK because we are creating an array with no entries
+    @SuppressWarnings("unchecked") // OK because the array is filled right away
     private static final ConcurrentMap<Locale, Strategy>[] caches = new ConcurrentMap[Calendar.FIELD_COUNT];
 
+    /** The Calendar fields parsed from display names. */
+    private static final int[] LOCALE_SPECIFIC_FIELDS = {Calendar.ERA, Calendar.MONTH, Calendar.DAY_OF_WEEK, Calendar.AM_PM,
+        Calendar.ZONE_OFFSET};
+
+    static {
+        for (int i = 0; i < caches.length; i++) {
+            caches[i] = new ConcurrentHashMap<>();
+        }
+    }
+
     /**
      * Gets a cache of Strategies for a particular field
      * @param field The Calendar field
      * @return a cache of Locale to Strategy
      */
     private static ConcurrentMap<Locale, Strategy> getCache(final int field) {
-        synchronized (caches) {
-            if (caches[field] == null) {
-                caches[field] = new ConcurrentHashMap<>(3);
+        return caches[field];
+    }
+
+    /**
+     * Builds the display name strategies of the given locales, so that later parsers for those locales
+     * share them instead of building them on first use.
+     *
+     * @param locales the locales, null elements map to the default Locale.
+     */
+    static void preload(final Locale... locales) {
+        for (final Locale locale : locales) {
+            final Locale actualLocale = LocaleUtils.toLocale(locale);
+            final Calendar definingCalendar = Calendar.getInstance(TimeZone.getDefault(), actualLocale);
+            for (final int field : LOCALE_SPECIFIC_FIELDS) {
+                getLocaleSpecificStrategy(field, definingCalendar, actualLocale);
             }
-            return caches[field];
         }
     }
 
@@ -667,7 +642,22 @@ private static ConcurrentMap<Locale, Strategy> getCache(final int field) {
      * @return a TextStrategy for the field and Locale
      */
     private Strategy getLocaleSpecificStrategy(final int field, final Calendar definingCalendar) {
+        return getLocaleSpecificStrategy(field, definingCalendar, locale);
+    }
+
+    /**
+     * Constructs a Strategy that parses a Text field
+     * @param field The Calendar field
+     * @param definingCalendar The calendar to obtain the short and long values
+     * @param locale The Locale of the display names
+     * @return a TextStrategy for the field and Locale
+     */
+    private static Strategy getLocaleSpecificStrategy(final int field, final Calendar definingCalendar, final Locale locale) {
         final ConcurrentMap<Locale, Strategy> cache = getCache(field);
+        final Strategy strategy = cache.get(locale);
+        if (strategy != null) {
+            return strategy;
+        }
         return cache.computeIfAbsent(locale, k -> field == Calendar.ZONE_OFFSET ? new TimeZoneStrategy(locale) : new CaseInsensitiveTextStrategy(field, definingCalendar, locale));
     }
 
@@ -727,10 +717,10 @@ public String toString() {
     /**
      * A strategy that handles a text field in the parsing pattern
      */
-    private static class CaseInsensitiveTextStrategy extends PatternStrategy {
+    private static class CaseInsensitiveTextStrategy extends Strategy {
         private final int field;
         final Locale locale;
-        private final Map<String, Integer> lKeyValues;
+        private final DisplayNameIndex<Integer> lKeyValues;
 
         /**
          * Constructs a Strategy that parses a Text field
@@ -742,30 +732,23 @@ private static class CaseInsensitiveTextStrategy extends PatternStrategy {
         CaseInsensitiveTextStrategy(final int field, final Calendar definingCalendar, final Locale locale) {
             this.field = field;
             this.locale = LocaleUtils.toLocale(locale);
-
-            final StringBuilder regex = new StringBuilder();
-            regex.append("((?iu)");
-            lKeyValues = appendDisplayNames(definingCalendar, locale, field, regex);
-            regex.setLength(regex.length() - 1);
-            regex.append(")");
-            createPattern(regex);
+            lKeyValues = newDisplayNameIndex(definingCalendar, locale, field);
         }
 
-        /**
-         * {@inheritDoc}
-         */
         @Override
-        void setCalendar(final FastDateParser parser, final Calendar calendar, final String value) {
-            final String lowerCase = value.toLowerCase(locale);
-            Integer iVal = lKeyValues.get(lowerCase);
-            if (iVal == null) {
-                // match missing the optional trailing period
-                iVal = lKeyValues.get(lowerCase + '.');
+        boolean parse(final FastDateParser parser, final Calendar calendar, final String source,
+            final ParsePosition pos, final int maxWidth) {
+            final Integer value = lKeyValues.longestMatch(source, pos);
+            if (value == null) {
+                pos.setErrorIndex(pos.getIndex());
+                return false;
             }
+            final int iVal = value.intValue();
             //LANG-1669: Mimic fix done in OpenJDK 17 to resolve issue with parsing newly supported day periods added in OpenJDK 16
             if (Calendar.AM_PM != this.field || iVal <= 1) {
-                calendar.set(field, iVal.intValue());
+                calendar.set(field, iVal);
             }
+            return true;
         }
 
         /**
@@ -775,8 +758,7 @@ void setCalendar(final FastDateParser parser, final Calendar calendar, final Str
          */
         @Override
         public String toString() {
-            return "CaseInsensitiveTextStrategy [field=" + field + ", locale=" + locale + ", lKeyValues=" + lKeyValues
-                + ", pattern=" + pattern + "]";
+            return "CaseInsensitiveTextStrategy [field=" + field + ", locale=" + locale + ", lKeyValues=" + lKeyValues + "]";
         }
     }
 
@@ -881,12 +863,15 @@ int modify(final FastDateParser parser, final int iValue) {
     /**
      * A strategy that handles a time zone field in the parsing pattern
      */
-    static class TimeZoneStrategy extends PatternStrategy {
+    static class TimeZoneStrategy extends Strategy {
         private static final String RFC_822_TIME_ZONE = "[+-]\\d{4}";
         private static final String GMT_OPTION = TimeZones.GMT_ID + "[+-]\\d{1,2}:\\d{2}";
 
+        /** Matches the zones that are not looked up by name, tried before the names. */
+        private static final Pattern OFFSET_PATTERN = Pattern.compile("(?iu)" + RFC_822_TIME_ZONE + "|" + GMT_OPTION);
+
         private final Locale locale;
-        private final Map<String, TzInfo> tzNames = new HashMap<>();
+        private final DisplayNameIndex<TzInfo> tzNames;
 
         private static class TzInfo {
             final TimeZone zone;
@@ -911,11 +896,7 @@ private static class TzInfo {
         TimeZoneStrategy(final Locale locale) {
             this.locale = LocaleUtils.toLocale(locale);
 
-            final StringBuilder sb = new StringBuilder();
-            sb.append("((?iu)" + RFC_822_TIME_ZONE + "|" + GMT_OPTION);
-
-            final Set<String> sorted = new TreeSet<>(LONGER_FIRST_LOWERCASE);
-
+            final Map<String, TzInfo> names = new LinkedHashMap<>();
             final String[][] zones = DateFormatSymbols.getInstance(locale).getZoneStrings();
             for (final String[] zoneNames : zones) {
                 // offset 0 is the time zone ID and is not localized
@@ -941,40 +922,34 @@ private static class TzInfo {
                         break;
                     }
                     if (zoneNames[i] != null) {
-                        final String key = zoneNames[i].toLowerCase(locale);
                         // ignore the data associated with duplicates supplied in
                         // the additional names
-                        if (sorted.add(key)) {
-                            tzNames.put(key, tzInfo);
-                        }
+                        names.putIfAbsent(zoneNames[i].toLowerCase(locale), tzInfo);
                     }
                 }
             }
-            // order the regex alternatives with longer strings first, greedy
-            // match will ensure the longest string will be consumed
-            sorted.forEach(zoneName -> simpleQuote(sb.append('|'), zoneName));
-            sb.append(")");
-            createPattern(sb);
+            tzNames = DisplayNameIndex.of(names);
         }
 
-        /**
-         * {@inheritDoc}
-         */
         @Override
-        void setCalendar(final FastDateParser parser, final Calendar calendar, final String timeZone) {
-            final TimeZone tz = FastTimeZone.getGmtTimeZone(timeZone);
-            if (tz != null) {
-                calendar.setTimeZone(tz);
-            } else {
-                final String lowerCase = timeZone.toLowerCase(locale);
-                TzInfo tzInfo = tzNames.get(lowerCase);
-                if (tzInfo == null) {
-                    // match missing the optional trailing period
-                    tzInfo = tzNames.get(lowerCase + '.');
-                }
-                calendar.set(Calendar.DST_OFFSET, tzInfo.dstOffset);
-                calendar.set(Calendar.ZONE_OFFSET, tzInfo.zone.getRawOffset());
+        boolean parse(final FastDateParser parser, final Calendar calendar, final String source,
+            final ParsePosition pos, final int maxWidth) {
+            final int start = pos.getIndex();
+            final Matcher matcher = OFFSET_PATTERN.matcher(source).region(start, source.length());
+            if (matcher.lookingAt()) {
+                pos.setIndex(matcher.end());
+                calendar.setTimeZone(FastTimeZone.getGmtTimeZone(matcher.group()));
+                return true;
             }
+            // the longest name wins, as greedy matching of names ordered longer first did
+            final TzInfo tzInfo = tzNames.longestMatch(source, pos);
+            if (tzInfo == null) {
+                pos.setErrorIndex(start);
+                return false;
+            }
+            calendar.set(Calendar.DST_OFFSET, tzInfo.dstOffset);
+            calendar.set(Calendar.ZONE_OFFSET, tzInfo.zone.getRawOffset());
+            return true;
         }
 
         /**
@@ -984,7 +959,7 @@ void setCalendar(final FastDateParser parser, final Calendar calendar, final Str
          */
         @Override
         public String toString() {
-            return "TimeZoneStrategy [locale=" + locale + ", tzNames=" + tzNames + ", pattern=" + pattern + "]";
+            return "TimeZoneStrategy [locale=" + locale + ", tzNames=" + tzNames + "]";
         }
 
     }
@@ -23,9 +23,11 @@
 import java.text.DateFormatSymbols;
 import java.text.FieldPosition;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Locale;
 import java.util.TimeZone;
@@ -140,6 +142,10 @@ public class FastDatePrinter implements DatePrinter, Serializable {
      * The estimated maximum length.
      */
     private transient int maxLengthEstimate;
+    /**
+     * The rules, if they all use the fields of a local time in the Gregorian calendar; null otherwise.
+     */
+    private transient LocalFieldRule[] localRules;
 
     // Constructor
     /**
@@ -172,6 +178,18 @@ private void init() {
         }
 
         maxLengthEstimate = len;
+
+        localRules = null;
+        final LocalFieldRule[] local = new LocalFieldRule[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            if (!(rules[i] instanceof LocalFieldRule) || !((LocalFieldRule) rules[i]).usesLocalFields()) {
+                return;
+            }
+            local[i] = (LocalFieldRule) rules[i];
+        }
+        if (Calendar.getInstance(timeZone, locale).getClass() == GregorianCalendar.class) {
+            localRules = local;
+        }
     }
 
     // Parse the pattern
@@ -453,18 +471,7 @@ String format(final Object obj) {
      */
     @Override
     public String format(final long millis) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRulesToString(c);
-    }
-
-    /**
-     * Creates a String representation of the given Calendar by applying the rules of this printer to it.
-     * @param c the Calendar to apply the rules to.
-     * @return a String representation of the given Calendar.
-     */
-    private String applyRulesToString(final Calendar c) {
-        return applyRules(c, new StringBuilder(maxLengthEstimate)).toString();
+        return applyRules(millis, new StringBuilder(maxLengthEstimate)).toString();
     }
 
     /**
@@ -480,9 +487,7 @@ private Calendar newCalendar() {
      */
     @Override
     public String format(final Date date) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRulesToString(c);
+        return applyRules(date.getTime(), new StringBuilder(maxLengthEstimate)).toString();
     }
 
     /* (non-Javadoc)
@@ -498,9 +503,7 @@ public String format(final Calendar calendar) {
      */
     @Override
     public StringBuffer format(final long millis, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return applyRules(millis, buf);
     }
 
     /* (non-Javadoc)
@@ -508,9 +511,7 @@ public StringBuffer format(final long millis, final StringBuffer buf) {
      */
     @Override
     public StringBuffer format(final Date date, final StringBuffer buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return (StringBuffer) applyRules(c, (Appendable) buf);
+        return applyRules(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -527,9 +528,7 @@ public StringBuffer format(final Calendar calendar, final StringBuffer buf) {
      */
     @Override
     public <B extends Appendable> B format(final long millis, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTimeInMillis(millis);
-        return applyRules(c, buf);
+        return applyRules(millis, buf);
     }
 
     /* (non-Javadoc)
@@ -537,9 +536,7 @@ public <B extends Appendable> B format(final long millis, final B buf) {
      */
     @Override
     public <B extends Appendable> B format(final Date date, final B buf) {
-        final Calendar c = newCalendar();
-        c.setTime(date);
-        return applyRules(c, buf);
+        return applyRules(date.getTime(), buf);
     }
 
     /* (non-Javadoc)
@@ -590,6 +587,57 @@ private <B extends Appendable> B applyRules(final Calendar calendar, final B buf
         return buf;
     }
 
+    /**
+     * Performs the formatting by applying the rules to the
+     * specified instant.
+     *
+     * <p>If all rules only need the fields of a local time in the Gregorian calendar,
+     * they are computed from the shared offsets of the time zone instead of a new Calendar.</p>
+     *
+     * @param millis  the instant in milliseconds from the epoch
+     * @param buf  the buffer to format into
+     * @param <B> the Appendable class type, usually StringBuilder or StringBuffer.
+     * @return the specified string buffer
+     */
+    private <B extends Appendable> B applyRules(final long millis, final B buf) {
+        // the table is looked up for each call, as the time zone may be changed after this printer was created
+        final ZoneOffsetTable offsetTable = localRules == null ? null : ZoneOffsetTable.of(timeZone);
+        if (offsetTable == null || !offsetTable.covers(millis)) {
+            final Calendar c = newCalendar();
+            c.setTimeInMillis(millis);
+            return applyRules(c, buf);
+        }
+        final int offset = offsetTable.getOffset(millis);
+        final long local = millis + offset;
+        final LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(local, DateUtils.MILLIS_PER_DAY));
+        final int millisOfDay = (int) Math.floorMod(local, DateUtils.MILLIS_PER_DAY);
+        final int hourOfDay = millisOfDay / (int) DateUtils.MILLIS_PER_HOUR;
+        final int[] fields = new int[Calendar.FIELD_COUNT];
+        fields[Calendar.ERA] = GregorianCalendar.AD;
+        fields[Calendar.YEAR] = date.getYear();
+        fields[Calendar.MONTH] = date.getMonthValue() - 1;
+        fields[Calendar.DAY_OF_MONTH] = date.getDayOfMonth();
+        fields[Calendar.DAY_OF_YEAR] = date.getDayOfYear();
+        fields[Calendar.DAY_OF_WEEK] = date.getDayOfWeek().getValue() % 7 + Calendar.SUNDAY;
+        fields[Calendar.DAY_OF_WEEK_IN_MONTH] = (date.getDayOfMonth() - 1) / 7 + 1;
+        fields[Calendar.AM_PM] = hourOfDay / 12;
+        fields[Calendar.HOUR] = hourOfDay % 12;
+        fields[Calendar.HOUR_OF_DAY] = hourOfDay;
+        fields[Calendar.MINUTE] = millisOfDay / (int) DateUtils.MILLIS_PER_MINUTE % 60;
+        fields[Calendar.SECOND] = millisOfDay / (int) DateUtils.MILLIS_PER_SECOND % 60;
+        fields[Calendar.MILLISECOND] = millisOfDay % 1000;
+        // the total offset, DST_OFFSET stays 0
+        fields[Calendar.ZONE_OFFSET] = offset;
+        try {
+            for (final LocalFieldRule rule : localRules) {
+                rule.appendTo(buf, fields);
+            }
+        } catch (final IOException ioe) {
+            ExceptionUtils.rethrow(ioe);
+        }
+        return buf;
+    }
+
     // Accessors
     /* (non-Javadoc)
      * @see org.apache.commons.lang3.time.DatePrinter#getPattern()
@@ -790,6 +838,38 @@ private interface Rule {
         void appendTo(Appendable buf, Calendar calendar) throws IOException;
     }
 
+    /**
+     * Inner class defining a rule that may also be applied to the fields of a local time, rather than a calendar.
+     */
+    private interface LocalFieldRule extends Rule {
+        /**
+         * Appends the value of the fields of a local time in the Gregorian calendar to the output buffer,
+         * if {@link #usesLocalFields()}.
+         *
+         * @param buf the output buffer
+         * @param fields the values indexed by {@link Calendar} field, with the total offset in {@code ZONE_OFFSET}
+         * @throws IOException if an I/O error occurs.
+         */
+        void appendTo(Appendable buf, int[] fields) throws IOException;
+
+        /**
+         * Tests whether the rule can be applied to the fields of a local time, which depends on its field.
+         *
+         * @return whether {@link #appendTo(Appendable, int[])} may be called
+         */
+        boolean usesLocalFields();
+    }
+
+    /**
+     * Tests whether a field is known from a local time, without the week definition of a calendar.
+     *
+     * @param field the {@link Calendar} field
+     * @return whether the field is computed for {@link LocalFieldRule#appendTo(Appendable, int[])}
+     */
+    private static boolean isLocalField(final int field) {
+        return field != Calendar.WEEK_OF_YEAR && field != Calendar.WEEK_OF_MONTH;
+    }
+
     /**
      * Inner class defining a numeric rule.
      */
@@ -807,7 +887,7 @@ private interface NumberRule extends Rule {
     /**
      * Inner class to output a constant single character.
      */
-    private static class CharacterLiteral implements Rule {
+    private static class CharacterLiteral implements LocalFieldRule {
         private final char value;
 
         /**
@@ -835,12 +915,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            buffer.append(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
     }
 
     /**
      * Inner class to output a constant string.
      */
-    private static class StringLiteral implements Rule {
+    private static class StringLiteral implements LocalFieldRule {
         private final String value;
 
         /**
@@ -868,12 +964,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(value);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            buffer.append(value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
     }
 
     /**
      * Inner class to output one of a set of values.
      */
-    private static class TextField implements Rule {
+    private static class TextField implements LocalFieldRule {
         private final int field;
         private final String[] values;
 
@@ -911,12 +1023,28 @@ public int estimateLength() {
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
             buffer.append(values[calendar.get(field)]);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            buffer.append(values[fields[field]]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return isLocalField(field);
+        }
     }
 
     /**
      * Inner class to output an unpadded number.
      */
-    private static class UnpaddedNumberField implements NumberRule {
+    private static class UnpaddedNumberField implements NumberRule, LocalFieldRule {
         private final int field;
 
         /**
@@ -944,6 +1072,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(field));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[field]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return isLocalField(field);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -962,7 +1106,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output an unpadded month.
      */
-    private static class UnpaddedMonthField implements NumberRule {
+    private static class UnpaddedMonthField implements NumberRule, LocalFieldRule {
         static final UnpaddedMonthField INSTANCE = new UnpaddedMonthField();
 
         /**
@@ -988,6 +1132,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[Calendar.MONTH] + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1004,7 +1164,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a padded number.
      */
-    private static class PaddedNumberField implements NumberRule {
+    private static class PaddedNumberField implements NumberRule, LocalFieldRule {
         private final int field;
         private final int size;
 
@@ -1039,6 +1199,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(field));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[field]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return isLocalField(field);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1051,7 +1227,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit number.
      */
-    private static class TwoDigitNumberField implements NumberRule {
+    private static class TwoDigitNumberField implements NumberRule, LocalFieldRule {
         private final int field;
 
         /**
@@ -1079,6 +1255,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(field));
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[field]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return isLocalField(field);
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1095,7 +1287,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit year.
      */
-    private static class TwoDigitYearField implements NumberRule {
+    private static class TwoDigitYearField implements NumberRule, LocalFieldRule {
         static final TwoDigitYearField INSTANCE = new TwoDigitYearField();
 
         /**
@@ -1120,6 +1312,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.YEAR) % 100);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[Calendar.YEAR] % 100);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1132,7 +1340,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output a two digit month.
      */
-    private static class TwoDigitMonthField implements NumberRule {
+    private static class TwoDigitMonthField implements NumberRule, LocalFieldRule {
         static final TwoDigitMonthField INSTANCE = new TwoDigitMonthField();
 
         /**
@@ -1157,6 +1365,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             appendTo(buffer, calendar.get(Calendar.MONTH) + 1);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendTo(buffer, fields[Calendar.MONTH] + 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1169,7 +1393,7 @@ public final void appendTo(final Appendable buffer, final int value) throws IOEx
     /**
      * Inner class to output the twelve hour field.
      */
-    private static class TwelveHourField implements NumberRule {
+    private static class TwelveHourField implements NumberRule, LocalFieldRule {
         private final NumberRule rule;
 
         /**
@@ -1202,6 +1426,23 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             rule.appendTo(buffer, value);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            final int value = fields[Calendar.HOUR];
+            rule.appendTo(buffer, value == 0 ? 12 : value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1214,7 +1455,7 @@ public void appendTo(final Appendable buffer, final int value) throws IOExceptio
     /**
      * Inner class to output the twenty four hour field.
      */
-    private static class TwentyFourHourField implements NumberRule {
+    private static class TwentyFourHourField implements NumberRule, LocalFieldRule {
         private final NumberRule rule;
 
         /**
@@ -1247,6 +1488,23 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             rule.appendTo(buffer, value);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            final int value = fields[Calendar.HOUR_OF_DAY];
+            rule.appendTo(buffer, value == 0 ? 24 : value);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         /**
          * {@inheritDoc}
          */
@@ -1259,7 +1517,7 @@ public void appendTo(final Appendable buffer, final int value) throws IOExceptio
     /**
      * Inner class to output the numeric day in week.
      */
-    private static class DayInWeekField implements NumberRule {
+    private static class DayInWeekField implements NumberRule, LocalFieldRule {
         private final NumberRule rule;
 
         DayInWeekField(final NumberRule rule) {
@@ -1277,6 +1535,23 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             rule.appendTo(buffer, value == Calendar.SUNDAY ? 7 : value - 1);
         }
 
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            final int value = fields[Calendar.DAY_OF_WEEK];
+            rule.appendTo(buffer, value == Calendar.SUNDAY ? 7 : value - 1);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
+
         @Override
         public void appendTo(final Appendable buffer, final int value) throws IOException {
             rule.appendTo(buffer, value);
@@ -1380,7 +1655,7 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class TimeZoneNumberRule implements Rule {
+    private static class TimeZoneNumberRule implements LocalFieldRule {
         static final TimeZoneNumberRule INSTANCE_COLON = new TimeZoneNumberRule(true);
         static final TimeZoneNumberRule INSTANCE_NO_COLON = new TimeZoneNumberRule(false);
 
@@ -1408,9 +1683,17 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
 
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
-
+        /**
+         * Appends an offset from UTC.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset < 0) {
                 buffer.append('-');
                 offset = -offset;
@@ -1428,13 +1711,29 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             final int minutes = offset / (60 * 1000) - 60 * hours;
             appendDigits(buffer, minutes);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendOffset(buffer, fields[Calendar.ZONE_OFFSET] + fields[Calendar.DST_OFFSET]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
     }
 
     /**
      * Inner class to output a time zone as a number {@code +/-HHMM}
      * or {@code +/-HH:MM}.
      */
-    private static class Iso8601_Rule implements Rule {
+    private static class Iso8601_Rule implements LocalFieldRule {
 
         // Sign TwoDigitHours or Z
         static final Iso8601_Rule ISO8601_HOURS = new Iso8601_Rule(3);
@@ -1487,7 +1786,17 @@ public int estimateLength() {
          */
         @Override
         public void appendTo(final Appendable buffer, final Calendar calendar) throws IOException {
-            int offset = calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET);
+            appendOffset(buffer, calendar.get(Calendar.ZONE_OFFSET) + calendar.get(Calendar.DST_OFFSET));
+        }
+
+        /**
+         * Appends an offset from UTC.
+         *
+         * @param buffer the output buffer
+         * @param offset the offset in milliseconds
+         * @throws IOException if an I/O error occurs.
+         */
+        private void appendOffset(final Appendable buffer, int offset) throws IOException {
             if (offset == 0) {
                 buffer.append("Z");
                 return;
@@ -1514,6 +1823,22 @@ public void appendTo(final Appendable buffer, final Calendar calendar) throws IO
             final int minutes = offset / (60 * 1000) - 60 * hours;
             appendDigits(buffer, minutes);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void appendTo(final Appendable buffer, final int[] fields) throws IOException {
+            appendOffset(buffer, fields[Calendar.ZONE_OFFSET] + fields[Calendar.DST_OFFSET]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean usesLocalFields() {
+            return true;
+        }
     }
 
     /**
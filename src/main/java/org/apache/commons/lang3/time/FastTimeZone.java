@@ -17,6 +17,8 @@
 package org.apache.commons.lang3.time;
 
 import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -31,6 +33,14 @@ public class FastTimeZone {
 
     private static final TimeZone GREENWICH = new GmtTimeZone(false, 0, 0);
 
+    /**
+     * The largest number of parsed GMT offsets kept; there are only a few thousand ways to write the valid ones.
+     */
+    private static final int MAX_CACHED_GMT_ZONES = 4096;
+
+    /** Parsed GMT offsets, as {@link GmtTimeZone} is immutable. */
+    private static final ConcurrentMap<String, TimeZone> GMT_ZONES = new ConcurrentHashMap<>();
+
     /**
      * Gets the GMT TimeZone.
      * @return A TimeZone with a raw offset of zero.
@@ -50,7 +60,17 @@ public static TimeZone getGmtTimeZone(final String pattern) {
         if ("Z".equals(pattern) || "UTC".equals(pattern)) {
             return GREENWICH;
         }
+        TimeZone tz = GMT_ZONES.get(pattern);
+        if (tz == null) {
+            tz = parseGmtTimeZone(pattern);
+            if (tz != null && GMT_ZONES.size() < MAX_CACHED_GMT_ZONES) {
+                GMT_ZONES.putIfAbsent(pattern, tz);
+            }
+        }
+        return tz;
+    }
 
+    private static TimeZone parseGmtTimeZone(final String pattern) {
         final Matcher m = GMT_PATTERN.matcher(pattern);
         if (m.matches()) {
             final int hours = parseInt(m.group(2));
@@ -24,13 +24,21 @@
 import java.util.Objects;
 import java.util.TimeZone;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.commons.lang3.LocaleUtils;
+import org.apache.commons.lang3.util.CacheStatistics;
 
 /**
  * FormatCache is a cache and factory for {@link Format}s.
  *
+ * <p>The cache is unbounded by default. When a maximum size is set, entries are evicted with
+ * the CLOCK (second chance) approximation of LRU: a hit only marks the entry as referenced,
+ * so lookups stay lock-free, and eviction sweeps the insertion order skipping referenced
+ * entries once.</p>
+ *
  * @param <F> The Format type.
  *
  * @since 3.0
@@ -43,7 +51,18 @@
      */
     static final int NONE = -1;
 
-    private final ConcurrentMap<ArrayKey, F> cInstanceCache = new ConcurrentHashMap<>(7);
+    private final ConcurrentMap<ArrayKey, Entry<F>> cInstanceCache = new ConcurrentHashMap<>(7);
+
+    /** Insertion order of the keys in {@link #cInstanceCache}, swept on eviction. */
+    private final ConcurrentLinkedQueue<ArrayKey> evictionQueue = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    private volatile int maximumSize = CacheStatistics.UNBOUNDED;
 
     private static final ConcurrentMap<ArrayKey, String> cDateTimeInstanceCache = new ConcurrentHashMap<>(7);
 
@@ -74,7 +93,95 @@ public F getInstance(final String pattern, final TimeZone timeZone, final Locale
         final TimeZone actualTimeZone = TimeZones.toTimeZone(timeZone);
         final Locale actualLocale = LocaleUtils.toLocale(locale);
         final ArrayKey key = new ArrayKey(pattern, actualTimeZone, actualLocale);
-        return cInstanceCache.computeIfAbsent(key, k -> createInstance(pattern, actualTimeZone, actualLocale));
+        Entry<F> entry = cInstanceCache.get(key);
+        if (entry != null) {
+            hitCount.increment();
+            entry.touch();
+            return entry.value;
+        }
+        entry = cInstanceCache.computeIfAbsent(key, k -> {
+            missCount.increment();
+            evictionQueue.offer(k);
+            return new Entry<>(createInstance(pattern, actualTimeZone, actualLocale));
+        });
+        evictIfNeeded();
+        return entry.value;
+    }
+
+    /**
+     * Creates and caches formatter instances for the given patterns so that later lookups are hits.
+     *
+     * @param patterns  {@link java.text.SimpleDateFormat} compatible patterns, non-null
+     * @param timeZone  the time zone, null means use the default TimeZone
+     * @param locale  the locale, null means use the default Locale
+     * @throws NullPointerException if patterns or one of its elements is {@code null}
+     * @throws IllegalArgumentException if a pattern is invalid
+     */
+    void warmUp(final Iterable<String> patterns, final TimeZone timeZone, final Locale locale) {
+        Objects.requireNonNull(patterns, "patterns");
+        for (final String pattern : patterns) {
+            getInstance(pattern, timeZone, locale);
+        }
+    }
+
+    /**
+     * Gets the maximum number of cached formatter instances.
+     *
+     * @return the maximum size, {@link CacheStatistics#UNBOUNDED} for no limit.
+     */
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Sets the maximum number of cached formatter instances, evicting entries immediately if needed.
+     *
+     * @param maximumSize the maximum size, {@link CacheStatistics#UNBOUNDED} for no limit.
+     * @throws IllegalArgumentException if maximumSize is less than 1.
+     */
+    void setMaximumSize(final int maximumSize) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Maximum cache size must be positive: " + maximumSize);
+        }
+        this.maximumSize = maximumSize;
+        evictIfNeeded();
+    }
+
+    /**
+     * Gets a snapshot of this cache's counters.
+     *
+     * @return the statistics.
+     */
+    CacheStatistics getStatistics() {
+        return new CacheStatistics(cInstanceCache.size(), maximumSize, hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    /**
+     * Removes entries until the cache fits its maximum size.
+     *
+     * <p>Each key in the eviction queue gets a second chance when it was referenced since the
+     * last sweep. The sweep is bounded so that concurrent hits cannot keep it spinning; once
+     * the budget is spent the oldest entries are removed regardless.</p>
+     */
+    private void evictIfNeeded() {
+        final int max = maximumSize;
+        int secondChances = cInstanceCache.size();
+        while (cInstanceCache.size() > max) {
+            final ArrayKey key = evictionQueue.poll();
+            if (key == null) {
+                return;
+            }
+            final Entry<F> entry = cInstanceCache.get(key);
+            if (entry == null) {
+                continue;
+            }
+            if (entry.referenced && secondChances-- > 0) {
+                entry.referenced = false;
+                evictionQueue.offer(key);
+            } else if (cInstanceCache.remove(key, entry)) {
+                evictionCount.increment();
+            }
+        }
     }
 
     /**
@@ -192,6 +299,30 @@ static String getPatternForStyle(final Integer dateStyle, final Integer timeStyl
         });
     }
 
+    /**
+     * Cached value with its CLOCK reference bit.
+     *
+     * @param <F> The Format type.
+     */
+    private static final class Entry<F> {
+
+        final F value;
+
+        /** Racy by design: a lost update only costs a less accurate eviction choice. */
+        boolean referenced;
+
+        Entry(final F value) {
+            this.value = value;
+        }
+
+        void touch() {
+            // Read before write to avoid dirtying the cache line on every hit.
+            if (!referenced) {
+                referenced = true;
+            }
+        }
+    }
+
     /**
      * Helper class to hold multipart Map keys as arrays.
      */
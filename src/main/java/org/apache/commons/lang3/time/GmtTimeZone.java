@@ -81,6 +81,11 @@ public int getOffset(final int era, final int year, final int month, final int d
         return offset;
     }
 
+    @Override
+    public int getOffset(final long date) {
+        return offset;
+    }
+
     @Override
     public int getRawOffset() {
         return offset;
@@ -0,0 +1,325 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A log-linear histogram of non-negative {@code long} values, typically latencies in nanoseconds.
+ *
+ * <p>
+ * Values below {@code 2^precisionBits} are counted exactly. Above that, each power of two range is split into
+ * {@code 2^(precisionBits - 1)} equal buckets, so that any value is known to within a relative error of
+ * {@code 2^(1 - precisionBits)}: about 1.6% with the default of {@value #DEFAULT_PRECISION_BITS} bits. The whole
+ * {@code long} range is covered, so recording never fails on large values.
+ * </p>
+ *
+ * <p>
+ * Histograms of the same precision can be merged with {@link #add(LatencyHistogram)}. For concurrent recording, see
+ * {@link LatencyRecorder}, which produces instances of this class as snapshots.
+ * </p>
+ *
+ * <p>This class is not thread-safe</p>
+ *
+ * @see LatencyRecorder
+ * @since 3.13.0
+ */
+public final class LatencyHistogram {
+
+    /**
+     * The default number of significant bits kept for each value.
+     */
+    public static final int DEFAULT_PRECISION_BITS = 7;
+
+    /**
+     * The largest supported number of significant bits.
+     */
+    public static final int MAX_PRECISION_BITS = 12;
+
+    /**
+     * Gets the number of buckets needed to cover all non-negative longs.
+     *
+     * @param precisionBits the number of significant bits.
+     * @return the number of buckets.
+     */
+    static int bucketCount(final int precisionBits) {
+        return (65 - precisionBits) << precisionBits - 1;
+    }
+
+    /**
+     * Gets the bucket of a value.
+     *
+     * @param value a non-negative value.
+     * @param precisionBits the number of significant bits.
+     * @return the bucket index.
+     */
+    static int bucketIndex(final long value, final int precisionBits) {
+        final int shift = Math.max(0, 64 - Long.numberOfLeadingZeros(value) - precisionBits);
+        return (shift << precisionBits - 1) + (int) (value >>> shift);
+    }
+
+    /**
+     * Gets the smallest value counted in a bucket.
+     *
+     * @param index the bucket index.
+     * @param precisionBits the number of significant bits.
+     * @return the lowest value of the bucket.
+     */
+    static long lowestValue(final int index, final int precisionBits) {
+        if (index < 1 << precisionBits) {
+            return index;
+        }
+        final int shift = (index >>> precisionBits - 1) - 1;
+        return (long) (index - (shift << precisionBits - 1)) << shift;
+    }
+
+    /**
+     * Gets the largest value counted in a bucket.
+     *
+     * @param index the bucket index.
+     * @param precisionBits the number of significant bits.
+     * @return the highest value of the bucket.
+     */
+    static long highestValue(final int index, final int precisionBits) {
+        if (index < 1 << precisionBits) {
+            return index;
+        }
+        final int shift = (index >>> precisionBits - 1) - 1;
+        return lowestValue(index, precisionBits) + (1L << shift) - 1;
+    }
+
+    static int requirePrecisionBits(final int precisionBits) {
+        if (precisionBits < 1 || precisionBits > MAX_PRECISION_BITS) {
+            throw new IllegalArgumentException("precisionBits must be between 1 and " + MAX_PRECISION_BITS + ": " + precisionBits);
+        }
+        return precisionBits;
+    }
+
+    private final int precisionBits;
+    private final long[] counts;
+    private long totalCount;
+    private long sum;
+
+    /**
+     * Constructs a new instance with {@value #DEFAULT_PRECISION_BITS} bits of precision.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param precisionBits the number of significant bits kept for each value, between 1 and {@value #MAX_PRECISION_BITS}.
+     * @throws IllegalArgumentException if precisionBits is out of range.
+     */
+    public LatencyHistogram(final int precisionBits) {
+        this.precisionBits = requirePrecisionBits(precisionBits);
+        this.counts = new long[bucketCount(precisionBits)];
+    }
+
+    /**
+     * Adds all values recorded in another histogram to this one.
+     *
+     * @param other the histogram to merge, not null.
+     * @return this.
+     * @throws IllegalArgumentException if other has a different precision.
+     */
+    public LatencyHistogram add(final LatencyHistogram other) {
+        Objects.requireNonNull(other, "other");
+        if (other.precisionBits != precisionBits) {
+            throw new IllegalArgumentException("Precision mismatch: " + other.precisionBits + " != " + precisionBits);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+        sum += other.sum;
+        return this;
+    }
+
+    /**
+     * Adds to the count of a bucket, for snapshots built from concurrently recorded buckets.
+     */
+    void addToBucket(final int index, final long count) {
+        counts[index] += count;
+        totalCount += count;
+    }
+
+    /**
+     * Adds to the sum of recorded values, for snapshots built from concurrently recorded buckets.
+     */
+    void addToSum(final long value) {
+        sum += value;
+    }
+
+    /**
+     * Creates a copy of this histogram.
+     *
+     * @return a new histogram with the same counts.
+     */
+    public LatencyHistogram copy() {
+        return new LatencyHistogram(precisionBits).add(this);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the count.
+     */
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the largest recorded value, to within the precision of this histogram.
+     *
+     * @return the largest value, or 0 if the histogram is empty.
+     */
+    public long getMax() {
+        for (int i = counts.length - 1; i >= 0; i--) {
+            if (counts[i] != 0) {
+                return highestValue(i, precisionBits);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the exact mean of the recorded values.
+     *
+     * @return the mean, or {@code NaN} if the histogram is empty.
+     */
+    public double getMean() {
+        return totalCount == 0 ? Double.NaN : (double) sum / totalCount;
+    }
+
+    /**
+     * Gets the smallest recorded value, to within the precision of this histogram.
+     *
+     * @return the smallest value, or 0 if the histogram is empty.
+     */
+    public long getMin() {
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                return lowestValue(i, precisionBits);
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the number of significant bits kept for each value.
+     *
+     * @return the precision.
+     */
+    public int getPrecisionBits() {
+        return precisionBits;
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the sum, which wraps around on overflow.
+     */
+    public long getSum() {
+        return sum;
+    }
+
+    /**
+     * Gets the value below which the given percentage of recorded values fall, to within the precision of this
+     * histogram. For example {@code getValueAtPercentile(99)} is the 99th percentile.
+     *
+     * @param percentile the percentile, between 0 and 100.
+     * @return the highest value equivalent to the value at the percentile, or 0 if the histogram is empty.
+     * @throws IllegalArgumentException if percentile is out of range.
+     */
+    public long getValueAtPercentile(final double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100: " + percentile);
+        }
+        if (totalCount == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return highestValue(i, precisionBits);
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Records a value.
+     *
+     * @param value the non-negative value.
+     * @return this.
+     * @throws IllegalArgumentException if value is negative.
+     */
+    public LatencyHistogram record(final long value) {
+        return record(value, 1);
+    }
+
+    /**
+     * Records a value several times.
+     *
+     * @param value the non-negative value.
+     * @param count the number of times the value occurred.
+     * @return this.
+     * @throws IllegalArgumentException if value or count is negative.
+     */
+    public LatencyHistogram record(final long value, final long count) {
+        if (value < 0 || count < 0) {
+            throw new IllegalArgumentException("value and count must not be negative: " + value + ", " + count);
+        }
+        counts[bucketIndex(value, precisionBits)] += count;
+        totalCount += count;
+        sum += value * count;
+        return this;
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+    }
+
+    /**
+     * Subtracts the values of an earlier snapshot of the same recording, for interval snapshots.
+     */
+    LatencyHistogram subtract(final LatencyHistogram earlier) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] -= earlier.counts[i];
+        }
+        totalCount -= earlier.totalCount;
+        sum -= earlier.sum;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram [count=" + totalCount + ", min=" + getMin() + ", p50=" + getValueAtPercentile(50) + ", p99="
+            + getValueAtPercentile(99) + ", max=" + getMax() + "]";
+    }
+}
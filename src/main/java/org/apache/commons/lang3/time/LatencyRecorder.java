@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Records latencies from many threads into a {@link LatencyHistogram}, for hot paths where a {@link StopWatch} per
+ * call is too heavy.
+ *
+ * <p>
+ * Timing a call costs two {@link System#nanoTime()} calls and a bucket increment:
+ * </p>
+ *
+ * <pre>
+ * private static final LatencyRecorder LATENCY = new LatencyRecorder();
+ * ...
+ * final long start = LATENCY.start();
+ * handle(request);
+ * LATENCY.stop(start);
+ * ...
+ * // periodically, from an exporter thread
+ * final LatencyHistogram interval = LATENCY.snapshotAndReset();
+ * export(interval.getValueAtPercentile(50), interval.getValueAtPercentile(99));
+ * </pre>
+ *
+ * <p>
+ * Each thread records into its own buffer, which only that thread writes, so recording takes no lock and no
+ * compare-and-set. Snapshots merge all buffers and may therefore miss values recorded concurrently; those values
+ * show up in the next snapshot. Resetting does not clear the buffers, it remembers the totals at the reset, so it
+ * never races with recording threads.
+ * </p>
+ *
+ * <p>
+ * Buffers of threads that have terminated are kept so that their values are not lost. Prefer a fixed pool of
+ * recording threads, as every thread that records costs {@code 8 * 2^(precisionBits - 1) * (65 - precisionBits)}
+ * bytes.
+ * </p>
+ *
+ * <p>This class is thread-safe</p>
+ *
+ * @see LatencyHistogram
+ * @since 3.13.0
+ */
+public final class LatencyRecorder {
+
+    /**
+     * Buckets written by a single thread.
+     */
+    private static final class Buffer {
+
+        private final AtomicLongArray counts;
+        private final AtomicLong sum = new AtomicLong();
+
+        Buffer(final int precisionBits) {
+            counts = new AtomicLongArray(LatencyHistogram.bucketCount(precisionBits));
+        }
+
+        void addTo(final LatencyHistogram histogram) {
+            for (int i = 0; i < counts.length(); i++) {
+                final long count = counts.get(i);
+                if (count != 0) {
+                    histogram.addToBucket(i, count);
+                }
+            }
+            histogram.addToSum(sum.get());
+        }
+
+        void record(final int index, final long value) {
+            // single writer: an ordered write is enough for readers to eventually see the new value
+            counts.lazySet(index, counts.get(index) + 1);
+            sum.lazySet(sum.get() + value);
+        }
+    }
+
+    private final int precisionBits;
+    private final List<Buffer> buffers = new CopyOnWriteArrayList<>();
+    private final ThreadLocal<Buffer> threadBuffer = ThreadLocal.withInitial(this::newBuffer);
+
+    /** The totals at the last reset, guarded by this. */
+    private LatencyHistogram baseline;
+
+    /**
+     * Constructs a new instance with {@value LatencyHistogram#DEFAULT_PRECISION_BITS} bits of precision.
+     */
+    public LatencyRecorder() {
+        this(LatencyHistogram.DEFAULT_PRECISION_BITS);
+    }
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param precisionBits the number of significant bits kept for each value, between 1 and
+     *        {@value LatencyHistogram#MAX_PRECISION_BITS}.
+     * @throws IllegalArgumentException if precisionBits is out of range.
+     */
+    public LatencyRecorder(final int precisionBits) {
+        this.precisionBits = LatencyHistogram.requirePrecisionBits(precisionBits);
+        this.baseline = new LatencyHistogram(precisionBits);
+    }
+
+    /**
+     * Gets the number of significant bits kept for each value.
+     *
+     * @return the precision.
+     */
+    public int getPrecisionBits() {
+        return precisionBits;
+    }
+
+    private Buffer newBuffer() {
+        final Buffer buffer = new Buffer(precisionBits);
+        buffers.add(buffer);
+        return buffer;
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency in nanoseconds, negative values are recorded as 0.
+     */
+    public void record(final long nanos) {
+        final long value = Math.max(0, nanos);
+        threadBuffer.get().record(LatencyHistogram.bucketIndex(value, precisionBits), value);
+    }
+
+    /**
+     * Resets this recorder, so that the next snapshot only contains later values.
+     */
+    public synchronized void reset() {
+        baseline = total();
+    }
+
+    /**
+     * Gets the values recorded since the last reset.
+     *
+     * @return a new histogram.
+     */
+    public synchronized LatencyHistogram snapshot() {
+        return total().subtract(baseline);
+    }
+
+    /**
+     * Gets the values recorded since the last reset and resets this recorder, as one step.
+     *
+     * @return a new histogram.
+     */
+    public synchronized LatencyHistogram snapshotAndReset() {
+        final LatencyHistogram total = total();
+        final LatencyHistogram interval = total.copy().subtract(baseline);
+        baseline = total;
+        return interval;
+    }
+
+    /**
+     * Starts timing a call.
+     *
+     * @return the start time to pass to {@link #stop(long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Stops timing a call and records its latency.
+     *
+     * @param startNanos the value returned by {@link #start()}.
+     * @return the latency in nanoseconds.
+     */
+    public long stop(final long startNanos) {
+        final long nanos = System.nanoTime() - startNanos;
+        record(nanos);
+        return nanos;
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyRecorder [precisionBits=" + precisionBits + ", threads=" + buffers.size() + "]";
+    }
+
+    private LatencyHistogram total() {
+        final LatencyHistogram total = new LatencyHistogram(precisionBits);
+        buffers.forEach(buffer -> buffer.addTo(total));
+        return total;
+    }
+}
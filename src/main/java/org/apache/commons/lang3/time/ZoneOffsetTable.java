@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * An immutable table of the UTC offsets of a time zone, for converting between UTC and local epoch milliseconds
+ * without a {@link java.util.Calendar}.
+ *
+ * <p>
+ * A table only covers a window of instants, see {@link #covers(long)}; callers fall back to a Calendar outside of it.
+ * Zones with historical transitions are covered from 1901 to 2098, or less where the JDK's {@link TimeZone} does not
+ * follow the {@link ZoneRules} of the zone, fixed offset zones from 1601 to 9998, after the Gregorian cutover.
+ * </p>
+ * <p>
+ * The tables serve {@link DateUtils} and {@link FastDatePrinter}. {@link FastDateParser} does not use them: parsed
+ * fields, which may be lenient, partial or carry their own zone offset, are resolved by its Calendar.
+ * </p>
+ */
+final class ZoneOffsetTable {
+
+    /**
+     * Returned by {@link #toUtc(long)} for a local time in a gap or an overlap.
+     */
+    static final long AMBIGUOUS = Long.MIN_VALUE;
+
+    private static final long MIN_FIXED = -11676096000000L; // 1600-01-01T00:00:00Z
+    private static final long MAX_FIXED = 253402300800000L; // 10000-01-01T00:00:00Z
+    private static final long MIN_RULES = -2208988800000L; // 1900-01-01T00:00:00Z
+    private static final long MAX_RULES = 4102444800000L; // 2100-01-01T00:00:00Z
+
+    /** Covered instants are this far from the ends of the window, so that a year can be added or removed. */
+    private static final long MARGIN = 400 * DateUtils.MILLIS_PER_DAY;
+
+    /** Marks a time zone that cannot be tabulated. */
+    private static final ZoneOffsetTable NONE = new ZoneOffsetTable(0, 0, new long[0], new int[1]);
+
+    private static final ConcurrentMap<TimeZone, ZoneOffsetTable> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * The last offset lookup of a thread. Consecutive lookups are usually for close instants, which are then answered
+     * without searching the transitions.
+     */
+    private static final class LastHit {
+
+        /** The last period looked up, during which the offset is constant. */
+        ZoneOffsetTable table;
+        long start;
+        long end;
+        int offset;
+    }
+
+    private static final ThreadLocal<LastHit> LAST_HIT = ThreadLocal.withInitial(LastHit::new);
+
+    private static ZoneOffsetTable create(final TimeZone timeZone) {
+        if (timeZone instanceof GmtTimeZone || timeZone instanceof SimpleTimeZone && !timeZone.useDaylightTime()) {
+            return fixed(timeZone.getRawOffset());
+        }
+        // only the JDK's own zones are known to follow the java.time rules of their ID
+        if (!timeZone.equals(TimeZone.getTimeZone(timeZone.getID()))) {
+            return NONE;
+        }
+        final ZoneRules rules = timeZone.toZoneId().getRules();
+        if (rules.isFixedOffset()) {
+            return fixed(rules.getOffset(Instant.EPOCH).getTotalSeconds() * 1000);
+        }
+        final List<ZoneOffsetTransition> list = new ArrayList<>();
+        final Instant first = Instant.ofEpochMilli(MIN_RULES);
+        for (ZoneOffsetTransition transition = rules.nextTransition(first); transition != null
+            && transition.toEpochSecond() * 1000 < MAX_RULES; transition = rules.nextTransition(transition.getInstant())) {
+            list.add(transition);
+        }
+        final long[] transitions = new long[list.size()];
+        final int[] offsets = new int[list.size() + 1];
+        offsets[0] = rules.getOffset(first).getTotalSeconds() * 1000;
+        for (int i = 0; i < transitions.length; i++) {
+            transitions[i] = list.get(i).toEpochSecond() * 1000;
+            offsets[i + 1] = list.get(i).getOffsetAfter().getTotalSeconds() * 1000;
+        }
+        final long maxMillis = agreedUntil(timeZone, transitions, offsets);
+        if (maxMillis - MIN_RULES <= 2 * MARGIN) {
+            return NONE;
+        }
+        final ZoneOffsetTable table = new ZoneOffsetTable(MIN_RULES, maxMillis, transitions, offsets);
+        return table.isMonotonic() ? table : NONE;
+    }
+
+    /**
+     * Finds where a time zone stops following the java.time rules. The two differ where {@link TimeZone} cannot
+     * express the rules, for example for the years after 2037 of some zones.
+     *
+     * @return the end of the window in which the time zone has the given offsets.
+     */
+    private static long agreedUntil(final TimeZone timeZone, final long[] transitions, final int[] offsets) {
+        long start = MIN_RULES;
+        for (int i = 0; i <= transitions.length; i++) {
+            final long end = i < transitions.length ? transitions[i] : MAX_RULES;
+            // the offset at both ends and the middle of each period
+            if (end > start && (timeZone.getOffset(start) != offsets[i]
+                || timeZone.getOffset(start + (end - start) / 2) != offsets[i] || timeZone.getOffset(end - 1) != offsets[i])) {
+                return start;
+            }
+            start = end;
+        }
+        return MAX_RULES;
+    }
+
+    private static ZoneOffsetTable fixed(final int offset) {
+        return new ZoneOffsetTable(MIN_FIXED, MAX_FIXED, new long[0], new int[] {offset});
+    }
+
+    /**
+     * Gets the table of a time zone.
+     *
+     * @param timeZone the time zone, not null.
+     * @return the shared table, or null if the rules of the time zone cannot be tabulated.
+     */
+    static ZoneOffsetTable of(final TimeZone timeZone) {
+        // looked up by equality every time, as a time zone such as SimpleTimeZone can change its rules in place
+        ZoneOffsetTable table = CACHE.get(timeZone);
+        if (table == null) {
+            // the key is copied as TimeZone is mutable
+            table = CACHE.computeIfAbsent((TimeZone) timeZone.clone(), ZoneOffsetTable::create);
+        }
+        return table == NONE ? null : table;
+    }
+
+    private final long minMillis;
+    private final long maxMillis;
+
+    /** The UTC instants at which the offset changes. */
+    private final long[] transitions;
+
+    /** The offset before the first transition, then the offset after each transition. */
+    private final int[] offsets;
+
+    /** The local times at which the gap or overlap of each transition starts. */
+    private final long[] localStarts;
+
+    /** The local times at which the gap or overlap of each transition ends, exclusive. */
+    private final long[] localEnds;
+
+    private ZoneOffsetTable(final long minMillis, final long maxMillis, final long[] transitions, final int[] offsets) {
+        this.minMillis = minMillis;
+        this.maxMillis = maxMillis;
+        this.transitions = transitions;
+        this.offsets = offsets;
+        this.localStarts = new long[transitions.length];
+        this.localEnds = new long[transitions.length];
+        for (int i = 0; i < transitions.length; i++) {
+            final long before = transitions[i] + offsets[i];
+            final long after = transitions[i] + offsets[i + 1];
+            localStarts[i] = Math.min(before, after);
+            localEnds[i] = Math.max(before, after);
+        }
+    }
+
+    /**
+     * Tests whether this table knows the offsets within a year of an instant.
+     *
+     * @param millis the UTC epoch milliseconds.
+     * @return whether the instant is in the covered window.
+     */
+    boolean covers(final long millis) {
+        return millis >= minMillis + MARGIN && millis < maxMillis - MARGIN;
+    }
+
+    /**
+     * Gets the offset from UTC at an instant.
+     *
+     * @param millis the UTC epoch milliseconds, within a year of the covered window.
+     * @return the offset in milliseconds, added to UTC to get local time.
+     */
+    int getOffset(final long millis) {
+        if (transitions.length == 0) {
+            return offsets[0];
+        }
+        final LastHit hit = LAST_HIT.get();
+        if (hit.table == this && millis >= hit.start && millis < hit.end) {
+            return hit.offset;
+        }
+        int index = Arrays.binarySearch(transitions, millis);
+        index = index < 0 ? -index - 1 : index + 1;
+        hit.table = this;
+        hit.start = index == 0 ? Long.MIN_VALUE : transitions[index - 1];
+        hit.end = index == transitions.length ? Long.MAX_VALUE : transitions[index];
+        hit.offset = offsets[index];
+        return hit.offset;
+    }
+
+    /**
+     * Tests whether this table has no transitions.
+     *
+     * @return whether the offset is the same at all instants.
+     */
+    boolean isFixed() {
+        return transitions.length == 0;
+    }
+
+    /**
+     * Tests that the local time windows of the transitions do not overlap, which {@link #toUtc(long)} relies on.
+     */
+    private boolean isMonotonic() {
+        for (int i = 1; i < transitions.length; i++) {
+            if (localStarts[i] < localEnds[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts a local time to UTC, if the local time occurs exactly once.
+     *
+     * @param localMillis the local epoch milliseconds.
+     * @return the UTC epoch milliseconds, or {@link #AMBIGUOUS} if the local time is in a gap or an overlap.
+     */
+    long toUtc(final long localMillis) {
+        int index = Arrays.binarySearch(localStarts, localMillis);
+        if (index < 0) {
+            // the last transition starting before the local time
+            index = -index - 2;
+        }
+        if (index >= 0 && localMillis < localEnds[index]) {
+            return AMBIGUOUS;
+        }
+        return localMillis - offsets[index + 1];
+    }
+
+    @Override
+    public String toString() {
+        return "ZoneOffsetTable [transitions=" + transitions.length + ", offset=" + offsets[offsets.length - 1] + "]";
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.util;
+
+/**
+ * An immutable snapshot of the counters kept by one of the internal caches of this library.
+ * <p>
+ * Counters are sampled independently of each other, so a snapshot taken while the cache is in use is only
+ * approximately consistent.
+ * </p>
+ *
+ * @since 3.13.0
+ */
+public final class CacheStatistics {
+
+    /**
+     * Maximum size value for caches that do not evict.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private final int size;
+    private final int maximumSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param size the current number of entries.
+     * @param maximumSize the maximum number of entries, {@link #UNBOUNDED} for no limit.
+     * @param hitCount the number of lookups answered from the cache.
+     * @param missCount the number of lookups that had to compute a value.
+     * @param evictionCount the number of entries removed to honor the maximum size.
+     */
+    public CacheStatistics(final int size, final int maximumSize, final long hitCount, final long missCount, final long evictionCount) {
+        this.size = size;
+        this.maximumSize = maximumSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Gets the number of entries removed to honor the maximum size.
+     *
+     * @return the eviction count.
+     */
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Gets the number of lookups answered from the cache.
+     *
+     * @return the hit count.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the ratio of hits to lookups, {@code 1.0} when no lookup was made.
+     *
+     * @return the hit rate, between {@code 0.0} and {@code 1.0}.
+     */
+    public double getHitRate() {
+        final long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Gets the maximum number of entries.
+     *
+     * @return the maximum size, {@link #UNBOUNDED} for no limit.
+     */
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Gets the number of lookups that had to compute a value.
+     *
+     * @return the miss count.
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the total number of lookups.
+     *
+     * @return the sum of hits and misses.
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Gets the current number of entries.
+     *
+     * @return the size.
+     */
+    public int getSize() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics [size=" + size + ", maximumSize=" + maximumSize + ", hitCount=" + hitCount + ", missCount=" + missCount
+            + ", evictionCount=" + evictionCount + "]";
+    }
+}
@@ -114,6 +114,7 @@ public class AnnotationUtilsTest extends AbstractLangTest {
             type = Object.class,
             types = { Object.class }
     )
+    @PackagePrivateAnnotation(values = {1})
     public Object dummy1;
 
     @TestAnnotation(
@@ -190,6 +191,7 @@ public class AnnotationUtilsTest extends AbstractLangTest {
             type = Object.class,
             types = { Object.class }
     )
+    @PackagePrivateAnnotation(values = {1})
     public Object dummy2;
 
     @TestAnnotation(
@@ -291,6 +293,7 @@ public class AnnotationUtilsTest extends AbstractLangTest {
             type = Object.class,
             types = { Object.class }
     )
+    @PackagePrivateAnnotation(values = {1, 2})
     public Object dummy3;
 
     @NestAnnotation(
@@ -374,6 +377,12 @@ public class AnnotationUtilsTest extends AbstractLangTest {
         Stooge[] stooges();
     }
 
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    @interface PackagePrivateAnnotation {
+        int[] values();
+    }
+
     @Retention(RetentionPolicy.RUNTIME)
     @Target({ElementType.METHOD})
     public @interface TestMethodAnnotation {
@@ -503,6 +512,34 @@ public void testHashCode() {
         });
     }
 
+    @Test
+    public void testHashCodeMemoizedForJdkAnnotationsOnly() throws Exception {
+        final TestAnnotation real = field1.getAnnotation(TestAnnotation.class);
+        assertEquals(real.hashCode(), AnnotationUtils.hashCode(real));
+        assertEquals(real.hashCode(), AnnotationUtils.hashCode(real));
+        final TestMethodAnnotation method = getClass().getDeclaredMethod("testToString").getAnnotation(TestMethodAnnotation.class);
+        final long[] timeout = {1};
+        final TestMethodAnnotation generated = (TestMethodAnnotation) Proxy.newProxyInstance(getClass().getClassLoader(),
+            new Class[] {TestMethodAnnotation.class}, (proxy, m, args) -> "timeout".equals(m.getName()) ? timeout[0] : m.invoke(method, args));
+        final int hashCode = AnnotationUtils.hashCode(generated);
+        assertEquals(hashCode, AnnotationUtils.hashCode(generated));
+        // the values of other annotations may change
+        timeout[0] = 2;
+        assertNotEquals(hashCode, AnnotationUtils.hashCode(generated));
+    }
+
+    @Test
+    public void testNonPublicAnnotationType() throws Exception {
+        final PackagePrivateAnnotation a1 = getClass().getDeclaredField("dummy1").getAnnotation(PackagePrivateAnnotation.class);
+        final PackagePrivateAnnotation a2 = getClass().getDeclaredField("dummy2").getAnnotation(PackagePrivateAnnotation.class);
+        final PackagePrivateAnnotation a3 = getClass().getDeclaredField("dummy3").getAnnotation(PackagePrivateAnnotation.class);
+        assertTrue(AnnotationUtils.equals(a1, a2));
+        assertFalse(AnnotationUtils.equals(a1, a3));
+        assertEquals(a1.hashCode(), AnnotationUtils.hashCode(a1));
+        assertEquals(a3.hashCode(), AnnotationUtils.hashCode(a3));
+        assertTrue(AnnotationUtils.toString(a3).contains("values=[1,2]"));
+    }
+
     @Test
     @TestMethodAnnotation(timeout = 666000)
     public void testToString() {
@@ -30,6 +30,7 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
@@ -93,6 +94,17 @@ private class DeeplyNested {
         }
     }
 
+    private static class Initialized {
+        static {
+            InitializedFlag.initialized = true;
+        }
+    }
+
+    private static final class InitializedFlag {
+        // outside Initialized, reading it does not initialize Initialized
+        static boolean initialized;
+    }
+
     private void assertGetClassReturnsClass(final Class<?> c) throws Exception {
         assertEquals(c, ClassUtils.getClass(c.getName()));
     }
@@ -237,6 +249,20 @@ public void test_getAllSuperclasses_Class() {
         assertNull(ClassUtils.getAllSuperclasses(null));
     }
 
+    @Test
+    public void test_getAllSuperclassesAndInterfaces_NewLists() {
+        final List<Class<?>> interfaces = ClassUtils.getAllInterfaces(CY.class);
+        assertNotSame(interfaces, ClassUtils.getAllInterfaces(CY.class));
+        interfaces.clear();
+        assertEquals(6, ClassUtils.getAllInterfaces(CY.class).size());
+        final List<Class<?>> superclasses = ClassUtils.getAllSuperclasses(CY.class);
+        superclasses.add(CY.class);
+        assertEquals(2, ClassUtils.getAllSuperclasses(CY.class).size());
+        assertTrue(ClassUtils.getAllInterfaces(Object.class).isEmpty());
+        assertTrue(ClassUtils.getAllSuperclasses(Object.class).isEmpty());
+        assertTrue(ClassUtils.getAllSuperclasses(IC.class).isEmpty());
+    }
+
     @Test
     public void test_getCanonicalName_Class() {
         assertEquals("org.apache.commons.lang3.ClassUtils", ClassUtils.getCanonicalName(ClassUtils.class));
@@ -329,6 +355,22 @@ class Named {
         assertEquals(OBJECT_CANONICAL_NAME, ClassUtils.getCanonicalName(new Object()));
     }
 
+    @Test
+    public void test_getNames_ClassCached() {
+        for (final Class<?> cls : new Class<?>[] {String.class, Map.Entry.class, Inner.DeeplyNested.class, String[][].class, int[].class,
+            int.class, ClassUtilsTest.class}) {
+            for (int lengthHint = 1; lengthHint <= cls.getName().length() + 1; lengthHint++) {
+                assertEquals(ClassUtils.getAbbreviatedName(cls.getName(), lengthHint), ClassUtils.getAbbreviatedName(cls, lengthHint));
+                assertEquals(ClassUtils.getAbbreviatedName(cls.getName(), lengthHint), ClassUtils.getAbbreviatedName(cls, lengthHint));
+            }
+            assertEquals(ClassUtils.getShortClassName(cls.getName()), ClassUtils.getShortClassName(cls));
+            assertSame(ClassUtils.getShortClassName(cls), ClassUtils.getShortClassName(cls));
+            assertEquals(ClassUtils.getPackageName(cls.getName()), ClassUtils.getPackageName(cls));
+            assertSame(ClassUtils.getPackageName(cls), ClassUtils.getPackageName(cls));
+        }
+        assertThrows(IllegalArgumentException.class, () -> ClassUtils.getAbbreviatedName(String.class, 0));
+    }
+
     @Test
     public void test_getClass() {
        // assertEquals("org.apache.commons.lang3.ClassUtils", ClassUtils.getName(ClassLoader.class, "@"));
@@ -1206,6 +1248,20 @@ public void testGetClassClassNotFound() throws Exception {
         assertGetClassThrowsClassNotFound("integer[]");
     }
 
+    @Test
+    public void testGetClassCachedInitializes() throws Exception {
+        final ClassLoader loader = getClass().getClassLoader();
+        final String name = ClassUtilsTest.class.getName() + ".Initialized";
+        final Class<?> uninitialized = ClassUtils.getClass(loader, name, false);
+        assertSame(uninitialized, ClassUtils.getClass(loader, name, false));
+        assertFalse(InitializedFlag.initialized);
+        assertSame(uninitialized, ClassUtils.getClass(loader, name, true));
+        assertTrue(InitializedFlag.initialized);
+        assertSame(uninitialized, ClassUtils.getClass(loader, ClassUtilsTest.class.getName() + "$Initialized", true));
+        assertSame(Inner.DeeplyNested[].class, ClassUtils.getClass(loader, Inner.DeeplyNested[].class.getName()));
+        assertSame(Inner.DeeplyNested[].class, ClassUtils.getClass(loader, Inner.DeeplyNested[].class.getName()));
+    }
+
     @Test
     public void testGetClassInvalidArguments() throws Exception {
         assertGetClassThrowsNullPointerException(null);
@@ -1319,6 +1375,17 @@ public void testHierarchyIncludingInterfaces() {
         assertFalse(iter.hasNext());
     }
 
+    @Test
+    public void testHierarchyIncludingInterfacesOnce() {
+        final List<Class<?>> hierarchy = new ArrayList<>();
+        ClassUtils.hierarchy(CY.class, Interfaces.INCLUDE).forEach(hierarchy::add);
+        assertEquals(Arrays.asList(CY.class, IB.class, IC.class, ID.class, IE.class, IF.class, CX.class, IA.class, Object.class), hierarchy);
+        final Iterator<Class<?>> iter = ClassUtils.hierarchy(CY.class).iterator();
+        iter.next();
+        assertThrows(UnsupportedOperationException.class, iter::remove);
+        assertFalse(ClassUtils.hierarchy(null, Interfaces.INCLUDE).iterator().hasNext());
+    }
+
     @Test
     public void testIsPrimitiveOrWrapper() {
 
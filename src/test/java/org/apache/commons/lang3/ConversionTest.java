@@ -18,9 +18,17 @@
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.SplittableRandom;
 import java.util.UUID;
 
@@ -1763,4 +1771,180 @@ public void testByteArrayToUuid() {
                 (byte) 0xee, (byte) 0xff, (byte) 0x00, (byte) 0x11, (byte) 0x22, (byte) 0x33,
                 (byte) 0x44, (byte) 0x55, (byte) 0x66, (byte) 0x77}, 2));
     }
+
+    /**
+     * Tests the bulk conversions between arrays against the conversions of single values.
+     */
+    @Test
+    public void testBulkArrayConversions() {
+        final SplittableRandom random = new SplittableRandom(42);
+        final byte[] bytes = new byte[67];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) random.nextInt();
+        }
+        final long[] longs = Conversion.byteArrayToLongArray(bytes, 3, new long[9], 1, 8);
+        final int[] ints = Conversion.byteArrayToIntArray(bytes, 3, new int[17], 1, 16);
+        final short[] shorts = Conversion.byteArrayToShortArray(bytes, 3, new short[33], 1, 32);
+        assertEquals(0, longs[0]);
+        for (int i = 0; i < 8; i++) {
+            assertEquals(Conversion.byteArrayToLong(bytes, 3 + i * 8, 0, 0, 8), longs[1 + i]);
+        }
+        for (int i = 0; i < 16; i++) {
+            assertEquals(Conversion.byteArrayToInt(bytes, 3 + i * 4, 0, 0, 4), ints[1 + i]);
+        }
+        for (int i = 0; i < 32; i++) {
+            assertEquals(Conversion.byteArrayToShort(bytes, 3 + i * 2, (short) 0, 0, 2), shorts[1 + i]);
+        }
+        final byte[] expected = Arrays.copyOfRange(bytes, 3, 67);
+        assertArrayEquals(expected, Conversion.longArrayToByteArray(longs, 1, new byte[64], 0, 8));
+        assertArrayEquals(expected, Conversion.intArrayToByteArray(ints, 1, new byte[64], 0, 16));
+        assertArrayEquals(expected, Conversion.shortArrayToByteArray(shorts, 1, new byte[64], 0, 32));
+        final long[] dst = {1, 2};
+        assertSame(dst, Conversion.byteArrayToLongArray(bytes, 0, dst, 0, 0));
+        assertArrayEquals(new long[] {1, 2}, dst);
+        assertThrows(IndexOutOfBoundsException.class, () -> Conversion.byteArrayToLongArray(bytes, 60, new long[1], 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Conversion.byteArrayToIntArray(bytes, 0, new int[1], 1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Conversion.longArrayToByteArray(longs, 0, new byte[7], 0, 1));
+    }
+
+    /**
+     * Tests the bulk conversions between arrays and buffers in both byte orders.
+     */
+    @Test
+    public void testBulkByteBufferConversions() {
+        final long[] longs = {0x0123456789abcdefL, -1L, Long.MIN_VALUE};
+        final ByteBuffer big = ByteBuffer.allocate(30).order(ByteOrder.BIG_ENDIAN);
+        big.put((byte) 7);
+        assertSame(big, Conversion.longArrayToByteBuffer(longs, 0, big, 3));
+        assertEquals(25, big.position());
+        assertEquals(0x0123456789abcdefL, big.getLong(1));
+        big.flip();
+        big.get();
+        assertArrayEquals(longs, Conversion.byteBufferToLongArray(big, new long[3], 0, 3));
+        assertEquals(25, big.position());
+
+        final int[] ints = {0x01234567, -1, Integer.MIN_VALUE};
+        final ByteBuffer little = ByteBuffer.allocateDirect(12).order(ByteOrder.LITTLE_ENDIAN);
+        Conversion.intArrayToByteBuffer(ints, 0, little, 3);
+        assertEquals(0x67, little.get(0));
+        little.flip();
+        assertArrayEquals(ints, Conversion.byteBufferToIntArray(little, new int[3], 0, 3));
+
+        final short[] shorts = {0x0123, -1, Short.MIN_VALUE};
+        final ByteBuffer buffer = Conversion.shortArrayToByteBuffer(shorts, 0, ByteBuffer.allocate(6), 3);
+        assertEquals(0x01, buffer.get(0));
+        buffer.flip();
+        assertArrayEquals(shorts, Conversion.byteBufferToShortArray(buffer, new short[3], 0, 3));
+        assertThrows(BufferUnderflowException.class, () -> Conversion.byteBufferToShortArray(buffer, new short[1], 0, 1));
+        assertThrows(BufferOverflowException.class, () -> Conversion.longArrayToByteBuffer(longs, 0, ByteBuffer.allocate(8), 2));
+    }
+
+    /**
+     * Tests {@link Conversion#byteArrayToHex(byte[], int, char[], int, int)} and
+     * {@link Conversion#hexToByteArray(CharSequence, int, byte[], int, int)}.
+     */
+    @Test
+    public void testBulkHexConversions() {
+        final byte[] bytes = new byte[256];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) i;
+        }
+        final char[] hex = Conversion.byteArrayToHex(bytes, 0, new char[514], 1, 256);
+        for (int i = 0; i < bytes.length; i++) {
+            assertEquals(Conversion.byteToHex(bytes[i], 0, "", 0, 2), new String(hex, 1 + i * 2, 2));
+        }
+        final String text = new String(hex);
+        assertArrayEquals(bytes, Conversion.hexToByteArray(text, 1, new byte[256], 0, 256));
+        assertArrayEquals(new byte[] {(byte) 0xa1}, Conversion.hexToByteArray("1A", 0, new byte[1], 0, 1));
+        // the digits that Character.digit accepts outside ASCII, as hexToByte
+        assertArrayEquals(new byte[] {Conversion.hexToByte("\uff11\u0662", 0, (byte) 0, 0, 2)},
+            Conversion.hexToByteArray("\uff11\u0662", 0, new byte[1], 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.hexToByteArray("0g", 0, new byte[1], 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> Conversion.hexToByteArray("0", 0, new byte[1], 0, 1));
+    }
+
+    /**
+     * Tests {@link Conversion#byteArrayToHex(byte[], int, Appendable, int)},
+     * {@link Conversion#byteBufferToHex(ByteBuffer, Appendable, int)} and
+     * {@link Conversion#hexToByteBuffer(CharSequence, int, ByteBuffer, int)}.
+     */
+    @Test
+    public void testHexAppendableConversions() throws IOException {
+        // more than the bytes converted at a time
+        final byte[] bytes = new byte[1500];
+        final SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) random.nextInt();
+        }
+        final String hex = new String(Conversion.byteArrayToHex(bytes, 0, new char[3000], 0, 1500));
+        assertEquals(hex.substring(2), Conversion.byteArrayToHex(bytes, 1, new StringBuilder(), 1499).toString());
+        assertEquals(hex, Conversion.byteArrayToHex(bytes, 0, new StringWriter(), 1500).toString());
+        assertEquals(hex, Conversion.byteArrayToHex(bytes, 0, new StringBuffer(), 1500).toString());
+        assertEquals("", Conversion.byteArrayToHex(bytes, 0, new StringBuilder(), 0).toString());
+
+        for (final ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.wrap(bytes), ByteBuffer.allocateDirect(1500).put(bytes)}) {
+            buffer.clear().position(1);
+            assertEquals(hex.substring(2, 8), Conversion.byteBufferToHex(buffer, new StringBuilder(), 3).toString());
+            assertEquals(4, buffer.position());
+            assertEquals(hex.substring(8), new String(Conversion.byteBufferToHex(buffer, new char[2992], 0, 1496)));
+            assertEquals(1500, buffer.position());
+            assertThrows(BufferUnderflowException.class, () -> Conversion.byteBufferToHex(buffer, new StringBuilder(), 1));
+            buffer.clear().limit(1499).position(1);
+            assertSame(buffer, Conversion.hexToByteBuffer(hex, 1, buffer, 2));
+            assertEquals(3, buffer.position());
+            assertThrows(BufferOverflowException.class, () -> Conversion.hexToByteBuffer(hex, 0, buffer, 1497));
+            assertThrows(IllegalArgumentException.class, () -> Conversion.hexToByteBuffer("0g", 0, buffer, 1));
+        }
+        final byte[] shifted = new byte[3];
+        Conversion.hexToByteBuffer(hex, 1, ByteBuffer.wrap(shifted, 1, 2), 2);
+        assertArrayEquals(new byte[] {0, Conversion.hexToByte(hex, 1, (byte) 0, 0, 2), Conversion.hexToByte(hex, 3, (byte) 0, 0, 2)},
+            shifted);
+    }
+
+    /**
+     * Tests {@link Conversion#longToBitSet(long, int, BitSet, int, int)}, {@link Conversion#bitSetToLong(BitSet, int, long, int, int)}
+     * and {@link Conversion#bitSetToHexDigit(BitSet, int)} against the boolean array conversions.
+     */
+    @Test
+    public void testBitSetConversions() {
+        final SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 1000; i++) {
+            final long src = random.nextLong();
+            final int srcPos = random.nextInt(64);
+            final int nBits = random.nextInt(65 - srcPos);
+            final int dstPos = random.nextInt(100);
+            final boolean[] binary = Conversion.longToBinary(src, srcPos, new boolean[dstPos + nBits], dstPos, nBits);
+            final BitSet bitSet = new BitSet();
+            bitSet.set(0, dstPos + nBits + 10);
+            Conversion.longToBitSet(src, srcPos, bitSet, dstPos, nBits);
+            for (int b = 0; b < dstPos + nBits + 10; b++) {
+                assertEquals(b < dstPos || b >= dstPos + nBits || binary[b], bitSet.get(b));
+            }
+            final long init = random.nextLong();
+            final int longPos = random.nextInt(65 - Math.max(nBits, 1));
+            assertEquals(Conversion.binaryToLong(binary, dstPos, init, longPos, nBits),
+                Conversion.bitSetToLong(bitSet, dstPos, init, longPos, nBits));
+        }
+        final BitSet bitSet = BitSet.valueOf(new long[] {0xfedcba9876543210L});
+        for (int i = 0; i < 16; i++) {
+            assertEquals(Conversion.intToHexDigit(i), Conversion.bitSetToHexDigit(bitSet, i * 4));
+            assertEquals(Conversion.binaryToHexDigit(Conversion.longToBinary(0xfedcba9876543210L, 0, new boolean[64], 0, 64), i * 4),
+                Conversion.bitSetToHexDigit(bitSet, i * 4));
+        }
+        assertEquals('0', Conversion.bitSetToHexDigit(bitSet, 64));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.longToBitSet(1, 1, new BitSet(), 0, 64));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.bitSetToLong(bitSet, 0, 0, 1, 64));
+    }
+
+    /**
+     * Tests that the Msb0 conversions accept the ASCII hexadecimal digits only.
+     */
+    @Test
+    public void testMsb0HexDigitsAscii() {
+        assertThrows(IllegalArgumentException.class, () -> Conversion.hexDigitMsb0ToInt('\uff11'));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.hexDigitMsb0ToBinary('\uff11'));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.hexDigitToBinary('\uff11'));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.intToHexDigitMsb0(16));
+        assertThrows(IllegalArgumentException.class, () -> Conversion.intToHexDigit(-1));
+    }
 }
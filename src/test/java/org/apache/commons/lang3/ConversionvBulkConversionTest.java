@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show how much faster the bulk conversions of {@link Conversion} are than converting one value at a time.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class ConversionvBulkConversionTest extends AbstractLangTest {
+
+    private static final int LONGS = 128;
+
+    private final byte[] bytes = new byte[LONGS * Long.BYTES];
+    private final long[] longs = new long[LONGS];
+    private final char[] hex = new char[bytes.length * 2];
+    private final String hexString;
+    private final ByteBuffer bigEndian = ByteBuffer.allocate(bytes.length).order(ByteOrder.BIG_ENDIAN);
+    private final StringBuilder builder = new StringBuilder(hex.length);
+    private final boolean[] binary = new boolean[LONGS * Long.SIZE];
+    private final BitSet bitSet = new BitSet(LONGS * Long.SIZE);
+
+    public ConversionvBulkConversionTest() {
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < LONGS; i++) {
+            longs[i] = random.nextLong();
+        }
+        Conversion.longArrayToByteArray(longs, 0, bytes, 0, LONGS);
+        hexString = new String(Conversion.byteArrayToHex(bytes, 0, hex, 0, bytes.length));
+    }
+
+    @Benchmark
+    public long[] testByteArrayToLongArray() {
+        return Conversion.byteArrayToLongArray(bytes, 0, longs, 0, LONGS);
+    }
+
+    @Benchmark
+    public long[] testByteArrayToLongEach() {
+        for (int i = 0; i < LONGS; i++) {
+            longs[i] = Conversion.byteArrayToLong(bytes, i * Long.BYTES, 0, 0, Long.BYTES);
+        }
+        return longs;
+    }
+
+    @Benchmark
+    public long[] testByteBufferBigEndianToLongArray() {
+        bigEndian.clear();
+        return Conversion.byteBufferToLongArray(bigEndian, longs, 0, LONGS);
+    }
+
+    @Benchmark
+    public char[] testByteArrayToHex() {
+        return Conversion.byteArrayToHex(bytes, 0, hex, 0, bytes.length);
+    }
+
+    @Benchmark
+    public StringBuilder testByteArrayToHexAppendable() throws IOException {
+        builder.setLength(0);
+        return Conversion.byteArrayToHex(bytes, 0, builder, bytes.length);
+    }
+
+    @Benchmark
+    public StringBuilder testByteToHexEachAppendable() {
+        builder.setLength(0);
+        for (final byte b : bytes) {
+            builder.append(Conversion.byteToHex(b, 0, "", 0, 2));
+        }
+        return builder;
+    }
+
+    @Benchmark
+    public String testByteToHexEach() {
+        String result = "";
+        for (int i = 0; i < bytes.length; i++) {
+            result = Conversion.byteToHex(bytes[i], 0, result, i * 2, 2);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] testHexToByteArray() {
+        return Conversion.hexToByteArray(hexString, 0, bytes, 0, bytes.length);
+    }
+
+    @Benchmark
+    public byte[] testHexToByteEach() {
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = Conversion.hexToByte(hexString, i * 2, (byte) 0, 0, 2);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public byte[] testLongArrayToByteArray() {
+        return Conversion.longArrayToByteArray(longs, 0, bytes, 0, LONGS);
+    }
+
+    @Benchmark
+    public byte[] testLongToByteArrayEach() {
+        for (int i = 0; i < LONGS; i++) {
+            Conversion.longToByteArray(longs[i], 0, bytes, i * Long.BYTES, Long.BYTES);
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public boolean[] testLongToBinaryEach() {
+        for (int i = 0; i < LONGS; i++) {
+            Conversion.longToBinary(longs[i], 0, binary, i * Long.SIZE, Long.SIZE);
+        }
+        return binary;
+    }
+
+    @Benchmark
+    public BitSet testLongToBitSetEach() {
+        for (int i = 0; i < LONGS; i++) {
+            Conversion.longToBitSet(longs[i], 0, bitSet, i * Long.SIZE, Long.SIZE);
+        }
+        return bitSet;
+    }
+}
@@ -20,7 +20,10 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.junit.jupiter.api.Test;
@@ -1163,4 +1166,32 @@ public void testBooleanArrayHiddenByObject() {
         assertTrue(new CompareToBuilder().append(obj2, obj1).toComparison() < 0);
     }
 
+    @Test
+    public void testAppendGetShortCircuits() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertEquals(0, new CompareToBuilder()
+            .appendGet(() -> "a", () -> "a")
+            .appendGet(() -> "a", () -> "A", String.CASE_INSENSITIVE_ORDER)
+            .appendGetAsBoolean(() -> true, () -> true)
+            .appendGetAsDouble(() -> Double.NaN, () -> Double.NaN)
+            .appendGetAsInt(() -> 1, () -> 1)
+            .appendGetAsLong(() -> 2L, () -> 2L)
+            .toComparison());
+        assertTrue(new CompareToBuilder().appendGetAsDouble(() -> -0.0, () -> 0.0).toComparison() < 0);
+        assertTrue(new CompareToBuilder().appendGet(() -> null, () -> "a").toComparison() < 0);
+        assertTrue(new CompareToBuilder()
+            .appendGetAsLong(() -> Long.MAX_VALUE, () -> Long.MIN_VALUE)
+            .appendGet(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGet(calls::incrementAndGet, calls::incrementAndGet, Comparator.naturalOrder())
+            .appendGetAsBoolean(() -> calls.incrementAndGet() > 0, () -> calls.incrementAndGet() > 0)
+            .appendGetAsDouble(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGetAsInt(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGetAsLong(calls::incrementAndGet, calls::incrementAndGet)
+            .toComparison() > 0);
+        assertEquals(0, calls.get());
+        assertThrows(IOException.class, () -> new CompareToBuilder().appendGetAsInt(() -> 1, () -> {
+            throw new IOException();
+        }));
+    }
+
  }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ComparisonSpec}.
+ */
+public class ComparisonSpecTest extends AbstractLangTest {
+
+    static class Person {
+        private final String name;
+        private final int age;
+        private final long id;
+        private final double weight;
+        private final boolean smoker;
+        private final int[] scores;
+
+        Person(final String name, final int age, final long id, final double weight, final boolean smoker, final int... scores) {
+            this.name = name;
+            this.age = age;
+            this.id = id;
+            this.weight = weight;
+            this.smoker = smoker;
+            this.scores = scores;
+        }
+    }
+
+    private static final ComparisonSpec<Person> SPEC = ComparisonSpec.<Person>builder()
+        .appendGet(p -> p.name)
+        .appendGetAsInt(p -> p.age)
+        .appendGetAsLong(p -> p.id)
+        .appendGetAsDouble(p -> p.weight)
+        .appendGetAsBoolean(p -> p.smoker)
+        .appendGet(p -> p.scores)
+        .build();
+
+    private static int compareWithBuilder(final Person lhs, final Person rhs) {
+        return new CompareToBuilder().append(lhs.name, rhs.name).append(lhs.age, rhs.age).append(lhs.id, rhs.id).append(lhs.weight, rhs.weight)
+            .append(lhs.smoker, rhs.smoker).append(lhs.scores, rhs.scores).toComparison();
+    }
+
+    private static int hashWithBuilder(final Person person) {
+        return new HashCodeBuilder().append(person.name).append(person.age).append(person.id).append(person.weight).append(person.smoker)
+            .append(person.scores).toHashCode();
+    }
+
+    private static boolean isEqualWithBuilder(final Person lhs, final Person rhs) {
+        return new EqualsBuilder().append(lhs.name, rhs.name).append(lhs.age, rhs.age).append(lhs.id, rhs.id).append(lhs.weight, rhs.weight)
+            .append(lhs.smoker, rhs.smoker).append(lhs.scores, rhs.scores).isEquals();
+    }
+
+    @Test
+    public void testComparator() {
+        final ComparisonSpec<String> spec = ComparisonSpec.<String>builder().appendGet(s -> s, String.CASE_INSENSITIVE_ORDER).build();
+        assertEquals(0, spec.compare("a", "A"));
+        assertFalse(spec.isEqual("a", "A"));
+        assertThrows(NullPointerException.class, () -> ComparisonSpec.<String>builder().appendGetAsInt(null));
+    }
+
+    @Test
+    public void testMatchesBuilders() {
+        final List<Person> people = Arrays.asList(
+            new Person("a", 1, 2L, 0.5, true, 1, 2),
+            new Person("a", 1, 2L, 0.5, true, 1, 2),
+            new Person("a", 1, 2L, 0.5, true, 1, 3),
+            new Person("a", 1, 2L, 0.5, false, 1, 2),
+            new Person("a", 1, 2L, -0.0, true, 1, 2),
+            new Person("a", 1, 2L, 0.0, true, 1, 2),
+            new Person("a", 1, 2L, Double.NaN, true, 1, 2),
+            new Person("a", 1, -2L, 0.5, true),
+            new Person("a", -1, 2L, 0.5, true, 1, 2),
+            new Person("b", 1, 2L, 0.5, true, 1, 2),
+            new Person(null, 1, 2L, 0.5, true, 1, 2));
+        for (final Person lhs : people) {
+            assertEquals(hashWithBuilder(lhs), SPEC.hash(lhs));
+            for (final Person rhs : people) {
+                assertEquals(Integer.signum(compareWithBuilder(lhs, rhs)), Integer.signum(SPEC.compare(lhs, rhs)));
+                assertEquals(isEqualWithBuilder(lhs, rhs), SPEC.isEqual(lhs, rhs));
+            }
+        }
+    }
+
+    @Test
+    public void testNulls() {
+        final Person person = new Person("a", 1, 2L, 0.5, true);
+        assertTrue(SPEC.isEqual(null, null));
+        assertFalse(SPEC.isEqual(person, null));
+        assertFalse(SPEC.isEqual(null, person));
+        assertEquals(0, SPEC.compare(null, null));
+        assertTrue(SPEC.compare(null, person) < 0);
+        assertTrue(SPEC.compare(person, null) > 0);
+        assertEquals(0, SPEC.hash(null));
+    }
+
+    @Test
+    public void testShortCircuits() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ComparisonSpec<Integer> spec = ComparisonSpec.<Integer>builder()
+            .appendGetAsInt(Integer::intValue)
+            .appendGetAsLong(i -> calls.incrementAndGet())
+            .build();
+        assertFalse(spec.isEqual(1, 2));
+        assertTrue(spec.compare(1, 2) < 0);
+        assertEquals(0, calls.get());
+        assertNotEquals(0, spec.compare(1000, 1000));
+        assertEquals(2, calls.get());
+    }
+}
@@ -25,6 +25,12 @@
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
 import org.apache.commons.lang3.AbstractLangTest;
 import org.apache.commons.lang3.ArrayUtils;
 import org.hamcrest.Matcher;
@@ -505,4 +511,83 @@ public void testTriviallyEqualTestEnabled() {
         assertThat(explicitTestAndEqual.build().getNumberOfDiffs(), equalToZero);
     }
 
+
+    @Test
+    public void testAppendElements() {
+        final int[] lhs = {1, 2, 3, 4, 5, 6};
+        final int[] rhs = {1, 9, 3, 4, 6, 7};
+        final DiffResult<TypeTestClass> result = new DiffBuilder<>(new TypeTestClass(), new TypeTestClass(), SHORT_STYLE, false)
+            .appendElements("values", lhs, rhs)
+            .build();
+        assertEquals(3, result.getNumberOfDiffs());
+        final Diff<?> replaced = result.getDiffs().get(0);
+        assertEquals("values[1..2]", replaced.getFieldName());
+        assertEquals(Integer[].class, replaced.getType());
+        assertArrayEquals(new Integer[] {2}, (Integer[]) replaced.getLeft());
+        assertArrayEquals(new Integer[] {9}, (Integer[]) replaced.getRight());
+        final Diff<?> deleted = result.getDiffs().get(1);
+        assertEquals("values[4..5]", deleted.getFieldName());
+        assertArrayEquals(new Integer[] {5}, (Integer[]) deleted.getLeft());
+        assertArrayEquals(new Integer[0], (Integer[]) deleted.getRight());
+        final Diff<?> inserted = result.getDiffs().get(2);
+        assertEquals("values[6..6]", inserted.getFieldName());
+        assertArrayEquals(new Integer[0], (Integer[]) inserted.getLeft());
+        assertArrayEquals(new Integer[] {7}, (Integer[]) inserted.getRight());
+    }
+
+    @Test
+    public void testAppendElementsAllTypes() {
+        final DiffResult<TypeTestClass> result = new DiffBuilder<>(new TypeTestClass(), new TypeTestClass(), SHORT_STYLE, false)
+            .appendElements("boolean", new boolean[] {true, true}, new boolean[] {true, false})
+            .appendElements("byte", new byte[] {1, 2}, new byte[] {1, 3})
+            .appendElements("char", new char[] {'a', 'b'}, new char[] {'a', 'c'})
+            .appendElements("double", new double[] {1, Double.NaN}, new double[] {1, Double.NaN, -0.0})
+            .appendElements("float", new float[] {0.0f}, new float[] {-0.0f})
+            .appendElements("long", new long[] {1, 2}, new long[] {2})
+            .appendElements("short", new short[] {1}, new short[] {1})
+            .appendElements("object", new Object[] {"a", null}, new Object[] {"a", "b"})
+            .appendElements("null", (int[]) null, new int[] {1})
+            .build();
+        assertEquals("boolean[1..2]", result.getDiffs().get(0).getFieldName());
+        assertArrayEquals(new Boolean[] {false}, (Boolean[]) result.getDiffs().get(0).getRight());
+        assertArrayEquals(new Byte[] {2}, (Byte[]) result.getDiffs().get(1).getLeft());
+        assertArrayEquals(new Character[] {'c'}, (Character[]) result.getDiffs().get(2).getRight());
+        assertEquals("double[2..2]", result.getDiffs().get(3).getFieldName());
+        assertArrayEquals(new Float[] {-0.0f}, (Float[]) result.getDiffs().get(4).getRight());
+        assertEquals("long[0..1]", result.getDiffs().get(5).getFieldName());
+        assertEquals("object[1..2]", result.getDiffs().get(6).getFieldName());
+        assertArrayEquals(new Object[] {null}, (Object[]) result.getDiffs().get(6).getLeft());
+        assertEquals("null", result.getDiffs().get(7).getFieldName());
+        assertEquals(8, result.getNumberOfDiffs());
+    }
+
+    @Test
+    public void testAppendDiffables() {
+        final List<TypeTestClass> lhs = new ArrayList<>();
+        final List<TypeTestClass> rhs = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            lhs.add(new TypeTestClass());
+            final TypeTestClass right = new TypeTestClass();
+            right.intField = i % 100 == 0 ? 2 : 1;
+            rhs.add(right);
+        }
+        rhs.set(500, null);
+        rhs.add(new TypeTestClass());
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final DiffResult<TypeTestClass> parallel = new DiffBuilder<>(new TypeTestClass(), new TypeTestClass(), SHORT_STYLE, false)
+                .appendDiffables("items", lhs, rhs, pool)
+                .build();
+            final DiffResult<TypeTestClass> sequential = new DiffBuilder<>(new TypeTestClass(), new TypeTestClass(), SHORT_STYLE, false)
+                .appendDiffables("items", lhs, rhs, null)
+                .build();
+            assertEquals(sequential.getDiffs(), parallel.getDiffs());
+            assertEquals(Arrays.asList("items[0].int", "items[100].int", "items[200].int", "items[300].int", "items[400].int", "items[500]",
+                "items[600].int", "items[700].int", "items[800].int", "items[900].int", "items[1000]"),
+                parallel.stream().map(Diff::getFieldName).collect(Collectors.toList()));
+            assertEquals(Integer.valueOf(2), parallel.getDiffs().get(0).getRight());
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
@@ -22,6 +22,7 @@
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.junit.jupiter.api.Test;
@@ -88,6 +89,16 @@ public void testIterator() {
         }
     }
 
+    @Test
+    public void testStream() {
+        final SimpleClass lhs = new SimpleClass(true);
+        final SimpleClass rhs = new SimpleClass(false);
+
+        final DiffResult<SimpleClass> result = lhs.diff(rhs);
+        assertEquals(result.getDiffs(), result.stream().collect(Collectors.toList()));
+        assertEquals(0, lhs.diff(lhs).stream().count());
+    }
+
     @Test
     public void testToStringOutput() {
         final DiffResult<EmptyClass> list = new DiffBuilder<>(new EmptyClass(), new EmptyClass(),
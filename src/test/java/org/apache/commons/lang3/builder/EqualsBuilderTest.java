@@ -21,12 +21,15 @@
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.apache.commons.lang3.reflect.MethodUtilsGetters;
@@ -528,6 +531,28 @@ public void testObjectRecursiveCycle() {
         assertFalse(EqualsBuilder.reflectionEquals(o1A, o2, false, null, true));
     }
 
+    @Test
+    public void testObjectRecursiveCycleBuilderRegistry() {
+        final TestRecursiveCycleObject o1A = new TestRecursiveCycleObject(1);
+        final TestRecursiveCycleObject i1A = new TestRecursiveCycleObject(o1A, 100);
+        o1A.setCycle(i1A);
+
+        final TestRecursiveCycleObject o1B = new TestRecursiveCycleObject(1);
+        final TestRecursiveCycleObject i1B = new TestRecursiveCycleObject(o1B, 100);
+        o1B.setCycle(i1B);
+
+        final TestRecursiveCycleObject o2 = new TestRecursiveCycleObject(2);
+        final TestRecursiveCycleObject i2 = new TestRecursiveCycleObject(o1B, 200);
+        o2.setCycle(i2);
+
+        final EqualsBuilder builder = new EqualsBuilder().setTestRecursive(true).setThreadRegistry(false);
+        assertTrue(builder.append(o1A, o1B).isEquals());
+        assertNull(EqualsBuilder.getRegistry());
+        assertFalse(builder.append(o1A, o2).isEquals());
+        assertNull(EqualsBuilder.getRegistry());
+        assertFalse(new EqualsBuilder().setTestRecursive(true).setThreadRegistry(false).setThreadRegistry(true).append(o1A, o2).isEquals());
+    }
+
     @Test
     public void testLong() {
         final long o1 = 1L;
@@ -1418,5 +1443,29 @@ public void testIsRegistered() throws Exception {
             unregisterMethod.invoke(null, firstObject, secondObject);
         }
     }
-}
 
+    @Test
+    public void testAppendGetShortCircuits() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        assertTrue(new EqualsBuilder()
+            .appendGet(() -> "a", () -> "a")
+            .appendGetAsBoolean(() -> true, () -> true)
+            .appendGetAsDouble(() -> Double.NaN, () -> Double.NaN)
+            .appendGetAsInt(() -> 1, () -> 1)
+            .appendGetAsLong(() -> 2L, () -> 2L)
+            .isEquals());
+        assertFalse(new EqualsBuilder().appendGetAsDouble(() -> 0.0, () -> -0.0).isEquals());
+        assertFalse(new EqualsBuilder()
+            .appendGetAsInt(() -> 1, () -> 2)
+            .appendGet(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGetAsBoolean(() -> calls.incrementAndGet() > 0, () -> calls.incrementAndGet() > 0)
+            .appendGetAsDouble(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGetAsInt(calls::incrementAndGet, calls::incrementAndGet)
+            .appendGetAsLong(calls::incrementAndGet, calls::incrementAndGet)
+            .isEquals());
+        assertEquals(0, calls.get());
+        assertThrows(IOException.class, () -> new EqualsBuilder().appendGetAsInt(() -> 1, () -> {
+            throw new IOException();
+        }));
+    }
+}
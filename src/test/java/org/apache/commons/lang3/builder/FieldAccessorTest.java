@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FieldAccessor}.
+ */
+public class FieldAccessorTest extends AbstractLangTest {
+
+    @SuppressWarnings("unused")
+    static class Values {
+        private boolean booleanValue;
+        private byte byteValue;
+        private char charValue;
+        private short shortValue;
+        private int intValue;
+        private long longValue;
+        private float floatValue;
+        private double doubleValue;
+        private Object objectValue;
+        private int[] arrayValue;
+
+        Values(final int seed) {
+            booleanValue = seed % 2 == 0;
+            byteValue = (byte) (seed * 71);
+            charValue = (char) (seed * 7919);
+            shortValue = (short) (seed * 7919);
+            intValue = seed * -104_729;
+            longValue = seed * -1_000_000_007_000L;
+            floatValue = seed == 3 ? Float.NaN : seed == 4 ? -0.0f : seed / 3f;
+            doubleValue = seed == 3 ? Double.NaN : seed == 4 ? -0.0 : seed / 7d;
+            objectValue = seed == 2 ? null : "value" + seed % 3;
+            arrayValue = seed == 5 ? null : new int[] {seed % 2};
+        }
+    }
+
+    static class SubValues extends Values {
+        private int extra;
+
+        SubValues(final int seed) {
+            super(seed);
+            extra = seed;
+        }
+    }
+
+    private static final int[] SEEDS = {-2, -1, 0, 1, 2, 3, 4, 5, 6, 1000};
+
+    @Test
+    public void testMatchesFieldGet() {
+        for (final Field field : ReflectionFields.of(Values.class).getSortedFields()) {
+            final FieldAccessor accessor = FieldAccessor.of(field);
+            for (final int l : SEEDS) {
+                final Values lhs = new Values(l);
+                final HashCodeBuilder expectedHash = new HashCodeBuilder().append(Reflection.getUnchecked(field, lhs));
+                final HashCodeBuilder actualHash = new HashCodeBuilder();
+                accessor.appendTo(actualHash, lhs);
+                assertEquals(expectedHash.toHashCode(), actualHash.toHashCode(), field.getName());
+                for (final int r : SEEDS) {
+                    final Values rhs = new Values(r);
+                    final EqualsBuilder expectedEquals = new EqualsBuilder().append(Reflection.getUnchecked(field, lhs),
+                        Reflection.getUnchecked(field, rhs));
+                    final EqualsBuilder actualEquals = new EqualsBuilder();
+                    accessor.appendTo(actualEquals, lhs, rhs);
+                    assertEquals(expectedEquals.isEquals(), actualEquals.isEquals(), field.getName());
+                    if (field.getType() != int[].class) {
+                        final CompareToBuilder expectedCompare = new CompareToBuilder().append(Reflection.getUnchecked(field, lhs),
+                            Reflection.getUnchecked(field, rhs));
+                        final CompareToBuilder actualCompare = new CompareToBuilder();
+                        accessor.appendTo(actualCompare, lhs, rhs);
+                        assertEquals(expectedCompare.toComparison(), actualCompare.toComparison(), field.getName());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testNotAnInstance() throws NoSuchFieldException {
+        final Field field = SubValues.class.getDeclaredField("extra");
+        field.setAccessible(true);
+        final FieldAccessor accessor = FieldAccessor.of(field);
+        assertThrows(IllegalArgumentException.class, () -> accessor.appendTo(new EqualsBuilder(), new SubValues(1), new Values(1)));
+    }
+
+    @Test
+    public void testWarmUp() {
+        final ReflectionFields fields = ReflectionFields.of(SubValues.class);
+        for (int i = 0; i < ReflectionFields.ACCESSOR_THRESHOLD; i++) {
+            assertNull(fields.getAccessors(ReflectionFields.Use.COMPARE_TO, true));
+        }
+        final FieldAccessor[] accessors = fields.getAccessors(ReflectionFields.Use.COMPARE_TO, true);
+        assertNotNull(accessors);
+        assertEquals(fields.getFields(ReflectionFields.Use.COMPARE_TO, true).length, accessors.length);
+        assertSame(accessors, fields.getAccessors(ReflectionFields.Use.COMPARE_TO, true));
+    }
+
+    @Test
+    public void testWarmUpReflectionBuilders() {
+        final int calls = ReflectionFields.ACCESSOR_THRESHOLD * 2;
+        for (int i = 0; i < calls; i++) {
+            final SubValues sub = new SubValues(i);
+            final Values values = new Values(i);
+            assertTrue(EqualsBuilder.reflectionEquals(sub, new SubValues(i)));
+            assertFalse(EqualsBuilder.reflectionEquals(sub, new SubValues(i + 1)));
+            // the subclass has a field that the superclass does not
+            assertFalse(EqualsBuilder.reflectionEquals(sub, values));
+            assertEquals(0, CompareToBuilder.reflectionCompare(sub, new SubValues(i)));
+            assertEquals(HashCodeBuilder.reflectionHashCode(sub), HashCodeBuilder.reflectionHashCode(new SubValues(i)));
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.stream.Streams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show whether appending fields through {@link FieldAccessor}s is faster than through {@link Field#get(Object)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class FieldGetvFieldAccessorTest extends AbstractLangTest {
+
+    static class Point {
+        private final int x;
+        private final long y;
+        private final double weight;
+        private final boolean visible;
+        private final String name;
+
+        Point(final int x, final long y, final double weight, final boolean visible, final String name) {
+            this.x = x;
+            this.y = y;
+            this.weight = weight;
+            this.visible = visible;
+            this.name = name;
+        }
+    }
+
+    private final Point lhs = new Point(1_000, 2_000_000_000_000L, 0.5, true, "point");
+    private final Point rhs = new Point(1_000, 2_000_000_000_000L, 0.5, true, "point");
+
+    private final Field[] equalsFields = ReflectionFields.of(Point.class).getFields(ReflectionFields.Use.EQUALS, false);
+    private final FieldAccessor[] equalsAccessors = Streams.of(equalsFields).map(FieldAccessor::of).toArray(FieldAccessor[]::new);
+    private final Field[] hashCodeFields = ReflectionFields.of(Point.class).getFields(ReflectionFields.Use.HASH_CODE, false);
+    private final FieldAccessor[] hashCodeAccessors = Streams.of(hashCodeFields).map(FieldAccessor::of).toArray(FieldAccessor[]::new);
+    private final Field[] compareToFields = ReflectionFields.of(Point.class).getFields(ReflectionFields.Use.COMPARE_TO, false);
+    private final FieldAccessor[] compareToAccessors = Streams.of(compareToFields).map(FieldAccessor::of).toArray(FieldAccessor[]::new);
+
+    @Benchmark
+    public int testCompareToAccessor() {
+        final CompareToBuilder builder = new CompareToBuilder();
+        for (final FieldAccessor accessor : compareToAccessors) {
+            accessor.appendTo(builder, lhs, rhs);
+        }
+        return builder.toComparison();
+    }
+
+    @Benchmark
+    public int testCompareToFieldGet() {
+        final CompareToBuilder builder = new CompareToBuilder();
+        for (final Field field : compareToFields) {
+            builder.append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+        }
+        return builder.toComparison();
+    }
+
+    @Benchmark
+    public boolean testEqualsAccessor() {
+        final EqualsBuilder builder = new EqualsBuilder();
+        for (final FieldAccessor accessor : equalsAccessors) {
+            accessor.appendTo(builder, lhs, rhs);
+        }
+        return builder.isEquals();
+    }
+
+    @Benchmark
+    public boolean testEqualsFieldGet() {
+        final EqualsBuilder builder = new EqualsBuilder();
+        for (final Field field : equalsFields) {
+            builder.append(Reflection.getUnchecked(field, lhs), Reflection.getUnchecked(field, rhs));
+        }
+        return builder.isEquals();
+    }
+
+    @Benchmark
+    public int testHashCodeAccessor() {
+        final HashCodeBuilder builder = new HashCodeBuilder(17, 37);
+        for (final FieldAccessor accessor : hashCodeAccessors) {
+            accessor.appendTo(builder, lhs);
+        }
+        return builder.toHashCode();
+    }
+
+    @Benchmark
+    public int testHashCodeFieldGet() {
+        final HashCodeBuilder builder = new HashCodeBuilder(17, 37);
+        for (final Field field : hashCodeFields) {
+            builder.append(Reflection.getUnchecked(field, lhs));
+        }
+        return builder.toHashCode();
+    }
+
+    @Benchmark
+    public boolean testReflectionEquals() {
+        return EqualsBuilder.reflectionEquals(lhs, rhs);
+    }
+
+    @Benchmark
+    public int testReflectionHashCode() {
+        return HashCodeBuilder.reflectionHashCode(lhs);
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show whether hashing arrays with {@link MixingHashCodeBuilder} is faster than with {@link HashCodeBuilder}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class HashCodeBuildervMixingHashCodeBuilderTest extends AbstractLangTest {
+
+    private final byte[] bytes = new byte[4096];
+    private final int[] ints = new Random(1).ints(1024).toArray();
+
+    {
+        new Random(2).nextBytes(bytes);
+    }
+
+    @Benchmark
+    public int testHashCodeBuilderBytes() {
+        return new HashCodeBuilder().append(bytes).toHashCode();
+    }
+
+    @Benchmark
+    public int testHashCodeBuilderInts() {
+        return new HashCodeBuilder().append(ints).toHashCode();
+    }
+
+    @Benchmark
+    public int testMixingHashCodeBuilderBytes() {
+        return new MixingHashCodeBuilder().append(bytes).toHashCode();
+    }
+
+    @Benchmark
+    public int testMixingHashCodeBuilderInts() {
+        return new MixingHashCodeBuilder().append(ints).toHashCode();
+    }
+
+    @Benchmark
+    public long testMixingHashCodeBuilderLongHashCode() {
+        return new MixingHashCodeBuilder().append(ints).toLongHashCode();
+    }
+}
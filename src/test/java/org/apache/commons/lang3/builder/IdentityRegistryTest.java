@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link IdentityRegistry}.
+ */
+public class IdentityRegistryTest extends AbstractLangTest {
+
+    /**
+     * Equal to every other instance, so that only identity tells them apart.
+     */
+    private static final class Same {
+        @Override
+        public boolean equals(final Object obj) {
+            return obj instanceof Same;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+
+    private static List<Object> objects(final int count) {
+        final List<Object> objects = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            objects.add(new Same());
+        }
+        return objects;
+    }
+
+    @Test
+    public void testIdentity() {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final Same a = new Same();
+        final Same b = new Same();
+        assertTrue(registry.isEmpty());
+        registry.add(a);
+        assertTrue(registry.contains(a));
+        assertFalse(registry.contains(b));
+        registry.remove(b);
+        assertTrue(registry.contains(a));
+        registry.remove(a);
+        assertTrue(registry.isEmpty());
+    }
+
+    @Test
+    public void testNested() {
+        for (final int depth : new int[] {1, IdentityRegistry.INDEX_THRESHOLD, IdentityRegistry.INDEX_THRESHOLD + 1, 1000}) {
+            final IdentityRegistry registry = new IdentityRegistry();
+            final List<Object> objects = objects(depth + 1);
+            for (int i = 0; i < depth; i++) {
+                registry.add(objects.get(i));
+            }
+            for (int i = depth - 1; i >= 0; i--) {
+                for (int j = 0; j <= depth; j++) {
+                    assertEquals(j <= i, registry.contains(objects.get(j)), depth + " " + i + " " + j);
+                }
+                registry.remove(objects.get(i));
+            }
+            assertTrue(registry.isEmpty());
+        }
+    }
+
+    @Test
+    public void testPairs() {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final List<Object> objects = objects(100);
+        for (int i = 0; i < objects.size() - 1; i++) {
+            registry.add(objects.get(i), objects.get(i + 1));
+        }
+        for (int i = 0; i < objects.size() - 1; i++) {
+            assertTrue(registry.contains(objects.get(i), objects.get(i + 1)));
+            assertFalse(registry.contains(objects.get(i + 1), objects.get(i)));
+            assertFalse(registry.contains(objects.get(i)));
+        }
+    }
+
+    @Test
+    public void testRemoveInAnyOrder() {
+        final IdentityRegistry registry = new IdentityRegistry();
+        final List<Object> objects = objects(200);
+        objects.forEach(registry::add);
+        final List<Object> removed = new ArrayList<>(objects);
+        Collections.shuffle(removed, new Random(20231019));
+        for (int i = 0; i < removed.size(); i++) {
+            registry.remove(removed.get(i));
+            assertFalse(registry.contains(removed.get(i)));
+            if (i + 1 < removed.size()) {
+                assertTrue(registry.contains(removed.get(i + 1)));
+            }
+        }
+        assertTrue(registry.isEmpty());
+    }
+}
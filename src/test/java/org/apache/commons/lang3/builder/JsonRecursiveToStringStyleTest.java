@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests {@link JsonRecursiveToStringStyle}.
+ */
+public class JsonRecursiveToStringStyleTest extends AbstractLangTest {
+
+    enum Level {
+        JUNIOR, SENIOR
+    }
+
+    static class Job {
+        String title;
+        Level level;
+
+        Job(final String title, final Level level) {
+            this.title = title;
+            this.level = level;
+        }
+
+        @Override
+        public String toString() {
+            return "Job " + title;
+        }
+    }
+
+    static class Person {
+        String name;
+        int age;
+        Job job;
+        int[] scores;
+        List<Job> history;
+        Map<String, Job> named;
+        Person manager;
+    }
+
+    private static Person person() {
+        final Person person = new Person();
+        person.name = "Stephen \"Steve\"";
+        person.age = 29;
+        person.job = new Job("Manager", Level.SENIOR);
+        person.scores = new int[] {1, 2};
+        person.history = Arrays.asList(new Job("Clerk", Level.JUNIOR));
+        person.named = Collections.singletonMap("first", new Job("Intern", null));
+        return person;
+    }
+
+    @Test
+    public void testAppendTo() throws IOException {
+        final Person person = person();
+        final StringBuilder builder = new StringBuilder();
+        ReflectionToStringBuilder.appendTo(builder, person, ToStringStyle.JSON_RECURSIVE_STYLE);
+        assertEquals(ReflectionToStringBuilder.toString(person, ToStringStyle.JSON_RECURSIVE_STYLE), builder.toString());
+    }
+
+    @Test
+    public void testConstant() {
+        assertSame(ToStringStyle.JSON_RECURSIVE_STYLE, ToStringStyle.jsonRecursiveStyle(Integer.MAX_VALUE));
+        assertSame(ToStringStyle.JSON_RECURSIVE_STYLE, SerializationUtils.roundtrip(ToStringStyle.JSON_RECURSIVE_STYLE));
+        final Person person = person();
+        assertEquals(ReflectionToStringBuilder.toString(person, ToStringStyle.jsonRecursiveStyle(1)),
+            ReflectionToStringBuilder.toString(person, SerializationUtils.roundtrip(ToStringStyle.jsonRecursiveStyle(1))));
+    }
+
+    @Test
+    public void testCycle() {
+        final Person person = person();
+        person.manager = person;
+        // the fields are appended by name
+        final String fields = "\"history\":[{\"level\":\"JUNIOR\",\"title\":\"Clerk\"}],"
+            + "\"job\":{\"level\":\"SENIOR\",\"title\":\"Manager\"},";
+        final String fieldsEnd = "\"name\":\"Stephen \\\"Steve\\\"\","
+            + "\"named\":{\"first\":{\"level\":null,\"title\":\"Intern\"}},\"scores\":[1,2]";
+        assertEquals("{\"age\":29," + fields + "\"manager\":{\"age\":29," + fields
+            + "\"manager\":\"" + ObjectUtils.identityToString(person) + "\"," + fieldsEnd + "}," + fieldsEnd + "}",
+            ReflectionToStringBuilder.toString(person, ToStringStyle.JSON_RECURSIVE_STYLE));
+    }
+
+    @Test
+    public void testMaxDepth() {
+        final Person person = person();
+        final String name = "\"name\":\"Stephen \\\"Steve\\\"\",";
+        assertEquals("{\"age\":29,\"history\":[\"Job Clerk\"],\"job\":\"Job Manager\",\"manager\":null," + name
+            + "\"named\":{\"first\":\"Job Intern\"},\"scores\":[1,2]}",
+            ReflectionToStringBuilder.toString(person, ToStringStyle.jsonRecursiveStyle(0)));
+        assertEquals("{\"age\":29,\"history\":[\"Job Clerk\"],\"job\":{\"level\":\"SENIOR\",\"title\":\"Manager\"},\"manager\":null," + name
+            + "\"named\":{\"first\":\"Job Intern\"},\"scores\":[1,2]}",
+            ReflectionToStringBuilder.toString(person, ToStringStyle.jsonRecursiveStyle(1)));
+        assertEquals("{\"age\":29,\"history\":[{\"level\":\"JUNIOR\",\"title\":\"Clerk\"}],\"job\":{\"level\":\"SENIOR\",\"title\":\"Manager\"},"
+            + "\"manager\":null," + name + "\"named\":{\"first\":{\"level\":null,\"title\":\"Intern\"}},\"scores\":[1,2]}",
+            ReflectionToStringBuilder.toString(person, ToStringStyle.jsonRecursiveStyle(2)));
+    }
+}
@@ -29,6 +29,7 @@
 import java.util.Map;
 
 import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.StringEscapeUtils;
 import org.apache.commons.lang3.builder.ToStringStyleTest.Person;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -533,6 +534,17 @@ public void testLANG1396() {
         assertEquals("{\"Let's \\\"quote\\\" this\":\"value\"}", new ToStringBuilder(base).append("Let's \"quote\" this", "value").toString());
     }
 
+    @Test
+    public void testEscapeLikeStringEscapeUtils() {
+        for (final String value : new String[] {"plain", "a/b", "tab\there", "caf\u00e9", "emoji \uD83D\uDE00", "\u007f~", "end\\"}) {
+            final String escaped = "\"" + StringEscapeUtils.escapeJson(value) + "\"";
+            assertEquals("{" + escaped + ":" + escaped + "}", new ToStringBuilder(base).append(value, value).toString());
+        }
+        for (char ch = 0; ch < 256; ch++) {
+            assertEquals("{\"c\":\"" + StringEscapeUtils.escapeJson(String.valueOf(ch)) + "\"}", new ToStringBuilder(base).append("c", ch).toString());
+        }
+    }
+
     @Test
     public void testRootMap() {
         final Map<String, Object> map = new LinkedHashMap<>();
@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MixingHashCodeBuilder}.
+ */
+public class MixingHashCodeBuilderTest extends AbstractLangTest {
+
+    static class Person {
+        private final String name;
+        private final int age;
+        private final boolean smoker;
+
+        Person(final String name, final int age, final boolean smoker) {
+            this.name = name;
+            this.age = age;
+            this.smoker = smoker;
+        }
+
+        @Override
+        public int hashCode() {
+            return new MixingHashCodeBuilder().append(name).append(age).append(smoker).toHashCode();
+        }
+    }
+
+    private static long hash(final Object array) {
+        return new MixingHashCodeBuilder().append(array).toLongHashCode();
+    }
+
+    @Test
+    public void testArrayBoundaries() {
+        assertNotEquals(new MixingHashCodeBuilder().append(new int[] {1}).append(new int[] {2, 3}).toLongHashCode(),
+            new MixingHashCodeBuilder().append(new int[] {1, 2}).append(new int[] {3}).toLongHashCode());
+        assertNotEquals(hash(new byte[0]), hash(new byte[1]));
+        assertNotEquals(hash(new boolean[63]), hash(new boolean[64]));
+        assertNotEquals(hash(new char[] {'a'}), hash(new char[] {'a', 0}));
+        assertNotEquals(hash(null), hash(new long[0]));
+    }
+
+    @Test
+    public void testArraysMatchElementwiseTypes() {
+        final Random random = new Random(1);
+        for (int length = 0; length < 40; length++) {
+            final byte[] bytes = new byte[length];
+            random.nextBytes(bytes);
+            final int[] ints = random.ints(length).toArray();
+            final long[] longs = random.longs(length).toArray();
+            final short[] shorts = new short[length];
+            final char[] chars = new char[length];
+            final float[] floats = new float[length];
+            final double[] doubles = new double[length];
+            final boolean[] booleans = new boolean[length];
+            final Object[] objects = new Object[length];
+            for (int i = 0; i < length; i++) {
+                shorts[i] = (short) ints[i];
+                chars[i] = (char) ints[i];
+                floats[i] = ints[i] / 3f;
+                doubles[i] = longs[i] / 7d;
+                booleans[i] = ints[i] > 0;
+                objects[i] = i % 5 == 0 ? null : Integer.toString(ints[i]);
+            }
+            // the same values hash the same through append(Object) and through copies
+            assertEquals(hash(bytes), new MixingHashCodeBuilder().append(bytes.clone()).toLongHashCode());
+            assertEquals(hash(ints), new MixingHashCodeBuilder().append(ints.clone()).toLongHashCode());
+            assertEquals(hash(longs), new MixingHashCodeBuilder().append(longs.clone()).toLongHashCode());
+            assertEquals(hash(shorts), new MixingHashCodeBuilder().append(shorts.clone()).toLongHashCode());
+            assertEquals(hash(chars), new MixingHashCodeBuilder().append(chars.clone()).toLongHashCode());
+            assertEquals(hash(floats), new MixingHashCodeBuilder().append(floats.clone()).toLongHashCode());
+            assertEquals(hash(doubles), new MixingHashCodeBuilder().append(doubles.clone()).toLongHashCode());
+            assertEquals(hash(booleans), new MixingHashCodeBuilder().append(booleans.clone()).toLongHashCode());
+            assertEquals(hash(objects), new MixingHashCodeBuilder().append(objects.clone()).toLongHashCode());
+            assertEquals(hash(new Object[] {ints, bytes}),
+                new MixingHashCodeBuilder().append(new Object[] {ints.clone(), bytes.clone()}).toLongHashCode());
+            if (length > 0) {
+                // every element contributes
+                bytes[length - 1]++;
+                assertNotEquals(hash(bytes), new MixingHashCodeBuilder().append(bytes.clone()).append(0).toLongHashCode());
+                final long before = hash(bytes);
+                bytes[0]++;
+                assertNotEquals(before, hash(bytes));
+                for (final Object array : new Object[] {ints, longs, shorts, chars, floats, doubles, booleans}) {
+                    final long original = hash(array);
+                    flipLast(array);
+                    assertNotEquals(original, hash(array), array.getClass().getSimpleName());
+                }
+            }
+        }
+    }
+
+    private static void flipLast(final Object array) {
+        if (array instanceof int[]) {
+            ((int[]) array)[((int[]) array).length - 1] ^= 1 << 31;
+        } else if (array instanceof long[]) {
+            ((long[]) array)[((long[]) array).length - 1] ^= 1L << 63;
+        } else if (array instanceof short[]) {
+            ((short[]) array)[((short[]) array).length - 1] ^= 1 << 15;
+        } else if (array instanceof char[]) {
+            ((char[]) array)[((char[]) array).length - 1] ^= 1 << 15;
+        } else if (array instanceof float[]) {
+            ((float[]) array)[((float[]) array).length - 1] *= -1;
+        } else if (array instanceof double[]) {
+            ((double[]) array)[((double[]) array).length - 1] *= -1;
+        } else {
+            final boolean[] booleans = (boolean[]) array;
+            booleans[booleans.length - 1] = !booleans[booleans.length - 1];
+        }
+    }
+
+    @Test
+    public void testBuild() {
+        final MixingHashCodeBuilder builder = new MixingHashCodeBuilder().append("a").append(1L);
+        assertEquals(builder.toHashCode(), builder.build().intValue());
+        assertEquals(builder.toHashCode(), builder.hashCode());
+        final long hash = builder.toLongHashCode();
+        assertEquals((int) (hash ^ hash >>> 32), builder.toHashCode());
+        assertEquals(builder, new MixingHashCodeBuilder().append("a").append(1L));
+        assertNotEquals(builder, new MixingHashCodeBuilder().append("a").append(2L));
+        assertNotEquals(builder, new HashCodeBuilder());
+    }
+
+    @Test
+    public void testDistribution() {
+        // sequential keys spread over the low bits, which HashMap uses as the bucket index
+        final int buckets = 1 << 10;
+        final int[] counts = new int[buckets];
+        final int keys = buckets * 64;
+        for (int i = 0; i < keys; i++) {
+            counts[new MixingHashCodeBuilder().append(i).append(i / 2).toHashCode() & buckets - 1]++;
+        }
+        for (final int count : counts) {
+            assertTrue(count > 32 && count < 96, Integer.toString(count));
+        }
+        final Set<Long> hashes = new HashSet<>();
+        for (int i = 0; i < keys; i++) {
+            hashes.add(Long.valueOf(new MixingHashCodeBuilder().append((long) i << 32).toLongHashCode()));
+        }
+        assertEquals(keys, hashes.size());
+    }
+
+    @Test
+    public void testNull() {
+        final long golden = 0x9e3779b97f4a7c15L;
+        assertNotEquals(hash(null), new MixingHashCodeBuilder().append(golden).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder().append((Object) null).append(golden).toLongHashCode(),
+            new MixingHashCodeBuilder().append(golden).append((Object) null).toLongHashCode());
+        assertNotEquals(hash(new Object[] {null}), hash(new Object[] {golden}));
+        assertEquals(hash(null), new MixingHashCodeBuilder().append((int[]) null).toLongHashCode());
+    }
+
+    @Test
+    public void testOrderAndSeed() {
+        assertNotEquals(new MixingHashCodeBuilder().append(1).append(2).toLongHashCode(),
+            new MixingHashCodeBuilder().append(2).append(1).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder(1).append(1).toLongHashCode(), new MixingHashCodeBuilder(2).append(1).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder().toLongHashCode(), new MixingHashCodeBuilder().append(0).toLongHashCode());
+        assertEquals(new MixingHashCodeBuilder().appendSuper(7).toLongHashCode(), new MixingHashCodeBuilder().append(7).toLongHashCode());
+    }
+
+    @Test
+    public void testScalars() {
+        assertEquals(new MixingHashCodeBuilder().append(Double.NaN).toLongHashCode(), new MixingHashCodeBuilder().append(0.0 / 0.0).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder().append(0.0).toLongHashCode(), new MixingHashCodeBuilder().append(-0.0).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder().append(0f).toLongHashCode(), new MixingHashCodeBuilder().append(-0f).toLongHashCode());
+        assertNotEquals(new MixingHashCodeBuilder().append(true).toLongHashCode(), new MixingHashCodeBuilder().append(false).toLongHashCode());
+        assertEquals(new MixingHashCodeBuilder().append((byte) 5).toLongHashCode(), new MixingHashCodeBuilder().append((short) 5).toLongHashCode());
+        assertEquals(new MixingHashCodeBuilder().append('a').toLongHashCode(), new MixingHashCodeBuilder().append((int) 'a').toLongHashCode());
+        assertEquals(new MixingHashCodeBuilder().append("a").toLongHashCode(), new MixingHashCodeBuilder().append("a".hashCode()).toLongHashCode());
+        assertEquals(new Person("a", 1, true).hashCode(), new Person("a", 1, true).hashCode());
+        assertNotEquals(new Person("a", 1, true).hashCode(), new Person("a", 1, false).hashCode());
+    }
+}
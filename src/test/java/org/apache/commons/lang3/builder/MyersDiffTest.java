@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests {@link MyersDiff}.
+ */
+public class MyersDiffTest extends AbstractLangTest {
+
+    private static List<int[]> diff(final int[] left, final int[] right) {
+        return MyersDiff.diff(left.length, right.length, (i, j) -> left[i] == right[j]);
+    }
+
+    /**
+     * Applies the ranges to the left sequence and checks that the right sequence results.
+     *
+     * @return the number of elements inserted and deleted.
+     */
+    private static int apply(final int[] left, final int[] right, final List<int[]> ranges) {
+        final List<Integer> result = new ArrayList<>();
+        int x = 0;
+        int y = 0;
+        int edits = 0;
+        for (final int[] range : ranges) {
+            assertTrue(range[0] >= x && range[2] >= y && range[0] - x == range[2] - y, Arrays.toString(range));
+            assertTrue(range[0] < range[1] || range[2] < range[3], Arrays.toString(range));
+            while (x < range[0]) {
+                assertEquals(left[x], right[y]);
+                result.add(left[x++]);
+                y++;
+            }
+            for (int j = range[2]; j < range[3]; j++) {
+                result.add(right[j]);
+            }
+            edits += range[1] - range[0] + range[3] - range[2];
+            x = range[1];
+            y = range[3];
+        }
+        while (x < left.length) {
+            result.add(left[x++]);
+        }
+        assertArrayEquals(right, result.stream().mapToInt(Integer::intValue).toArray());
+        return edits;
+    }
+
+    /**
+     * Computes the minimal number of elements inserted and deleted from the longest common subsequence.
+     */
+    private static int editDistance(final int[] left, final int[] right) {
+        final int[][] lcs = new int[left.length + 1][right.length + 1];
+        for (int i = 1; i <= left.length; i++) {
+            for (int j = 1; j <= right.length; j++) {
+                lcs[i][j] = left[i - 1] == right[j - 1] ? lcs[i - 1][j - 1] + 1 : Math.max(lcs[i - 1][j], lcs[i][j - 1]);
+            }
+        }
+        return left.length + right.length - 2 * lcs[left.length][right.length];
+    }
+
+    @Test
+    public void testExamples() {
+        assertEquals(0, diff(new int[0], new int[0]).size());
+        assertEquals(0, diff(new int[] {1, 2}, new int[] {1, 2}).size());
+        assertArrayEquals(new int[] {2, 2, 2, 3}, diff(new int[] {1, 2}, new int[] {1, 2, 3}).get(0));
+        assertArrayEquals(new int[] {1, 2, 1, 1}, diff(new int[] {1, 2, 3}, new int[] {1, 3}).get(0));
+        final List<int[]> ranges = diff(new int[] {1, 2, 3, 4, 5, 6}, new int[] {1, 9, 3, 4, 6, 7});
+        assertEquals(3, ranges.size());
+        assertArrayEquals(new int[] {1, 2, 1, 2}, ranges.get(0));
+        assertArrayEquals(new int[] {4, 5, 4, 4}, ranges.get(1));
+        assertArrayEquals(new int[] {6, 6, 5, 6}, ranges.get(2));
+    }
+
+    @Test
+    public void testMaxEditDistance() {
+        final int length = MyersDiff.MAX_EDIT_DISTANCE * 2;
+        final int[] left = new int[length];
+        final int[] right = new int[length];
+        for (int i = 0; i < length; i++) {
+            left[i] = i;
+            right[i] = -i;
+        }
+        right[0] = 0;
+        right[length - 1] = length - 1;
+        final List<int[]> ranges = diff(left, right);
+        assertEquals(1, ranges.size());
+        assertArrayEquals(new int[] {1, length - 1, 1, length - 1}, ranges.get(0));
+    }
+
+    @Test
+    public void testRandomIsMinimal() {
+        final Random random = new Random(37);
+        for (int n = 0; n < 500; n++) {
+            final int[] left = random.ints(random.nextInt(30), 0, 4).toArray();
+            final int[] right = random.ints(random.nextInt(30), 0, 4).toArray();
+            assertEquals(editDistance(left, right), apply(left, right, diff(left, right)),
+                () -> Arrays.toString(left) + " " + Arrays.toString(right));
+        }
+    }
+}
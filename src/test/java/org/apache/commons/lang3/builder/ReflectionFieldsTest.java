@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.Field;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ReflectionFields}.
+ */
+public class ReflectionFieldsTest extends AbstractLangTest {
+
+    @SuppressWarnings("unused")
+    static class Fields {
+        private static int constant;
+        private int zulu;
+        private transient int yankee;
+        @EqualsExclude
+        private int xray;
+        @HashCodeExclude
+        private int whiskey;
+        @ToStringExclude
+        private int victor;
+    }
+
+    private static String[] names(final Field[] fields) {
+        final String[] names = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            names[i] = fields[i].getName();
+        }
+        return names;
+    }
+
+    @Test
+    public void testAccessible() {
+        for (final Field field : ReflectionFields.of(Fields.class).getSortedFields()) {
+            assertTrue(field.isAccessible(), field.getName());
+        }
+    }
+
+    @Test
+    public void testAcceptGetsCopies() {
+        final Field[] shared = ReflectionFields.of(Fields.class).getSortedFields();
+        final String string = new ReflectionToStringBuilder(new Fields()) {
+            @Override
+            protected boolean accept(final Field field) {
+                for (final Field sharedField : shared) {
+                    assertNotSame(sharedField, field);
+                }
+                // a subclass may change the fields it is passed
+                field.setAccessible(false);
+                return false;
+            }
+        }.toString();
+        assertFalse(string.contains("zulu"), string);
+        testAccessible();
+        assertTrue(ReflectionToStringBuilder.toString(new Fields()).contains("zulu=0"));
+    }
+
+    @Test
+    public void testFilters() {
+        final ReflectionFields fields = ReflectionFields.of(Fields.class);
+        assertArrayEquals(new String[] {"zulu", "whiskey", "victor"}, names(fields.getFields(ReflectionFields.Use.EQUALS, false)));
+        assertArrayEquals(new String[] {"zulu", "yankee", "whiskey", "victor"}, names(fields.getFields(ReflectionFields.Use.EQUALS, true)));
+        assertArrayEquals(new String[] {"victor", "xray", "zulu"}, names(fields.getFields(ReflectionFields.Use.HASH_CODE, false)));
+        assertArrayEquals(new String[] {"victor", "xray", "yankee", "zulu"}, names(fields.getFields(ReflectionFields.Use.HASH_CODE, true)));
+        assertArrayEquals(new String[] {"zulu", "xray", "whiskey", "victor"}, names(fields.getFields(ReflectionFields.Use.COMPARE_TO, false)));
+        assertArrayEquals(new String[] {"constant", "victor", "whiskey", "xray", "yankee", "zulu"}, names(fields.getSortedFields()));
+    }
+
+    @Test
+    public void testShared() {
+        final ReflectionFields fields = ReflectionFields.of(Fields.class);
+        assertSame(fields, ReflectionFields.of(Fields.class));
+        assertSame(fields.getFields(ReflectionFields.Use.EQUALS, false), fields.getFields(ReflectionFields.Use.EQUALS, false));
+        assertSame(fields.getSortedFields(), ReflectionFields.of(Fields.class).getSortedFields());
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the maximum length of {@link ToStringStyle} and the output of {@link ToStringBuilder} to an {@link Appendable}.
+ */
+public class ToStringStyleMaxLengthTest extends AbstractLangTest {
+
+    static class Node {
+        final int id;
+        final Node next;
+
+        Node(final int id, final Node next) {
+            this.id = id;
+            this.next = next;
+        }
+    }
+
+    static class BoundedRecursiveToStringStyle extends RecursiveToStringStyle {
+        private static final long serialVersionUID = 1L;
+
+        BoundedRecursiveToStringStyle(final int maxLength) {
+            setUseIdentityHashCode(false);
+            setUseShortClassName(true);
+            setMaxLength(maxLength);
+        }
+    }
+
+    private static StandardToStringStyle style(final int maxLength) {
+        final StandardToStringStyle style = new StandardToStringStyle();
+        style.setUseIdentityHashCode(false);
+        style.setUseShortClassName(true);
+        style.setMaxLength(maxLength);
+        return style;
+    }
+
+    @Test
+    public void testAppendTo() throws IOException {
+        final Node node = new Node(1, new Node(2, null));
+        final StringBuilder builder = new StringBuilder("node: ");
+        assertSame(builder, ReflectionToStringBuilder.appendTo(builder, node, ToStringStyle.SHORT_PREFIX_STYLE));
+        assertEquals("node: " + ReflectionToStringBuilder.toString(node, ToStringStyle.SHORT_PREFIX_STYLE), builder.toString());
+        assertEquals("x<null>", new ToStringBuilder(null).appendTo(new StringBuilder("x")).toString());
+        assertEquals("ToStringStyleMaxLengthTest.Node[id=1]", new ToStringBuilder(node, ToStringStyle.SHORT_PREFIX_STYLE).append("id", 1).appendTo(new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testArrays() {
+        final StandardToStringStyle style = style(20);
+        final int[] ints = IntStream.range(0, 1000).toArray();
+        assertEquals("Object[a={0,1,2,3,4,5,...}]", new ToStringBuilder(new Object(), style).append("a", ints).toString());
+        final Object[] objects = IntStream.range(0, 1000).boxed().toArray();
+        assertEquals("Object[a={0,1,2,3,4,5,...}]", new ToStringBuilder(new Object(), style).append("a", objects).toString());
+        assertEquals("Object[a={0,1,2,3,4,5,...}]", new ToStringBuilder(new Object(), style).append("a", (Object) ints).toString());
+        assertEquals("Object[a={true,false,...}]", new ToStringBuilder(new Object(), style(15)).append("a", new boolean[] {true, false, true}).toString());
+    }
+
+    @Test
+    public void testCollections() {
+        final StandardToStringStyle style = style(20);
+        final List<Integer> list = IntStream.range(0, 1000).boxed().collect(Collectors.toList());
+        assertEquals("Object[a=[0, 1, 2, 3, ...]]", new ToStringBuilder(new Object(), style).append("a", list).toString());
+        final Map<Integer, Integer> map = new LinkedHashMap<>();
+        list.forEach(i -> map.put(i, i));
+        assertEquals("Object[a={0=0, 1=1, ...}]", new ToStringBuilder(new Object(), style).append("a", map).toString());
+        // within the limit, the output is the same as the JDK's
+        final List<Object> small = new ArrayList<>(Arrays.asList(1, null, "c"));
+        assertEquals("Object[a=" + small + "]", new ToStringBuilder(new Object(), style(1000)).append("a", small).toString());
+        assertEquals("Object[a={1=2}]", new ToStringBuilder(new Object(), style(1000)).append("a", Collections.singletonMap(1, 2)).toString());
+    }
+
+    @Test
+    public void testFields() {
+        final StandardToStringStyle style = style(12);
+        assertEquals("Object[a=1,b=2,...]", new ToStringBuilder(new Object(), style).append("a", 1).append("b", 2L).append("c", 'c').append("d", "d").toString());
+        style.setTruncatedText("~");
+        assertEquals("~", style.getTruncatedText());
+        assertEquals("Object[a=1,b=2,~]", new ToStringBuilder(new Object(), style).append("a", 1).append("b", 2L).append("c", 'c').toString());
+        style.setMaxLength(0);
+        assertEquals(0, style.getMaxLength());
+        assertEquals("Object[a=1,b=2,c=c]", new ToStringBuilder(new Object(), style).append("a", 1).append("b", 2L).append("c", 'c').toString());
+    }
+
+    @Test
+    public void testRecursive() {
+        Node list = null;
+        for (int i = 0; i < 1000; i++) {
+            list = new Node(i, list);
+        }
+        final String string = ReflectionToStringBuilder.toString(list, new BoundedRecursiveToStringStyle(100));
+        assertTrue(string.length() < 200, string);
+        assertTrue(string.startsWith("ToStringStyleMaxLengthTest.Node[id=999,next=ToStringStyleMaxLengthTest.Node[id=998,"), string);
+        assertTrue(string.contains("..."), string);
+        final Node short1 = new Node(1, new Node(2, null));
+        assertEquals(ReflectionToStringBuilder.toString(short1, new BoundedRecursiveToStringStyle(0)),
+            ReflectionToStringBuilder.toString(short1, new BoundedRecursiveToStringStyle(1000)));
+    }
+}
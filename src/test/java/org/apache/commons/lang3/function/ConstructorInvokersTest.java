@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ConstructorInvokers}.
+ */
+public class ConstructorInvokersTest extends AbstractLangTest {
+
+    public static class Point {
+        private final int x;
+        private final long y;
+
+        public Point() {
+            this(0, 0);
+        }
+
+        public Point(final int x, final long y) {
+            this.x = x;
+            this.y = y;
+        }
+
+        public Point(final String s) throws IOException {
+            this(0, 0);
+            throw new IOException(s);
+        }
+
+        public Point(final Object o) throws Exception {
+            this(0, 0);
+            throw new Exception(String.valueOf(o));
+        }
+
+        public Point(final Boolean error) {
+            this(0, 0);
+            if (error.booleanValue()) {
+                throw new AssertionError();
+            }
+            throw new IllegalStateException();
+        }
+
+        @SuppressWarnings("unused")
+        private Point(final Point point) {
+            this(point.x + 1, point.y + 1);
+        }
+    }
+
+    @Test
+    public void testBiFunction() throws NoSuchMethodException {
+        final BiFunction<Integer, Long, Point> function = ConstructorInvokers.asBiFunction(Point.class.getConstructor(int.class, long.class));
+        final Point point = function.apply(1, 2L);
+        assertEquals(1, point.x);
+        assertEquals(2L, point.y);
+        assertSame(function, ConstructorInvokers.asBiFunction(Point.class.getConstructor(int.class, long.class)));
+        assertThrows(NullPointerException.class, () -> function.apply(null, 2L));
+    }
+
+    @Test
+    public void testFunction() throws NoSuchMethodException {
+        final Function<String, StringBuilder> function = ConstructorInvokers.asFunction(StringBuilder.class.getConstructor(String.class));
+        assertEquals("ABC", function.apply("ABC").toString());
+        assertSame(function, ConstructorInvokers.asFunction(StringBuilder.class.getConstructor(String.class)));
+    }
+
+    @Test
+    public void testFunctionThrowsChecked() throws NoSuchMethodException {
+        final Function<String, Point> function = ConstructorInvokers.asFunction(Point.class.getConstructor(String.class));
+        assertEquals("message", assertThrows(UncheckedIOException.class, () -> function.apply("message")).getCause().getMessage());
+        final Function<Object, Point> exception = ConstructorInvokers.asFunction(Point.class.getConstructor(Object.class));
+        assertEquals("message", assertThrows(UndeclaredThrowableException.class, () -> exception.apply("message")).getCause().getMessage());
+    }
+
+    @Test
+    public void testFunctionThrowsUnchecked() throws NoSuchMethodException {
+        final Function<Boolean, Point> function = ConstructorInvokers.asFunction(Point.class.getConstructor(Boolean.class));
+        assertThrows(IllegalStateException.class, () -> function.apply(Boolean.FALSE));
+        // errors are not wrapped
+        assertThrows(AssertionError.class, () -> function.apply(Boolean.TRUE));
+    }
+
+    @Test
+    public void testNotAccessible() throws NoSuchMethodException {
+        final Constructor<Point> constructor = Point.class.getDeclaredConstructor(Point.class);
+        assertThrows(UncheckedIllegalAccessException.class, () -> ConstructorInvokers.asFunction(constructor));
+        final Constructor<Point> accessible = Point.class.getDeclaredConstructor(Point.class);
+        accessible.setAccessible(true);
+        final Function<Point, Point> function = ConstructorInvokers.asFunction(accessible);
+        assertEquals(2, function.apply(function.apply(new Point())).x);
+        // a copy of the constructor that is not accessible does not get the cached lambda
+        assertThrows(UncheckedIllegalAccessException.class, () -> ConstructorInvokers.asFunction(constructor));
+        assertSame(function, ConstructorInvokers.asFunction(accessible));
+    }
+
+    @Test
+    public void testSupplier() throws NoSuchMethodException {
+        final Supplier<Point> supplier = ConstructorInvokers.asSupplier(Point.class.getConstructor());
+        assertNotSame(supplier.get(), supplier.get());
+        assertEquals(0, supplier.get().x);
+    }
+
+    @Test
+    public void testWrongParameterCount() {
+        assertThrows(NullPointerException.class, () -> ConstructorInvokers.asSupplier(null));
+        assertThrows(IllegalArgumentException.class, () -> ConstructorInvokers.asSupplier(Point.class.getConstructor(String.class)));
+        assertThrows(IllegalArgumentException.class, () -> ConstructorInvokers.asFunction(Point.class.getConstructor()));
+        assertThrows(IllegalArgumentException.class, () -> ConstructorInvokers.asBiFunction(Point.class.getConstructor(String.class)));
+    }
+}
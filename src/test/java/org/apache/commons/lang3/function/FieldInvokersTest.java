@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.lang.reflect.Field;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.exception.UncheckedIllegalAccessException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FieldInvokers}.
+ */
+public class FieldInvokersTest extends AbstractLangTest {
+
+    public static class Bean {
+        public static String staticName = "static";
+        public final String constant = "constant";
+        public final StringBuilder frozen = new StringBuilder();
+        public String name;
+        public int count;
+        private long secret = 7;
+    }
+
+    @Test
+    public void testFinal() throws NoSuchFieldException {
+        final Field field = Bean.class.getField("constant");
+        assertEquals("constant", FieldInvokers.asGetter(field).apply(new Bean()));
+        assertThrows(UncheckedIllegalAccessException.class, () -> FieldInvokers.asSetter(field));
+    }
+
+    @Test
+    public void testFinalAccessibleFirst() throws NoSuchFieldException {
+        final Field accessible = Bean.class.getField("frozen");
+        accessible.setAccessible(true);
+        final Bean bean = new Bean();
+        final StringBuilder value = new StringBuilder();
+        FieldInvokers.asSetter(accessible).accept(bean, value);
+        assertSame(value, bean.frozen);
+        // a copy of the field that is not accessible does not get the cached setter
+        assertThrows(UncheckedIllegalAccessException.class, () -> FieldInvokers.asSetter(Bean.class.getField("frozen")));
+    }
+
+    @Test
+    public void testGetterSetter() throws NoSuchFieldException {
+        final Bean bean = new Bean();
+        final Function<Bean, String> getter = FieldInvokers.asGetter(Bean.class.getField("name"));
+        final BiConsumer<Bean, String> setter = FieldInvokers.asSetter(Bean.class.getField("name"));
+        assertNull(getter.apply(bean));
+        setter.accept(bean, "ABC");
+        assertEquals("ABC", getter.apply(bean));
+        assertEquals("ABC", bean.name);
+        assertSame(getter, FieldInvokers.asGetter(Bean.class.getField("name")));
+        assertSame(setter, FieldInvokers.asSetter(Bean.class.getField("name")));
+        assertThrows(NullPointerException.class, () -> getter.apply(null));
+        assertThrows(NullPointerException.class, () -> FieldInvokers.asGetter(null));
+    }
+
+    @Test
+    public void testNotAccessible() throws NoSuchFieldException {
+        final Field field = Bean.class.getDeclaredField("secret");
+        assertThrows(UncheckedIllegalAccessException.class, () -> FieldInvokers.asGetter(field));
+        final Field accessible = Bean.class.getDeclaredField("secret");
+        accessible.setAccessible(true);
+        final Bean bean = new Bean();
+        FieldInvokers.asSetter(accessible).accept(bean, 8L);
+        assertEquals(8L, FieldInvokers.asGetter(accessible).apply(bean));
+        // a copy of the field that is not accessible does not get the cached lambda
+        assertThrows(UncheckedIllegalAccessException.class, () -> FieldInvokers.asGetter(field));
+    }
+
+    @Test
+    public void testPrimitive() throws NoSuchFieldException {
+        final Bean bean = new Bean();
+        final BiConsumer<Bean, Integer> setter = FieldInvokers.asSetter(Bean.class.getField("count"));
+        setter.accept(bean, 3);
+        assertEquals(3, FieldInvokers.asGetter(Bean.class.getField("count")).apply(bean));
+        assertThrows(NullPointerException.class, () -> setter.accept(bean, null));
+    }
+
+    @Test
+    public void testStatic() throws NoSuchFieldException {
+        final Field field = Bean.class.getField("staticName");
+        final String saved = Bean.staticName;
+        try {
+            FieldInvokers.asSetter(field).accept(null, "changed");
+            assertEquals("changed", FieldInvokers.asGetter(field).apply(null));
+        } finally {
+            Bean.staticName = saved;
+        }
+    }
+}
@@ -23,13 +23,19 @@
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.SplittableRandom;
 
 import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.JavaVersion;
+import org.apache.commons.lang3.SystemUtils;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -1743,4 +1749,286 @@ public void testToShortStringI() {
         assertEquals(12345, NumberUtils.toShort("12345", (short) 5), "toShort(String, short) 1 failed");
         assertEquals(5, NumberUtils.toShort("1234.5", (short) 5), "toShort(String, short) 2 failed");
     }
+
+    private static final String[] NUMBERS = {"", "+", "-", "0", "-0", "+0", "00", "1", "+1", "-1", "12345", "-12345",
+        "2147483647", "2147483648", "-2147483648", "-2147483649", "9223372036854775807", "9223372036854775808",
+        "-9223372036854775808", "-9223372036854775809", "99999999999999999999", "1L", "1.", ".5", "-.5", "1.5", "1.5e3",
+        "1.5E-3", "1e", "1e+", "1e-5", ".", ".e1", "1.5f", "1.5D", "1.5ff", "1,5", " 1", "1 ", "\t1.5\n", "NaN", "-NaN",
+        "Infinity", "-Infinity", "+Infinity", "Inf", "0x1p3", "0x10", "#10", "1e400", "1e-400", "-1e-400", "4.9e-324",
+        "2.2250738585072014E-308", "1.7976931348623157e308", "1.7976931348623159e308", "3.4028235e38", "3.4028236e38",
+        "1.4e-45", "0.1", "0.30000000000000004", "9007199254740993", "9007199254740992", "123456789012345678901234567890",
+        "0.000000000000000000000000000000000001", "1e22", "1e23", "16777217", "1e10", "1e11", "1e-10", "1e-11", "١٢",
+        "\uff11", "1_0", "--1", "+-1", "1e1e1", "1.2.3", "e5", "1e100000000000"};
+
+    private static double parseDouble(final String str, final double defaultValue) {
+        try {
+            return Double.parseDouble(str);
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static float parseFloat(final String str, final float defaultValue) {
+        try {
+            return Float.parseFloat(str);
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static int parseInt(final String str, final int defaultValue) {
+        try {
+            return Integer.parseInt(str);
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static long parseLong(final String str, final long defaultValue) {
+        try {
+            return Long.parseLong(str);
+        } catch (final NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    /**
+     * Test for {@link NumberUtils#createNumber(String)} of decimal integers, which are classified in a single pass.
+     */
+    @Test
+    public void testCreateNumberDecimalIntegers() {
+        assertEquals(Integer.valueOf(0), NumberUtils.createNumber("-0"));
+        assertEquals(Integer.valueOf(5), NumberUtils.createNumber("+5"));
+        assertEquals(Integer.valueOf(Integer.MAX_VALUE), NumberUtils.createNumber("2147483647"));
+        assertEquals(Integer.valueOf(Integer.MIN_VALUE), NumberUtils.createNumber("-2147483648"));
+        assertEquals(Long.valueOf(2147483648L), NumberUtils.createNumber("2147483648"));
+        assertEquals(Long.valueOf(Long.MIN_VALUE), NumberUtils.createNumber("-9223372036854775808"));
+        assertEquals(new BigInteger("9223372036854775808"), NumberUtils.createNumber("9223372036854775808"));
+        assertEquals(new BigInteger("-99999999999999999999"), NumberUtils.createNumber("-99999999999999999999"));
+        // octal numbers are still decoded
+        assertEquals(Integer.valueOf(8), NumberUtils.createNumber("010"));
+        assertThrows(NumberFormatException.class, () -> NumberUtils.createNumber("09"));
+        assertThrows(NumberFormatException.class, () -> NumberUtils.createNumber("1-"));
+    }
+
+    /**
+     * Test for {@link NumberUtils#toDouble(CharSequence, int, int, double)} against {@link Double#parseDouble(String)}.
+     */
+    @Test
+    public void testToDoubleRegion() {
+        for (final String number : NUMBERS) {
+            final String line = "a," + number + ",b";
+            assertEquals(parseDouble(number, -7.5), NumberUtils.toDouble(line, 2, line.length() - 2, -7.5), number);
+            assertEquals(parseDouble(number, -7.5), NumberUtils.toDouble(new StringBuilder(number), 0, number.length(), -7.5), number);
+            assertEquals(parseDouble(number, 0.0d), NumberUtils.toDouble(number), number);
+        }
+        final SplittableRandom random = new SplittableRandom(3);
+        final StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            builder.setLength(0);
+            final int digits = 1 + random.nextInt(20);
+            final int point = random.nextInt(digits + 1);
+            for (int d = 0; d < digits; d++) {
+                if (d == point) {
+                    builder.append('.');
+                }
+                builder.append((char) ('0' + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                builder.append('e').append(random.nextInt(-40, 40));
+            }
+            final String number = builder.toString();
+            assertEquals(Double.parseDouble(number), NumberUtils.toDouble(builder, 0, builder.length(), Double.NaN), number);
+            assertEquals(Float.parseFloat(number), NumberUtils.toFloat(builder, 0, builder.length(), Float.NaN), number);
+        }
+        assertEquals(1.1d, NumberUtils.toDouble(null, 0, 0, 1.1d));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.toDouble("1", 0, 2, 0.0d));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.toDouble("1", 1, 0, 0.0d));
+    }
+
+    /**
+     * Test for {@link NumberUtils#toFloat(CharSequence, int, int, float)} against {@link Float#parseFloat(String)}.
+     */
+    @Test
+    public void testToFloatRegion() {
+        for (final String number : NUMBERS) {
+            final String line = "a," + number + ",b";
+            assertEquals(parseFloat(number, -7.5f), NumberUtils.toFloat(line, 2, line.length() - 2, -7.5f), number);
+            assertEquals(parseFloat(number, 0.0f), NumberUtils.toFloat(number), number);
+        }
+        assertEquals(1.1f, NumberUtils.toFloat(null, 0, 0, 1.1f));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.toFloat("1", -1, 1, 0.0f));
+    }
+
+    /**
+     * Test for {@link NumberUtils#toInt(CharSequence, int, int, int)} against {@link Integer#parseInt(String)}.
+     */
+    @Test
+    public void testToIntRegion() {
+        for (final String number : NUMBERS) {
+            final String line = "a," + number + ",b";
+            assertEquals(parseInt(number, -7), NumberUtils.toInt(line, 2, line.length() - 2, -7), number);
+            assertEquals(parseInt(number, 0), NumberUtils.toInt(number), number);
+        }
+        assertEquals(12, NumberUtils.toInt("a,12,b", 2, 4, 0));
+        assertEquals(0, NumberUtils.toInt("a,1x,b", 2, 4, 0));
+        assertEquals(1, NumberUtils.toInt(null, 0, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.toInt("1", 0, 2, 0));
+    }
+
+    /**
+     * Test for {@link NumberUtils#toLong(CharSequence, int, int, long)} against {@link Long#parseLong(String)}.
+     */
+    @Test
+    public void testToLongRegion() {
+        for (final String number : NUMBERS) {
+            final String line = "a," + number + ",b";
+            assertEquals(parseLong(number, -7L), NumberUtils.toLong(line, 2, line.length() - 2, -7L), number);
+            assertEquals(parseLong(number, 0L), NumberUtils.toLong(number), number);
+        }
+        final SplittableRandom random = new SplittableRandom(4);
+        for (int i = 0; i < 10_000; i++) {
+            final long value = random.nextLong() >> random.nextInt(64);
+            final String number = Long.toString(value);
+            assertEquals(value, NumberUtils.toLong(number, 0, number.length(), 0L));
+            assertEquals(parseInt(number, -7), NumberUtils.toInt(number, 0, number.length(), -7), number);
+        }
+        assertEquals(1L, NumberUtils.toLong(null, 0, 0, 1L));
+        assertThrows(IndexOutOfBoundsException.class, () -> NumberUtils.toLong("1", 0, 2, 0L));
+    }
+
+    private static String append(final double value) throws IOException {
+        return NumberUtils.append(new StringBuilder(), value).toString();
+    }
+
+    private static String append(final float value) throws IOException {
+        return NumberUtils.append(new StringBuilder(), value).toString();
+    }
+
+    /**
+     * Asserts that a rendering is the shortest decimal that rounds to a double or float, the closest of them, in the
+     * format of {@link Double#toString(double)}.
+     */
+    private static void assertShortest(final double value, final String str, final boolean single, final String jdk) {
+        assertEquals(Double.toString(value).startsWith("-"), str.startsWith("-"), str);
+        final double abs = Math.abs(value);
+        assertEquals(abs != 0 && (abs < 1e-3 || abs >= 1e7), str.indexOf('E') >= 0, str);
+        final BigDecimal decimal = new BigDecimal(str);
+        final int digits = decimal.stripTrailingZeros().precision();
+        // the JDK renders at most one digit more than needed, before Java 19
+        assertTrue(digits <= Math.max(new BigDecimal(jdk).stripTrailingZeros().precision(), 2), str);
+        if (SystemUtils.isJavaVersionAtLeast(JavaVersion.JAVA_19)) {
+            assertEquals(jdk, str);
+        }
+        final BigDecimal exact = new BigDecimal(value);
+        if (digits > 2) {
+            for (final RoundingMode mode : new RoundingMode[] {RoundingMode.FLOOR, RoundingMode.CEILING}) {
+                final BigDecimal shorter = exact.round(new MathContext(digits - 1, mode));
+                assertFalse(single ? shorter.floatValue() == value : shorter.doubleValue() == value, str);
+            }
+        }
+        final BigDecimal closest = exact.round(new MathContext(digits, RoundingMode.HALF_EVEN));
+        if (single ? closest.floatValue() == value : closest.doubleValue() == value) {
+            assertEquals(0, closest.compareTo(decimal), str);
+        }
+    }
+
+    /**
+     * Test for {@link NumberUtils#append(Appendable, double)}.
+     */
+    @Test
+    public void testAppendDouble() throws IOException {
+        assertEquals("NaN", append(Double.NaN));
+        assertEquals("Infinity", append(Double.POSITIVE_INFINITY));
+        assertEquals("-Infinity", append(Double.NEGATIVE_INFINITY));
+        assertEquals("0.0", append(0.0d));
+        assertEquals("-0.0", append(-0.0d));
+        assertEquals("1.0", append(1.0d));
+        assertEquals("-1.5", append(-1.5d));
+        assertEquals("123.0", append(123.0d));
+        assertEquals("9999999.0", append(9_999_999.0d));
+        assertEquals("1.0E7", append(1e7));
+        assertEquals("0.001", append(1e-3));
+        assertEquals("9.99E-4", append(9.99e-4));
+        assertEquals("0.1", append(0.1d));
+        assertEquals("0.30000000000000004", append(0.1d + 0.2d));
+        assertEquals("2.0E23", append(2e23));
+        assertEquals("1.0E23", append(1e23));
+        assertEquals("4.9E-324", append(Double.MIN_VALUE));
+        assertEquals("9.9E-324", append(2 * Double.MIN_VALUE));
+        assertEquals("2.2250738585072014E-308", append(Double.MIN_NORMAL));
+        assertEquals("1.7976931348623157E308", append(Double.MAX_VALUE));
+        assertEquals("9.007199254740992E15", append(9_007_199_254_740_992d));
+        assertEquals("x1.5", NumberUtils.append(new StringWriter().append('x'), 1.5d).toString());
+        assertEquals("x1.5", NumberUtils.append(new StringBuffer("x"), 1.5d).toString());
+        assertThrows(NullPointerException.class, () -> NumberUtils.append(null, 1.5d));
+        final SplittableRandom random = new SplittableRandom(5);
+        for (int i = 0; i < 20_000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value) && !Double.isInfinite(value)) {
+                assertShortest(value, append(value), false, Double.toString(value));
+            }
+        }
+        for (int e = -1074; e < 1024; e++) {
+            final double value = Math.scalb(1.0d, e);
+            assertShortest(value, append(value), false, Double.toString(value));
+            assertShortest(Math.nextDown(value), append(Math.nextDown(value)), false, Double.toString(Math.nextDown(value)));
+        }
+    }
+
+    /**
+     * Test for {@link NumberUtils#append(Appendable, float)}.
+     */
+    @Test
+    public void testAppendFloat() throws IOException {
+        assertEquals("NaN", append(Float.NaN));
+        assertEquals("-Infinity", append(Float.NEGATIVE_INFINITY));
+        assertEquals("-0.0", append(-0.0f));
+        assertEquals("1.5", append(1.5f));
+        assertEquals("0.1", append(0.1f));
+        assertEquals("1.0E10", append(1e10f));
+        assertEquals("1.4E-45", append(Float.MIN_VALUE));
+        // the JDK renders 1.17549435E-38 before Java 19
+        assertEquals("1.1754944E-38", append(Float.MIN_NORMAL));
+        assertEquals("3.4028235E38", append(Float.MAX_VALUE));
+        assertEquals("1.6777216E7", append(16_777_216f));
+        assertEquals("x1.5", NumberUtils.append(new StringWriter().append('x'), 1.5f).toString());
+        for (int bits = 0; bits < 0x7f80_0000; bits += 49_999) {
+            final float value = Float.intBitsToFloat(bits);
+            assertShortest(value, append(value), true, Float.toString(value));
+        }
+    }
+
+    /**
+     * Test for {@link NumberUtils#createDouble(String)} and {@link NumberUtils#createFloat(String)} against
+     * {@link Double#valueOf(String)} and {@link Float#valueOf(String)}.
+     */
+    @Test
+    public void testCreateDoubleMatchesJdk() {
+        for (final String number : NUMBERS) {
+            if (parseDouble(number, -7.5) == -7.5 && parseDouble(number, 7.5) == 7.5) {
+                assertThrows(NumberFormatException.class, () -> NumberUtils.createDouble(number), number);
+                assertThrows(NumberFormatException.class, () -> NumberUtils.createFloat(number), number);
+            } else {
+                assertEquals(Double.valueOf(number), NumberUtils.createDouble(number), number);
+                assertEquals(Float.valueOf(number), NumberUtils.createFloat(number), number);
+            }
+        }
+        final SplittableRandom random = new SplittableRandom(6);
+        for (int i = 0; i < 5_000; i++) {
+            final double value = Double.longBitsToDouble(random.nextLong());
+            if (!Double.isNaN(value)) {
+                // the decimals halfway between two doubles, and one unit of their last digit around them
+                final BigDecimal midpoint = new BigDecimal(value).add(new BigDecimal(Math.nextUp(value))).divide(BigDecimal.valueOf(2));
+                final BigDecimal ulp = midpoint.ulp();
+                for (final BigDecimal decimal : new BigDecimal[] {midpoint, midpoint.subtract(ulp), midpoint.add(ulp)}) {
+                    final String number = decimal.toString();
+                    assertEquals(Double.valueOf(number), NumberUtils.createDouble(number), number);
+                    assertEquals(Float.valueOf(number), NumberUtils.createFloat(number), number);
+                }
+                final String number = Double.toString(value);
+                assertEquals(Double.valueOf(value), NumberUtils.createDouble(number), number);
+            }
+        }
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.math;
+
+import java.io.IOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show whether parsing and formatting doubles of up to 17 digits with {@link NumberUtils} is faster than with
+ * the JDK.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NumberUtilsvJdkDoublesTest extends AbstractLangTest {
+
+    private static final int SIZE = 256;
+
+    private final double[] values = new double[SIZE];
+    private final String[] strings = new String[SIZE];
+    private final StringBuilder builder = new StringBuilder();
+
+    public NumberUtilsvJdkDoublesTest() {
+        final SplittableRandom random = new SplittableRandom(1);
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextDouble() * Math.pow(10, random.nextInt(-20, 20));
+            strings[i] = Double.toString(values[i]);
+        }
+    }
+
+    @Benchmark
+    public int testFormatJdk() {
+        builder.setLength(0);
+        for (final double value : values) {
+            builder.append(value);
+        }
+        return builder.length();
+    }
+
+    @Benchmark
+    public int testFormatNumberUtils() throws IOException {
+        builder.setLength(0);
+        for (final double value : values) {
+            NumberUtils.append(builder, value);
+        }
+        return builder.length();
+    }
+
+    @Benchmark
+    public double testParseJdk() {
+        double sum = 0;
+        for (final String string : strings) {
+            sum += Double.parseDouble(string);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double testParseNumberUtils() {
+        double sum = 0;
+        for (final String string : strings) {
+            sum += NumberUtils.toDouble(string);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.math;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show whether parsing the fields of a line in place with {@link NumberUtils} is faster than parsing substrings
+ * with the JDK.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class NumberUtilsvJdkParsingTest extends AbstractLangTest {
+
+    private final String line = "1234567,-42,3.25,0.001,17.5e-3,NA,99";
+    private final int[] commas = {-1, 7, 11, 16, 22, 30, 33, 36};
+
+    @Benchmark
+    public double testJdkSubstrings() {
+        double sum = 0;
+        for (int i = 0; i + 1 < commas.length; i++) {
+            try {
+                sum += Double.parseDouble(line.substring(commas[i] + 1, commas[i + 1]));
+            } catch (final NumberFormatException e) {
+                sum -= 1;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double testNumberUtilsRegions() {
+        double sum = 0;
+        for (int i = 0; i + 1 < commas.length; i++) {
+            sum += NumberUtils.toDouble(line, commas[i] + 1, commas[i + 1], -1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long testIntJdkSubstrings() {
+        long sum = 0;
+        for (int i = 0; i + 1 < commas.length; i++) {
+            try {
+                sum += Integer.parseInt(line.substring(commas[i] + 1, commas[i + 1]));
+            } catch (final NumberFormatException e) {
+                sum -= 1;
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long testIntNumberUtilsRegions() {
+        long sum = 0;
+        for (int i = 0; i + 1 < commas.length; i++) {
+            sum += NumberUtils.toInt(line, commas[i] + 1, commas[i + 1], -1);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public Number testCreateNumberLong() {
+        return NumberUtils.createNumber("12345678901");
+    }
+}
@@ -20,6 +20,7 @@
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -145,6 +146,21 @@ public void testGetFieldForceAccess() {
         assertEquals(PrivatelyShadowedChild.class, FieldUtils.getField(PrivatelyShadowedChild.class, "d", true).getDeclaringClass());
     }
 
+    @Test
+    public void testGetFieldReturnsNewFields() {
+        final Field forced = FieldUtils.getField(PrivatelyShadowedChild.class, "s", true);
+        assertTrue(forced.isAccessible());
+        final Field declared = FieldUtils.getDeclaredField(PrivatelyShadowedChild.class, "s", true);
+        assertNotSame(forced, declared);
+        assertEquals(forced, declared);
+        forced.setAccessible(false);
+        assertTrue(declared.isAccessible());
+        // forcing access once does not make the field found without forcing access
+        assertEquals(parentClass, FieldUtils.getField(PrivatelyShadowedChild.class, "s").getDeclaringClass());
+        assertNull(FieldUtils.getDeclaredField(PrivatelyShadowedChild.class, "s"));
+        assertNull(FieldUtils.getField(PrivatelyShadowedChild.class, "b"));
+    }
+
     @Test
     public void testGetFieldForceAccessNullPointerException() {
         assertThrows(NullPointerException.class, () -> FieldUtils.getField(null, "none", true));
@@ -257,6 +273,23 @@ public void testGetFieldsListWithAnnotation() throws NoSuchFieldException {
         assertTrue(fieldUtilsTestAnnotatedFields.contains(annotatedFields.get(1)));
     }
 
+    @Test
+    public void testGetFieldsListWithAnnotationMatchesGetAnnotation() {
+        for (final Class<?> cls : new Class<?>[] {FieldUtilsTest.class, PrivatelyShadowedChild.class, Object.class}) {
+            final List<Field> expected = new ArrayList<>();
+            for (final Field field : FieldUtils.getAllFieldsList(cls)) {
+                if (field.getAnnotation(Annotated.class) != null) {
+                    expected.add(field);
+                }
+            }
+            assertEquals(expected, FieldUtils.getFieldsListWithAnnotation(cls, Annotated.class));
+            assertEquals(expected, FieldUtils.getFieldsListWithAnnotation(cls, Annotated.class));
+        }
+        final List<Field> fields = FieldUtils.getFieldsListWithAnnotation(FieldUtilsTest.class, Annotated.class);
+        fields.clear();
+        assertEquals(2, FieldUtils.getFieldsListWithAnnotation(FieldUtilsTest.class, Annotated.class).size());
+    }
+
     @Test
     public void testGetFieldsListWithAnnotationNullPointerException() {
         assertThrows(NullPointerException.class, () -> FieldUtils.getFieldsListWithAnnotation(FieldUtilsTest.class, null));
@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show how much slower invoking a method by name with {@link InokeMethods#invokeMethod(Object, String, Object...)}
+ * is than invoking a {@link Method} resolved beforehand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class InvokeMethodvMethodInvokeTest extends AbstractLangTest {
+
+    private final MethodUtilsTest.Dispatcher dispatcher = new MethodUtilsTest.Dispatcher();
+    private final Method echo = MethodUtilsGetters.getAccessibleMethod(MethodUtilsTest.Dispatcher.class, "echo", String.class);
+
+    @Benchmark
+    public Object testInvokeMethod() throws ReflectiveOperationException {
+        return InokeMethods.invokeMethod(dispatcher, "echo", "a");
+    }
+
+    @Benchmark
+    public Object testInvokeMethodForceAccess() throws ReflectiveOperationException {
+        return InokeMethods.invokeMethod(dispatcher, true, "secret");
+    }
+
+    @Benchmark
+    public Object testMethodInvoke() throws IllegalAccessException, InvocationTargetException {
+        return echo.invoke(dispatcher, "a");
+    }
+}
@@ -30,8 +30,12 @@
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.awt.Color;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.lang.reflect.Type;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
@@ -1120,6 +1124,86 @@ public void testMethod4(final Color aColor1, final Color aColor2) {
         }
     }
 
+    @Test
+    public void testInvokeMethodCache() throws Exception {
+        final Dispatcher dispatcher = new Dispatcher();
+        final long hits = MethodUtils.getCacheStatistics().getHitCount();
+        final long misses = MethodUtils.getCacheStatistics().getMissCount();
+        for (int i = 0; i < 3; i++) {
+            assertEquals("echo:a", InokeMethods.invokeMethod(dispatcher, "echo", "a"));
+        }
+        assertEquals(misses + 1, MethodUtils.getCacheStatistics().getMissCount());
+        assertTrue(MethodUtils.getCacheStatistics().getHitCount() >= hits + 2);
+        // other argument types, access and receivers are other entries
+        assertEquals(2L, InokeMethods.invokeMethod(dispatcher, "twice", 1L));
+        assertEquals(2L, InokeMethods.invokeMethod(dispatcher, "twice", 1));
+        assertEquals(3, InokeMethods.invokeStaticMethod(Dispatcher.class, "sum", 1, 2));
+        assertEquals(3, InokeMethods.invokeMethod(dispatcher, "sum", 1, 2));
+        assertEquals("secret", InokeMethods.invokeMethod(dispatcher, true, "secret"));
+        assertEquals("secret", InokeMethods.invokeMethod(dispatcher, true, "secret"));
+        assertNull(InokeMethods.invokeMethod(dispatcher, "run"));
+        assertEquals("echo:null", InokeMethods.invokeMethod(dispatcher, "echo", new Object[] {null}, new Class<?>[] {String.class}));
+        // failures are cached, and reported as by reflection
+        for (int i = 0; i < 2; i++) {
+            assertThrows(NoSuchMethodException.class, () -> InokeMethods.invokeMethod(dispatcher, "secret"));
+            assertThrows(NoSuchMethodException.class, () -> InokeMethods.invokeMethod(dispatcher, "missing"));
+            final InvocationTargetException e = assertThrows(InvocationTargetException.class,
+                () -> InokeMethods.invokeMethod(dispatcher, "fail", "message"));
+            assertEquals("message", e.getCause().getMessage());
+            assertThrows(IllegalArgumentException.class,
+                () -> InokeMethods.invokeMethod(dispatcher, "twice", new Object[] {null}, new Class<?>[] {long.class}));
+            assertThrows(IllegalArgumentException.class,
+                () -> InokeMethods.invokeMethod(dispatcher, "echo", new Object[] {1}, new Class<?>[] {String.class}));
+        }
+        // the key does not share the array of the caller
+        final Class<?>[] parameterTypes = {String.class};
+        assertEquals("echo:b", InokeMethods.invokeMethod(dispatcher, "echo", new Object[] {"b"}, parameterTypes));
+        parameterTypes[0] = Integer.class;
+        assertThrows(NoSuchMethodException.class, () -> InokeMethods.invokeMethod(dispatcher, "echo", new Object[] {1}, parameterTypes));
+    }
+
+    @Test
+    public void testInvokeMethodCacheArgumentsOfOtherClassLoaders() throws Exception {
+        final Dispatcher dispatcher = new Dispatcher();
+        final ClassLoader loader = new URLClassLoader(new URL[0], getClass().getClassLoader());
+        final Object proxy = Proxy.newProxyInstance(loader, new Class<?>[] {Runnable.class}, (p, method, args) -> null);
+        assertSame(loader, proxy.getClass().getClassLoader());
+        for (int i = 0; i < 2; i++) {
+            final long misses = MethodUtils.getCacheStatistics().getMissCount();
+            assertEquals("describe:" + proxy.getClass().getName(), InokeMethods.invokeMethod(dispatcher, "describe", proxy));
+            // not cached, so that the class loader of the argument is not kept by the cache of the class
+            assertEquals(misses + 1, MethodUtils.getCacheStatistics().getMissCount());
+        }
+    }
+
+    @Test
+    public void testInvokeMethodCacheExceptions() throws Exception {
+        final Dispatcher dispatcher = new Dispatcher();
+        for (int i = 0; i < 2; i++) {
+            // errors thrown by the method are wrapped, as by reflection
+            final InvocationTargetException e = assertThrows(InvocationTargetException.class, () -> InokeMethods.invokeMethod(dispatcher, "error"));
+            assertEquals("error", e.getCause().getMessage());
+            // a null receiver is reported as by reflection
+            assertThrows(NullPointerException.class,
+                () -> MethodResolutionCache.get(Dispatcher.class, "describe", new Class<?>[] {Object.class}, false).invoke(null, new Object[] {"a"}));
+        }
+        // errors initializing the class are not wrapped
+        assertThrows(ExceptionInInitializerError.class, () -> InokeMethods.invokeStaticMethod(FailingInitializer.class, "get"));
+        assertThrows(NoClassDefFoundError.class, () -> InokeMethods.invokeStaticMethod(FailingInitializer.class, "get"));
+    }
+
+    public static class FailingInitializer {
+        private static final int VALUE = fail();
+
+        private static int fail() {
+            throw new IllegalStateException("initializer");
+        }
+
+        public static int get() {
+            return VALUE;
+        }
+    }
+
     protected abstract static class AbstractGetMatchingMethod {
         public abstract void testMethod5(Exception exception);
     }
@@ -1129,4 +1213,38 @@ private static class GetMatchingMethodImpl extends AbstractGetMatchingMethod {
         public void testMethod5(final Exception exception) {
         }
     }
+
+    public static class Dispatcher {
+        public static int sum(final int a, final int b) {
+            return a + b;
+        }
+
+        public String describe(final Object o) {
+            return "describe:" + o.getClass().getName();
+        }
+
+        public String echo(final String s) {
+            return "echo:" + s;
+        }
+
+        public void error() {
+            throw new AssertionError("error");
+        }
+
+        public void fail(final String message) {
+            throw new IllegalStateException(message);
+        }
+
+        public void run() {
+        }
+
+        @SuppressWarnings("unused")
+        private String secret() {
+            return "secret";
+        }
+
+        public long twice(final long l) {
+            return l * 2;
+        }
+    }
 }
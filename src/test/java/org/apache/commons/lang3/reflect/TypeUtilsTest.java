@@ -19,7 +19,9 @@
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assumptions.assumeTrue;
@@ -490,6 +492,30 @@ public void testGetTypeArguments() {
         assertEquals(getClass().getTypeParameters()[0], typeVarAssigns.get(Other.class.getTypeParameters()[0]));
     }
 
+    @Test
+    public void testGetTypeArgumentsCached() {
+        final TypeVariable<?> comparableTypeVar = Comparable.class.getTypeParameters()[0];
+        final Map<TypeVariable<?>, Type> first = TypeUtils.getTypeArguments(Integer.class, Comparable.class);
+        assertEquals(Collections.singletonMap(comparableTypeVar, Integer.class), first);
+        // the caller owns the returned map
+        first.clear();
+        final Map<TypeVariable<?>, Type> second = TypeUtils.getTypeArguments(Integer.class, Comparable.class);
+        assertNotSame(first, second);
+        assertEquals(Collections.singletonMap(comparableTypeVar, Integer.class), second);
+        assertEquals(TypeUtils.getTypeArguments(Integer.class, Comparable.class, null), second);
+        assertNull(TypeUtils.getTypeArguments(String.class, Number.class));
+        assertNull(TypeUtils.getTypeArguments(String.class, Number.class));
+        // parameterized types are cached with their raw class when their arguments are classes it sees
+        final TypeVariable<?> collectionTypeVar = Collection.class.getTypeParameters()[0];
+        final ParameterizedType listOfString = TypeUtils.parameterize(ArrayList.class, String.class);
+        final ParameterizedType listOfList = TypeUtils.parameterize(ArrayList.class, listOfString);
+        for (int i = 0; i < 2; i++) {
+            assertEquals(String.class, TypeUtils.getTypeArguments(listOfString, Collection.class).get(collectionTypeVar));
+            assertEquals(listOfString, TypeUtils.getTypeArguments(listOfList, Collection.class).get(collectionTypeVar));
+            assertEquals(TypeUtils.getTypeArguments(listOfList, Collection.class, null), TypeUtils.getTypeArguments(listOfList, Collection.class));
+        }
+    }
+
     @Test
     public void testIsArrayGenericTypes() throws Exception {
         final Method method = getClass().getMethod("dummyMethod", List.class, List.class, List.class,
@@ -986,6 +1012,21 @@ public void testParameterize() throws Exception {
         assertEquals("java.lang.Comparable<java.lang.String>", stringComparableType.toString());
     }
 
+    @Test
+    public void testParameterizeInterned() {
+        final ParameterizedType listOfString = TypeUtils.parameterize(List.class, String.class);
+        assertSame(listOfString, TypeUtils.parameterize(List.class, String.class));
+        assertNotSame(listOfString, TypeUtils.parameterize(List.class, Integer.class));
+        assertSame(TypeUtils.wildcardType().withUpperBounds(Number.class).build(),
+            TypeUtils.wildcardType().withUpperBounds(Number.class).build());
+        assertSame(TypeUtils.genericArrayType(listOfString), TypeUtils.genericArrayType(listOfString));
+        final ParameterizedType listOfListOfString = TypeUtils.parameterize(List.class, listOfString);
+        assertTrue(TypeUtils.isAssignable(listOfListOfString, TypeUtils.parameterize(Collection.class, listOfString)));
+        assertTrue(TypeUtils.isAssignable(listOfListOfString, TypeUtils.parameterize(Collection.class, listOfString)));
+        assertFalse(TypeUtils.isAssignable(listOfListOfString, TypeUtils.parameterize(Collection.class, String.class)));
+        assertFalse(TypeUtils.isAssignable(listOfListOfString, TypeUtils.parameterize(Collection.class, String.class)));
+    }
+
     @Test
     public void testParameterizeNarrowerTypeArray() {
         final TypeVariable<?>[] variables = ArrayList.class.getTypeParameters();
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.reflect;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Test to show how much the cached {@link TypeUtils#getTypeArguments(Type, Class)} and
+ * {@link TypeUtils#isAssignable(Type, Type)} save over resolving types on every call, as a dependency injection
+ * container does for each injection point at startup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+public class TypeUtilsvUncachedTypeUtilsTest extends AbstractLangTest {
+
+    private static final Class<?>[] CLASSES = {ArrayList.class, AbstractList.class, HashMap.class, LinkedHashMap.class,
+        TreeMap.class, ConcurrentHashMap.class};
+
+    private static final Class<?>[] TO_CLASSES = {Collection.class, List.class, Map.class, NavigableMap.class,
+        ConcurrentMap.class, Iterable.class};
+
+    private final ParameterizedType listOfString = TypeUtils.parameterize(ArrayList.class, String.class);
+    private final ParameterizedType collectionOfWildcard = TypeUtils.parameterize(Collection.class,
+        TypeUtils.wildcardType().withUpperBounds(CharSequence.class).build());
+
+    @Benchmark
+    public int testGetTypeArguments() {
+        int count = 0;
+        for (final Class<?> clazz : CLASSES) {
+            for (final Class<?> toClass : TO_CLASSES) {
+                final Map<?, ?> typeArguments = TypeUtils.getTypeArguments(clazz, toClass);
+                count += typeArguments == null ? 0 : typeArguments.size();
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int testGetTypeArgumentsUncached() {
+        int count = 0;
+        for (final Class<?> clazz : CLASSES) {
+            for (final Class<?> toClass : TO_CLASSES) {
+                final Map<?, ?> typeArguments = TypeUtils.getTypeArguments(clazz, toClass, null);
+                count += typeArguments == null ? 0 : typeArguments.size();
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public boolean testIsAssignable() {
+        return TypeUtils.isAssignable(listOfString, collectionOfWildcard);
+    }
+
+    @Benchmark
+    public boolean testIsAssignableUncached() {
+        return TypeUtils.isAssignable(listOfString, collectionOfWildcard, null);
+    }
+
+    @Benchmark
+    public boolean testParameterizeIsAssignable() {
+        return TypeUtils.isAssignable(TypeUtils.parameterize(ArrayList.class, String.class), collectionOfWildcard);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public int testStartup() {
+        // the first resolution of each pair, then the repeated resolutions of a container wiring its beans
+        int count = 0;
+        for (int i = 0; i < 100; i++) {
+            count += testGetTypeArguments();
+        }
+        return count;
+    }
+}
@@ -16,14 +16,22 @@
  */
 package org.apache.commons.lang3.time;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
+import java.util.TimeZone;
 
 import org.apache.commons.lang3.AbstractLangTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -59,6 +67,24 @@ public class DateUtilsRoundingTest extends AbstractLangTest {
     FastDateFormat fdf = DateFormatUtils.ISO_DATETIME_FORMAT;
 
 
+    private static final int[] EPOCH_FIELDS = {Calendar.MILLISECOND, Calendar.SECOND, Calendar.MINUTE, Calendar.HOUR,
+        Calendar.HOUR_OF_DAY, Calendar.AM_PM, Calendar.DATE, DateUtils.SEMI_MONTH, Calendar.MONTH, Calendar.YEAR,
+        Calendar.ERA};
+
+    /**
+     * Checks that the epoch millisecond methods give the same results as the calendar methods.
+     */
+    private static void assertEpochMillis(final long millis, final TimeZone timeZone) {
+        final Calendar calendar = new GregorianCalendar(timeZone);
+        calendar.setTimeInMillis(millis);
+        for (final int field : EPOCH_FIELDS) {
+            final String message = timeZone.getID() + " " + millis + " " + field;
+            assertEquals(DateUtils.truncate(calendar, field).getTimeInMillis(), DateUtils.truncate(millis, timeZone, field), message);
+            assertEquals(DateUtils.round(calendar, field).getTimeInMillis(), DateUtils.round(millis, timeZone, field), message);
+            assertEquals(DateUtils.ceiling(calendar, field).getTimeInMillis(), DateUtils.ceiling(millis, timeZone, field), message);
+        }
+    }
+
     /**
      * When using this basetest all extremes are tested.<br>
      * It will test the Date, Calendar and Object-implementation<br>
@@ -756,4 +782,66 @@ public void testTruncateYear() throws Exception {
         final Date lastTruncateDate = dateTimeParser.parse("December 31, 2007 23:59:59.999");
         baseTruncateTest(targetYearDate, lastTruncateDate, calendarField);
     }
+
+    @Test
+    public void testEpochMillisAllTimeZones() {
+        final Random random = new Random(20231019);
+        final long[] deltas = {-DateUtils.MILLIS_PER_DAY * 15, -DateUtils.MILLIS_PER_DAY, -DateUtils.MILLIS_PER_HOUR * 2,
+            -DateUtils.MILLIS_PER_HOUR, -DateUtils.MILLIS_PER_MINUTE * 30, -1, 0, DateUtils.MILLIS_PER_MINUTE * 30,
+            DateUtils.MILLIS_PER_HOUR, DateUtils.MILLIS_PER_HOUR * 2, DateUtils.MILLIS_PER_DAY, DateUtils.MILLIS_PER_DAY * 15};
+        for (final String id : TimeZone.getAvailableIDs()) {
+            final TimeZone timeZone = TimeZone.getTimeZone(id);
+            for (int i = 0; i < 20; i++) {
+                // 1850 to 2150, beyond the years computed without a calendar
+                assertEpochMillis(-3786825600000L + (long) (random.nextDouble() * 9467107200000L), timeZone);
+            }
+            final ZoneRules rules = timeZone.toZoneId().getRules();
+            ZoneOffsetTransition transition = rules.nextTransition(Instant.parse("2015-01-01T00:00:00Z"));
+            for (int i = 0; i < 6 && transition != null; i++) {
+                final long millis = transition.toEpochSecond() * 1000;
+                for (final long delta : deltas) {
+                    assertEpochMillis(millis + delta, timeZone);
+                }
+                transition = rules.nextTransition(transition.getInstant());
+            }
+        }
+    }
+
+    @Test
+    public void testEpochMillisBatch() {
+        final TimeZone timeZone = TimeZone.getTimeZone("Europe/Berlin");
+        final long[] millis = new long[1000];
+        final Random random = new Random(20231019);
+        for (int i = 0; i < millis.length; i++) {
+            millis[i] = 1600000000000L + random.nextInt() * 100L;
+        }
+        final long[] expected = new long[millis.length];
+        for (int i = 0; i < millis.length; i++) {
+            expected[i] = DateUtils.truncate(millis[i], timeZone, Calendar.HOUR_OF_DAY);
+        }
+        assertArrayEquals(expected, DateUtils.truncate(millis, timeZone, Calendar.HOUR_OF_DAY));
+        assertEquals(0, DateUtils.truncate(new long[0], timeZone, Calendar.DATE).length);
+        assertThrows(NullPointerException.class, () -> DateUtils.truncate((long[]) null, timeZone, Calendar.DATE));
+    }
+
+    @Test
+    public void testEpochMillisDaylightSavingTime() {
+        final TimeZone timeZone = TimeZone.getTimeZone("America/New_York");
+        // 2021-03-14 01:40 EST rounds to 03:00 EDT, as in the documentation of round
+        assertEquals(1615705200000L, DateUtils.round(1615704000000L, timeZone, Calendar.HOUR_OF_DAY));
+        // 2021-11-07 01:30 EST, the second 01:30 of the day
+        assertEquals(1636257600000L, DateUtils.truncate(1636266600000L, timeZone, Calendar.DATE));
+        assertEquals(1636347600000L, DateUtils.ceiling(1636266600000L, timeZone, Calendar.DATE));
+    }
+
+    @Test
+    public void testEpochMillisIllegalArguments() {
+        final TimeZone timeZone = TimeZone.getTimeZone("UTC");
+        assertThrows(NullPointerException.class, () -> DateUtils.truncate(0, null, Calendar.DATE));
+        assertThrows(NullPointerException.class, () -> DateUtils.round(0, null, Calendar.DATE));
+        assertThrows(NullPointerException.class, () -> DateUtils.ceiling(0, null, Calendar.DATE));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.truncate(0, timeZone, Calendar.DAY_OF_WEEK));
+        assertThrows(IllegalArgumentException.class, () -> DateUtils.round(0, timeZone, -9999));
+        assertThrows(ArithmeticException.class, () -> DateUtils.ceiling(Long.MAX_VALUE, timeZone, Calendar.DATE));
+    }
 }
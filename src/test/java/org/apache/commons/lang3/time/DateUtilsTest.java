@@ -640,6 +640,21 @@ public void testIsSameDay_Cal() {
         assertFalse(DateUtils.isSameDay(cala, calb));
     }
 
+    @Test
+    public void testIsSameDay_EpochMillis() {
+        final TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        final long morning = new GregorianCalendar(2004, 6, 9, 0, 30).getTimeInMillis();
+        final long evening = morning + 23 * DateUtils.MILLIS_PER_HOUR;
+        assertTrue(DateUtils.isSameDay(morning, evening, TimeZone.getDefault()));
+        assertFalse(DateUtils.isSameDay(morning, evening + DateUtils.MILLIS_PER_HOUR, TimeZone.getDefault()));
+        // 2004-07-09 21:30 and 22:30 UTC are on different days in Paris
+        final long utc = 1089408600000L;
+        assertTrue(DateUtils.isSameDay(utc, utc + DateUtils.MILLIS_PER_HOUR, TimeZone.getTimeZone("UTC")));
+        assertFalse(DateUtils.isSameDay(utc, utc + DateUtils.MILLIS_PER_HOUR, paris));
+        assertTrue(DateUtils.isSameDay(Long.MIN_VALUE, Long.MIN_VALUE + 1, paris));
+        assertThrows(NullPointerException.class, () -> DateUtils.isSameDay(0, 0, null));
+    }
+
     @Test
     public void testIsSameDay_CalNotNullNull() {
         assertThrows(NullPointerException.class, () -> DateUtils.isSameDay(Calendar.getInstance(), null));
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.text.ParsePosition;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DisplayNameIndex}.
+ */
+public class DisplayNameIndexTest extends AbstractLangTest {
+
+    private static DisplayNameIndex<Integer> months() {
+        final Map<String, Integer> names = new LinkedHashMap<>();
+        names.put("feb", 1);
+        names.put("february", 1);
+        names.put("sept.", 8);
+        names.put("september", 8);
+        return DisplayNameIndex.of(names);
+    }
+
+    private static int matchEnd(final DisplayNameIndex<?> index, final String source, final int start) {
+        final ParsePosition pos = new ParsePosition(start);
+        return index.longestMatch(source, pos) == null ? -1 : pos.getIndex();
+    }
+
+    @Test
+    public void testCaseInsensitive() {
+        final DisplayNameIndex<Integer> index = months();
+        assertEquals(1, index.longestMatch("FEBRUARY", new ParsePosition(0)));
+        assertEquals(8, index.longestMatch("SePtEmBeR", new ParsePosition(0)));
+    }
+
+    @Test
+    public void testFirstNameWins() {
+        final Map<String, Integer> names = new LinkedHashMap<>();
+        names.put("feb", 1);
+        names.put("FEB", 2);
+        final DisplayNameIndex<Integer> index = DisplayNameIndex.of(names);
+        assertEquals(1, index.longestMatch("Feb", new ParsePosition(0)));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void testLongestMatch() {
+        final DisplayNameIndex<Integer> index = months();
+        assertEquals(8, matchEnd(index, "february 2023", 0));
+        assertEquals(3, matchEnd(index, "febr", 0));
+        assertEquals(5, matchEnd(index, "1 feb", 2));
+        assertEquals(-1, matchEnd(index, "march", 0));
+        assertEquals(-1, matchEnd(index, "fe", 0));
+    }
+
+    @Test
+    public void testNoMatchLeavesPosition() {
+        final ParsePosition pos = new ParsePosition(1);
+        assertNull(months().longestMatch("xmarch", pos));
+        assertEquals(1, pos.getIndex());
+    }
+
+    @Test
+    public void testOptionalTrailingPeriod() {
+        final DisplayNameIndex<Integer> index = months();
+        assertEquals(5, matchEnd(index, "sept. 1", 0));
+        assertEquals(4, matchEnd(index, "sept 1", 0));
+        assertEquals(8, index.longestMatch("sept 1", new ParsePosition(0)));
+    }
+
+    @Test
+    public void testExplicitNameWinsOverOptionalPeriod() {
+        final Map<String, Integer> names = new LinkedHashMap<>();
+        names.put("mar.", 2);
+        names.put("mar", 3);
+        final DisplayNameIndex<Integer> index = DisplayNameIndex.of(names);
+        assertEquals(3, index.longestMatch("mar", new ParsePosition(0)));
+        assertEquals(2, index.longestMatch("mar.", new ParsePosition(0)));
+    }
+
+    @Test
+    public void testSupplementaryCharacters() {
+        // ADLAM CAPITAL LETTER ALIF and ADLAM SMALL LETTER ALIF
+        final String upper = new String(Character.toChars(0x1E900));
+        final String lower = new String(Character.toChars(0x1E922));
+        final DisplayNameIndex<Integer> index = DisplayNameIndex.of(Collections.singletonMap(lower + lower, 7));
+        assertEquals(7, index.longestMatch(upper + lower + "x", new ParsePosition(0)));
+        assertEquals(4, matchEnd(index, upper + upper, 0));
+    }
+}
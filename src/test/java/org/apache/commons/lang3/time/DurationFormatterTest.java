@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link DurationFormatter}.
+ */
+public class DurationFormatterTest extends AbstractLangTest {
+
+    private static final String[] FORMATS = {"H:mm:ss.SSS", "HH:mm:ss", "d'd' H'h' m'm' s's'", "s.S", "ss.SS", "SSSS", "yyyy-MM-dd'T'HH:mm",
+        "'P'yyyy'Y'M'M'd'DT'H'H'm'M's.SSS'S'", "m 'min'", "'only text'", ""};
+
+    private static final long[] DURATIONS = {0, 1, 9, 10, 999, 1000, 59_999, 60_000, 3_599_999, 3_600_000, 86_399_999, 86_400_000,
+        123_456_789, Integer.MAX_VALUE, 1_000_000_000_000L, Long.MAX_VALUE};
+
+    /**
+     * Formats through the token model used by {@link DurationFormatUtils#formatPeriod}, which is independent of the
+     * compiled formatter.
+     */
+    private static String formatWithTokens(final long durationMillis, final String format, final boolean padWithZeros) {
+        final DurationFormatUtils.Token[] tokens = DurationFormatUtils.lexx(format);
+        long millis = durationMillis;
+        long days = 0;
+        long hours = 0;
+        long minutes = 0;
+        long seconds = 0;
+        if (DurationFormatUtils.Token.containsTokenWithValue(tokens, DurationFormatUtils.d)) {
+            days = millis / DateUtils.MILLIS_PER_DAY;
+            millis -= days * DateUtils.MILLIS_PER_DAY;
+        }
+        if (DurationFormatUtils.Token.containsTokenWithValue(tokens, DurationFormatUtils.H)) {
+            hours = millis / DateUtils.MILLIS_PER_HOUR;
+            millis -= hours * DateUtils.MILLIS_PER_HOUR;
+        }
+        if (DurationFormatUtils.Token.containsTokenWithValue(tokens, DurationFormatUtils.m)) {
+            minutes = millis / DateUtils.MILLIS_PER_MINUTE;
+            millis -= minutes * DateUtils.MILLIS_PER_MINUTE;
+        }
+        if (DurationFormatUtils.Token.containsTokenWithValue(tokens, DurationFormatUtils.s)) {
+            seconds = millis / DateUtils.MILLIS_PER_SECOND;
+            millis -= seconds * DateUtils.MILLIS_PER_SECOND;
+        }
+        return DurationFormatUtils.format(tokens, 0, 0, days, hours, minutes, seconds, millis, padWithZeros);
+    }
+
+    @Test
+    public void testAppendable() {
+        final DurationFormatter formatter = DurationFormatter.of("HH:mm:ss.SSS");
+        final StringBuilder sb = new StringBuilder("took ");
+        assertSame(sb, formatter.format(3_723_004L, sb));
+        assertEquals("took 01:02:03.004", sb.toString());
+        formatter.format(Duration.ofSeconds(5), sb.append(", "));
+        assertEquals("took 01:02:03.004, 00:00:05.000", sb.toString());
+    }
+
+    @Test
+    public void testDuration() {
+        final DurationFormatter formatter = DurationFormatter.of("d'd' HH:mm:ss");
+        assertEquals("1d 02:03:04", formatter.format(Duration.ofDays(1).plusHours(2).plusMinutes(3).plusSeconds(4)));
+        assertThrows(IllegalArgumentException.class, () -> formatter.format(Duration.ofMillis(-1)));
+        assertThrows(NullPointerException.class, () -> formatter.format((Duration) null));
+        assertThrows(ArithmeticException.class, () -> formatter.format(Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(NullPointerException.class, () -> DurationFormatter.of(null));
+        assertThrows(IllegalArgumentException.class, () -> DurationFormatter.of("'unmatched"));
+        assertThrows(IllegalArgumentException.class, () -> DurationFormatter.of("ss").format(-1));
+    }
+
+    @Test
+    public void testMatchesTokenFormatting() {
+        for (final String format : FORMATS) {
+            final DurationFormatter padded = DurationFormatter.of(format, true);
+            final DurationFormatter unpadded = DurationFormatter.of(format, false);
+            for (final long duration : DURATIONS) {
+                assertEquals(formatWithTokens(duration, format, true), padded.format(duration), format);
+                assertEquals(formatWithTokens(duration, format, false), unpadded.format(duration), format);
+            }
+        }
+    }
+
+    @Test
+    public void testMillisecondsAfterSeconds() {
+        assertEquals("5.007", DurationFormatter.of("s.S", false).format(5007));
+        assertEquals("05.0007", DurationFormatter.of("ss.SSSS").format(5007));
+        assertEquals("5007", DurationFormatter.of("S", false).format(5007));
+    }
+
+    @Test
+    public void testProperties() {
+        final DurationFormatter formatter = DurationFormatter.of("HH:mm", false);
+        assertEquals("HH:mm", formatter.getFormat());
+        assertEquals(false, formatter.isPadWithZeros());
+        assertEquals(true, DurationFormatter.of("HH:mm").isPadWithZeros());
+    }
+}
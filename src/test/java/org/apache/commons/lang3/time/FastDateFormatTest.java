@@ -20,10 +20,12 @@
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.text.FieldPosition;
 import java.text.Format;
+import java.text.ParseException;
 import java.text.ParsePosition;
 import java.text.SimpleDateFormat;
 import java.time.Instant;
@@ -358,4 +360,12 @@ public void testStandaloneLongMonthForm() {
         dateAsString = FastDateFormat.getInstance("yyyy-LLLL-dd", utc, HUNGARIAN).format(date);
         assertEquals("1970-szeptember-15", dateAsString);
     }
+
+    @Test
+    public void testPreloadDisplayNames() throws ParseException {
+        FastDateFormat.preloadDisplayNames(Locale.GERMANY, FINNISH, null);
+        final FastDateFormat format = FastDateFormat.getInstance("dd MMMM yyyy HH:mm z", TimeZones.GMT, Locale.GERMANY);
+        assertEquals(format.parse("15 September 1970 00:00 MEZ"), format.parse("15 SEPTEMBER 1970 00:00 mez"));
+        assertThrows(NullPointerException.class, () -> FastDateFormat.preloadDisplayNames((Locale[]) null));
+    }
 }
@@ -28,6 +28,7 @@
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 
 import org.apache.commons.lang3.AbstractLangTest;
@@ -421,6 +422,38 @@ public void testTimeZoneAsZ() {
         assertEquals("+00:00", colonFormat.format(c));
     }
 
+    @Test
+    public void testLocalFieldsMatchCalendar() {
+        final String[] patterns = {"yyyy-MM-dd'T'HH:mm:ss.SSSZZ", "EEE, d MMM yyyy HH:mm:ss Z", "G yy M L h K k a D F u X XX XXX", "hh:mm a"};
+        final long min = -3786825600000L; // 1850-01-01T00:00:00Z
+        final long max = 5680281600000L; // 2150-01-01T00:00:00Z
+        final Random random = new Random(20231019);
+        for (final String id : TimeZone.getAvailableIDs()) {
+            final TimeZone timeZone = TimeZone.getTimeZone(id);
+            for (final String pattern : patterns) {
+                final DatePrinter printer = getInstance(pattern, timeZone, Locale.US);
+                for (int i = 0; i < 20; i++) {
+                    final long millis = min + (long) (random.nextDouble() * (max - min));
+                    final Calendar calendar = Calendar.getInstance(timeZone, Locale.US);
+                    calendar.setTimeInMillis(millis);
+                    assertEquals(printer.format(calendar), printer.format(millis), id + " " + pattern + " " + millis);
+                    assertEquals(printer.format(calendar), printer.format(new Date(millis)), id + " " + pattern + " " + millis);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLocalFieldsNonGregorianCalendar() {
+        final long millis = 1_000_000_000_000L;
+        for (final Locale locale : new Locale[] {new Locale("ja", "JP", "JP"), new Locale("th", "TH", "TH")}) {
+            final DatePrinter printer = getInstance("yyyy-MM-dd", NEW_YORK, locale);
+            final Calendar calendar = Calendar.getInstance(NEW_YORK, locale);
+            calendar.setTimeInMillis(millis);
+            assertEquals(printer.format(calendar), printer.format(millis), locale.toString());
+        }
+    }
+
     @Test
     public void testTimeZoneMatches() {
         final DatePrinter printer= getInstance(YYYY_MM_DD, NEW_YORK);
@@ -17,6 +17,8 @@
 package org.apache.commons.lang3.time;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.TimeZone;
 
@@ -38,6 +40,14 @@ public void testBareGmt() {
         assertEquals(FastTimeZone.getGmtTimeZone(), FastTimeZone.getTimeZone(TimeZones.GMT_ID));
     }
 
+    @Test
+    public void testGetGmtTimeZoneCached() {
+        final TimeZone timeZone = FastTimeZone.getGmtTimeZone("GMT+05:30");
+        assertSame(timeZone, FastTimeZone.getGmtTimeZone("GMT+05:30"));
+        assertEquals(timeZone, FastTimeZone.getGmtTimeZone("+0530"));
+        assertNull(FastTimeZone.getGmtTimeZone("GMT+05:30x"));
+    }
+
     @Test
     public void testGetGmtTimeZone() {
         assertEquals(0, FastTimeZone.getGmtTimeZone().getRawOffset());
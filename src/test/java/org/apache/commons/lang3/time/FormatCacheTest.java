@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.apache.commons.lang3.util.CacheStatistics;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link FormatCache}.
+ */
+public class FormatCacheTest extends AbstractLangTest {
+
+    private static final TimeZone UTC = TimeZones.GMT;
+
+    private static FormatCache<FastDateFormat> newCache() {
+        return new FormatCache<FastDateFormat>() {
+            @Override
+            protected FastDateFormat createInstance(final String pattern, final TimeZone timeZone, final Locale locale) {
+                return new FastDateFormat(pattern, timeZone, locale);
+            }
+        };
+    }
+
+    @Test
+    public void testDefaultIsUnbounded() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        assertEquals(CacheStatistics.UNBOUNDED, cache.getMaximumSize());
+        for (int i = 1; i <= 100; i++) {
+            cache.getInstance("'" + i + "' yyyy", UTC, Locale.US);
+        }
+        assertEquals(100, cache.getStatistics().getSize());
+        assertEquals(0, cache.getStatistics().getEvictionCount());
+    }
+
+    @Test
+    public void testEvictsToMaximumSize() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        cache.setMaximumSize(10);
+        for (int i = 1; i <= 100; i++) {
+            cache.getInstance("'" + i + "' yyyy", UTC, Locale.US);
+        }
+        final CacheStatistics statistics = cache.getStatistics();
+        assertEquals(10, statistics.getSize());
+        assertEquals(90, statistics.getEvictionCount());
+        assertEquals(100, statistics.getMissCount());
+    }
+
+    @Test
+    public void testHitsAndMisses() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        final FastDateFormat format = cache.getInstance("yyyy-MM-dd", UTC, Locale.US);
+        assertSame(format, cache.getInstance("yyyy-MM-dd", UTC, Locale.US));
+        assertSame(format, cache.getInstance("yyyy-MM-dd", UTC, Locale.US));
+        final CacheStatistics statistics = cache.getStatistics();
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(3, statistics.getRequestCount());
+        assertEquals(2.0 / 3, statistics.getHitRate());
+    }
+
+    @Test
+    public void testReferencedEntrySurvivesEviction() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        cache.setMaximumSize(2);
+        final FastDateFormat hot = cache.getInstance("yyyy", UTC, Locale.US);
+        final FastDateFormat cold = cache.getInstance("MM", UTC, Locale.US);
+        assertSame(hot, cache.getInstance("yyyy", UTC, Locale.US));
+        cache.getInstance("dd", UTC, Locale.US);
+        assertSame(hot, cache.getInstance("yyyy", UTC, Locale.US));
+        assertNotSame(cold, cache.getInstance("MM", UTC, Locale.US));
+    }
+
+    @Test
+    public void testSetMaximumSizeEvictsImmediately() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        cache.warmUp(Arrays.asList("yyyy", "MM", "dd", "HH"), UTC, Locale.US);
+        assertEquals(4, cache.getStatistics().getSize());
+        cache.setMaximumSize(1);
+        assertEquals(1, cache.getStatistics().getSize());
+        assertEquals(3, cache.getStatistics().getEvictionCount());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaximumSize(0));
+    }
+
+    @Test
+    public void testWarmUp() {
+        final FormatCache<FastDateFormat> cache = newCache();
+        cache.warmUp(Arrays.asList("yyyy", "MM"), UTC, Locale.US);
+        assertEquals(2, cache.getStatistics().getMissCount());
+        cache.getInstance("yyyy", UTC, Locale.US);
+        cache.getInstance("MM", UTC, Locale.US);
+        assertEquals(2, cache.getStatistics().getHitCount());
+        assertThrows(NullPointerException.class, () -> cache.warmUp(null, UTC, Locale.US));
+    }
+}
@@ -40,6 +40,7 @@ public void getID() {
     @Test
     public void getOffset() {
         assertEquals(0, new GmtTimeZone(false, 0, 0).getOffset(234304));
+        assertEquals(-(5 * 60 + 30) * 60 * 1000, new GmtTimeZone(true, 5, 30).getOffset(234304));
     }
 
     @Test
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LatencyHistogram}.
+ */
+public class LatencyHistogramTest extends AbstractLangTest {
+
+    @Test
+    public void testBucketBounds() {
+        for (int bits = 1; bits <= LatencyHistogram.MAX_PRECISION_BITS; bits++) {
+            final int count = LatencyHistogram.bucketCount(bits);
+            assertEquals(count - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE, bits));
+            assertEquals(Long.MAX_VALUE, LatencyHistogram.highestValue(count - 1, bits));
+            for (int i = 0; i < count - 1; i++) {
+                final long low = LatencyHistogram.lowestValue(i, bits);
+                final long high = LatencyHistogram.highestValue(i, bits);
+                assertEquals(i, LatencyHistogram.bucketIndex(low, bits));
+                assertEquals(i, LatencyHistogram.bucketIndex(high, bits));
+                assertEquals(high + 1, LatencyHistogram.lowestValue(i + 1, bits));
+            }
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMin());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+        assertTrue(Double.isNaN(histogram.getMean()));
+    }
+
+    @Test
+    public void testExactSmallValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(1, histogram.getMin());
+        assertEquals(100, histogram.getMax());
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(50.5, histogram.getMean());
+    }
+
+    @Test
+    public void testIllegalArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(0));
+        assertThrows(IllegalArgumentException.class, () -> new LatencyHistogram(LatencyHistogram.MAX_PRECISION_BITS + 1));
+        final LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> histogram.add(new LatencyHistogram(3)));
+    }
+
+    @Test
+    public void testMergeAndReset() {
+        final LatencyHistogram a = new LatencyHistogram().record(10, 3);
+        final LatencyHistogram b = new LatencyHistogram().record(1_000_000);
+        final LatencyHistogram merged = a.copy().add(b);
+        assertEquals(4, merged.getCount());
+        assertEquals(1_000_030, merged.getSum());
+        assertEquals(10, merged.getValueAtPercentile(75));
+        assertEquals(3, a.getCount());
+        merged.reset();
+        assertEquals(0, merged.getCount());
+        assertEquals(0, merged.getSum());
+    }
+
+    @Test
+    public void testRelativeError() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final double maxError = 1.0 / (1 << LatencyHistogram.DEFAULT_PRECISION_BITS - 1);
+        for (long value = 1; value > 0 && value < Long.MAX_VALUE / 3; value = value * 3 + 1) {
+            histogram.reset();
+            histogram.record(value);
+            final long max = histogram.getMax();
+            final String message = String.valueOf(value);
+            assertTrue(max >= value && max - value <= value * maxError, message);
+            assertTrue(histogram.getMin() <= value, message);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link LatencyRecorder}.
+ */
+public class LatencyRecorderTest extends AbstractLangTest {
+
+    @Test
+    public void testConcurrentRecording() throws InterruptedException {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        for (int t = 0; t < 4; t++) {
+            pool.execute(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    recorder.record(i);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+        final LatencyHistogram snapshot = recorder.snapshot();
+        assertEquals(40_000, snapshot.getCount());
+        assertEquals(4 * 50_005_000L, snapshot.getSum());
+        assertEquals(1, snapshot.getMin());
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        final LatencyRecorder recorder = new LatencyRecorder();
+        recorder.record(5);
+        recorder.record(7);
+        final LatencyHistogram first = recorder.snapshotAndReset();
+        assertEquals(2, first.getCount());
+        assertEquals(0, recorder.snapshot().getCount());
+        recorder.record(100);
+        final LatencyHistogram second = recorder.snapshotAndReset();
+        assertEquals(1, second.getCount());
+        assertEquals(100, second.getMax());
+        recorder.record(3);
+        recorder.reset();
+        assertEquals(0, recorder.snapshot().getCount());
+    }
+
+    @Test
+    public void testStartStop() {
+        final LatencyRecorder recorder = new LatencyRecorder(10);
+        assertEquals(10, recorder.getPrecisionBits());
+        final long start = recorder.start();
+        final long nanos = recorder.stop(start);
+        assertTrue(nanos >= 0);
+        recorder.record(-5);
+        final LatencyHistogram snapshot = recorder.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.lang3.time;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Calendar;
+import java.util.Locale;
+import java.util.Random;
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+import org.apache.commons.lang3.AbstractLangTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link ZoneOffsetTable}.
+ */
+public class ZoneOffsetTableTest extends AbstractLangTest {
+
+    private static final long MIN = -2208988800000L; // 1900-01-01T00:00:00Z
+    private static final long MAX = 4102444800000L; // 2100-01-01T00:00:00Z
+
+    @Test
+    public void testAmbiguousLocalTimes() {
+        final ZoneOffsetTable table = ZoneOffsetTable.of(TimeZone.getTimeZone("America/New_York"));
+        // 2021-03-14 02:30 does not exist, 2021-11-07 01:30 occurs twice
+        assertEquals(ZoneOffsetTable.AMBIGUOUS, table.toUtc(1615689000000L));
+        assertEquals(ZoneOffsetTable.AMBIGUOUS, table.toUtc(1636248600000L));
+        // 2021-03-14 03:00 EDT and 2021-11-07 02:00 EST
+        assertEquals(1615705200000L, table.toUtc(1615690800000L));
+        assertEquals(1636268400000L, table.toUtc(1636250400000L));
+    }
+
+    @Test
+    public void testCache() {
+        final TimeZone timeZone = TimeZone.getTimeZone("Europe/Paris");
+        assertSame(ZoneOffsetTable.of(timeZone), ZoneOffsetTable.of(TimeZone.getTimeZone("Europe/Paris")));
+        timeZone.setRawOffset(0);
+        assertNull(ZoneOffsetTable.of(timeZone));
+    }
+
+    @Test
+    public void testLastHit() {
+        final TimeZone paris = TimeZone.getTimeZone("Europe/Paris");
+        final TimeZone sydney = TimeZone.getTimeZone("Australia/Sydney");
+        final ZoneOffsetTable parisTable = ZoneOffsetTable.of(paris);
+        final ZoneOffsetTable sydneyTable = ZoneOffsetTable.of(sydney);
+        for (long millis = 1600000000000L; millis < 1700000000000L; millis += 3_600_000_000L) {
+            assertEquals(paris.getOffset(millis), parisTable.getOffset(millis));
+            assertEquals(sydney.getOffset(millis), sydneyTable.getOffset(millis));
+            assertEquals(paris.getOffset(millis), parisTable.getOffset(millis));
+            assertSame(parisTable, ZoneOffsetTable.of(paris));
+            assertSame(sydneyTable, ZoneOffsetTable.of(sydney));
+        }
+    }
+
+    @Test
+    public void testChangedRules() {
+        final SimpleTimeZone timeZone = new SimpleTimeZone(0, "Changed");
+        final long millis = 1593561600000L; // 2020-07-01T00:00:00Z
+        final FastDatePrinter printer = new FastDatePrinter("yyyy-MM-dd HH:mm Z", timeZone, Locale.US);
+        assertTrue(ZoneOffsetTable.of(timeZone).isFixed());
+        assertEquals(millis, DateUtils.truncate(millis, timeZone, Calendar.DATE));
+        assertEquals("2020-07-01 00:00 +0000", printer.format(millis));
+        // same object, ID and raw offset, but daylight saving time from March to October
+        timeZone.setStartRule(Calendar.MARCH, 1, 0);
+        timeZone.setEndRule(Calendar.OCTOBER, 1, 0);
+        assertNull(ZoneOffsetTable.of(timeZone));
+        assertEquals(1593558000000L, DateUtils.truncate(millis, timeZone, Calendar.DATE));
+        assertEquals("2020-07-01 01:00 +0100", printer.format(millis));
+    }
+
+    @Test
+    public void testFixedOffsets() {
+        final ZoneOffsetTable gmt = ZoneOffsetTable.of(FastTimeZone.getGmtTimeZone("+05:30"));
+        assertTrue(gmt.isFixed());
+        assertEquals(19_800_000, gmt.getOffset(0));
+        assertTrue(gmt.covers(MAX));
+        assertFalse(gmt.covers(Long.MAX_VALUE));
+        assertEquals(-19_800_000, gmt.toUtc(0));
+        assertTrue(ZoneOffsetTable.of(new SimpleTimeZone(3_600_000, "Custom")).isFixed());
+        assertTrue(ZoneOffsetTable.of(TimeZone.getTimeZone("UTC")).isFixed());
+    }
+
+    @Test
+    public void testMatchesTimeZone() {
+        final Random random = new Random(20231019);
+        for (final String id : TimeZone.getAvailableIDs()) {
+            final TimeZone timeZone = TimeZone.getTimeZone(id);
+            final ZoneOffsetTable table = ZoneOffsetTable.of(timeZone);
+            assertNotNull(table, id);
+            for (int i = 0; i < 500; i++) {
+                final long millis = MIN + (long) (random.nextDouble() * (MAX - MIN));
+                if (!table.covers(millis)) {
+                    continue;
+                }
+                assertEquals(timeZone.getOffset(millis), table.getOffset(millis), id);
+                final long local = millis + table.getOffset(millis);
+                final long utc = table.toUtc(local);
+                if (utc != ZoneOffsetTable.AMBIGUOUS) {
+                    assertEquals(millis, utc, id);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testUncovered() {
+        final ZoneOffsetTable table = ZoneOffsetTable.of(TimeZone.getTimeZone("Europe/London"));
+        assertFalse(table.isFixed());
+        assertTrue(table.covers(0));
+        assertFalse(table.covers(MIN));
+        assertFalse(table.covers(MAX));
+        assertFalse(ZoneOffsetTable.of(TimeZone.getTimeZone("Africa/Casablanca")).covers(MAX - 50L * 366 * DateUtils.MILLIS_PER_DAY));
+    }
+
+    @Test
+    public void testUntabulatedRules() {
+        final SimpleTimeZone custom = new SimpleTimeZone(0, "Custom");
+        custom.setStartRule(2, 1, 0);
+        custom.setEndRule(9, 1, 0);
+        assertNull(ZoneOffsetTable.of(custom));
+    }
+}